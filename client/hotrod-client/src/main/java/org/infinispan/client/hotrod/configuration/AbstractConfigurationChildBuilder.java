@@ -150,6 +150,11 @@ public ConfigurationBuilder maxRetries(int retriesPerServer) {
       return builder.maxRetries(retriesPerServer);
    }
 
+   @Override
+   public ConfigurationBuilder parallelIteration(boolean parallelIteration) {
+      return builder.parallelIteration(parallelIteration);
+   }
+
    @Override
    public ConfigurationBuilder withProperties(Properties properties) {
       return builder.withProperties(properties);
@@ -66,6 +66,7 @@ public class ConfigurationBuilder implements ConfigurationChildBuilder, Builder<
    private Class<? extends TransportFactory> transportFactory = TcpTransportFactory.class;
    private int valueSizeEstimate = ConfigurationProperties.DEFAULT_VALUE_SIZE;
    private int maxRetries = ConfigurationProperties.DEFAULT_MAX_RETRIES;
+   private boolean parallelIteration = false;
    private final NearCacheConfigurationBuilder nearCache;
 
    private final List<ClusterConfigurationBuilder> clusters = new ArrayList<ClusterConfigurationBuilder>();
@@ -264,6 +265,12 @@ public ConfigurationBuilder maxRetries(int maxRetries) {
       return this;
    }
 
+   @Override
+   public ConfigurationBuilder parallelIteration(boolean parallelIteration) {
+      this.parallelIteration = parallelIteration;
+      return this;
+   }
+
    @Override
    public ConfigurationBuilder withProperties(Properties properties) {
       TypedProperties typed = TypedProperties.toTypedProperties(properties);
@@ -302,6 +309,7 @@ public ConfigurationBuilder withProperties(Properties properties) {
       }
       this.valueSizeEstimate(typed.getIntProperty(ConfigurationProperties.VALUE_SIZE_ESTIMATE, valueSizeEstimate));
       this.maxRetries(typed.getIntProperty(ConfigurationProperties.MAX_RETRIES, maxRetries));
+      this.parallelIteration(typed.getBooleanProperty(ConfigurationProperties.PARALLEL_ITERATION, parallelIteration));
       this.security.ssl().withProperties(properties);
       this.security.authentication().withProperties(properties);
       return this;
@@ -341,11 +349,11 @@ public Configuration create() {
       if (marshaller == null) {
          return new Configuration(asyncExecutorFactory.create(), balancingStrategyClass, balancingStrategy, classLoader == null ? null : classLoader.get(), connectionPool.create(), connectionTimeout,
                consistentHashImpl, forceReturnValues, keySizeEstimate, marshallerClass, protocolVersion, servers, socketTimeout, security.create(), tcpNoDelay, tcpKeepAlive, transportFactory,
-               valueSizeEstimate, maxRetries, nearCache.create(), serverClusterConfigs);
+               valueSizeEstimate, maxRetries, nearCache.create(), serverClusterConfigs, parallelIteration);
       } else {
          return new Configuration(asyncExecutorFactory.create(), balancingStrategyClass, balancingStrategy, classLoader == null ? null : classLoader.get(), connectionPool.create(), connectionTimeout,
                consistentHashImpl, forceReturnValues, keySizeEstimate, marshaller, protocolVersion, servers, socketTimeout, security.create(), tcpNoDelay, tcpKeepAlive, transportFactory,
-               valueSizeEstimate, maxRetries, nearCache.create(), serverClusterConfigs);
+               valueSizeEstimate, maxRetries, nearCache.create(), serverClusterConfigs, parallelIteration);
       }
    }
 
@@ -388,6 +396,7 @@ public ConfigurationBuilder read(Configuration template) {
       this.transportFactory = template.transportFactory();
       this.valueSizeEstimate = template.valueSizeEstimate();
       this.maxRetries = template.maxRetries();
+      this.parallelIteration = template.parallelIteration();
       this.nearCache.read(template.nearCache());
       return this;
    }
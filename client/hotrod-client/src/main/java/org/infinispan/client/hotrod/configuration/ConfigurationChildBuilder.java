@@ -161,6 +161,12 @@ public interface ConfigurationChildBuilder {
     */
    ConfigurationBuilder maxRetries(int maxRetries);
 
+   /**
+    * Whether iterations over the entries of a cache are split by segment owner, with one concurrent iteration per
+    * server restricted to its primary segments. Defaults to false
+    */
+   ConfigurationBuilder parallelIteration(boolean parallelIteration);
+
    /**
     * Configures this builder using the specified properties
     */
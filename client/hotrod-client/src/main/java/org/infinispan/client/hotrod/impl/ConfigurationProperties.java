@@ -44,6 +44,7 @@ public class ConfigurationProperties {
    public static final String TRUST_STORE_PASSWORD = "infinispan.client.hotrod.trust_store_password";
    public static final String SSL_CONTEXT = "infinispan.client.hotrod.ssl_context";
    public static final String MAX_RETRIES = "infinispan.client.hotrod.max_retries";
+   public static final String PARALLEL_ITERATION = "infinispan.client.hotrod.parallel_iteration";
    public static final String USE_AUTH = "infinispan.client.hotrod.use_auth";
    public static final String SASL_MECHANISM = "infinispan.client.hotrod.sasl_mechanism";
    public static final String AUTH_CALLBACK_HANDLER = "infinispan.client.hotrod.auth_callback_handler";
@@ -173,6 +174,10 @@ public int getMaxRetries() {
       return props.getIntProperty(MAX_RETRIES, DEFAULT_MAX_RETRIES);
    }
 
+   public boolean getParallelIteration() {
+      return props.getBooleanProperty(PARALLEL_ITERATION, false);
+   }
+
    /**
     * Is version previous to, and not including, 1.2?
     */
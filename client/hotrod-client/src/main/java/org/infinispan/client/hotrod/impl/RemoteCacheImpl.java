@@ -26,6 +26,7 @@
 import org.infinispan.client.hotrod.exceptions.HotRodClientException;
 import org.infinispan.client.hotrod.exceptions.RemoteCacheManagerNotStartedException;
 import org.infinispan.client.hotrod.filter.Filters;
+import org.infinispan.client.hotrod.impl.iteration.ParallelRemoteCloseableIterator;
 import org.infinispan.client.hotrod.impl.iteration.RemoteCloseableIterator;
 import org.infinispan.client.hotrod.impl.operations.AddClientListenerOperation;
 import org.infinispan.client.hotrod.impl.operations.BulkGetKeysOperation;
@@ -157,8 +158,15 @@ public Entry<Object, Object> next() {
          };
       }
       byte[][] params = marshallParams(filterConverterParams);
-      RemoteCloseableIterator remoteCloseableIterator = new RemoteCloseableIterator(operationsFactory,
-              filterConverterFactory, params, segments, batchSize, false);
+      return startIteration(filterConverterFactory, params, segments, batchSize, false);
+   }
+
+   private <E> CloseableIterator<Entry<Object, E>> startIteration(String filterConverterFactory, byte[][] params, Set<Integer> segments, int batchSize, boolean metadata) {
+      if (remoteCacheManager.getConfiguration().parallelIteration()) {
+         return ParallelRemoteCloseableIterator.start(operationsFactory, filterConverterFactory, params, segments, batchSize, metadata, executorService);
+      }
+      RemoteCloseableIterator<E> remoteCloseableIterator = new RemoteCloseableIterator<>(operationsFactory,
+              filterConverterFactory, params, segments, batchSize, metadata, executorService, null);
       remoteCloseableIterator.start();
       return remoteCloseableIterator;
    }
@@ -181,9 +189,7 @@ public CloseableIterator<Entry<Object, Object>> retrieveEntriesByQuery(Query fil
 
    @Override
    public CloseableIterator<Entry<Object, MetadataValue<Object>>> retrieveEntriesWithMetadata(Set<Integer> segments, int batchSize) {
-      RemoteCloseableIterator remoteCloseableIterator = new RemoteCloseableIterator(operationsFactory, batchSize, segments, true);
-      remoteCloseableIterator.start();
-      return remoteCloseableIterator;
+      return startIteration(null, null, segments, batchSize, true);
    }
 
    @Override
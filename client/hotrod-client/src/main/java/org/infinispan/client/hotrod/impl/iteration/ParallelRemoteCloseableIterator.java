@@ -0,0 +1,156 @@
+package org.infinispan.client.hotrod.impl.iteration;
+
+import net.jcip.annotations.NotThreadSafe;
+import org.infinispan.client.hotrod.impl.consistenthash.ConsistentHash;
+import org.infinispan.client.hotrod.impl.consistenthash.SegmentConsistentHash;
+import org.infinispan.client.hotrod.impl.operations.OperationsFactory;
+import org.infinispan.commons.util.CloseableIterator;
+
+import java.net.SocketAddress;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Iterates over the entries of a remote cache with one {@link RemoteCloseableIterator} per server, each restricted to
+ * the segments the server is the primary owner of, so that every server only streams its own data.
+ * <p>
+ * The iterations are started on all the servers concurrently, and the per server iterators prefetch their batches in
+ * the background, so the servers are fetched from in parallel. Their entries are merged one batch at a time: once the
+ * entries already received from a server are consumed, the iterator moves on to a server whose next batch has
+ * already arrived, and only waits when none has.
+ *
+ * @since 9.0
+ */
+@NotThreadSafe
+public class ParallelRemoteCloseableIterator<E> implements CloseableIterator<Entry<Object, E>> {
+
+   private final List<RemoteCloseableIterator<E>> iterators;
+   private RemoteCloseableIterator<E> active;
+   private int next;
+
+   private ParallelRemoteCloseableIterator(List<RemoteCloseableIterator<E>> iterators) {
+      this.iterators = iterators;
+   }
+
+   /**
+    * Starts the iteration on every server owning some of the requested segments. When the client doesn't know the
+    * segments owned by each server, a single iteration is started instead.
+    */
+   public static <E> CloseableIterator<Entry<Object, E>> start(OperationsFactory operationsFactory,
+                                                                String filterConverterFactory, byte[][] filterParams,
+                                                                Set<Integer> segments, int batchSize, boolean metadata,
+                                                                ExecutorService executorService) {
+      ConsistentHash ch = operationsFactory.getConsistentHash();
+      if (!(ch instanceof SegmentConsistentHash)) {
+         RemoteCloseableIterator<E> iterator = new RemoteCloseableIterator<>(operationsFactory,
+               filterConverterFactory, filterParams, segments, batchSize, metadata, executorService, null);
+         iterator.start();
+         return iterator;
+      }
+
+      Map<SocketAddress, Set<Integer>> segmentsByOwner = segmentsByPrimaryOwner((SegmentConsistentHash) ch, segments);
+      List<RemoteCloseableIterator<E>> iterators = new ArrayList<>(segmentsByOwner.size());
+      List<RemoteCloseableIterator<E>> started = new ArrayList<>(segmentsByOwner.size());
+      List<CompletableFuture<Void>> starts = new ArrayList<>(segmentsByOwner.size());
+      for (Map.Entry<SocketAddress, Set<Integer>> entry : segmentsByOwner.entrySet()) {
+         RemoteCloseableIterator<E> iterator = new RemoteCloseableIterator<>(operationsFactory,
+               filterConverterFactory, filterParams, entry.getValue(), batchSize, metadata, executorService,
+               entry.getKey());
+         iterators.add(iterator);
+         starts.add(iterator.startAsync());
+      }
+      RuntimeException failure = null;
+      for (int i = 0; i < starts.size(); i++) {
+         try {
+            starts.get(i).join();
+            started.add(iterators.get(i));
+         } catch (CompletionException e) {
+            failure = e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+         } catch (RuntimeException e) {
+            failure = e;
+         }
+      }
+      if (failure != null) {
+         started.forEach(RemoteCloseableIterator::close);
+         throw failure;
+      }
+      // The first batches are requested from all the servers at once
+      started.forEach(RemoteCloseableIterator::prefetchFirst);
+      return new ParallelRemoteCloseableIterator<>(started);
+   }
+
+   static Map<SocketAddress, Set<Integer>> segmentsByPrimaryOwner(SegmentConsistentHash ch, Set<Integer> segments) {
+      SocketAddress[][] segmentOwners = ch.getSegmentOwners();
+      Map<SocketAddress, Set<Integer>> segmentsByOwner = new LinkedHashMap<>();
+      for (int segment = 0; segment < segmentOwners.length; segment++) {
+         if (segments != null && !segments.contains(segment)) continue;
+         SocketAddress owner = segmentOwners[segment][0];
+         Set<Integer> ownedSegments = segmentsByOwner.get(owner);
+         if (ownedSegments == null) {
+            ownedSegments = new HashSet<>();
+            segmentsByOwner.put(owner, ownedSegments);
+         }
+         ownedSegments.add(segment);
+      }
+      return segmentsByOwner;
+   }
+
+   @Override
+   public boolean hasNext() {
+      if (active != null && active.hasBufferedNext()) {
+         return true;
+      }
+      // The batch of the active server is consumed, continue with a server whose next batch has already arrived
+      active = null;
+      while (!iterators.isEmpty()) {
+         if (next >= iterators.size()) {
+            next = 0;
+         }
+         selectReady();
+         RemoteCloseableIterator<E> iterator = iterators.get(next);
+         if (iterator.hasNext()) {
+            active = iterator;
+            next++;
+            return true;
+         }
+         iterator.close();
+         iterators.remove(next);
+      }
+      return false;
+   }
+
+   /**
+    * Moves {@link #next} to the first server, in round robin order, that can answer without a round trip.
+    */
+   private void selectReady() {
+      for (int i = 0; i < iterators.size(); i++) {
+         int candidate = (next + i) % iterators.size();
+         if (iterators.get(candidate).isReady()) {
+            next = candidate;
+            return;
+         }
+      }
+   }
+
+   @Override
+   public Entry<Object, E> next() {
+      if (!hasNext()) throw new NoSuchElementException();
+      return active.next();
+   }
+
+   @Override
+   public void close() {
+      iterators.forEach(RemoteCloseableIterator::close);
+      iterators.clear();
+      active = null;
+   }
+}
@@ -15,13 +15,22 @@
 import org.infinispan.commons.marshall.Marshaller;
 import org.infinispan.commons.util.CloseableIterator;
 
+import java.net.SocketAddress;
 import java.util.LinkedList;
 import java.util.Map.Entry;
 import java.util.NoSuchElementException;
 import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
 
 /**
+ * Iterates over the entries of a remote cache, one batch at a time.
+ * <p>
+ * When an {@link ExecutorService} is supplied, the next batch is requested as soon as the previous one is received,
+ * so that the server round trip overlaps with the consumption of the current batch.
+ *
  * @author gustavonalle
  * @since 8.0
  */
@@ -36,6 +45,8 @@
    private final Set<Integer> segments;
    private final int batchSize;
    private final boolean metadata;
+   private final ExecutorService prefetchExecutor;
+   private final SocketAddress addressTarget;
 
    private KeyTracker segmentKeyTracker;
    private Transport transport;
@@ -43,15 +54,29 @@
    private boolean endOfIteration = false;
    private boolean closed;
    private Queue<Entry<Object, E>> nextElements = new LinkedList<>();
+   private CompletableFuture<IterationNextResponse<E>> prefetch;
 
    public RemoteCloseableIterator(OperationsFactory operationsFactory, String filterConverterFactory,
                                   byte[][] filterParams, Set<Integer> segments, int batchSize, boolean metadata) {
+      this(operationsFactory, filterConverterFactory, filterParams, segments, batchSize, metadata, null, null);
+   }
+
+   /**
+    * @param prefetchExecutor executor used to request the next batch in the background, or {@code null} to request
+    *                         it only once the current batch is consumed
+    * @param addressTarget    server the iteration is started on, or {@code null} to let the balancing strategy pick it
+    */
+   public RemoteCloseableIterator(OperationsFactory operationsFactory, String filterConverterFactory,
+                                  byte[][] filterParams, Set<Integer> segments, int batchSize, boolean metadata,
+                                  ExecutorService prefetchExecutor, SocketAddress addressTarget) {
       this.filterConverterFactory = filterConverterFactory;
       this.filterParams = filterParams;
       this.segments = segments;
       this.batchSize = batchSize;
       this.operationsFactory = operationsFactory;
       this.metadata = metadata;
+      this.prefetchExecutor = prefetchExecutor;
+      this.addressTarget = addressTarget;
    }
 
    public RemoteCloseableIterator(OperationsFactory operationsFactory, int batchSize, Set<Integer> segments, boolean metadata) {
@@ -61,6 +86,7 @@ public RemoteCloseableIterator(OperationsFactory operationsFactory, int batchSiz
    @Override
    public void close() {
       if (!closed) {
+         awaitPrefetch();
          try {
             IterationEndResponse endResponse = operationsFactory.newIterationEndOperation(iterationId, transport).execute();
             short status = endResponse.getStatus();
@@ -93,32 +119,105 @@ public Entry<Object, E> next() {
       return nextElements.remove();
    }
 
+   /**
+    * @return whether there are entries that can be returned without a server round trip
+    */
+   boolean hasBufferedNext() {
+      return !nextElements.isEmpty();
+   }
+
+   /**
+    * @return whether {@link #hasNext()} can answer without waiting for a server round trip
+    */
+   boolean isReady() {
+      return !nextElements.isEmpty() || endOfIteration || (prefetch != null && prefetch.isDone());
+   }
+
    private void fetch() {
       try {
-         IterationNextOperation<E> iterationNextOperation = operationsFactory.newIterationNextOperation(iterationId, transport, segmentKeyTracker);
+         IterationNextOperation<E> iterationNextOperation = null;
 
          while (nextElements.isEmpty() && !endOfIteration) {
-            IterationNextResponse<E> iterationNextResponse = iterationNextOperation.execute();
+            IterationNextResponse<E> iterationNextResponse;
+            if (prefetch != null) {
+               iterationNextResponse = joinPrefetch();
+            } else {
+               if (iterationNextOperation == null) {
+                  iterationNextOperation = operationsFactory.newIterationNextOperation(iterationId, transport, segmentKeyTracker);
+               }
+               iterationNextResponse = iterationNextOperation.execute();
+            }
             if (!iterationNextResponse.hasMore()) {
                endOfIteration = true;
                break;
             }
             nextElements.addAll(iterationNextResponse.getEntries());
+            prefetchNext();
          }
 
       } catch (TransportException e) {
          log.warnf(e, "Error reaching the server during iteration");
-         startInternal(segmentKeyTracker.missedSegments());
+         // The missed segments are resumed on any of the remaining servers
+         startInternal(segmentKeyTracker.missedSegments(), null);
          fetch();
       }
    }
 
-   private IterationStartResponse startInternal(Set<Integer> segments) {
+   /**
+    * Requests the first batch in the background, without waiting for the iterator to be consumed.
+    */
+   void prefetchFirst() {
+      if (prefetch == null && nextElements.isEmpty() && !endOfIteration) {
+         prefetchNext();
+      }
+   }
+
+   private void prefetchNext() {
+      if (prefetchExecutor != null) {
+         // The operation is created by the caller's thread, as it picks up the thread's flags
+         IterationNextOperation<E> nextOperation = operationsFactory.newIterationNextOperation(iterationId, transport, segmentKeyTracker);
+         prefetch = CompletableFuture.supplyAsync(nextOperation::execute, prefetchExecutor);
+      }
+   }
+
+   private IterationNextResponse<E> joinPrefetch() {
+      CompletableFuture<IterationNextResponse<E>> pending = prefetch;
+      prefetch = null;
+      try {
+         return pending.join();
+      } catch (CompletionException e) {
+         Throwable cause = e.getCause();
+         if (cause instanceof RuntimeException) {
+            throw (RuntimeException) cause;
+         }
+         throw e;
+      }
+   }
+
+   private void awaitPrefetch() {
+      if (prefetch != null) {
+         // The transport can't be shared with the batch in flight
+         try {
+            prefetch.join();
+         } catch (CompletionException ignored) {
+         } finally {
+            prefetch = null;
+         }
+      }
+   }
+
+   private IterationStartResponse startInternal(Set<Integer> segments, SocketAddress addressTarget) {
+      return started(newStartOperation(segments, addressTarget).execute());
+   }
+
+   private IterationStartOperation newStartOperation(Set<Integer> segments, SocketAddress addressTarget) {
       if (log.isDebugEnabled()) {
          log.debugf("Starting iteration with segments %s", segments);
       }
-      IterationStartOperation iterationStartOperation = operationsFactory.newIterationStartOperation(filterConverterFactory, filterParams, segments, batchSize, metadata);
-      IterationStartResponse startResponse = iterationStartOperation.execute();
+      return operationsFactory.newIterationStartOperation(filterConverterFactory, filterParams, segments, batchSize, metadata, addressTarget);
+   }
+
+   private IterationStartResponse started(IterationStartResponse startResponse) {
       this.transport = startResponse.getTransport();
       if (log.isDebugEnabled()) {
          log.iterationTransportObtained(transport, iterationId);
@@ -130,10 +229,34 @@ private IterationStartResponse startInternal(Set<Integer> segments) {
       return startResponse;
    }
 
-   public void start() {
-      IterationStartResponse startResponse = startInternal(segments);
+   private void initKeyTracker(IterationStartResponse startResponse) {
       Marshaller marshaller = startResponse.getTransport().getTransportFactory().getMarshaller();
       this.segmentKeyTracker = KeyTrackerFactory.create(
               marshaller, startResponse.getSegmentConsistentHash(), startResponse.getTopologyId(), segments);
    }
+
+   public void start() {
+      initKeyTracker(startInternal(segments, addressTarget));
+   }
+
+   /**
+    * Starts the iteration in the background when an executor was supplied, or right away otherwise. The iterator
+    * can only be used once the returned future is complete.
+    */
+   CompletableFuture<Void> startAsync() {
+      if (prefetchExecutor == null) {
+         CompletableFuture<Void> future = new CompletableFuture<>();
+         try {
+            start();
+            future.complete(null);
+         } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+         }
+         return future;
+      }
+      // The operation is created by the caller's thread, as it picks up the thread's flags
+      IterationStartOperation startOperation = newStartOperation(segments, addressTarget);
+      return CompletableFuture.supplyAsync(startOperation::execute, prefetchExecutor)
+            .thenAccept(startResponse -> initKeyTracker(started(startResponse)));
+   }
 }
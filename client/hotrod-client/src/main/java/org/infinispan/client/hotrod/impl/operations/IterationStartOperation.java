@@ -31,10 +31,19 @@ public class IterationStartOperation extends RetryOnFailureOperation<IterationSt
    private final int batchSize;
    private final TransportFactory transportFactory;
    private final boolean metadata;
+   private final SocketAddress addressTarget;
 
    IterationStartOperation(Codec codec, int flags, byte[] cacheName, AtomicInteger topologyId,
                            String filterConverterFactory, byte[][] filterParameters, Set<Integer> segments,
                            int batchSize, TransportFactory transportFactory, boolean metadata) {
+      this(codec, flags, cacheName, topologyId, filterConverterFactory, filterParameters, segments, batchSize,
+            transportFactory, metadata, null);
+   }
+
+   IterationStartOperation(Codec codec, int flags, byte[] cacheName, AtomicInteger topologyId,
+                           String filterConverterFactory, byte[][] filterParameters, Set<Integer> segments,
+                           int batchSize, TransportFactory transportFactory, boolean metadata,
+                           SocketAddress addressTarget) {
       super(codec, transportFactory, cacheName, topologyId, flags);
       this.filterConverterFactory = filterConverterFactory;
       this.filterParameters = filterParameters;
@@ -42,10 +51,15 @@ public class IterationStartOperation extends RetryOnFailureOperation<IterationSt
       this.batchSize = batchSize;
       this.transportFactory = transportFactory;
       this.metadata = metadata;
+      this.addressTarget = addressTarget;
    }
 
    @Override
    protected Transport getTransport(int retryCount, Set<SocketAddress> failedServers) {
+      // The targeted server is only tried once, the retries go to any other server
+      if (addressTarget != null && (failedServers == null || failedServers.isEmpty())) {
+         return transportFactory.getAddressTransport(addressTarget);
+      }
       return transportFactory.getTransport(failedServers, cacheName);
    }
 
@@ -6,6 +6,7 @@
 import org.infinispan.client.hotrod.Flag;
 import org.infinispan.client.hotrod.RemoteCacheManager;
 import org.infinispan.client.hotrod.event.ClientListenerNotifier;
+import org.infinispan.client.hotrod.impl.consistenthash.ConsistentHash;
 import org.infinispan.client.hotrod.impl.iteration.KeyTracker;
 import org.infinispan.client.hotrod.impl.protocol.Codec;
 import org.infinispan.client.hotrod.impl.protocol.HotRodConstants;
@@ -13,6 +14,7 @@
 import org.infinispan.client.hotrod.impl.transport.Transport;
 import org.infinispan.client.hotrod.impl.transport.TransportFactory;
 
+import java.net.SocketAddress;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ExecutorService;
@@ -203,6 +205,17 @@ public QueryOperation newQueryOperation(RemoteQuery remoteQuery) {
             codec, transportFactory, cacheNameBytes, topologyId, flags(), remoteQuery);
    }
 
+   public QueryOperation newQueryOperation(RemoteQuery remoteQuery, int cursorPageSize, long cursorIdleTimeout) {
+      return new QueryOperation(codec, transportFactory, cacheNameBytes, topologyId, flags(), remoteQuery,
+            cursorPageSize, cursorIdleTimeout, null, false, null);
+   }
+
+   public QueryOperation newQueryCursorOperation(RemoteQuery remoteQuery, String cursorId, boolean closeCursor,
+                                                 SocketAddress server) {
+      return new QueryOperation(codec, transportFactory, cacheNameBytes, topologyId, flags(), remoteQuery,
+            -1, -1, cursorId, closeCursor, server);
+   }
+
    public SizeOperation newSizeOperation() {
       return new SizeOperation(codec, transportFactory, cacheNameBytes, topologyId, flags());
    }
@@ -264,10 +277,18 @@ public CacheTopologyInfo getCacheTopologyInfo() {
       return transportFactory.getCacheTopologyInfo(cacheNameBytes);
    }
 
+   public ConsistentHash getConsistentHash() {
+      return transportFactory.getConsistentHash(cacheNameBytes);
+   }
+
    public IterationStartOperation newIterationStartOperation(String filterConverterFactory, byte[][] filterParameters, Set<Integer> segments, int batchSize, boolean metadata) {
       return new IterationStartOperation(codec, flags(), cacheNameBytes, topologyId, filterConverterFactory, filterParameters, segments, batchSize, transportFactory, metadata);
    }
 
+   public IterationStartOperation newIterationStartOperation(String filterConverterFactory, byte[][] filterParameters, Set<Integer> segments, int batchSize, boolean metadata, SocketAddress addressTarget) {
+      return new IterationStartOperation(codec, flags(), cacheNameBytes, topologyId, filterConverterFactory, filterParameters, segments, batchSize, transportFactory, metadata, addressTarget);
+   }
+
    public IterationEndOperation newIterationEndOperation(String iterationId, Transport transport) {
       return new IterationEndOperation(codec, flags(), cacheNameBytes, topologyId, iterationId, transportFactory, transport);
    }
@@ -1,5 +1,6 @@
 package org.infinispan.client.hotrod.impl.operations;
 
+import org.infinispan.client.hotrod.exceptions.TransportException;
 import org.infinispan.client.hotrod.impl.protocol.Codec;
 import org.infinispan.client.hotrod.impl.protocol.HeaderParams;
 import org.infinispan.client.hotrod.impl.query.RemoteQuery;
@@ -28,18 +29,78 @@
 public class QueryOperation extends RetryOnFailureOperation<QueryResponse> {
 
    private final RemoteQuery remoteQuery;
+   private final int cursorPageSize;
+   private final long cursorIdleTimeout;
+   private final String cursorId;
+   private final boolean closeCursor;
+   private final SocketAddress addressTarget;
+
+   private volatile SocketAddress serverAddress;
 
    public QueryOperation(Codec codec, TransportFactory transportFactory, byte[] cacheName, AtomicInteger topologyId,
                          int flags, RemoteQuery remoteQuery) {
+      this(codec, transportFactory, cacheName, topologyId, flags, remoteQuery, -1, -1, null, false, null);
+   }
+
+   /**
+    * @param cursorPageSize    the size of the pages of the cursor opened by the server, or -1 to return all the
+    *                          results at once
+    * @param cursorIdleTimeout the time (in milliseconds) after which the server closes an unused cursor, or -1 to use
+    *                          the server default
+    * @param cursorId          the id of the cursor whose next page is requested, or {@code null} to execute the query
+    * @param closeCursor       whether the cursor is closed instead of returning its next page
+    * @param addressTarget     the server holding the cursor, or {@code null} to let the balancing strategy pick it
+    */
+   public QueryOperation(Codec codec, TransportFactory transportFactory, byte[] cacheName, AtomicInteger topologyId,
+                         int flags, RemoteQuery remoteQuery, int cursorPageSize, long cursorIdleTimeout,
+                         String cursorId, boolean closeCursor, SocketAddress addressTarget) {
       super(codec, transportFactory, cacheName, topologyId, flags);
       this.remoteQuery = remoteQuery;
+      this.cursorPageSize = cursorPageSize;
+      this.cursorIdleTimeout = cursorIdleTimeout;
+      this.cursorId = cursorId;
+      this.closeCursor = closeCursor;
+      this.addressTarget = addressTarget;
+   }
+
+   /**
+    * The requests for the next page of a cursor are not retried. The server moves the cursor forward when it reads a
+    * page, so retrying a request whose response was lost would silently skip that page; the failure is reported to
+    * the caller instead.
+    */
+   @Override
+   public QueryResponse execute() {
+      if (cursorId == null) {
+         return super.execute();
+      }
+      Transport transport = transportFactory.getAddressTransport(addressTarget);
+      try {
+         return executeOperation(transport);
+      } catch (TransportException te) {
+         // the transport can no longer be used, it is discarded when released
+         transportFactory.invalidateTransport(te.getServerAddress(), transport);
+         throw te;
+      } finally {
+         releaseTransport(transport);
+      }
    }
 
    @Override
    protected Transport getTransport(int retryCount, Set<SocketAddress> failedServers) {
+      // A cursor only exists on the server that opened it
+      if (addressTarget != null) {
+         return transportFactory.getAddressTransport(addressTarget);
+      }
       return transportFactory.getTransport(failedServers, cacheName);
    }
 
+   /**
+    * @return the server that executed the operation, which holds the cursor of the response
+    */
+   public SocketAddress getServerAddress() {
+      return serverAddress;
+   }
+
    @Override
    protected QueryResponse executeOperation(Transport transport) {
       HeaderParams params = writeHeader(transport, QUERY_REQUEST);
@@ -52,6 +113,15 @@ protected QueryResponse executeOperation(Transport transport) {
          queryRequest.setMaxResults(remoteQuery.getMaxResults());
       }
       queryRequest.setNamedParameters(getNamedParameters());
+      if (cursorId != null) {
+         queryRequest.setCursorId(cursorId);
+         queryRequest.setCloseCursor(closeCursor);
+      } else if (cursorPageSize > 0) {
+         queryRequest.setCursorPageSize(cursorPageSize);
+         if (cursorIdleTimeout > 0) {
+            queryRequest.setCursorIdleTimeout(cursorIdleTimeout);
+         }
+      }
 
       SerializationContext serCtx = remoteQuery.getSerializationContext();
       byte[] requestBytes;
@@ -64,6 +134,7 @@ protected QueryResponse executeOperation(Transport transport) {
       transport.flush();
 
       readHeaderAndValidate(transport, params);
+      serverAddress = transport.getRemoteSocketAddress();
       byte[] responseBytes = transport.readArray();
       try {
          QueryResponse queryResponse = ProtobufUtil.fromByteArray(serCtx, responseBytes, QueryResponse.class);
@@ -9,6 +9,7 @@
 import org.infinispan.protostream.SerializationContext;
 import org.infinispan.protostream.WrappedMessage;
 import org.infinispan.query.dsl.QueryFactory;
+import org.infinispan.query.dsl.QueryResultIterator;
 import org.infinispan.query.dsl.impl.BaseQuery;
 import org.infinispan.query.remote.client.QueryResponse;
 
@@ -17,6 +18,7 @@
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 /**
  * @author anistor@redhat.com
@@ -68,7 +70,35 @@ private void executeQuery() {
       }
    }
 
-   private List<Object> unwrapResults(int projectionSize, List<WrappedMessage> results) {
+   /**
+    * Executes the query and returns an iterator that retrieves the results from the server one page at a time. The
+    * server keeps the remaining results until they are all retrieved or the iterator is closed.
+    *
+    * @param pageSize the maximum number of results retrieved from the server at once
+    */
+   @Override
+   public <T> QueryResultIterator<T> iterator(int pageSize) {
+      return iterator(pageSize, -1, TimeUnit.MILLISECONDS);
+   }
+
+   /**
+    * Executes the query and returns an iterator that retrieves the results from the server one page at a time. The
+    * server keeps the remaining results until they are all retrieved, the iterator is closed, or no page is requested
+    * for longer than the idle timeout.
+    *
+    * @param pageSize    the maximum number of results retrieved from the server at once
+    * @param idleTimeout the time after which the server discards the remaining results, or -1 to use the server
+    *                    default
+    */
+   public <T> QueryResultIterator<T> iterator(int pageSize, long idleTimeout, TimeUnit unit) {
+      if (pageSize <= 0) {
+         throw new IllegalArgumentException("pageSize must be greater than 0");
+      }
+      checkParameters();
+      return new RemoteQueryCursor<>(this, pageSize, idleTimeout > 0 ? unit.toMillis(idleTimeout) : -1);
+   }
+
+   List<Object> unwrapResults(int projectionSize, List<WrappedMessage> results) {
       List<Object> unwrappedResults;
       if (projectionSize > 0) {
          unwrappedResults = new ArrayList<>(results.size() / projectionSize);
@@ -107,6 +137,10 @@ private void checkParameters() {
       }
    }
 
+   RemoteCacheImpl getCache() {
+      return cache;
+   }
+
    public SerializationContext getSerializationContext() {
       return serializationContext;
    }
@@ -0,0 +1,93 @@
+package org.infinispan.client.hotrod.impl.query;
+
+import java.net.SocketAddress;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import org.infinispan.client.hotrod.exceptions.TransportException;
+import org.infinispan.client.hotrod.impl.operations.QueryOperation;
+import org.infinispan.client.hotrod.logging.Log;
+import org.infinispan.client.hotrod.logging.LogFactory;
+import org.infinispan.query.dsl.QueryResultIterator;
+import org.infinispan.query.remote.client.QueryResponse;
+
+import net.jcip.annotations.NotThreadSafe;
+
+/**
+ * Iterates over the results of a remote query, one page at a time. The server keeps the remaining results in a cursor,
+ * which is closed once all the results were retrieved, when the iterator is closed or when it is not used for longer
+ * than its idle timeout.
+ *
+ * @since 9.0
+ */
+@NotThreadSafe
+final class RemoteQueryCursor<T> implements QueryResultIterator<T> {
+
+   private static final Log log = LogFactory.getLog(RemoteQueryCursor.class, Log.class);
+
+   private final RemoteQuery remoteQuery;
+   private final int pageSize;
+   private final long idleTimeout;
+
+   private SocketAddress server;
+   private String cursorId;
+   private Iterator<Object> page;
+   private boolean closed;
+
+   RemoteQueryCursor(RemoteQuery remoteQuery, int pageSize, long idleTimeout) {
+      this.remoteQuery = remoteQuery;
+      this.pageSize = pageSize;
+      this.idleTimeout = idleTimeout;
+   }
+
+   @Override
+   public boolean hasNext() {
+      if (closed) {
+         return false;
+      }
+      while (page == null || !page.hasNext()) {
+         if (page != null && cursorId == null) {
+            closed = true;
+            return false;
+         }
+         fetch();
+      }
+      return true;
+   }
+
+   @Override
+   @SuppressWarnings("unchecked")
+   public T next() {
+      if (!hasNext()) throw new NoSuchElementException();
+      return (T) page.next();
+   }
+
+   private void fetch() {
+      QueryOperation op;
+      if (page == null) {
+         op = remoteQuery.getCache().getOperationsFactory().newQueryOperation(remoteQuery, pageSize, idleTimeout);
+      } else {
+         op = remoteQuery.getCache().getOperationsFactory().newQueryCursorOperation(remoteQuery, cursorId, false, server);
+      }
+      QueryResponse response = op.execute();
+      server = op.getServerAddress();
+      cursorId = response.getCursorId();
+      page = remoteQuery.unwrapResults(response.getProjectionSize(), response.getResults()).iterator();
+   }
+
+   @Override
+   public void close() {
+      if (!closed) {
+         closed = true;
+         if (cursorId != null) {
+            try {
+               remoteQuery.getCache().getOperationsFactory().newQueryCursorOperation(remoteQuery, cursorId, true, server).execute();
+            } catch (TransportException e) {
+               // The cursor expires on the server
+               log.debugf(e, "Unable to close query cursor %s on server %s", cursorId, server);
+            }
+            cursorId = null;
+         }
+      }
+   }
+}
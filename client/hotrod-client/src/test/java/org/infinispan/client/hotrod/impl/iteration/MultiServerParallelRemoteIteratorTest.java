@@ -0,0 +1,59 @@
+package org.infinispan.client.hotrod.impl.iteration;
+
+import org.infinispan.client.hotrod.RemoteCache;
+import org.infinispan.commons.util.CloseableIterator;
+import org.infinispan.configuration.cache.CacheMode;
+import org.infinispan.configuration.cache.ConfigurationBuilder;
+import org.infinispan.query.dsl.embedded.testdomain.hsearch.AccountHS;
+import org.testng.annotations.Test;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import static org.infinispan.server.hotrod.test.HotRodTestingUtil.hotRodCacheConfiguration;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+
+/**
+ * Tests the iteration split by primary owner, with one prefetching iteration per server.
+ *
+ * @since 9.0
+ */
+@Test(groups = "functional", testName = "client.hotrod.iteration.MultiServerParallelRemoteIteratorTest")
+public class MultiServerParallelRemoteIteratorTest extends BaseMultiServerRemoteIteratorTest {
+
+   private static final int NUM_SERVERS = 3;
+
+   @Override
+   protected void createCacheManagers() throws Throwable {
+      ConfigurationBuilder builder = hotRodCacheConfiguration(getDefaultClusteredCacheConfig(CacheMode.DIST_SYNC, false));
+      builder.clustering().hash().numSegments(60).numOwners(2);
+      createHotRodServers(NUM_SERVERS, builder);
+   }
+
+   @Override
+   protected org.infinispan.client.hotrod.configuration.ConfigurationBuilder createHotRodClientConfigurationBuilder(int serverPort) {
+      org.infinispan.client.hotrod.configuration.ConfigurationBuilder clientBuilder = super.createHotRodClientConfigurationBuilder(serverPort);
+      clientBuilder.parallelIteration(true);
+      return clientBuilder;
+   }
+
+   public void testIterationOnAllServers() {
+      RemoteCache<Integer, AccountHS> cache = clients.get(0).getCache();
+      populateCache(CACHE_SIZE, this::newAccount, cache);
+
+      Set<Map.Entry<Object, Object>> results = new HashSet<>(CACHE_SIZE);
+      try (CloseableIterator<Map.Entry<Object, Object>> iterator = cache.retrieveEntries(null, 3)) {
+         for (int i = 0; i < servers.size(); i++) {
+            assertEquals(server(i).iterationManager().activeIterations(), 1);
+         }
+         iterator.forEachRemaining(results::add);
+         assertFalse(iterator.hasNext());
+      }
+      assertEquals(extractKeys(results), rangeAsSet(0, CACHE_SIZE));
+      for (int i = 0; i < servers.size(); i++) {
+         assertEquals(server(i).iterationManager().activeIterations(), 0);
+      }
+   }
+}
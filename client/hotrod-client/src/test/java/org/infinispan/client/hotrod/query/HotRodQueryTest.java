@@ -18,6 +18,7 @@
 import org.infinispan.manager.EmbeddedCacheManager;
 import org.infinispan.query.dsl.Query;
 import org.infinispan.query.dsl.QueryFactory;
+import org.infinispan.query.dsl.QueryResultIterator;
 import org.infinispan.query.dsl.embedded.testdomain.Address;
 import org.infinispan.query.dsl.embedded.testdomain.User;
 import org.infinispan.query.remote.client.ProtobufMetadataManagerConstants;
@@ -29,8 +30,11 @@
 import org.testng.annotations.Test;
 
 import java.io.IOException;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import static org.infinispan.client.hotrod.test.HotRodClientTestingUtil.killRemoteCacheManager;
 import static org.infinispan.client.hotrod.test.HotRodClientTestingUtil.killServers;
@@ -201,6 +205,50 @@ public void testProjections() throws Exception {
       assertEquals("Cat", list.get(0)[1]);
    }
 
+   public void testCursor() throws Exception {
+      QueryFactory qf = Search.getQueryFactory(remoteCache);
+      Query query = qf.from(UserPB.class)
+            .having("gender").eq(User.Gender.MALE).toBuilder()
+            .build();
+
+      Set<Integer> ids = new HashSet<>();
+      try (QueryResultIterator<User> it = query.iterator(1)) {
+         while (it.hasNext()) {
+            User user = it.next();
+            assertEquals(UserPB.class, user.getClass());
+            ids.add(user.getId());
+         }
+      }
+      assertEquals(new HashSet<>(Arrays.asList(1, 2)), ids);
+   }
+
+   public void testCursorProjections() throws Exception {
+      QueryFactory qf = Search.getQueryFactory(remoteCache);
+      Query query = qf.from(UserPB.class)
+            .select("name", "surname")
+            .having("name").eq("Tom").toBuilder()
+            .build();
+
+      try (QueryResultIterator<Object[]> it = query.iterator(10)) {
+         assertTrue(it.hasNext());
+         Object[] row = it.next();
+         assertEquals("Tom", row[0]);
+         assertEquals("Cat", row[1]);
+         assertFalse(it.hasNext());
+      }
+   }
+
+   public void testCursorClose() throws Exception {
+      QueryFactory qf = Search.getQueryFactory(remoteCache);
+      Query query = qf.from(UserPB.class).build();
+
+      QueryResultIterator<User> it = query.iterator(1);
+      assertTrue(it.hasNext());
+      assertNotNull(it.next());
+      it.close();
+      assertFalse(it.hasNext());
+   }
+
    private void assertUser1(User user) {
       assertNotNull(user);
       assertEquals(1, user.getId());
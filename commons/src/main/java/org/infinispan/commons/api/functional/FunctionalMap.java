@@ -490,6 +490,23 @@
        */
       <R> CompletableFuture<R> eval(K key, V value, BiFunction<V, ReadWriteEntryView<K, V>, R> f);
 
+      /**
+       * Apply a {@link Patch} to the value associated with the key, and
+       * return a {@link CompletableFuture} which will be completed when the
+       * patch has been applied. The entry is removed if the patch returns
+       * {@code null}.
+       *
+       * <p>Only the patch is replicated to the other owners of the key, which
+       * apply it to their own copy of the value, so this is preferred over
+       * writing the whole value when only a small part of a large value changes.
+       *
+       * @param key the key associated with the value to patch
+       * @param patch the patch to apply to the value
+       * @return a {@link CompletableFuture} which will be completed when the
+       *         patch has been applied
+       */
+      CompletableFuture<Void> patch(K key, Patch<V> patch);
+
       /**
        * Evaluate a read-write {@link BiFunction}, with a value passed in and
        * a {@link ReadWriteEntryView} of the value associated with
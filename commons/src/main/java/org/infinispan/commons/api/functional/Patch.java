@@ -0,0 +1,32 @@
+package org.infinispan.commons.api.functional;
+
+import org.infinispan.commons.util.Experimental;
+
+/**
+ * A partial update of a value, such as the change of a few fields of a large
+ * object. A patch is applied to the current value of an entry with
+ * {@link org.infinispan.commons.marshall.MarshallableFunctions#applyPatch()}
+ * through a {@link FunctionalMap.ReadWriteMap}, and only the patch, not the
+ * whole value, is replicated to the backup owners, which apply it to their
+ * own copy of the value. The whole value is still replicated during a
+ * rebalance, with asynchronous replication, and to the backup owners that
+ * do not have the value.
+ *
+ * <p>Patches must be marshallable, and applying a patch must be
+ * deterministic so that all the owners end up with the same value.
+ *
+ * @param <V> the type of the patched values
+ * @since 9.0
+ */
+@Experimental
+public interface Patch<V> {
+
+   /**
+    * Applies the patch to a value.
+    *
+    * @param value the current value, or {@code null} if the entry is absent
+    * @return the new value, or {@code null} to remove the entry
+    */
+   V apply(V value);
+
+}
@@ -19,7 +19,8 @@ public abstract class AbstractMarshaller implements Marshaller {
 
    @Override
    public BufferSizePredictor getBufferSizePredictor(Object o) {
-      return marshallableTypeHints.getBufferSizePredictor(o.getClass());
+      Class<?> type = o instanceof BufferSizeHint ? ((BufferSizeHint) o).getSizePredictionType() : o.getClass();
+      return marshallableTypeHints.getBufferSizePredictor(type);
    }
 
    /**
@@ -35,8 +36,7 @@ public BufferSizePredictor getBufferSizePredictor(Object o) {
    @Override
    public ByteBuffer objectToBuffer(Object obj) throws IOException, InterruptedException {
       if (obj != null) {
-         BufferSizePredictor sizePredictor = marshallableTypeHints
-               .getBufferSizePredictor(obj.getClass());
+         BufferSizePredictor sizePredictor = getBufferSizePredictor(obj);
          int estimatedSize = sizePredictor.nextSize(obj);
          ByteBuffer byteBuffer = objectToBuffer(obj, estimatedSize);
          int length = byteBuffer.getLength();
@@ -45,7 +45,7 @@ public ByteBuffer objectToBuffer(Object obj) throws IOException, InterruptedExce
             byte[] buffer = trimBuffer(byteBuffer);
             byteBuffer = new ByteBufferImpl(buffer, 0, buffer.length);
          }
-         sizePredictor.recordSize(length);
+         sizePredictor.recordSize(obj, length);
          return byteBuffer;
       } else {
          return objectToBuffer(null, 1);
@@ -55,10 +55,9 @@ public ByteBuffer objectToBuffer(Object obj) throws IOException, InterruptedExce
    @Override
    public byte[] objectToByteBuffer(Object o) throws IOException, InterruptedException {
       if (o != null) {
-         BufferSizePredictor sizePredictor = marshallableTypeHints
-               .getBufferSizePredictor(o.getClass());
+         BufferSizePredictor sizePredictor = getBufferSizePredictor(o);
          byte[] bytes = objectToByteBuffer(o, sizePredictor.nextSize(o));
-         sizePredictor.recordSize(bytes.length);
+         sizePredictor.recordSize(o, bytes.length);
          return bytes;
       } else {
          return objectToByteBuffer(null, 1);
@@ -0,0 +1,24 @@
+package org.infinispan.commons.marshall;
+
+/**
+ * Implemented by objects whose serialized size is roughly proportional to the number of elements they carry, such as
+ * commands holding a map of entries. Marshallers use it to pick a {@link BufferSizePredictor} per payload type and to
+ * scale the prediction by the element count, instead of sharing one prediction among all instances of a class.
+ *
+ * @since 9.0
+ */
+public interface BufferSizeHint {
+
+   /**
+    * @return the type whose size statistics should be used for this object. Wrappers return the type of the
+    *         wrapped object, so that different payloads do not share a single prediction.
+    */
+   default Class<?> getSizePredictionType() {
+      return getClass();
+   }
+
+   /**
+    * @return the number of elements whose size dominates the serialized form of this object
+    */
+   int getSizePredictionElements();
+}
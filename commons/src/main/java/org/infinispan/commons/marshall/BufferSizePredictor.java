@@ -25,4 +25,16 @@ public interface BufferSizePredictor {
     */
    void recordSize(int previousSize);
 
+   /**
+    * Record the size of the data in the last buffer used for the given object. Predictors which base their prediction
+    * on the object override it, the default implementation ignores the object.
+    *
+    * @param obj          instance that was stored in the buffer
+    * @param previousSize int representing the size of the last
+    *                     object buffered.
+    */
+   default void recordSize(Object obj, int previousSize) {
+      recordSize(previousSize);
+   }
+
 }
@@ -0,0 +1,54 @@
+package org.infinispan.commons.marshall;
+
+/**
+ * {@link BufferSizePredictor} for {@link BufferSizeHint} objects, which predicts the buffer size as an average number
+ * of bytes per element multiplied by the element count of the object being marshalled.
+ * <p>
+ * Unlike {@link AdaptiveBufferSizePredictor}, the prediction is not capped at 64KB, so large payloads are marshalled
+ * into a buffer of about the right size instead of growing, and copying, the buffer several times. The prediction is
+ * still clamped to {@link #MAXIMUM}, larger payloads grow the buffer as usual. The average is an exponentially
+ * weighted moving average of the recorded sizes, each divided by the element count of the object it was recorded
+ * for, so concurrent updates never mix the size of one object with the element count of another.
+ *
+ * @since 9.0
+ */
+public class ElementCountBufferSizePredictor implements BufferSizePredictor {
+
+   static final int DEFAULT_BYTES_PER_ELEMENT = 64;
+   static final int MINIMUM = 16;
+   static final int MAXIMUM = 16 * 1024 * 1024;
+
+   private volatile double bytesPerElement = DEFAULT_BYTES_PER_ELEMENT;
+
+   @Override
+   public int nextSize(Object obj) {
+      // Leave 1/8 headroom so that an average-sized payload does not need to grow the buffer
+      double size = bytesPerElement * elements(obj) * 1.125;
+      return size >= MAXIMUM ? MAXIMUM : Math.max(MINIMUM, (int) size);
+   }
+
+   /**
+    * The element count of the object is unknown, so the size is not recorded. Use
+    * {@link #recordSize(Object, int)} instead.
+    */
+   @Override
+   public void recordSize(int previousSize) {
+   }
+
+   @Override
+   public void recordSize(Object obj, int previousSize) {
+      double sample = (double) previousSize / elements(obj);
+      bytesPerElement = bytesPerElement * 0.75 + sample * 0.25;
+   }
+
+   private static double elements(Object obj) {
+      // One extra element accounts for the fixed part of the payload
+      int elements = obj instanceof BufferSizeHint ? ((BufferSizeHint) obj).getSizePredictionElements() : 0;
+      return Math.max(0, elements) + 1.0;
+   }
+
+   @Override
+   public String toString() {
+      return "ElementCountBufferSizePredictor{bytesPerElement=" + bytesPerElement + '}';
+   }
+}
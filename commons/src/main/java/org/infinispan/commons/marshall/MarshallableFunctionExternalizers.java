@@ -36,6 +36,7 @@ public class MarshallableFunctionExternalizers {
    private static final int RETURN_READ_WRITE_FIND = 12 | VALUE_MATCH_ALWAYS;
    private static final int RETURN_READ_WRITE_GET = 13 | VALUE_MATCH_ALWAYS;
    private static final int RETURN_READ_WRITE_VIEW = 14 | VALUE_MATCH_ALWAYS;
+   private static final int APPLY_PATCH = 15 | VALUE_MATCH_ALWAYS;
 
    public static final class ConstantLambdaExternalizer implements LambdaExternalizer<Object> {
       private final IdentityIntMap<Class<?>> numbers = new IdentityIntMap<>(16);
@@ -55,6 +56,7 @@ public ConstantLambdaExternalizer() {
          numbers.put(returnReadWriteFind().getClass(), RETURN_READ_WRITE_FIND);
          numbers.put(returnReadWriteGet().getClass(), RETURN_READ_WRITE_GET);
          numbers.put(returnReadWriteView().getClass(), RETURN_READ_WRITE_VIEW);
+         numbers.put(applyPatch().getClass(), APPLY_PATCH);
       }
 
       @Override
@@ -84,7 +86,8 @@ public Set<Class<?>> getTypeClasses() {
             removeConsumer().getClass(),
             returnReadWriteFind().getClass(),
             returnReadWriteGet().getClass(),
-            returnReadWriteView().getClass()
+            returnReadWriteView().getClass(),
+            applyPatch().getClass()
          );
       }
 
@@ -115,6 +118,7 @@ public Object readObject(ObjectInput input) throws IOException {
             case RETURN_READ_WRITE_FIND: return returnReadWriteFind();
             case RETURN_READ_WRITE_GET: return returnReadWriteGet();
             case RETURN_READ_WRITE_VIEW: return returnReadWriteView();
+            case APPLY_PATCH: return applyPatch();
             default:
                throw new IllegalStateException("Unknown lambda ID: " + id);
          }
@@ -132,6 +136,7 @@ public LambdaWithMetasExternalizer() {
          numbers.put(SetValueMetasIfPresentReturnPrevOrNull.class, SET_VALUE_IF_PRESENT_RETURN_PREV_OR_NULL);
          numbers.put(SetValueMetasIfPresentReturnBoolean.class, SET_VALUE_IF_PRESENT_RETURN_BOOLEAN);
          numbers.put(SetValueMetas.class, SET_VALUE_CONSUMER);
+         numbers.put(ApplyPatchMetas.class, APPLY_PATCH);
       }
 
       @Override
@@ -155,7 +160,8 @@ public Set<Class<? extends LambdaWithMetas>> getTypeClasses() {
             SetValueMetasIfAbsentReturnBoolean.class,
             SetValueMetasIfPresentReturnPrevOrNull.class,
             SetValueMetasIfPresentReturnBoolean.class,
-            SetValueMetas.class
+            SetValueMetas.class,
+            ApplyPatchMetas.class
          );
       }
 
@@ -183,6 +189,7 @@ public LambdaWithMetas readObject(ObjectInput input) throws IOException, ClassNo
             case SET_VALUE_IF_PRESENT_RETURN_PREV_OR_NULL: return new SetValueMetasIfPresentReturnPrevOrNull<>(metas);
             case SET_VALUE_IF_PRESENT_RETURN_BOOLEAN: return new SetValueMetasIfPresentReturnBoolean<>(metas);
             case SET_VALUE_CONSUMER: return new SetValueMetas<>(metas);
+            case APPLY_PATCH: return new ApplyPatchMetas<>(metas);
             default:
                throw new IllegalStateException("Unknown lambda and meta parameters with ID: " + id);
          }
@@ -3,6 +3,7 @@
 import org.infinispan.commons.api.functional.EntryView.ReadWriteEntryView;
 import org.infinispan.commons.api.functional.EntryView.WriteEntryView;
 import org.infinispan.commons.api.functional.MetaParam;
+import org.infinispan.commons.api.functional.Patch;
 
 import java.util.Optional;
 import java.util.function.BiConsumer;
@@ -100,6 +101,14 @@ public static <K, V> Function<ReadWriteEntryView<K, V>, ReadWriteEntryView<K, V>
       return ReturnReadWriteView.getInstance();
    }
 
+   public static <K, V> BiFunction<Patch<V>, ReadWriteEntryView<K, V>, Void> applyPatch() {
+      return ApplyPatch.getInstance();
+   }
+
+   public static <K, V> BiFunction<Patch<V>, ReadWriteEntryView<K, V>, Void> applyPatchMetas(MetaParam.Writable... metas) {
+      return new ApplyPatchMetas<>(metas);
+   }
+
    private static abstract class AbstractSetValueReturnPrevOrNull<K, V>
          implements BiFunction<V, ReadWriteEntryView<K, V>, V> {
       final MetaParam.Writable[] metas;
@@ -529,6 +538,51 @@ private static <K, V> Function<ReadWriteEntryView<K, V>, ReadWriteEntryView<K, V
       }
    }
 
+   private static abstract class AbstractApplyPatch<K, V>
+         implements BiFunction<Patch<V>, ReadWriteEntryView<K, V>, Void> {
+      final MetaParam.Writable[] metas;
+
+      protected AbstractApplyPatch(MetaParam.Writable[] metas) {
+         this.metas = metas;
+      }
+
+      @Override
+      public Void apply(Patch<V> patch, ReadWriteEntryView<K, V> rw) {
+         V value = patch.apply(rw.find().orElse(null));
+         if (value == null) {
+            rw.remove();
+         } else {
+            rw.set(value, metas);
+         }
+         return null;
+      }
+   }
+
+   private static final class ApplyPatch<K, V> extends AbstractApplyPatch<K, V> {
+      protected ApplyPatch(MetaParam.Writable[] metas) {
+         super(metas);
+      }
+
+      private static final ApplyPatch INSTANCE =
+         new ApplyPatch<>(new MetaParam.Writable[0]);
+      @SuppressWarnings("unchecked")
+      private static <K, V> BiFunction<Patch<V>, ReadWriteEntryView<K, V>, Void> getInstance() {
+         return ApplyPatch.INSTANCE;
+      }
+   }
+
+   static final class ApplyPatchMetas<K, V>
+         extends AbstractApplyPatch<K, V> implements LambdaWithMetas {
+      ApplyPatchMetas(MetaParam.Writable[] metas) {
+         super(metas);
+      }
+
+      @Override
+      public MetaParam.Writable[] metas() {
+         return metas;
+      }
+   }
+
    private MarshallableFunctions() {
       // No-op, holds static variables
    }
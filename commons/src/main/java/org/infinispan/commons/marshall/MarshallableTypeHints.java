@@ -38,7 +38,7 @@ public BufferSizePredictor getBufferSizePredictor(Class<?> type) {
       MarshallingType marshallingType = typeHints.get(type);
       if (marshallingType == null) {
          // Initialise with isMarshallable to null, meaning it's unknown
-         marshallingType = new MarshallingType(null, new AdaptiveBufferSizePredictor());
+         marshallingType = new MarshallingType(null, newBufferSizePredictor(type));
          MarshallingType prev = typeHints.putIfAbsent(type, marshallingType);
          if (prev != null) {
             marshallingType = prev;
@@ -106,10 +106,15 @@ public void markMarshallable(Class<?> type, boolean isMarshallable) {
          }
 
          typeHints.put(type, new MarshallingType(
-               Boolean.valueOf(isMarshallable), new AdaptiveBufferSizePredictor()));
+               Boolean.valueOf(isMarshallable), newBufferSizePredictor(type)));
       }
    }
 
+   private static BufferSizePredictor newBufferSizePredictor(Class<?> type) {
+      return BufferSizeHint.class.isAssignableFrom(type) ?
+            new ElementCountBufferSizePredictor() : new AdaptiveBufferSizePredictor();
+   }
+
    /**
     * Clear the cached marshallable type hints.
     */
@@ -26,13 +26,16 @@
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.util.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.CountedCompleter;
 import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.concurrent.locks.LockSupport;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.*;
@@ -1564,6 +1567,442 @@ public void resize(long newSize) {
 
    }
 
+   static final class TinyLFUNode<K, V> implements EvictionEntry<K, V> {
+      static final byte NONE = 0;
+      static final byte WINDOW = 1;
+      static final byte PROBATION = 2;
+      static final byte PROTECTED = 3;
+
+      final K key;
+      final int hash;
+      // Weight counted in the map size, guarded by the bin lock
+      volatile long weight;
+      // The fields below are guarded by the eviction lock
+      long policyWeight;
+      byte queue = NONE;
+      TinyLFUNode<K, V> prev;
+      TinyLFUNode<K, V> next;
+
+      TinyLFUNode(K key, int hash) {
+         this.key = key;
+         this.hash = hash;
+      }
+
+      @Override
+      public K getKey() {
+         return key;
+      }
+   }
+
+   /**
+    * Window TinyLFU eviction: new entries enter a small LRU window and, once they leave it, must have been accessed
+    * more often than the LRU entry of the main segmented LRU space to be admitted, according to a
+    * {@link FrequencySketch}.
+    * <p>
+    * Read hits and writes never block on the policy: read hits are recorded in lossy striped ring buffers and replayed
+    * in batches by whichever thread gets the eviction lock with {@link ReentrantLock#tryLock()}. Writes can't be lost,
+    * so they are queued in a write buffer, and each maintenance run applies at most {@link #WRITE_BUFFER_DRAIN_MAX} of
+    * them. When more than {@link #WRITE_BUFFER_MAX} writes are pending the writers stop skipping the maintenance and
+    * wait for the eviction lock instead, which bounds the buffer to that size plus one write per writing thread.
+    * <p>
+    * The listener callbacks of this policy are invoked while holding a bin lock, so they only update the map size and
+    * queue the change. The policy structures are updated in {@link #findIfEntriesNeedEvicting()}, which is never
+    * invoked under a bin lock.
+    */
+   static final class TinyLFUEvictionPolicy<K, V> implements EvictionPolicy<K, V> {
+      static final int WINDOW_PERCENTAGE = 1;
+      static final int PROTECTED_PERCENTAGE = 80;
+      static final int WRITE_BUFFER_MAX = 1024;
+      static final int WRITE_BUFFER_DRAIN_MAX = 256;
+
+      static final long NODE_ARRAY_OFFSET = getUnsafe().arrayIndexScale(Node[].class);
+
+      final BoundedEquivalentConcurrentHashMapV8<K, V> map;
+      final EntrySizeCalculator<? super K, ? super V> sizeCalculator;
+      final boolean countingMemory;
+      final AtomicLong weightedSize = new AtomicLong();
+      final ReentrantLock evictionLock = new ReentrantLock();
+      final ReadBuffer<TinyLFUNode<K, V>> readBuffer = new ReadBuffer<>();
+      final Queue<Runnable> writeBuffer = new ConcurrentLinkedQueue<>();
+      final AtomicInteger pendingWrites = new AtomicInteger();
+      volatile boolean drainRequested;
+      volatile long maxSize;
+
+      // Guarded by the eviction lock
+      final FrequencySketch sketch;
+      final AccessQueue<K, V> window = new AccessQueue<>();
+      final AccessQueue<K, V> probation = new AccessQueue<>();
+      final AccessQueue<K, V> protectedQueue = new AccessQueue<>();
+      long windowMaxSize;
+      long mainMaxSize;
+      long protectedMaxSize;
+
+      TinyLFUEvictionPolicy(BoundedEquivalentConcurrentHashMapV8<K, V> map, long maxSize,
+            EntrySizeCalculator<? super K, ? super V> sizeCalculator, boolean countingMemory) {
+         this.map = map;
+         this.sizeCalculator = sizeCalculator;
+         this.countingMemory = countingMemory;
+         // With a memory bound the number of entries is unknown, so the sketch grows with the map
+         this.sketch = new FrequencySketch(countingMemory ? 16 : maxSize);
+         setMaximum(maxSize);
+      }
+
+      private void setMaximum(long maxSize) {
+         this.maxSize = maxSize;
+         this.windowMaxSize = Math.max(1, maxSize * WINDOW_PERCENTAGE / 100);
+         this.mainMaxSize = maxSize - windowMaxSize;
+         this.protectedMaxSize = mainMaxSize * PROTECTED_PERCENTAGE / 100;
+      }
+
+      @Override
+      public Node<K, V> createNewEntry(K key, int hash, Node<K, V> next, V value,
+            EvictionEntry<K, V> evictionEntry) {
+         Node<K, V> node = new Node<>(hash, map.nodeEq, key, value, next);
+         node.lazySetEviction(evictionEntry == null ? new TinyLFUNode<>(key, hash) : evictionEntry);
+         return node;
+      }
+
+      @Override
+      public TreeNode<K, V> createNewEntry(K key, int hash, TreeNode<K, V> next,
+            TreeNode<K, V> parent, V value, EvictionEntry<K, V> evictionEntry) {
+         TreeNode<K, V> treeNode = new TreeNode<>(hash, map.nodeEq, key, value, next, parent, evictionEntry);
+         if (evictionEntry == null) {
+            treeNode.lazySetEviction(new TinyLFUNode<>(key, hash));
+         }
+         return treeNode;
+      }
+
+      @Override
+      public void onEntryMiss(Node<K, V> e, V value) {
+         TinyLFUNode<K, V> node = (TinyLFUNode<K, V>) e.eviction;
+         long weight = sizeCalculator.calculateSize(e.key, value);
+         weightedSize.addAndGet(weight - node.weight);
+         node.weight = weight;
+         scheduleWrite(() -> onAdd(node, weight));
+      }
+
+      @Override
+      public void onEntryHitRead(Node<K, V> e, V value) {
+         TinyLFUNode<K, V> node = (TinyLFUNode<K, V>) e.eviction;
+         if (node != null && readBuffer.offer(node)) {
+            drainRequested = true;
+         }
+      }
+
+      @Override
+      public void onEntryHitWrite(Node<K, V> e, V value) {
+         TinyLFUNode<K, V> node = (TinyLFUNode<K, V>) e.eviction;
+         long weight = countingMemory ? sizeCalculator.calculateSize(e.key, value) : node.weight;
+         if (weight != node.weight) {
+            weightedSize.addAndGet(weight - node.weight);
+            node.weight = weight;
+         }
+         scheduleWrite(() -> onUpdate(node, weight));
+      }
+
+      @Override
+      public void onEntryRemove(Node<K, V> e) {
+         TinyLFUNode<K, V> node = (TinyLFUNode<K, V>) e.eviction;
+         weightedSize.addAndGet(-node.weight);
+         node.weight = 0;
+         scheduleWrite(() -> onRemove(node));
+      }
+
+      private void scheduleWrite(Runnable task) {
+         writeBuffer.add(task);
+         pendingWrites.incrementAndGet();
+      }
+
+      @Override
+      public Collection<Node<K, V>> findIfEntriesNeedEvicting() {
+         boolean overflow = weightedSize.get() > maxSize;
+         if (!overflow && !drainRequested && pendingWrites.get() == 0) {
+            return Collections.emptyList();
+         }
+         // The eviction listener may access the map while we are evicting
+         if (evictionLock.isHeldByCurrentThread()) {
+            return Collections.emptyList();
+         }
+         if (pendingWrites.get() >= WRITE_BUFFER_MAX) {
+            // The writers are ahead of the policy, wait for the lock instead of queueing more
+            evictionLock.lock();
+         } else if (!evictionLock.tryLock()) {
+            return Collections.emptyList();
+         }
+         try {
+            List<Node<K, V>> evicted = maintenance();
+            return evicted == null ? Collections.emptyList() : evicted;
+         } finally {
+            evictionLock.unlock();
+         }
+      }
+
+      private List<Node<K, V>> maintenance() {
+         drainRequested = false;
+         readBuffer.drainTo(this::onAccess);
+         Runnable task;
+         for (int i = 0; i < WRITE_BUFFER_DRAIN_MAX && (task = writeBuffer.poll()) != null; i++) {
+            pendingWrites.decrementAndGet();
+            task.run();
+         }
+         if (pendingWrites.get() > 0) {
+            // Leave the rest for the next operation
+            drainRequested = true;
+         }
+         if (countingMemory) {
+            sketch.ensureCapacity(map.mappingCount());
+         }
+
+         List<Node<K, V>> evicted = null;
+         while (window.weight > windowMaxSize) {
+            TinyLFUNode<K, V> candidate = window.first;
+            if (candidate == null)
+               break;
+            window.remove(candidate);
+            if (probation.weight + protectedQueue.weight + candidate.policyWeight > mainMaxSize) {
+               TinyLFUNode<K, V> victim = probation.first != null ? probation.first : protectedQueue.first;
+               if (victim != null) {
+                  // Admit the candidate only if it is more popular than the entry it would replace
+                  if (sketch.frequency(candidate.hash) <= sketch.frequency(victim.hash)) {
+                     candidate.queue = TinyLFUNode.NONE;
+                     evicted = evict(candidate, evicted);
+                     continue;
+                  }
+                  evicted = evict(victim, evicted);
+               }
+            }
+            probation.add(candidate, TinyLFUNode.PROBATION);
+         }
+         while (weightedSize.get() > maxSize) {
+            TinyLFUNode<K, V> victim = probation.first != null ? probation.first :
+                  protectedQueue.first != null ? protectedQueue.first : window.first;
+            if (victim == null)
+               break;
+            evicted = evict(victim, evicted);
+         }
+         return evicted;
+      }
+
+      private List<Node<K, V>> evict(TinyLFUNode<K, V> node, List<Node<K, V>> evicted) {
+         unlink(node);
+         V value = map.evictEntry(node.key, node);
+         // If the entry was removed concurrently its weight has already been subtracted
+         if (value != null) {
+            weightedSize.addAndGet(-node.weight);
+            if (evicted == null) {
+               evicted = new ArrayList<>();
+            }
+            evicted.add(new Node<>(node.hash, map.nodeEq, node.key, value, null));
+         }
+         return evicted;
+      }
+
+      private void onAdd(TinyLFUNode<K, V> node, long weight) {
+         if (node.queue != TinyLFUNode.NONE) {
+            onUpdate(node, weight);
+            return;
+         }
+         sketch.increment(node.hash);
+         node.policyWeight = weight;
+         window.add(node, TinyLFUNode.WINDOW);
+      }
+
+      private void onUpdate(TinyLFUNode<K, V> node, long weight) {
+         AccessQueue<K, V> queue = queueOf(node);
+         if (queue == null)
+            return;
+         queue.weight += weight - node.policyWeight;
+         node.policyWeight = weight;
+         onAccess(node);
+      }
+
+      private void onRemove(TinyLFUNode<K, V> node) {
+         unlink(node);
+      }
+
+      private void onAccess(TinyLFUNode<K, V> node) {
+         switch (node.queue) {
+            case TinyLFUNode.WINDOW:
+               sketch.increment(node.hash);
+               window.moveToEnd(node);
+               break;
+            case TinyLFUNode.PROBATION:
+               sketch.increment(node.hash);
+               probation.remove(node);
+               protectedQueue.add(node, TinyLFUNode.PROTECTED);
+               while (protectedQueue.weight > protectedMaxSize && protectedQueue.first != null) {
+                  TinyLFUNode<K, V> demoted = protectedQueue.first;
+                  protectedQueue.remove(demoted);
+                  probation.add(demoted, TinyLFUNode.PROBATION);
+               }
+               break;
+            case TinyLFUNode.PROTECTED:
+               sketch.increment(node.hash);
+               protectedQueue.moveToEnd(node);
+               break;
+            default:
+               // Removed, or the addition has not been processed yet
+         }
+      }
+
+      private void unlink(TinyLFUNode<K, V> node) {
+         AccessQueue<K, V> queue = queueOf(node);
+         if (queue != null) {
+            queue.remove(node);
+            node.queue = TinyLFUNode.NONE;
+         }
+      }
+
+      private AccessQueue<K, V> queueOf(TinyLFUNode<K, V> node) {
+         switch (node.queue) {
+            case TinyLFUNode.WINDOW:
+               return window;
+            case TinyLFUNode.PROBATION:
+               return probation;
+            case TinyLFUNode.PROTECTED:
+               return protectedQueue;
+            default:
+               return null;
+         }
+      }
+
+      @Override
+      public void onResize(long oldSize, long newSize) {
+         if (countingMemory && newSize > oldSize) {
+            weightedSize.addAndGet((newSize - oldSize) * NODE_ARRAY_OFFSET);
+         }
+      }
+
+      @Override
+      public void resize(long newSize) {
+         evictionLock.lock();
+         try {
+            setMaximum(newSize);
+            if (!countingMemory) {
+               sketch.ensureCapacity(newSize);
+            }
+         } finally {
+            evictionLock.unlock();
+         }
+      }
+   }
+
+   /**
+    * Intrusive doubly linked list of {@link TinyLFUNode}s in access order, which also keeps the sum of their weights.
+    * Only accessed while holding the eviction lock.
+    */
+   static final class AccessQueue<K, V> {
+      TinyLFUNode<K, V> first;
+      TinyLFUNode<K, V> last;
+      long weight;
+
+      void add(TinyLFUNode<K, V> node, byte queue) {
+         node.queue = queue;
+         node.prev = last;
+         node.next = null;
+         if (last == null) {
+            first = node;
+         } else {
+            last.next = node;
+         }
+         last = node;
+         weight += node.policyWeight;
+      }
+
+      void remove(TinyLFUNode<K, V> node) {
+         if (node.prev == null) {
+            first = node.next;
+         } else {
+            node.prev.next = node.next;
+         }
+         if (node.next == null) {
+            last = node.prev;
+         } else {
+            node.next.prev = node.prev;
+         }
+         node.prev = null;
+         node.next = null;
+         weight -= node.policyWeight;
+      }
+
+      void moveToEnd(TinyLFUNode<K, V> node) {
+         if (node != last) {
+            byte queue = node.queue;
+            remove(node);
+            add(node, queue);
+         }
+      }
+   }
+
+   /**
+    * Lossy buffer used to record reads without blocking. The buffer is split in stripes selected by thread, each a
+    * small ring buffer. When a stripe is full new elements are dropped, which only makes the access order of the
+    * eviction policy a bit less precise.
+    */
+   static final class ReadBuffer<E> {
+      static final int STRIPES = ceilingPowerOfTwo(Math.min(64, Runtime.getRuntime().availableProcessors() * 2));
+      static final int STRIPE_SIZE = 32;
+      static final int STRIPE_MASK = STRIPE_SIZE - 1;
+      static final int DRAIN_THRESHOLD = STRIPE_SIZE / 2;
+
+      final AtomicReferenceArray<E>[] buffers;
+      final AtomicLong[] writeCounters;
+      // Only written while draining, under the eviction lock
+      final AtomicLongArray readCounters;
+
+      @SuppressWarnings("unchecked")
+      ReadBuffer() {
+         buffers = new AtomicReferenceArray[STRIPES];
+         writeCounters = new AtomicLong[STRIPES];
+         readCounters = new AtomicLongArray(STRIPES);
+         for (int i = 0; i < STRIPES; i++) {
+            buffers[i] = new AtomicReferenceArray<>(STRIPE_SIZE);
+            writeCounters[i] = new AtomicLong();
+         }
+      }
+
+      private static int ceilingPowerOfTwo(int x) {
+         return 1 << -Integer.numberOfLeadingZeros(x - 1);
+      }
+
+      /**
+       * @return {@code true} if the stripe should be drained
+       */
+      boolean offer(E e) {
+         int stripe = spread((int) Thread.currentThread().getId()) & (STRIPES - 1);
+         AtomicLong writeCounter = writeCounters[stripe];
+         long head = readCounters.get(stripe);
+         long tail = writeCounter.get();
+         long pending = tail - head;
+         if (pending >= STRIPE_SIZE) {
+            return true;
+         }
+         if (writeCounter.compareAndSet(tail, tail + 1)) {
+            buffers[stripe].lazySet((int) (tail & STRIPE_MASK), e);
+         }
+         return pending + 1 >= DRAIN_THRESHOLD;
+      }
+
+      void drainTo(Consumer<E> consumer) {
+         for (int i = 0; i < STRIPES; i++) {
+            AtomicReferenceArray<E> buffer = buffers[i];
+            long head = readCounters.get(i);
+            long tail = writeCounters[i].get();
+            for (; head < tail; head++) {
+               int index = (int) (head & STRIPE_MASK);
+               E e = buffer.get(index);
+               if (e == null) {
+                  // The writer has not published the element yet
+                  break;
+               }
+               buffer.lazySet(index, null);
+               consumer.accept(e);
+            }
+            readCounters.lazySet(i, head);
+         }
+      }
+   }
+
    public enum Eviction {
       NONE {
          @Override
@@ -1597,6 +2036,19 @@ public <K, V> EvictionPolicy<K, V> make(BoundedEquivalentConcurrentHashMapV8<K,
             }
             return new LIRSEvictionPolicy<K, V>(map, capacity);
          }
+      },
+      TINY_LFU {
+         @Override
+         public <K, V> EvictionPolicy<K, V> make(BoundedEquivalentConcurrentHashMapV8<K, V> map,
+               EntrySizeCalculator<? super K, ? super V> sizeCalculator, long capacity) {
+            if (sizeCalculator == null) {
+               return new TinyLFUEvictionPolicy<K, V>(map, capacity,
+                     SingleEntrySizeCalculator.SINGLETON, false);
+            } else {
+               return new TinyLFUEvictionPolicy<K, V>(map, capacity,
+                     new NodeSizeCalculatorWrapper<K, V>(sizeCalculator), true);
+            }
+         }
       };
 
       abstract <K, V> EvictionPolicy<K, V> make(
@@ -2686,6 +3138,20 @@ private void notifyListenerOfRemoval(Node removedNode, boolean isEvict) {
     * non-null.  If resulting value is null, delete.
     */
    final V replaceNode(Object key, V value, Object cv, boolean isEvict) {
+      return replaceNode(key, value, cv, isEvict, null);
+   }
+
+   /**
+    * Evicts the mapping for the key only if it is still tracked by the given eviction entry, so that an eviction
+    * policy can't evict a mapping that was removed and added again after it chose its victim.
+    *
+    * @return the evicted value, or {@code null} if the key was not mapped or was tracked by another eviction entry
+    */
+   final V evictEntry(Object key, EvictionEntry<K, V> expected) {
+      return replaceNode(key, null, null, true, expected);
+   }
+
+   private V replaceNode(Object key, V value, Object cv, boolean isEvict, EvictionEntry<K, V> expected) {
       int hash = spread(keyEq.hashCode(key)); // EQUIVALENCE_MOD
       for (Node<K,V>[] tab = table;;) {
          Node<K,V> f; int n, i, fh;
@@ -2707,8 +3173,8 @@ else if ((fh = f.hash) == MOVED)
                               ((ek = e.key) == key ||
                                      (ek != null && keyEq.equals(ek, key)))) { // EQUIVALENCE_MOD
                            V ev = e.val == NULL_VALUE ? null : e.val;
-                           if (cv == null || cv == ev ||
-                                 (ev != null && valueEq.equals(ev, cv))) { // EQUIVALENCE_MOD
+                           if ((expected == null || e.eviction == expected) && (cv == null || cv == ev ||
+                                 (ev != null && valueEq.equals(ev, cv)))) { // EQUIVALENCE_MOD
                               oldVal = ev;
                               if (value != null) {
                                  e.val = value;
@@ -2751,8 +3217,8 @@ else if (f instanceof TreeBin) {
                      if ((r = t.root) != null &&
                            (p = r.findTreeNode(hash, key, null)) != null) {
                         V pv = p.val == NULL_VALUE ? null : p.val;
-                        if (cv == null || cv == pv ||
-                              (pv != null && valueEq.equals(pv, cv))) { // EQUIVALENCE_MOD
+                        if ((expected == null || p.eviction == expected) && (cv == null || cv == pv ||
+                              (pv != null && valueEq.equals(pv, cv)))) { // EQUIVALENCE_MOD
                            oldVal = pv;
                            if (value != null) {
                               p.val = value;
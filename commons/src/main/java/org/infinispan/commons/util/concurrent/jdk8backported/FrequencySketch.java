@@ -0,0 +1,120 @@
+package org.infinispan.commons.util.concurrent.jdk8backported;
+
+/**
+ * A probabilistic estimate of how often keys were accessed, used by the TinyLFU admission policy of
+ * {@link BoundedEquivalentConcurrentHashMapV8}.
+ * <p>
+ * This is a count-min sketch with four 4-bit counters per key, packed sixteen to a {@code long}. All the counters are
+ * halved once the number of increments reaches ten times the table size, so that the estimate follows changes in the
+ * access pattern instead of remembering old popularity forever.
+ * <p>
+ * This class is not thread safe, the eviction policy only accesses it while holding its lock.
+ *
+ * @since 9.0
+ */
+final class FrequencySketch {
+   private static final long[] SEED = {
+         0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L};
+   private static final long RESET_MASK = 0x7777777777777777L;
+   private static final long ONE_MASK = 0x1111111111111111L;
+   private static final int MAXIMUM_CAPACITY = 1 << 30;
+
+   private long[] table;
+   private int tableMask;
+   private int sampleSize;
+   private int size;
+
+   FrequencySketch(long expectedEntries) {
+      ensureCapacity(expectedEntries);
+   }
+
+   /**
+    * Grows the table so that it can tell apart about {@code expectedEntries} keys. The counters are kept when the
+    * table grows: the index of a key in the larger table only adds high bits to its index in the old one, so every
+    * slot of the new table starts with the counters of the old slot its keys came from. The frequencies are the same
+    * as before the growth and become more accurate as the keys are accessed again.
+    */
+   void ensureCapacity(long expectedEntries) {
+      int maximum = (int) Math.min(Math.max(expectedEntries, 16), MAXIMUM_CAPACITY);
+      if (table != null && table.length >= maximum)
+         return;
+
+      long[] oldTable = table;
+      table = new long[ceilingPowerOfTwo(maximum)];
+      tableMask = table.length - 1;
+      sampleSize = 10 * maximum;
+      if (sampleSize <= 0)
+         sampleSize = Integer.MAX_VALUE;
+      if (oldTable != null) {
+         int oldMask = oldTable.length - 1;
+         for (int i = 0; i < table.length; i++) {
+            table[i] = oldTable[i & oldMask];
+         }
+      }
+   }
+
+   /**
+    * @return the estimated number of times the key with this hash was recorded, up to 15
+    */
+   int frequency(int keyHash) {
+      int hash = rehash(keyHash);
+      int start = (hash & 3) << 2;
+      int frequency = Integer.MAX_VALUE;
+      for (int i = 0; i < 4; i++) {
+         int index = indexOf(hash, i);
+         int count = (int) ((table[index] >>> ((start + i) << 2)) & 0xfL);
+         frequency = Math.min(frequency, count);
+      }
+      return frequency;
+   }
+
+   /**
+    * Records one access to the key with this hash.
+    */
+   void increment(int keyHash) {
+      int hash = rehash(keyHash);
+      int start = (hash & 3) << 2;
+      boolean added = false;
+      for (int i = 0; i < 4; i++) {
+         added |= incrementAt(indexOf(hash, i), start + i);
+      }
+      if (added && ++size == sampleSize) {
+         reset();
+      }
+   }
+
+   private boolean incrementAt(int i, int j) {
+      int offset = j << 2;
+      long mask = 0xfL << offset;
+      if ((table[i] & mask) != mask) {
+         table[i] += 1L << offset;
+         return true;
+      }
+      return false;
+   }
+
+   private void reset() {
+      int odd = 0;
+      for (int i = 0; i < table.length; i++) {
+         odd += Long.bitCount(table[i] & ONE_MASK);
+         table[i] = (table[i] >>> 1) & RESET_MASK;
+      }
+      size = (size >>> 1) - (odd >>> 2);
+   }
+
+   private int indexOf(int hash, int i) {
+      long h = (hash + SEED[i]) * SEED[i];
+      h += h >>> 32;
+      return ((int) h) & tableMask;
+   }
+
+   private static int rehash(int hash) {
+      hash *= 0x31848bab;
+      hash ^= hash >>> 14;
+      return hash;
+   }
+
+   private static int ceilingPowerOfTwo(int x) {
+      return 1 << -Integer.numberOfLeadingZeros(x - 1);
+   }
+}
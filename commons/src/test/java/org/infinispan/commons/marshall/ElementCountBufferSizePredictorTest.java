@@ -0,0 +1,68 @@
+package org.infinispan.commons.marshall;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests that the element count predictor scales with the payload.
+ *
+ * @since 9.0
+ */
+public class ElementCountBufferSizePredictorTest {
+
+   @Test
+   public void testPredictionScalesWithElementCount() {
+      ElementCountBufferSizePredictor predictor = new ElementCountBufferSizePredictor();
+      for (int i = 0; i < 50; i++) {
+         BufferSizeHint hint = hint(9);
+         predictor.nextSize(hint);
+         predictor.recordSize(hint, 1000);
+      }
+      // About 100 bytes per element, plus headroom
+      int small = predictor.nextSize(hint(9));
+      assertTrue(small >= 1000 && small < 1200);
+      int large = predictor.nextSize(hint(99999));
+      assertTrue(large >= 10000000 && large < 12000000);
+      // Negative counts are ignored
+      assertEquals(predictor.nextSize(hint(0)), predictor.nextSize(hint(-10)));
+   }
+
+   @Test
+   public void testPredictionIsClamped() {
+      ElementCountBufferSizePredictor predictor = new ElementCountBufferSizePredictor();
+      for (int i = 0; i < 50; i++) {
+         predictor.recordSize(hint(0), Integer.MAX_VALUE);
+      }
+      assertEquals(ElementCountBufferSizePredictor.MAXIMUM, predictor.nextSize(hint(Integer.MAX_VALUE)));
+   }
+
+   @Test
+   public void testInterleavedRecordsUseTheirOwnElementCount() {
+      ElementCountBufferSizePredictor predictor = new ElementCountBufferSizePredictor();
+      BufferSizeHint large = hint(9999);
+      BufferSizeHint small = hint(0);
+      for (int i = 0; i < 50; i++) {
+         // Another thread predicts for a small object between the prediction and the recording of a large one
+         predictor.nextSize(large);
+         predictor.nextSize(small);
+         predictor.recordSize(large, 1000000);
+         predictor.recordSize(small, 100);
+      }
+      int prediction = predictor.nextSize(large);
+      assertTrue(String.valueOf(prediction), prediction >= 1000000 && prediction < 1200000);
+   }
+
+   @Test
+   public void testSizeWithoutObjectIsIgnored() {
+      ElementCountBufferSizePredictor predictor = new ElementCountBufferSizePredictor();
+      int prediction = predictor.nextSize(hint(9));
+      predictor.recordSize(1000000);
+      assertEquals(prediction, predictor.nextSize(hint(9)));
+   }
+
+   private static BufferSizeHint hint(int elements) {
+      return () -> elements;
+   }
+}
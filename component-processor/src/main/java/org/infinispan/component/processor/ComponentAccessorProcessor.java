@@ -0,0 +1,171 @@
+package org.infinispan.component.processor;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+
+/**
+ * Generates a {@code ComponentAccessor} for every class declaring {@code @Inject}, {@code @Start} or {@code @Stop}
+ * methods, so that the component registry wires and starts the components with plain method calls instead of
+ * reflection.
+ * <p>
+ * Only the methods that can be called from the package of the class are generated: private methods, overloaded
+ * methods and the methods of private classes are left to the reflective fallback of the registry. Primitive
+ * parameters are passed boxed and unboxed by the generated call.
+ *
+ * @since 9.0
+ */
+@SupportedAnnotationTypes({ComponentAccessorProcessor.INJECT, ComponentAccessorProcessor.START, ComponentAccessorProcessor.STOP})
+public class ComponentAccessorProcessor extends AbstractProcessor {
+
+   static final String INJECT = "org.infinispan.factories.annotations.Inject";
+   static final String START = "org.infinispan.factories.annotations.Start";
+   static final String STOP = "org.infinispan.factories.annotations.Stop";
+
+   private static final String ACCESSOR_INTERFACE = "org.infinispan.factories.components.ComponentAccessor";
+   private static final String ACCESSOR_SUFFIX = "_ComponentAccessor";
+
+   private final Set<String> generated = new HashSet<>();
+
+   @Override
+   public SourceVersion getSupportedSourceVersion() {
+      return SourceVersion.latestSupported();
+   }
+
+   @Override
+   public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+      Map<TypeElement, List<ExecutableElement>> methodsByType = new LinkedHashMap<>();
+      for (TypeElement annotation : annotations) {
+         for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+            if (element.getKind() != ElementKind.METHOD) continue;
+            TypeElement type = (TypeElement) element.getEnclosingElement();
+            List<ExecutableElement> methods = methodsByType.get(type);
+            if (methods == null) {
+               methods = new ArrayList<>();
+               methodsByType.put(type, methods);
+            }
+            if (!methods.contains(element)) {
+               methods.add((ExecutableElement) element);
+            }
+         }
+      }
+
+      for (Map.Entry<TypeElement, List<ExecutableElement>> entry : methodsByType.entrySet()) {
+         TypeElement type = entry.getKey();
+         if (!isAccessible(type)) continue;
+         List<ExecutableElement> methods = accessibleMethods(type, entry.getValue());
+         if (methods.isEmpty()) continue;
+         String accessorName = processingEnv.getElementUtils().getBinaryName(type) + ACCESSOR_SUFFIX;
+         if (generated.add(accessorName)) {
+            writeAccessor(type, accessorName, methods);
+         }
+      }
+      // The annotations are also processed by the build-time metadata persister
+      return false;
+   }
+
+   private boolean isAccessible(TypeElement type) {
+      for (Element e = type; e.getKind() != ElementKind.PACKAGE; e = e.getEnclosingElement()) {
+         if (e.getKind() != ElementKind.CLASS || e.getModifiers().contains(Modifier.PRIVATE)) return false;
+         NestingKind nesting = ((TypeElement) e).getNestingKind();
+         if (nesting == NestingKind.LOCAL || nesting == NestingKind.ANONYMOUS) return false;
+      }
+      return true;
+   }
+
+   private List<ExecutableElement> accessibleMethods(TypeElement type, List<ExecutableElement> annotated) {
+      Set<String> overloaded = new HashSet<>();
+      Set<String> names = new HashSet<>();
+      for (Element member : type.getEnclosedElements()) {
+         if (member.getKind() == ElementKind.METHOD && !names.add(member.getSimpleName().toString())) {
+            overloaded.add(member.getSimpleName().toString());
+         }
+      }
+
+      List<ExecutableElement> methods = new ArrayList<>(annotated.size());
+      for (ExecutableElement method : annotated) {
+         if (method.getModifiers().contains(Modifier.PRIVATE) || method.getModifiers().contains(Modifier.STATIC)
+               || overloaded.contains(method.getSimpleName().toString())) {
+            continue;
+         }
+         methods.add(method);
+      }
+      return methods;
+   }
+
+   private void writeAccessor(TypeElement type, String accessorName, List<ExecutableElement> methods) {
+      PackageElement pkg = processingEnv.getElementUtils().getPackageOf(type);
+      String packageName = pkg.isUnnamed() ? null : pkg.getQualifiedName().toString();
+      String simpleName = packageName == null ? accessorName : accessorName.substring(packageName.length() + 1);
+      String typeName = erasure(type.asType());
+
+      try {
+         JavaFileObject file = processingEnv.getFiler().createSourceFile(accessorName, type);
+         try (PrintWriter out = new PrintWriter(file.openWriter())) {
+            if (packageName != null) {
+               out.printf("package %s;%n%n", packageName);
+            }
+            out.printf("@javax.annotation.Generated(\"%s\")%n", getClass().getName());
+            out.printf("@SuppressWarnings({\"unchecked\", \"rawtypes\", \"deprecation\"})%n");
+            out.printf("public final class %s implements %s {%n%n", simpleName, ACCESSOR_INTERFACE);
+            out.printf("   @Override%n");
+            out.printf("   public boolean invoke(Object instance, String methodName, Object[] parameters) throws Exception {%n");
+            out.printf("      %s component = (%s) instance;%n", typeName, typeName);
+            out.printf("      switch (methodName) {%n");
+            for (ExecutableElement method : methods) {
+               out.printf("         case \"%s\":%n", method.getSimpleName());
+               out.printf("            component.%s(", method.getSimpleName());
+               List<? extends VariableElement> parameters = method.getParameters();
+               for (int i = 0; i < parameters.size(); i++) {
+                  out.printf("%s(%s) parameters[%d]", i == 0 ? "" : ", ", erasure(parameters.get(i).asType()), i);
+               }
+               out.printf(");%n");
+               out.printf("            return true;%n");
+            }
+            out.printf("         default:%n");
+            out.printf("            return false;%n");
+            out.printf("      }%n");
+            out.printf("   }%n");
+            out.printf("}%n");
+         }
+      } catch (IOException e) {
+         processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+               "Unable to generate the component accessor " + accessorName + ": " + e, type);
+      }
+   }
+
+   private String erasure(TypeMirror type) {
+      if (type.getKind().isPrimitive()) {
+         // The parameters are boxed, the cast to the wrapper type lets the call unbox them
+         return processingEnv.getTypeUtils().boxedClass((PrimitiveType) type).getQualifiedName().toString();
+      }
+      TypeMirror erased = processingEnv.getTypeUtils().erasure(type);
+      if (erased.getKind() == TypeKind.DECLARED) {
+         return ((TypeElement) processingEnv.getTypeUtils().asElement(erased)).getQualifiedName().toString();
+      }
+      return erased.toString();
+   }
+}
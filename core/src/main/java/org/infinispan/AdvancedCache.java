@@ -19,6 +19,7 @@
 import org.infinispan.partitionhandling.AvailabilityMode;
 import org.infinispan.partitionhandling.impl.PartitionHandlingManager;
 import org.infinispan.persistence.spi.CacheLoader;
+import org.infinispan.pipeline.Pipeline;
 import org.infinispan.remoting.rpc.RpcManager;
 import org.infinispan.security.AuthorizationManager;
 import org.infinispan.stats.Stats;
@@ -484,6 +485,16 @@
     */
    Map<K, CacheEntry<K, V>> getAllCacheEntries(Set<?> keys);
 
+   /**
+    * Creates a new {@link Pipeline} that collects independent reads and writes on this cache and submits them
+    * together, with one request per owner instead of one request per operation. The operations are not executed in
+    * a transaction.
+    *
+    * @return a new pipeline bound to this cache
+    * @since 9.0
+    */
+   Pipeline<K, V> pipeline();
+
    /**
     * It fetches all the keys which belong to the group.
     * <p/>
@@ -514,6 +525,17 @@
     */
    void removeGroup(String groupName);
 
+   /**
+    * Returns a stream of the entries of a group. As all the entries of a group are stored in the same segment, the
+    * stream only runs on the owner of that segment, in a single request, and the terminal operation is distributed as
+    * with any other {@link CacheStream}.
+    *
+    * @param groupName the group name.
+    * @return a stream of the entries of the group.
+    * @since 9.0
+    */
+   CacheStream<CacheEntry<K, V>> getGroupStream(String groupName);
+
    /**
     * Returns the cache's availability. In local mode this method will always return {@link AvailabilityMode#AVAILABLE}. In
     * clustered mode, the {@link PartitionHandlingManager} is queried to obtain the availability mode.
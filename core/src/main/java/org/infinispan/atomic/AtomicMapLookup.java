@@ -5,6 +5,7 @@
 import org.infinispan.atomic.impl.AtomicHashMap;
 import org.infinispan.atomic.impl.AtomicHashMapProxy;
 import org.infinispan.atomic.impl.FineGrainedAtomicHashMapProxy;
+import org.infinispan.atomic.impl.GroupedFineGrainedAtomicMapProxy;
 import org.infinispan.context.Flag;
 
 import java.util.Collections;
@@ -53,6 +54,25 @@ public static <MK, K, V> FineGrainedAtomicMap<K, V> getFineGrainedAtomicMap(Cach
       return getFineGrainedAtomicMap(cache, key, true);
    }
 
+   /**
+    * Retrieves a fine grained atomic map from a given cache, stored without a structure entry. Each field of the map is
+    * stored in its own entry, co-located with the other fields through grouping, so writing a field never locks or
+    * replicates the rest of the map. The map exists as long as it has at least one field, and the cache must be
+    * transactional and have grouping enabled.
+    *
+    * @param cache underlying cache
+    * @param key   key identifying the atomic map, whose {@link Object#toString()} names the group of its fields and
+    *              must be overridden with a value that is stable across nodes
+    * @param <MK>  key param of the cache
+    * @param <K>   key param of the AtomicMap
+    * @param <V>   value param of the AtomicMap
+    * @return an AtomicMap
+    * @since 9.0
+    */
+   public static <MK, K, V> FineGrainedAtomicMap<K, V> getGroupedFineGrainedAtomicMap(Cache<MK, ?> cache, MK key) {
+      return new GroupedFineGrainedAtomicMapProxy<>(cache.getAdvancedCache(), key);
+   }
+
    /**
     * Retrieves an atomic map from a given cache, stored under a given key.
     *
@@ -144,4 +164,17 @@ public static <MK, K, V> Map<K, V> getReadOnlyAtomicMap(Cache<MK, ?> cache, MK k
    public static <MK> void removeAtomicMap(Cache<MK, ?> cache, MK key) {
       cache.getAdvancedCache().withFlags(Flag.IGNORE_RETURN_VALUES).remove(key);
    }
+
+   /**
+    * Removes all the fields of the grouped fine grained atomic map associated with the given key.
+    *
+    * @param cache underlying cache
+    * @param key   key identifying the atomic map
+    * @param <MK>  key param of the cache
+    * @see #getGroupedFineGrainedAtomicMap(Cache, Object)
+    * @since 9.0
+    */
+   public static <MK> void removeGroupedFineGrainedAtomicMap(Cache<MK, ?> cache, MK key) {
+      new GroupedFineGrainedAtomicMapProxy<>(cache.getAdvancedCache(), key).clear();
+   }
 }
@@ -0,0 +1,113 @@
+package org.infinispan.atomic.impl;
+
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.Collections;
+import java.util.Set;
+
+import org.infinispan.commons.marshall.AbstractExternalizer;
+import org.infinispan.distribution.group.Group;
+import org.infinispan.marshall.core.Ids;
+
+/**
+ * The key under which a single field of a {@link GroupedFineGrainedAtomicMapProxy} is stored. All the fields of a
+ * map belong to the same group, named after the key of the map, so that they are co-located on the same owners and
+ * can be listed with {@link org.infinispan.AdvancedCache#getGroup(String)}.
+ *
+ * @since 9.0
+ */
+public final class GroupedFieldKey {
+
+   private final Object mapKey;
+   private final Object fieldKey;
+
+   public GroupedFieldKey(Object mapKey, Object fieldKey) {
+      if (mapKey == null || fieldKey == null)
+         throw new IllegalArgumentException("Keys cannot be null");
+
+      this.mapKey = mapKey;
+      this.fieldKey = fieldKey;
+   }
+
+   public Object getMapKey() {
+      return mapKey;
+   }
+
+   public Object getFieldKey() {
+      return fieldKey;
+   }
+
+   @Group
+   public String getGroup() {
+      return mapKey.toString();
+   }
+
+   /**
+    * @return the name of the group holding the fields of the map stored under the given key
+    */
+   static String groupName(Object mapKey) {
+      if (mapKey == null)
+         throw new IllegalArgumentException("Keys cannot be null");
+      // The group must be the same on all the nodes, so the default identity based toString() cannot name it
+      Class<?> type = mapKey.getClass();
+      if (type.isArray() || !overridesToString(type))
+         throw new IllegalArgumentException("The key " + type.getName() + " of a grouped fine-grained atomic map " +
+               "must override toString() with a value that is stable across nodes");
+      return mapKey.toString();
+   }
+
+   private static boolean overridesToString(Class<?> type) {
+      try {
+         return type.getMethod("toString").getDeclaringClass() != Object.class;
+      } catch (NoSuchMethodException e) {
+         return false;
+      }
+   }
+
+   @Override
+   public int hashCode() {
+      return 31 * mapKey.hashCode() + fieldKey.hashCode();
+   }
+
+   @Override
+   public boolean equals(Object obj) {
+      if (this == obj) {
+         return true;
+      }
+      if (!(obj instanceof GroupedFieldKey)) {
+         return false;
+      }
+      GroupedFieldKey other = (GroupedFieldKey) obj;
+      return mapKey.equals(other.mapKey) && fieldKey.equals(other.fieldKey);
+   }
+
+   @Override
+   public String toString() {
+      return "GroupedFieldKey[mapKey=" + mapKey + ", fieldKey=" + fieldKey + ']';
+   }
+
+   public static class Externalizer extends AbstractExternalizer<GroupedFieldKey> {
+
+      @Override
+      public void writeObject(ObjectOutput output, GroupedFieldKey key) throws IOException {
+         output.writeObject(key.mapKey);
+         output.writeObject(key.fieldKey);
+      }
+
+      @Override
+      public GroupedFieldKey readObject(ObjectInput input) throws IOException, ClassNotFoundException {
+         return new GroupedFieldKey(input.readObject(), input.readObject());
+      }
+
+      @Override
+      public Integer getId() {
+         return Ids.GROUPED_FIELD_KEY;
+      }
+
+      @Override
+      public Set<Class<? extends GroupedFieldKey>> getTypeClasses() {
+         return Collections.<Class<? extends GroupedFieldKey>>singleton(GroupedFieldKey.class);
+      }
+   }
+}
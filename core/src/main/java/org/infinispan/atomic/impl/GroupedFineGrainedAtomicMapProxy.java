@@ -0,0 +1,131 @@
+package org.infinispan.atomic.impl;
+
+import java.util.AbstractMap;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.infinispan.AdvancedCache;
+import org.infinispan.atomic.FineGrainedAtomicMap;
+import org.infinispan.configuration.cache.Configuration;
+import org.infinispan.context.Flag;
+import org.infinispan.transaction.TransactionMode;
+
+/**
+ * A {@link FineGrainedAtomicMap} without a structure entry. Each field of the map is stored in its own cache entry,
+ * under a {@link GroupedFieldKey}, and all the fields of a map are co-located through grouping. Writing a field only
+ * locks and replicates that field, and the fields of the map are listed through the group index rather than a
+ * central {@link AtomicHashMap}, so concurrent writers of different fields never contend with each other.
+ * <p>
+ * The cache must be transactional, and multiple operations are only atomic when they run in the same transaction. The
+ * group of a map is named after the {@link Object#toString()} of its key, which must be stable across nodes and
+ * should be distinct for all the maps of a cache.
+ * <p>
+ * Typically proxies are only created by the {@link org.infinispan.atomic.AtomicMapLookup} helper, and would not be
+ * created by end-user code directly.
+ *
+ * @param <K> the type of keys maintained by this map
+ * @param <V> the type of mapped values
+ * @since 9.0
+ */
+public class GroupedFineGrainedAtomicMapProxy<K, V> extends AbstractMap<K, V> implements FineGrainedAtomicMap<K, V> {
+
+   private final AdvancedCache<Object, V> cache;
+   private final Object mapKey;
+   private final String group;
+
+   public GroupedFineGrainedAtomicMapProxy(AdvancedCache<?, ?> cache, Object mapKey) {
+      Configuration configuration = cache.getCacheConfiguration();
+      if (configuration.transaction().transactionMode() == TransactionMode.NON_TRANSACTIONAL) {
+         throw new IllegalStateException("AtomicMap needs a transactional cache.");
+      }
+      if (!configuration.clustering().hash().groups().enabled()) {
+         throw new IllegalStateException("Grouping must be enabled in cache " + cache.getName() +
+               " to use grouped fine-grained atomic maps");
+      }
+      //noinspection unchecked
+      this.cache = (AdvancedCache<Object, V>) cache;
+      this.mapKey = mapKey;
+      this.group = GroupedFieldKey.groupName(mapKey);
+   }
+
+   private GroupedFieldKey fieldKey(Object key) {
+      return new GroupedFieldKey(mapKey, key);
+   }
+
+   @SuppressWarnings("unchecked")
+   private Map<K, V> readFields() {
+      Map<K, V> fields = new HashMap<>();
+      for (Map.Entry<Object, V> entry : cache.getGroup(group).entrySet()) {
+         // distinct map keys may share a group name
+         if (entry.getKey() instanceof GroupedFieldKey) {
+            GroupedFieldKey key = (GroupedFieldKey) entry.getKey();
+            if (mapKey.equals(key.getMapKey())) {
+               fields.put((K) key.getFieldKey(), entry.getValue());
+            }
+         }
+      }
+      return fields;
+   }
+
+   @Override
+   public V get(Object key) {
+      return cache.get(fieldKey(key));
+   }
+
+   @Override
+   public boolean containsKey(Object key) {
+      return cache.containsKey(fieldKey(key));
+   }
+
+   @Override
+   public V put(K key, V value) {
+      return cache.put(fieldKey(key), value);
+   }
+
+   @Override
+   public V remove(Object key) {
+      return cache.remove(fieldKey(key));
+   }
+
+   @Override
+   public void putAll(Map<? extends K, ? extends V> m) {
+      Map<Object, V> fields = new HashMap<>();
+      m.forEach((key, value) -> fields.put(fieldKey(key), value));
+      cache.putAll(fields);
+   }
+
+   @Override
+   public void clear() {
+      AdvancedCache<Object, V> ignoreReturnValues = cache.withFlags(Flag.IGNORE_RETURN_VALUES);
+      for (K key : readFields().keySet()) {
+         ignoreReturnValues.remove(fieldKey(key));
+      }
+   }
+
+   @Override
+   public int size() {
+      return readFields().size();
+   }
+
+   @Override
+   public boolean isEmpty() {
+      return size() == 0;
+   }
+
+   @Override
+   public Set<K> keySet() {
+      return Collections.unmodifiableSet(readFields().keySet());
+   }
+
+   @Override
+   public Set<Entry<K, V>> entrySet() {
+      return Collections.unmodifiableMap(readFields()).entrySet();
+   }
+
+   @Override
+   public String toString() {
+      return "GroupedFineGrainedAtomicMapProxy{mapKey=" + mapKey + '}';
+   }
+}
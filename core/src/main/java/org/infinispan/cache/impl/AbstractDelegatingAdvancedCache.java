@@ -2,6 +2,7 @@
 
 import org.infinispan.AdvancedCache;
 import org.infinispan.CacheSet;
+import org.infinispan.CacheStream;
 import org.infinispan.atomic.Delta;
 import org.infinispan.batch.BatchContainer;
 import org.infinispan.commons.util.EnumUtil;
@@ -17,6 +18,8 @@
 import org.infinispan.interceptors.base.CommandInterceptor;
 import org.infinispan.metadata.Metadata;
 import org.infinispan.partitionhandling.AvailabilityMode;
+import org.infinispan.pipeline.Pipeline;
+import org.infinispan.pipeline.impl.PipelineImpl;
 import org.infinispan.remoting.rpc.RpcManager;
 import org.infinispan.security.AuthorizationManager;
 import org.infinispan.stats.Stats;
@@ -221,6 +224,12 @@ public Map<K, CacheEntry<K, V>> getAllCacheEntries(Set<?> keys) {
       return cache.getAllCacheEntries(keys);
    }
 
+   @Override
+   public Pipeline<K, V> pipeline() {
+      // Not delegated, so that the reads go through this cache's getAll
+      return new PipelineImpl<>(this);
+   }
+
    @Override
    public java.util.Map<K, V> getGroup(String groupName) {
       return cache.getGroup(groupName);
@@ -231,6 +240,11 @@ public void removeGroup(String groupName) {
       cache.removeGroup(groupName);
    }
 
+   @Override
+   public CacheStream<CacheEntry<K, V>> getGroupStream(String groupName) {
+      return cache.getGroupStream(groupName);
+   }
+
    @Override
    public V put(K key, V value, Metadata metadata) {
       return cache.put(key, value, metadata);
@@ -0,0 +1,95 @@
+package org.infinispan.cache.impl;
+
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.Collections;
+import java.util.Set;
+
+import org.infinispan.commons.marshall.AbstractExternalizer;
+import org.infinispan.marshall.core.Ids;
+
+/**
+ * The key under which an entry of a cache belonging to a cache group is stored in the group cache.
+ *
+ * @since 9.0
+ * @see CacheGroupMemberCache
+ */
+public final class CacheGroupKey {
+
+   private final String cacheName;
+   private final Object key;
+
+   public CacheGroupKey(String cacheName, Object key) {
+      if (cacheName == null)
+         throw new IllegalArgumentException("Cache name cannot be null");
+      if (key == null)
+         throw new NullPointerException("Null keys are not supported!");
+
+      this.cacheName = cacheName;
+      this.key = key;
+   }
+
+   public String getCacheName() {
+      return cacheName;
+   }
+
+   public Object getKey() {
+      return key;
+   }
+
+   /**
+    * The group, in the sense of {@link org.infinispan.distribution.group.Group}, of the keys of cache
+    * {@code cacheName} whose own group is {@code group}. The cache name is prefixed with its length, so the groups of
+    * two caches never collide.
+    */
+   public static String group(String cacheName, String group) {
+      return cacheName.length() + ":" + cacheName + ":" + group;
+   }
+
+   @Override
+   public int hashCode() {
+      return 31 * cacheName.hashCode() + key.hashCode();
+   }
+
+   @Override
+   public boolean equals(Object obj) {
+      if (this == obj) {
+         return true;
+      }
+      if (!(obj instanceof CacheGroupKey)) {
+         return false;
+      }
+      CacheGroupKey other = (CacheGroupKey) obj;
+      return cacheName.equals(other.cacheName) && key.equals(other.key);
+   }
+
+   @Override
+   public String toString() {
+      return "CacheGroupKey[cacheName=" + cacheName + ", key=" + key + ']';
+   }
+
+   public static class Externalizer extends AbstractExternalizer<CacheGroupKey> {
+
+      @Override
+      public void writeObject(ObjectOutput output, CacheGroupKey key) throws IOException {
+         output.writeUTF(key.cacheName);
+         output.writeObject(key.key);
+      }
+
+      @Override
+      public CacheGroupKey readObject(ObjectInput input) throws IOException, ClassNotFoundException {
+         return new CacheGroupKey(input.readUTF(), input.readObject());
+      }
+
+      @Override
+      public Integer getId() {
+         return Ids.CACHE_GROUP_KEY;
+      }
+
+      @Override
+      public Set<Class<? extends CacheGroupKey>> getTypeClasses() {
+         return Collections.<Class<? extends CacheGroupKey>>singleton(CacheGroupKey.class);
+      }
+   }
+}
@@ -0,0 +1,734 @@
+package org.infinispan.cache.impl;
+
+import java.io.Serializable;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import org.infinispan.AdvancedCache;
+import org.infinispan.Cache;
+import org.infinispan.CacheCollection;
+import org.infinispan.CacheSet;
+import org.infinispan.CacheStream;
+import org.infinispan.atomic.Delta;
+import org.infinispan.commons.util.CloseableIterator;
+import org.infinispan.commons.util.CloseableSpliterator;
+import org.infinispan.commons.util.Closeables;
+import org.infinispan.container.entries.CacheEntry;
+import org.infinispan.container.entries.metadata.MetadataImmortalCacheEntry;
+import org.infinispan.factories.KnownComponentNames;
+import org.infinispan.filter.KeyFilter;
+import org.infinispan.metadata.Metadata;
+import org.infinispan.notifications.cachelistener.CacheNotifier;
+import org.infinispan.notifications.cachelistener.filter.CacheEventConverter;
+import org.infinispan.notifications.cachelistener.filter.CacheEventFilter;
+import org.infinispan.notifications.cachelistener.filter.EventType;
+import org.infinispan.notifications.cachelistener.filter.KeyFilterAsCacheEventFilter;
+import org.infinispan.pipeline.Pipeline;
+
+/**
+ * A lightweight cache storing its entries in the cache of its cache group, under {@link CacheGroupKey}s prefixed with
+ * its name.
+ * <p>
+ * The caches of a group share the components of the group cache: its interceptor chain, its topology, its state
+ * transfer and its data container. They only exist as views, so thousands of them can be created without the cost of
+ * starting and rebalancing thousands of caches.
+ * <p>
+ * Bulk operations ({@link #size()}, {@link #keySet()}, {@link #clear()}...) iterate over the entries of the whole
+ * group. Listeners only receive the events of the entries of this cache, with the keys of this cache. Keys are
+ * grouped by their own group within this cache only. The functional API is not supported.
+ *
+ * @since 9.0
+ * @see org.infinispan.configuration.cache.ConfigurationChildBuilder#cacheGroup(String)
+ */
+public class CacheGroupMemberCache<K, V> extends AbstractDelegatingAdvancedCache<K, V> {
+
+   private final String name;
+   private final AdvancedCache<Object, V> groupCache;
+
+   @SuppressWarnings("unchecked")
+   public CacheGroupMemberCache(String name, AdvancedCache<?, V> groupCache) {
+      super((AdvancedCache<K, V>) groupCache, c -> new CacheGroupMemberCache<>(name, c));
+      this.name = name;
+      this.groupCache = (AdvancedCache<Object, V>) groupCache;
+   }
+
+   public AdvancedCache<?, V> getGroupCache() {
+      return groupCache;
+   }
+
+   private CacheGroupKey key(Object key) {
+      return new CacheGroupKey(name, key);
+   }
+
+   private Map<Object, V> keys(Map<? extends K, ? extends V> map) {
+      Map<Object, V> groupMap = new HashMap<>(map.size());
+      map.forEach((k, v) -> groupMap.put(key(k), v));
+      return groupMap;
+   }
+
+   private Set<Object> keys(Collection<?> keys) {
+      Set<Object> groupKeys = new HashSet<>(keys.size());
+      keys.forEach(k -> groupKeys.add(key(k)));
+      return groupKeys;
+   }
+
+   @SuppressWarnings("unchecked")
+   private <R> Map<K, R> unwrap(Map<Object, R> groupMap) {
+      Map<K, R> map = new HashMap<>(groupMap.size());
+      groupMap.forEach((k, v) -> map.put((K) ((CacheGroupKey) k).getKey(), v));
+      return map;
+   }
+
+   @SuppressWarnings("unchecked")
+   private CacheEntry<K, V> unwrap(CacheEntry<Object, V> entry) {
+      return entry == null ? null : new MetadataImmortalCacheEntry(((CacheGroupKey) entry.getKey()).getKey(),
+            entry.getValue(), entry.getMetadata());
+   }
+
+   @Override
+   public String getName() {
+      return name;
+   }
+
+   @Override
+   public void start() {
+      // The group cache is started by the cache manager
+   }
+
+   @Override
+   public void stop() {
+      // The group cache is stopped by the cache manager
+   }
+
+   @Override
+   public String toString() {
+      return "CacheGroupMemberCache{name=" + name + ", group=" + groupCache.getName() + '}';
+   }
+
+   // Single key operations
+
+   @Override
+   public V get(Object key) {
+      return groupCache.get(key(key));
+   }
+
+   @Override
+   public boolean containsKey(Object key) {
+      return groupCache.containsKey(key(key));
+   }
+
+   @Override
+   public CacheEntry<K, V> getCacheEntry(Object key) {
+      return unwrap(groupCache.getCacheEntry(key(key)));
+   }
+
+   @Override
+   public CompletableFuture<V> getAsync(K key) {
+      return groupCache.getAsync(key(key));
+   }
+
+   @Override
+   public V put(K key, V value) {
+      return groupCache.put(key(key), value);
+   }
+
+   @Override
+   public V put(K key, V value, long lifespan, TimeUnit unit) {
+      return groupCache.put(key(key), value, lifespan, unit);
+   }
+
+   @Override
+   public V put(K key, V value, long lifespan, TimeUnit lifespanUnit, long maxIdleTime, TimeUnit maxIdleTimeUnit) {
+      return groupCache.put(key(key), value, lifespan, lifespanUnit, maxIdleTime, maxIdleTimeUnit);
+   }
+
+   @Override
+   public V put(K key, V value, Metadata metadata) {
+      return groupCache.put(key(key), value, metadata);
+   }
+
+   @Override
+   public V putIfAbsent(K key, V value) {
+      return groupCache.putIfAbsent(key(key), value);
+   }
+
+   @Override
+   public V putIfAbsent(K key, V value, long lifespan, TimeUnit unit) {
+      return groupCache.putIfAbsent(key(key), value, lifespan, unit);
+   }
+
+   @Override
+   public V putIfAbsent(K key, V value, long lifespan, TimeUnit lifespanUnit, long maxIdleTime, TimeUnit maxIdleTimeUnit) {
+      return groupCache.putIfAbsent(key(key), value, lifespan, lifespanUnit, maxIdleTime, maxIdleTimeUnit);
+   }
+
+   @Override
+   public V putIfAbsent(K key, V value, Metadata metadata) {
+      return groupCache.putIfAbsent(key(key), value, metadata);
+   }
+
+   @Override
+   public void putForExternalRead(K key, V value) {
+      groupCache.putForExternalRead(key(key), value);
+   }
+
+   @Override
+   public void putForExternalRead(K key, V value, long lifespan, TimeUnit unit) {
+      groupCache.putForExternalRead(key(key), value, lifespan, unit);
+   }
+
+   @Override
+   public void putForExternalRead(K key, V value, long lifespan, TimeUnit lifespanUnit, long maxIdle, TimeUnit maxIdleUnit) {
+      groupCache.putForExternalRead(key(key), value, lifespan, lifespanUnit, maxIdle, maxIdleUnit);
+   }
+
+   @Override
+   public void putForExternalRead(K key, V value, Metadata metadata) {
+      groupCache.putForExternalRead(key(key), value, metadata);
+   }
+
+   @Override
+   public V replace(K key, V value) {
+      return groupCache.replace(key(key), value);
+   }
+
+   @Override
+   public V replace(K key, V value, long lifespan, TimeUnit unit) {
+      return groupCache.replace(key(key), value, lifespan, unit);
+   }
+
+   @Override
+   public V replace(K key, V value, long lifespan, TimeUnit lifespanUnit, long maxIdleTime, TimeUnit maxIdleTimeUnit) {
+      return groupCache.replace(key(key), value, lifespan, lifespanUnit, maxIdleTime, maxIdleTimeUnit);
+   }
+
+   @Override
+   public V replace(K key, V value, Metadata metadata) {
+      return groupCache.replace(key(key), value, metadata);
+   }
+
+   @Override
+   public boolean replace(K key, V oldValue, V newValue) {
+      return groupCache.replace(key(key), oldValue, newValue);
+   }
+
+   @Override
+   public boolean replace(K key, V oldValue, V value, long lifespan, TimeUnit unit) {
+      return groupCache.replace(key(key), oldValue, value, lifespan, unit);
+   }
+
+   @Override
+   public boolean replace(K key, V oldValue, V value, long lifespan, TimeUnit lifespanUnit, long maxIdleTime, TimeUnit maxIdleTimeUnit) {
+      return groupCache.replace(key(key), oldValue, value, lifespan, lifespanUnit, maxIdleTime, maxIdleTimeUnit);
+   }
+
+   @Override
+   public boolean replace(K key, V oldValue, V value, Metadata metadata) {
+      return groupCache.replace(key(key), oldValue, value, metadata);
+   }
+
+   @Override
+   public V remove(Object key) {
+      return groupCache.remove(key(key));
+   }
+
+   @Override
+   public boolean remove(Object key, Object value) {
+      return groupCache.remove(key(key), value);
+   }
+
+   @Override
+   public void evict(K key) {
+      groupCache.evict(key(key));
+   }
+
+   @Override
+   public void removeExpired(K key, V value, Long lifespan) {
+      groupCache.removeExpired(key(key), value, lifespan);
+   }
+
+   @Override
+   public boolean lock(K... keys) {
+      return groupCache.lock(keys(Arrays.asList(keys)));
+   }
+
+   @Override
+   public boolean lock(Collection<? extends K> keys) {
+      return groupCache.lock(keys(keys));
+   }
+
+   @Override
+   public void applyDelta(K deltaAwareValueKey, Delta delta, Object... locksToAcquire) {
+      Object[] groupLocks = new Object[locksToAcquire.length];
+      for (int i = 0; i < locksToAcquire.length; i++) {
+         groupLocks[i] = key(locksToAcquire[i]);
+      }
+      groupCache.applyDelta(key(deltaAwareValueKey), delta, groupLocks);
+   }
+
+   // Asynchronous single key operations
+
+   @Override
+   public CompletableFuture<V> putAsync(K key, V value) {
+      return groupCache.putAsync(key(key), value);
+   }
+
+   @Override
+   public CompletableFuture<V> putAsync(K key, V value, long lifespan, TimeUnit unit) {
+      return groupCache.putAsync(key(key), value, lifespan, unit);
+   }
+
+   @Override
+   public CompletableFuture<V> putAsync(K key, V value, long lifespan, TimeUnit lifespanUnit, long maxIdle, TimeUnit maxIdleUnit) {
+      return groupCache.putAsync(key(key), value, lifespan, lifespanUnit, maxIdle, maxIdleUnit);
+   }
+
+   @Override
+   public CompletableFuture<V> putAsync(K key, V value, Metadata metadata) {
+      return groupCache.putAsync(key(key), value, metadata);
+   }
+
+   @Override
+   public CompletableFuture<V> putIfAbsentAsync(K key, V value) {
+      return groupCache.putIfAbsentAsync(key(key), value);
+   }
+
+   @Override
+   public CompletableFuture<V> putIfAbsentAsync(K key, V value, long lifespan, TimeUnit unit) {
+      return groupCache.putIfAbsentAsync(key(key), value, lifespan, unit);
+   }
+
+   @Override
+   public CompletableFuture<V> putIfAbsentAsync(K key, V value, long lifespan, TimeUnit lifespanUnit, long maxIdle, TimeUnit maxIdleUnit) {
+      return groupCache.putIfAbsentAsync(key(key), value, lifespan, lifespanUnit, maxIdle, maxIdleUnit);
+   }
+
+   @Override
+   public CompletableFuture<V> replaceAsync(K key, V value) {
+      return groupCache.replaceAsync(key(key), value);
+   }
+
+   @Override
+   public CompletableFuture<V> replaceAsync(K key, V value, long lifespan, TimeUnit unit) {
+      return groupCache.replaceAsync(key(key), value, lifespan, unit);
+   }
+
+   @Override
+   public CompletableFuture<V> replaceAsync(K key, V value, long lifespan, TimeUnit lifespanUnit, long maxIdle, TimeUnit maxIdleUnit) {
+      return groupCache.replaceAsync(key(key), value, lifespan, lifespanUnit, maxIdle, maxIdleUnit);
+   }
+
+   @Override
+   public CompletableFuture<Boolean> replaceAsync(K key, V oldValue, V newValue) {
+      return groupCache.replaceAsync(key(key), oldValue, newValue);
+   }
+
+   @Override
+   public CompletableFuture<Boolean> replaceAsync(K key, V oldValue, V newValue, long lifespan, TimeUnit unit) {
+      return groupCache.replaceAsync(key(key), oldValue, newValue, lifespan, unit);
+   }
+
+   @Override
+   public CompletableFuture<Boolean> replaceAsync(K key, V oldValue, V newValue, long lifespan, TimeUnit lifespanUnit, long maxIdle, TimeUnit maxIdleUnit) {
+      return groupCache.replaceAsync(key(key), oldValue, newValue, lifespan, lifespanUnit, maxIdle, maxIdleUnit);
+   }
+
+   @Override
+   public CompletableFuture<V> removeAsync(Object key) {
+      return groupCache.removeAsync(key(key));
+   }
+
+   @Override
+   public CompletableFuture<Boolean> removeAsync(Object key, Object value) {
+      return groupCache.removeAsync(key(key), value);
+   }
+
+   // Multiple key operations
+
+   @Override
+   public Map<K, V> getAll(Set<?> keys) {
+      return unwrap(groupCache.getAll(keys(keys)));
+   }
+
+   @Override
+   public Map<K, CacheEntry<K, V>> getAllCacheEntries(Set<?> keys) {
+      Map<K, CacheEntry<K, V>> entries = new HashMap<>(keys.size());
+      groupCache.getAllCacheEntries(keys(keys)).values().forEach(e -> {
+         CacheEntry<K, V> entry = unwrap(e);
+         entries.put(entry.getKey(), entry);
+      });
+      return entries;
+   }
+
+   @Override
+   public void putAll(Map<? extends K, ? extends V> map) {
+      groupCache.putAll(keys(map));
+   }
+
+   @Override
+   public void putAll(Map<? extends K, ? extends V> map, long lifespan, TimeUnit unit) {
+      groupCache.putAll(keys(map), lifespan, unit);
+   }
+
+   @Override
+   public void putAll(Map<? extends K, ? extends V> map, long lifespan, TimeUnit lifespanUnit, long maxIdleTime, TimeUnit maxIdleTimeUnit) {
+      groupCache.putAll(keys(map), lifespan, lifespanUnit, maxIdleTime, maxIdleTimeUnit);
+   }
+
+   @Override
+   public void putAll(Map<? extends K, ? extends V> map, Metadata metadata) {
+      groupCache.putAll(keys(map), metadata);
+   }
+
+   @Override
+   public CompletableFuture<Void> putAllAsync(Map<? extends K, ? extends V> data) {
+      return groupCache.putAllAsync(keys(data));
+   }
+
+   @Override
+   public CompletableFuture<Void> putAllAsync(Map<? extends K, ? extends V> data, long lifespan, TimeUnit unit) {
+      return groupCache.putAllAsync(keys(data), lifespan, unit);
+   }
+
+   @Override
+   public CompletableFuture<Void> putAllAsync(Map<? extends K, ? extends V> data, long lifespan, TimeUnit lifespanUnit, long maxIdle, TimeUnit maxIdleUnit) {
+      return groupCache.putAllAsync(keys(data), lifespan, lifespanUnit, maxIdle, maxIdleUnit);
+   }
+
+   // Bulk operations
+
+   @Override
+   public int size() {
+      // Only the keys are read, and they are counted by the nodes owning them
+      try (CacheStream<Object> stream = groupCache.keySet().stream()) {
+         long size = stream.filter(new InCacheKeyFilter(name)).count();
+         return (int) Math.min(size, Integer.MAX_VALUE);
+      }
+   }
+
+   @Override
+   public boolean isEmpty() {
+      try (CacheStream<Object> stream = groupCache.keySet().stream()) {
+         return !stream.filter(new InCacheKeyFilter(name)).findAny().isPresent();
+      }
+   }
+
+   @Override
+   public boolean containsValue(Object value) {
+      try (CloseableIterator<V> iterator = values().iterator()) {
+         while (iterator.hasNext()) {
+            if (value.equals(iterator.next())) return true;
+         }
+      }
+      return false;
+   }
+
+   @Override
+   public void clear() {
+      // The keys are removed by the nodes owning them instead of being iterated from this node
+      try (CacheStream<Object> stream = groupCache.keySet().stream()) {
+         stream.filter(new InCacheKeyFilter(name)).forEach(new RemoveKey<>());
+      }
+   }
+
+   @Override
+   public CompletableFuture<Void> clearAsync() {
+      ExecutorService asyncExecutor = groupCache.getComponentRegistry().getComponent(ExecutorService.class,
+            KnownComponentNames.ASYNC_OPERATIONS_EXECUTOR);
+      return CompletableFuture.runAsync(this::clear, asyncExecutor);
+   }
+
+   @Override
+   public CacheSet<K> keySet() {
+      return new MemberCacheSet<K>(new ToKey<>()) {
+         @Override
+         public boolean contains(Object o) {
+            return containsKey(o);
+         }
+
+         @Override
+         public boolean remove(Object o) {
+            return CacheGroupMemberCache.this.remove(o) != null;
+         }
+      };
+   }
+
+   @Override
+   public CacheCollection<V> values() {
+      return new MemberCacheSet<>(new ToValue<>());
+   }
+
+   @Override
+   @SuppressWarnings("unchecked")
+   public CacheSet<Map.Entry<K, V>> entrySet() {
+      return (CacheSet) cacheEntrySet();
+   }
+
+   @Override
+   public CacheSet<CacheEntry<K, V>> cacheEntrySet() {
+      return new MemberCacheSet<>(new ToEntry<>());
+   }
+
+   // Listeners
+
+   @Override
+   public void addListener(Object listener) {
+      addListener(listener, null, null);
+   }
+
+   @Override
+   public void addListener(Object listener, KeyFilter<? super K> filter) {
+      addListener(listener, filter == null ? null : new KeyFilterAsCacheEventFilter<>(filter), null);
+   }
+
+   @Override
+   public <C> void addListener(Object listener, CacheEventFilter<? super K, ? super V> filter, CacheEventConverter<? super K, ? super V, C> converter) {
+      CacheNotifier<Object, V> notifier = groupCache.getComponentRegistry().getComponent(CacheNotifier.class);
+      notifier.addKeyMappingListener(listener, new InCacheEventFilter<>(name, filter),
+            converter == null ? null : new UnwrappingEventConverter<>(converter), new UnwrapKey(name));
+   }
+
+   // Grouping
+
+   @Override
+   public Map<K, V> getGroup(String groupName) {
+      return unwrap(groupCache.getGroup(CacheGroupKey.group(name, groupName)));
+   }
+
+   @Override
+   public void removeGroup(String groupName) {
+      groupCache.removeGroup(CacheGroupKey.group(name, groupName));
+   }
+
+   @Override
+   public CacheStream<CacheEntry<K, V>> getGroupStream(String groupName) {
+      return groupCache.getGroupStream(CacheGroupKey.group(name, groupName)).map(new ToEntry<>());
+   }
+
+   @Override
+   public Pipeline<K, V> pipeline() {
+      Pipeline<Object, V> pipeline = groupCache.pipeline();
+      return new Pipeline<K, V>() {
+         @Override
+         public CompletableFuture<V> get(K key) {
+            return pipeline.get(key(key));
+         }
+
+         @Override
+         public CompletableFuture<V> put(K key, V value) {
+            return pipeline.put(key(key), value);
+         }
+
+         @Override
+         public CompletableFuture<V> remove(K key) {
+            return pipeline.remove(key(key));
+         }
+
+         @Override
+         public int size() {
+            return pipeline.size();
+         }
+
+         @Override
+         public void execute() {
+            pipeline.execute();
+         }
+      };
+   }
+
+   /**
+    * The entries of the group cache that belong to this cache, mapped on the fly. The filter and the mapping are
+    * applied by the nodes owning the entries.
+    */
+   private class MemberCacheSet<R> extends AbstractSet<R> implements CacheSet<R> {
+      private final Function<CacheEntry<Object, V>, R> mapper;
+
+      MemberCacheSet(Function<CacheEntry<Object, V>, R> mapper) {
+         this.mapper = mapper;
+      }
+
+      private CacheStream<CacheEntry<Object, V>> entries(boolean parallel) {
+         CacheSet<CacheEntry<Object, V>> entries = groupCache.cacheEntrySet();
+         return (parallel ? entries.parallelStream() : entries.stream()).filter(new InCache<>(name));
+      }
+
+      @Override
+      public CacheStream<R> stream() {
+         return entries(false).map(mapper);
+      }
+
+      @Override
+      public CacheStream<R> parallelStream() {
+         return entries(true).map(mapper);
+      }
+
+      @Override
+      public CloseableIterator<R> iterator() {
+         CacheStream<CacheEntry<Object, V>> stream = entries(false);
+         Iterator<CacheEntry<Object, V>> iterator = stream.iterator();
+         return new CloseableIterator<R>() {
+            private CacheEntry<Object, V> last;
+
+            @Override
+            public boolean hasNext() {
+               return iterator.hasNext();
+            }
+
+            @Override
+            public R next() {
+               last = iterator.next();
+               return mapper.apply(last);
+            }
+
+            @Override
+            public void remove() {
+               if (last == null) throw new IllegalStateException();
+               groupCache.remove(last.getKey());
+               last = null;
+            }
+
+            @Override
+            public void close() {
+               stream.close();
+            }
+         };
+      }
+
+      @Override
+      public CloseableSpliterator<R> spliterator() {
+         return Closeables.spliterator(iterator(), Long.MAX_VALUE, Spliterator.CONCURRENT | Spliterator.NONNULL);
+      }
+
+      @Override
+      public int size() {
+         return CacheGroupMemberCache.this.size();
+      }
+   }
+
+   private static final class InCache<V> implements Predicate<CacheEntry<Object, V>>, Serializable {
+      private final String name;
+
+      InCache(String name) {
+         this.name = name;
+      }
+
+      @Override
+      public boolean test(CacheEntry<Object, V> entry) {
+         Object key = entry.getKey();
+         return key instanceof CacheGroupKey && ((CacheGroupKey) key).getCacheName().equals(name);
+      }
+   }
+
+   private static final class InCacheKeyFilter implements Predicate<Object>, Serializable {
+      private final String name;
+
+      InCacheKeyFilter(String name) {
+         this.name = name;
+      }
+
+      @Override
+      public boolean test(Object key) {
+         return key instanceof CacheGroupKey && ((CacheGroupKey) key).getCacheName().equals(name);
+      }
+   }
+
+   private static final class UnwrapKey implements Function<Object, Object> {
+      private final String name;
+
+      UnwrapKey(String name) {
+         this.name = name;
+      }
+
+      @Override
+      public Object apply(Object key) {
+         if (key instanceof CacheGroupKey && ((CacheGroupKey) key).getCacheName().equals(name)) {
+            return ((CacheGroupKey) key).getKey();
+         }
+         return null;
+      }
+   }
+
+   /**
+    * Accepts the events of the entries of this cache, and applies the filter of the listener to their unwrapped keys.
+    */
+   private static final class InCacheEventFilter<K, V> implements CacheEventFilter<Object, V>, Serializable {
+      private final String name;
+      private final CacheEventFilter<? super K, ? super V> filter;
+
+      InCacheEventFilter(String name, CacheEventFilter<? super K, ? super V> filter) {
+         this.name = name;
+         this.filter = filter;
+      }
+
+      @Override
+      @SuppressWarnings("unchecked")
+      public boolean accept(Object key, V oldValue, Metadata oldMetadata, V newValue, Metadata newMetadata,
+                            EventType eventType) {
+         if (!(key instanceof CacheGroupKey) || !((CacheGroupKey) key).getCacheName().equals(name)) {
+            return false;
+         }
+         return filter == null || filter.accept((K) ((CacheGroupKey) key).getKey(), oldValue, oldMetadata, newValue,
+               newMetadata, eventType);
+      }
+   }
+
+   private static final class UnwrappingEventConverter<K, V, C> implements CacheEventConverter<Object, V, C>, Serializable {
+      private final CacheEventConverter<? super K, ? super V, C> converter;
+
+      UnwrappingEventConverter(CacheEventConverter<? super K, ? super V, C> converter) {
+         this.converter = converter;
+      }
+
+      @Override
+      @SuppressWarnings("unchecked")
+      public C convert(Object key, V oldValue, Metadata oldMetadata, V newValue, Metadata newMetadata,
+                       EventType eventType) {
+         return converter.convert((K) ((CacheGroupKey) key).getKey(), oldValue, oldMetadata, newValue, newMetadata,
+               eventType);
+      }
+   }
+
+   private static final class RemoveKey<V> implements BiConsumer<Cache<Object, V>, Object>, Serializable {
+      @Override
+      public void accept(Cache<Object, V> cache, Object key) {
+         cache.remove(key);
+      }
+   }
+
+   private static final class ToKey<K, V> implements Function<CacheEntry<Object, V>, K>, Serializable {
+      @Override
+      @SuppressWarnings("unchecked")
+      public K apply(CacheEntry<Object, V> entry) {
+         return (K) ((CacheGroupKey) entry.getKey()).getKey();
+      }
+   }
+
+   private static final class ToValue<V> implements Function<CacheEntry<Object, V>, V>, Serializable {
+      @Override
+      public V apply(CacheEntry<Object, V> entry) {
+         return entry.getValue();
+      }
+   }
+
+   private static final class ToEntry<K, V> implements Function<CacheEntry<Object, V>, CacheEntry<K, V>>, Serializable {
+      @Override
+      @SuppressWarnings("unchecked")
+      public CacheEntry<K, V> apply(CacheEntry<Object, V> entry) {
+         return new MetadataImmortalCacheEntry(((CacheGroupKey) entry.getKey()).getKey(), entry.getValue(),
+               entry.getMetadata());
+      }
+   }
+}
@@ -3,12 +3,14 @@
 import org.infinispan.AdvancedCache;
 import org.infinispan.CacheCollection;
 import org.infinispan.CacheSet;
+import org.infinispan.CacheStream;
 import org.infinispan.Version;
 import org.infinispan.atomic.Delta;
 import org.infinispan.batch.BatchContainer;
 import org.infinispan.commands.CommandsFactory;
 import org.infinispan.commands.VisitableCommand;
 import org.infinispan.commands.control.LockControlCommand;
+import org.infinispan.commands.functional.ReadWriteManyCommand;
 import org.infinispan.commands.read.EntrySetCommand;
 import org.infinispan.commands.read.GetAllCommand;
 import org.infinispan.commands.read.GetCacheEntryCommand;
@@ -27,6 +29,7 @@
 import org.infinispan.commands.write.ValueMatcher;
 import org.infinispan.commons.CacheException;
 import org.infinispan.commons.api.BasicCacheContainer;
+import org.infinispan.commons.marshall.MarshallableFunctions;
 import org.infinispan.commons.marshall.StreamingMarshaller;
 import org.infinispan.commons.util.EnumUtil;
 import org.infinispan.commons.util.InfinispanCollections;
@@ -40,8 +43,10 @@
 import org.infinispan.context.InvocationContext;
 import org.infinispan.context.InvocationContextContainer;
 import org.infinispan.context.InvocationContextFactory;
+import org.infinispan.context.SingleKeyNonTxInvocationContext;
 import org.infinispan.context.impl.TxInvocationContext;
 import org.infinispan.distribution.DistributionManager;
+import org.infinispan.distribution.group.GroupPredicate;
 import org.infinispan.eviction.EvictionManager;
 import org.infinispan.eviction.PassivationManager;
 import org.infinispan.expiration.ExpirationManager;
@@ -50,6 +55,7 @@
 import org.infinispan.factories.annotations.Inject;
 import org.infinispan.factories.annotations.SurvivesRestarts;
 import org.infinispan.filter.KeyFilter;
+import org.infinispan.functional.impl.Params;
 import org.infinispan.interceptors.AsyncInterceptor;
 import org.infinispan.interceptors.AsyncInterceptorChain;
 import org.infinispan.interceptors.base.CommandInterceptor;
@@ -67,6 +73,8 @@
 import org.infinispan.notifications.cachelistener.filter.CacheEventFilter;
 import org.infinispan.partitionhandling.AvailabilityMode;
 import org.infinispan.partitionhandling.impl.PartitionHandlingManager;
+import org.infinispan.pipeline.Pipeline;
+import org.infinispan.pipeline.impl.PipelineImpl;
 import org.infinispan.remoting.rpc.RpcManager;
 import org.infinispan.security.AuthorizationManager;
 import org.infinispan.stats.Stats;
@@ -92,6 +100,7 @@
 import java.util.Collection;
 import java.util.Collections;
 import java.util.EnumSet;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -154,6 +163,10 @@
    private PartitionHandlingManager partitionHandlingManager;
    private GlobalConfiguration globalCfg;
    private boolean isClassLoaderInContext;
+   // The interceptors that were checked when the cache started, or null if the reads can't reuse their contexts
+   private volatile List<AsyncInterceptor> readContextInterceptors;
+   // Contexts reused by the synchronous single-key reads of a thread, see invokeRead
+   private volatile ThreadLocal<ReadContextHolder> readContexts = new ThreadLocal<>();
    private LocalTopologyManager localTopologyManager;
    private volatile boolean stopping = false;
 
@@ -415,9 +428,8 @@ final V get(Object key, EnumSet<Flag> explicitFlags, ClassLoader explicitClassLo
    @SuppressWarnings("unchecked")
    final V get(Object key, long explicitFlags, ClassLoader explicitClassLoader) {
       assertKeyNotNull(key);
-      InvocationContext ctx = getInvocationContextForRead(explicitClassLoader, 1);
       GetKeyValueCommand command = commandsFactory.buildGetKeyValueCommand(key, explicitFlags);
-      return (V) invoker.invoke(ctx, command);
+      return (V) invokeRead(command, explicitClassLoader);
    }
 
    @Deprecated
@@ -427,10 +439,8 @@ public final CacheEntry getCacheEntry(Object key, EnumSet<Flag> explicitFlags, C
 
    final CacheEntry getCacheEntry(Object key, long explicitFlags, ClassLoader explicitClassLoader) {
       assertKeyNotNull(key);
-      InvocationContext ctx = getInvocationContextForRead(explicitClassLoader, 1);
       GetCacheEntryCommand command = commandsFactory.buildGetCacheEntryCommand(key, explicitFlags);
-      Object ret = invoker.invoke(ctx, command);
-      return (CacheEntry) ret;
+      return (CacheEntry) invokeRead(command, explicitClassLoader);
    }
 
    @Override
@@ -467,6 +477,11 @@ public Map<K, CacheEntry<K, V>> getAllCacheEntries(Set<?> keys) {
       return getAllCacheEntries(keys, null, null);
    }
 
+   @Override
+   public Pipeline<K, V> pipeline() {
+      return new PipelineImpl<>(this);
+   }
+
    public final Map<K, CacheEntry<K, V>> getAllCacheEntries(Set<?> keys,
          EnumSet<Flag> explicitFlags, ClassLoader explicitClassLoader) {
       InvocationContext ctx = getInvocationContextForRead(explicitClassLoader, keys.size());
@@ -547,6 +562,20 @@ private void transactionalRemoveGroup(String groupName, long explicitFlagsBitSet
    private void nonTransactionalRemoveGroup(String groupName, long explicitFlags, ClassLoader explicitClassLoader) {
       InvocationContext context = getInvocationContextForRead(explicitClassLoader, UNBOUNDED);
       Map<K, V> keys = internalGetGroup(groupName, explicitFlags, context);
+      if (keys.isEmpty()) {
+         return;
+      }
+      if (explicitFlags == EnumUtil.EMPTY_BIT_SET && !config.persistence().usingStores() &&
+            !config.indexing().index().isEnabled()) {
+         // all the keys of a group have the same owners, so a single command removes them with one request to the
+         // primary owner. Functional commands neither support flags, load passivated entries nor update the query
+         // indexes, so the keys are removed one by one otherwise.
+         ReadWriteManyCommand<K, V, Boolean> command = commandsFactory.buildReadWriteManyCommand(
+               new HashSet<>(keys.keySet()), MarshallableFunctions.removeReturnBoolean(), Params.create());
+         InvocationContext ctx = getInvocationContextWithImplicitTransaction(false, explicitClassLoader, keys.size());
+         invoker.invoke(ctx, command);
+         return;
+      }
       long removeFlags = addIgnoreReturnValuesFlag(explicitFlags);
       for (K key : keys.keySet()) {
          //a new context is needed for remove since in the non-owners, the command is sent to the primary owner to be
@@ -558,6 +587,22 @@ private void nonTransactionalRemoveGroup(String groupName, long explicitFlags, C
       }
    }
 
+   @Override
+   public CacheStream<CacheEntry<K, V>> getGroupStream(String groupName) {
+      return getGroupStream(groupName, null, null);
+   }
+
+   CacheStream<CacheEntry<K, V>> getGroupStream(String groupName, EnumSet<Flag> explicitFlags,
+                                                ClassLoader explicitClassLoader) {
+      CacheStream<CacheEntry<K, V>> stream = cacheEntrySet(explicitFlags, explicitClassLoader).stream();
+      if (distributionManager != null) {
+         // only the owners of the group's segment are contacted
+         int segment = distributionManager.getReadConsistentHash().getSegment(groupName);
+         stream = stream.filterKeySegments(Collections.singleton(segment));
+      }
+      return stream.filter(new GroupPredicate<>(groupName));
+   }
+
    @Override
    public final V remove(Object key) {
       return remove(key, EnumUtil.EMPTY_BIT_SET, null);
@@ -792,6 +837,41 @@ private InvocationContext getInvocationContextForRead(ClassLoader explicitClassL
       return result;
    }
 
+   /**
+    * Invokes a synchronous single-key read. Local, non-transactional caches reuse one context per thread instead of
+    * allocating a new one for every read: the invocation is complete when {@code invoke} returns, so nothing can
+    * reference the context afterwards. Nested reads, e.g. from a listener, fall back to a new context.
+    * <p>
+    * An interceptor added to the chain after the cache started might keep a reference to the context, so any change
+    * to the chain disables the reuse.
+    */
+   private Object invokeRead(VisitableCommand command, ClassLoader explicitClassLoader) {
+      List<AsyncInterceptor> interceptors = readContextInterceptors;
+      if (interceptors == null || interceptors != invoker.getInterceptors()) {
+         return invoker.invoke(getInvocationContextForRead(explicitClassLoader, 1), command);
+      }
+
+      ThreadLocal<ReadContextHolder> contexts = readContexts;
+      ReadContextHolder holder = contexts.get();
+      if (holder == null) {
+         holder = new ReadContextHolder(
+               (SingleKeyNonTxInvocationContext) invocationContextFactory.createSingleKeyNonTxInvocationContext());
+         contexts.set(holder);
+      } else if (holder.inUse) {
+         return invoker.invoke(getInvocationContextForRead(explicitClassLoader, 1), command);
+      }
+
+      SingleKeyNonTxInvocationContext ctx = holder.ctx;
+      holder.inUse = true;
+      try {
+         setInvocationContextClassLoader(ctx, explicitClassLoader);
+         return invoker.invoke(ctx, command);
+      } finally {
+         ctx.resetState();
+         holder.inUse = false;
+      }
+   }
+
    private InvocationContext getInvocationContextWithImplicitTransactionForAsyncOps(boolean isPutForExternalRead, ClassLoader explicitClassLoader, int keyCount) {
       InvocationContext ctx = getInvocationContextWithImplicitTransaction(isPutForExternalRead,
                                                                           explicitClassLoader, keyCount);
@@ -891,6 +971,11 @@ public void start() {
       isClassLoaderInContext = config.clustering().cacheMode().isClustered()
             || config.persistence().usingStores()
             || config.storeAsBinary().enabled();
+      // Custom interceptors might keep a reference to the context after the invocation
+      boolean reuseReadContexts = !config.clustering().cacheMode().isClustered()
+            && !config.transaction().transactionMode().isTransactional()
+            && config.customInterceptors().interceptors().isEmpty();
+      readContextInterceptors = reuseReadContexts ? invoker.getInterceptors() : null;
 
       if (log.isDebugEnabled()) log.debugf("Started cache %s on %s", getName(), getCacheManager().getAddress());
    }
@@ -937,6 +1022,9 @@ private void requestClusterWideShutdown() {
    private void performImmediateShutdown() {
       if (log.isDebugEnabled())
          log.debugf("Stopping cache %s on %s", getName(), getCacheManager().getAddress());
+      readContextInterceptors = null;
+      // Drop the contexts of all the threads, they were created by the stopped components
+      readContexts = new ThreadLocal<>();
       componentRegistry.stop();
    }
 
@@ -1834,4 +1922,12 @@ public Properties getConfigurationAsProperties() {
       return new PropertyFormatter().format(config);
    }
 
+   private static final class ReadContextHolder {
+      final SingleKeyNonTxInvocationContext ctx;
+      boolean inUse;
+
+      ReadContextHolder(SingleKeyNonTxInvocationContext ctx) {
+         this.ctx = ctx;
+      }
+   }
 }
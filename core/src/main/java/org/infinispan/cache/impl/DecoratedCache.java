@@ -15,6 +15,7 @@
 import org.infinispan.AdvancedCache;
 import org.infinispan.CacheCollection;
 import org.infinispan.CacheSet;
+import org.infinispan.CacheStream;
 import org.infinispan.commons.util.EnumUtil;
 import org.infinispan.container.entries.CacheEntry;
 import org.infinispan.context.Flag;
@@ -471,6 +472,11 @@ public void removeGroup(String groupName) {
       cacheImplementation.removeGroup(groupName, flags, getClassLoader());
    }
 
+   @Override
+   public CacheStream<CacheEntry<K, V>> getGroupStream(String groupName) {
+      return cacheImplementation.getGroupStream(groupName, getFlags(), classLoader.get());
+   }
+
    @Override
    public CacheCollection<V> values() {
       return new ValueCacheCollection<>(this, cacheEntrySet());
@@ -57,6 +57,8 @@
 import org.infinispan.notifications.cachelistener.filter.CacheEventConverter;
 import org.infinispan.notifications.cachelistener.filter.CacheEventFilter;
 import org.infinispan.partitionhandling.AvailabilityMode;
+import org.infinispan.pipeline.Pipeline;
+import org.infinispan.pipeline.impl.PipelineImpl;
 import org.infinispan.remoting.rpc.RpcManager;
 import org.infinispan.security.AuthorizationManager;
 import org.infinispan.stats.Stats;
@@ -285,6 +287,17 @@ public Map<K, V> getGroup(String groupName) {
    public void removeGroup(String groupName) {
    }
 
+   @Override
+   public CacheStream<CacheEntry<K, V>> getGroupStream(String groupName) {
+      return new LocalCacheStream<>(new EntryStreamSupplier<>(this, null, Stream::<CacheEntry<K, V>>empty), false,
+            componentRegistry);
+   }
+
+   @Override
+   public Pipeline<K, V> pipeline() {
+      return new PipelineImpl<>(this);
+   }
+
    @Override
    public AvailabilityMode getAvailability() {
       return AvailabilityMode.AVAILABLE;
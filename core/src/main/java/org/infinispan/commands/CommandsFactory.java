@@ -51,6 +51,8 @@
 import org.infinispan.factories.scopes.Scopes;
 import org.infinispan.functional.impl.Params;
 import org.infinispan.metadata.Metadata;
+import org.infinispan.notifications.cachelistener.cluster.ClusterEvent;
+import org.infinispan.notifications.cachelistener.cluster.ClusterEventsCommand;
 import org.infinispan.remoting.transport.Address;
 import org.infinispan.statetransfer.StateChunk;
 import org.infinispan.statetransfer.StateRequestCommand;
@@ -466,6 +468,13 @@ <K> StreamRequestCommand<K> buildStreamRequestCommand(Object id, boolean paralle
    <R> StreamResponseCommand<R> buildStreamResponseCommand(Object identifier, boolean complete, Set<Integer> lostSegments,
            R response);
 
+   /**
+    * Builds {@link ClusterEventsCommand} used to deliver cluster events to the cluster listeners of another node.
+    * @param events the events to deliver, by cluster listener identifier
+    * @return the command delivering the events
+    */
+   <K, V> ClusterEventsCommand<K, V> buildClusterEventsCommand(Map<UUID, Collection<ClusterEvent<K, V>>> events);
+
    <K, V, R> ReadOnlyKeyCommand<K, V, R> buildReadOnlyKeyCommand(K key, Function<ReadEntryView<K, V>, R> f);
 
    <K, V, R> ReadOnlyManyCommand<K, V, R> buildReadOnlyManyCommand(Set<? extends K> keys, Function<ReadEntryView<K, V>, R> f);
@@ -75,6 +75,9 @@
 import org.infinispan.marshall.core.ExternalizerTable;
 import org.infinispan.metadata.Metadata;
 import org.infinispan.notifications.cachelistener.CacheNotifier;
+import org.infinispan.notifications.cachelistener.cluster.ClusterCacheNotifier;
+import org.infinispan.notifications.cachelistener.cluster.ClusterEvent;
+import org.infinispan.notifications.cachelistener.cluster.ClusterEventsCommand;
 import org.infinispan.partitionhandling.impl.PartitionHandlingManager;
 import org.infinispan.remoting.transport.Address;
 import org.infinispan.statetransfer.StateChunk;
@@ -360,7 +363,8 @@ public void initializeReplicableCommand(ReplicableCommand c, boolean isRemote) {
             rc.init(interceptorChain, icf);
             if (rc.getCommands() != null)
                for (ReplicableCommand nested : rc.getCommands()) {
-                  initializeReplicableCommand(nested, false);
+                  // the nested commands are deserialized with the batch and executed remotely
+                  initializeReplicableCommand(nested, true);
                }
             break;
          case SingleRpcCommand.COMMAND_ID:
@@ -512,6 +516,10 @@ public void initializeReplicableCommand(ReplicableCommand c, boolean isRemote) {
             RemoveExpiredCommand removeExpiredCommand = (RemoveExpiredCommand) c;
             removeExpiredCommand.init(notifier, configuration);
             break;
+         case ClusterEventsCommand.COMMAND_ID:
+            ClusterEventsCommand clusterEventsCommand = (ClusterEventsCommand) c;
+            clusterEventsCommand.init(cache, (ClusterCacheNotifier) notifier);
+            break;
          default:
             ModuleCommandInitializer mci = moduleCommandInitializers.get(c.getCommandId());
             if (mci != null) {
@@ -663,6 +671,11 @@ private CommandInvocationId generateUUID() {
       return CommandInvocationId.generateId(clusteringDependentLogic.getAddress());
    }
 
+   @Override
+   public <K, V> ClusterEventsCommand<K, V> buildClusterEventsCommand(Map<UUID, Collection<ClusterEvent<K, V>>> events) {
+      return new ClusterEventsCommand<>(cacheName, events);
+   }
+
    @Override
    public <K, V, R> ReadOnlyKeyCommand<K, V, R> buildReadOnlyKeyCommand(K key, Function<ReadEntryView<K, V>, R> f) {
       return new ReadOnlyKeyCommand<>(key, f);
@@ -52,6 +52,7 @@
 import org.infinispan.manager.EmbeddedCacheManager;
 import org.infinispan.manager.impl.ReplicableCommandManagerFunction;
 import org.infinispan.manager.impl.ReplicableCommandRunnable;
+import org.infinispan.notifications.cachelistener.cluster.ClusterEventsCommand;
 import org.infinispan.statetransfer.StateRequestCommand;
 import org.infinispan.statetransfer.StateResponseCommand;
 import org.infinispan.stream.impl.StreamRequestCommand;
@@ -299,6 +300,9 @@ public CacheRpcCommand fromStream(byte id, byte type, ByteString cacheName) {
             case StreamResponseCommand.COMMAND_ID:
                command = new StreamResponseCommand(cacheName);
                break;
+            case ClusterEventsCommand.COMMAND_ID:
+               command = new ClusterEventsCommand<>(cacheName);
+               break;
             default:
                throw new CacheException("Unknown command id " + id + "!");
          }
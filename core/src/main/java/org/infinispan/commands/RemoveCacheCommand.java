@@ -8,6 +8,7 @@
 import org.infinispan.factories.ComponentRegistry;
 import org.infinispan.factories.GlobalComponentRegistry;
 import org.infinispan.jmx.CacheJmxRegistration;
+import org.infinispan.manager.DefaultCacheManager;
 import org.infinispan.manager.EmbeddedCacheManager;
 import org.infinispan.persistence.manager.PersistenceManager;
 import org.infinispan.util.ByteString;
@@ -54,6 +55,9 @@ public Object perform(InvocationContext ctx) throws Throwable {
          if (cache != null) {
             cache.stop();
          }
+      } else if (cacheManager instanceof DefaultCacheManager) {
+         // The caches of a cache group have no components, only their view is removed
+         ((DefaultCacheManager) cacheManager).removeCacheGroupMember(name);
       }
       globalComponentRegistry.removeCache(name);
       // Remove cache configuration and remove it from the computed cache name list
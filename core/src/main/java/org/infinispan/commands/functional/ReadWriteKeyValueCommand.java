@@ -4,6 +4,7 @@
 import org.infinispan.commands.Visitor;
 import org.infinispan.commands.write.ValueMatcher;
 import org.infinispan.commons.api.functional.EntryView.ReadWriteEntryView;
+import org.infinispan.commons.api.functional.Patch;
 import org.infinispan.commons.equivalence.AnyEquivalence;
 import org.infinispan.commons.marshall.MarshallUtil;
 import org.infinispan.container.entries.MVCCEntry;
@@ -12,6 +13,7 @@
 import org.infinispan.functional.impl.EntryViews;
 import org.infinispan.functional.impl.Params;
 import org.infinispan.metadata.Metadata;
+import org.infinispan.remoting.responses.UnsuccessfulResponse;
 import org.infinispan.util.logging.Log;
 import org.infinispan.util.logging.LogFactory;
 
@@ -28,10 +30,20 @@
 
    public static final byte COMMAND_ID = 51;
 
+   private static final byte PREVIOUS_VALUE_OMITTED = 0;
+   private static final byte PREVIOUS_VALUE_INCLUDED = 1;
+   private static final byte PATCH_EXISTING_VALUE = 2;
+   private static final byte PATCH_MISSING_VALUE = 3;
+
    private V value;
    private BiFunction<V, ReadWriteEntryView<K, V>, R> f;
    private V prevValue;
    private Metadata prevMetadata;
+   // Set by the primary owner while it replicates a patch to the backup owners
+   private boolean replicatingToBackups;
+   private boolean replicatePreviousValue;
+   // Read by the backup owners when the previous value was not replicated with the patch
+   private byte previousValueMode;
 
    public ReadWriteKeyValueCommand(K key, V value, BiFunction<V, ReadWriteEntryView<K, V>, R> f,
          CommandInvocationId id, ValueMatcher valueMatcher, Params params) {
@@ -58,8 +70,17 @@ public void writeTo(ObjectOutput output) throws IOException {
       Params.writeObject(output, params);
       output.writeLong(Flag.copyWithoutRemotableFlags(getFlagsBitSet()));
       output.writeObject(commandInvocationId);
-      output.writeObject(prevValue);
-      output.writeObject(prevMetadata);
+      // Backups apply a patch to their own copy of the value, so unless the command is retried or the primary owner
+      // asks for it, the previous value is not replicated with the patch
+      if (!(value instanceof Patch) || replicatePreviousValue || hasFlag(Flag.COMMAND_RETRY)) {
+         output.writeByte(PREVIOUS_VALUE_INCLUDED);
+         output.writeObject(prevValue);
+         output.writeObject(prevMetadata);
+      } else if (replicatingToBackups) {
+         output.writeByte(prevValue != null ? PATCH_EXISTING_VALUE : PATCH_MISSING_VALUE);
+      } else {
+         output.writeByte(PREVIOUS_VALUE_OMITTED);
+      }
    }
 
    @Override
@@ -71,8 +92,11 @@ public void readFrom(ObjectInput input) throws IOException, ClassNotFoundExcepti
       params = Params.readObject(input);
       setFlagsBitSet(input.readLong());
       commandInvocationId = (CommandInvocationId) input.readObject();
-      prevValue = (V) input.readObject();
-      prevMetadata = (Metadata) input.readObject();
+      previousValueMode = input.readByte();
+      if (previousValueMode == PREVIOUS_VALUE_INCLUDED) {
+         prevValue = (V) input.readObject();
+         prevMetadata = (Metadata) input.readObject();
+      }
    }
 
    @Override
@@ -93,6 +117,16 @@ public Object perform(InvocationContext ctx) throws Throwable {
       // Could be that the key is not local
       if (e == null) return null;
 
+      // A backup owner can only apply a patch to the value the primary owner patched. If it does not have the value
+      // yet, e.g. because it is still receiving it with the state transfer, the primary owner replicates it again
+      // with the previous value.
+      if ((previousValueMode == PATCH_EXISTING_VALUE && e.getValue() == null) ||
+            (previousValueMode == PATCH_MISSING_VALUE && e.getValue() != null)) {
+         log.tracef("Cannot apply the patch to the value %s of the backup owner", e.getValue());
+         successful = false;
+         return UnsuccessfulResponse.INSTANCE;
+      }
+
       // Command only has one previous value, do not override it
       if (prevValue == null && !hasFlag(Flag.COMMAND_RETRY)) {
          prevValue = e.getValue();
@@ -113,6 +147,19 @@ public Object perform(InvocationContext ctx) throws Throwable {
    }
 
 
+   /**
+    * Sets how the command is replicated by the primary owner to the backup owners. When the value is a
+    * {@link Patch}, the backup owners apply it to their own copy of the value, unless the previous value is
+    * replicated with it.
+    *
+    * @param replicatingToBackups   whether the command is being replicated to the backup owners
+    * @param replicatePreviousValue whether the previous value is replicated with a patch
+    */
+   public void setBackupReplication(boolean replicatingToBackups, boolean replicatePreviousValue) {
+      this.replicatingToBackups = replicatingToBackups;
+      this.replicatePreviousValue = replicatePreviousValue;
+   }
+
    boolean valueRemoved(MVCCEntry<K, V> e, V prevValue) {
       return valueUnchanged(e, prevValue, null);
    }
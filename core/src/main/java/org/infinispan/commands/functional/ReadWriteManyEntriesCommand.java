@@ -2,6 +2,7 @@
 
 import org.infinispan.commands.Visitor;
 import org.infinispan.commons.api.functional.EntryView.ReadWriteEntryView;
+import org.infinispan.commons.marshall.BufferSizeHint;
 import org.infinispan.container.entries.CacheEntry;
 import org.infinispan.context.InvocationContext;
 import org.infinispan.functional.impl.EntryViews;
@@ -19,7 +20,7 @@
 
 import static org.infinispan.functional.impl.EntryViews.snapshot;
 
-public final class ReadWriteManyEntriesCommand<K, V, R> extends AbstractWriteManyCommand {
+public final class ReadWriteManyEntriesCommand<K, V, R> extends AbstractWriteManyCommand implements BufferSizeHint {
 
    public static final byte COMMAND_ID = 53;
 
@@ -53,6 +54,11 @@ public void setEntries(Map<? extends K, ? extends V> entries) {
       this.entries = entries;
    }
 
+   @Override
+   public int getSizePredictionElements() {
+      return entries == null ? 0 : entries.size();
+   }
+
    @Override
    public byte getCommandId() {
       return COMMAND_ID;
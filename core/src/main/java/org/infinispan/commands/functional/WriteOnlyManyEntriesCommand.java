@@ -2,6 +2,7 @@
 
 import org.infinispan.commands.Visitor;
 import org.infinispan.commons.api.functional.EntryView.WriteEntryView;
+import org.infinispan.commons.marshall.BufferSizeHint;
 import org.infinispan.container.entries.CacheEntry;
 import org.infinispan.context.InvocationContext;
 import org.infinispan.functional.impl.EntryViews;
@@ -15,7 +16,7 @@
 import java.util.Set;
 import java.util.function.BiConsumer;
 
-public final class WriteOnlyManyEntriesCommand<K, V> extends AbstractWriteManyCommand<K, V> {
+public final class WriteOnlyManyEntriesCommand<K, V> extends AbstractWriteManyCommand<K, V> implements BufferSizeHint {
 
    public static final byte COMMAND_ID = 57;
 
@@ -45,6 +46,11 @@ public void setEntries(Map<? extends K, ? extends V> entries) {
       this.entries = entries;
    }
 
+   @Override
+   public int getSizePredictionElements() {
+      return entries == null ? 0 : entries.size();
+   }
+
    @Override
    public byte getCommandId() {
       return COMMAND_ID;
@@ -1,6 +1,7 @@
 package org.infinispan.commands.remote;
 
 import org.infinispan.commands.ReplicableCommand;
+import org.infinispan.commons.marshall.BufferSizeHint;
 import org.infinispan.context.InvocationContext;
 import org.infinispan.util.ByteString;
 
@@ -14,7 +15,7 @@
  *
  * @author Mircea.Markus@jboss.com
  */
-public class SingleRpcCommand extends BaseRpcInvokingCommand {
+public class SingleRpcCommand extends BaseRpcInvokingCommand implements BufferSizeHint {
    public static final int COMMAND_ID = 1;
 
    private ReplicableCommand command;
@@ -52,6 +53,17 @@ public Object perform(InvocationContext ctx) throws Throwable {
       return processVisitableCommand(command);
    }
 
+   @Override
+   public Class<?> getSizePredictionType() {
+      // Predict the size from the wrapped command, a putAll must not share a prediction with a single put
+      return command instanceof BufferSizeHint ? ((BufferSizeHint) command).getSizePredictionType() : command.getClass();
+   }
+
+   @Override
+   public int getSizePredictionElements() {
+      return command instanceof BufferSizeHint ? ((BufferSizeHint) command).getSizePredictionElements() : 0;
+   }
+
    @Override
    public boolean equals(Object o) {
       if (this == o) return true;
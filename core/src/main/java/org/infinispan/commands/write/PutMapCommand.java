@@ -4,6 +4,7 @@
 import org.infinispan.commands.CommandInvocationId;
 import org.infinispan.commands.MetadataAwareCommand;
 import org.infinispan.commands.Visitor;
+import org.infinispan.commons.marshall.BufferSizeHint;
 import org.infinispan.container.entries.MVCCEntry;
 import org.infinispan.context.Flag;
 import org.infinispan.context.InvocationContext;
@@ -30,7 +31,8 @@
  * @author Mircea.Markus@jboss.com
  * @since 4.0
  */
-public class PutMapCommand extends AbstractFlagAffectedCommand implements WriteCommand, MetadataAwareCommand, RemoteLockCommand {
+public class PutMapCommand extends AbstractFlagAffectedCommand implements WriteCommand, MetadataAwareCommand, RemoteLockCommand,
+      BufferSizeHint {
    public static final byte COMMAND_ID = 9;
 
    Map<Object, Object> map;
@@ -130,6 +132,11 @@ public void setMap(Map<Object, Object> map) {
       this.map = map;
    }
 
+   @Override
+   public int getSizePredictionElements() {
+      return map == null ? 0 : map.size();
+   }
+
    @Override
    public byte getCommandId() {
       return COMMAND_ID;
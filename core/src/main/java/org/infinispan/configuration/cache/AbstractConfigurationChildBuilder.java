@@ -22,6 +22,11 @@ public boolean simpleCache() {
       return builder.simpleCache();
    }
 
+   @Override
+   public ConfigurationChildBuilder cacheGroup(String cacheGroup) {
+      return builder.cacheGroup(cacheGroup);
+   }
+
    @Override
    public ClusteringConfigurationBuilder clustering() {
       return builder.clustering();
@@ -13,11 +13,12 @@ public class AbstractStoreConfiguration implements StoreConfiguration {
    public static final AttributeDefinition<Boolean> IGNORE_MODIFICATIONS = AttributeDefinition.builder("ignoreModifications", false).immutable().xmlName("read-only").build();
    public static final AttributeDefinition<Boolean> PRELOAD = AttributeDefinition.builder("preload", false).immutable().build();
    public static final AttributeDefinition<Boolean> SHARED = AttributeDefinition.builder("shared", false).immutable().build();
+   public static final AttributeDefinition<Boolean> BLOOM_FILTER = AttributeDefinition.builder("bloomFilter", false).immutable().build();
    public static final AttributeDefinition<TypedProperties> PROPERTIES = AttributeDefinition.builder("properties", null, TypedProperties.class)
          .initializer(() -> new TypedProperties()).autoPersist(false).immutable().build();
 
    public static AttributeSet attributeDefinitionSet() {
-      return new AttributeSet(AbstractStoreConfiguration.class, FETCH_PERSISTENT_STATE, PURGE_ON_STARTUP, IGNORE_MODIFICATIONS, PRELOAD, SHARED, PROPERTIES);
+      return new AttributeSet(AbstractStoreConfiguration.class, FETCH_PERSISTENT_STATE, PURGE_ON_STARTUP, IGNORE_MODIFICATIONS, PRELOAD, SHARED, BLOOM_FILTER, PROPERTIES);
    }
 
    private final Attribute<Boolean> fetchPersistentState;
@@ -25,6 +26,7 @@ public static AttributeSet attributeDefinitionSet() {
    private final Attribute<Boolean> ignoreModifications;
    private final Attribute<Boolean> preload;
    private final Attribute<Boolean> shared;
+   private final Attribute<Boolean> bloomFilter;
    private final Attribute<TypedProperties> properties;
 
    protected final AttributeSet attributes;
@@ -52,6 +54,7 @@ public AbstractStoreConfiguration(boolean purgeOnStartup, boolean fetchPersisten
       this.ignoreModifications = attributes.attribute(IGNORE_MODIFICATIONS);
       this.preload = attributes.attribute(PRELOAD);
       this.shared = attributes.attribute(SHARED);
+      this.bloomFilter = attributes.attribute(BLOOM_FILTER);
       this.properties = attributes.attribute(PROPERTIES);
    }
 
@@ -65,6 +68,7 @@ public AbstractStoreConfiguration(AttributeSet attributes, AsyncStoreConfigurati
       this.ignoreModifications = attributes.attribute(IGNORE_MODIFICATIONS);
       this.preload = attributes.attribute(PRELOAD);
       this.shared = attributes.attribute(SHARED);
+      this.bloomFilter = attributes.attribute(BLOOM_FILTER);
       this.properties = attributes.attribute(PROPERTIES);
    }
 
@@ -128,6 +132,14 @@ public boolean preload() {
       return preload.get();
    }
 
+   /**
+    * If true, the keys written to this cache store are tracked in a Bloom filter, and the store is only looked up for
+    * keys that might have been written to it.
+    */
+   public boolean bloomFilter() {
+      return bloomFilter.get();
+   }
+
    @Override
    public Properties properties() {
       return properties.get();
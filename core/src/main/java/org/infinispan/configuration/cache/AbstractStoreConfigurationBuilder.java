@@ -163,6 +163,17 @@ public S shared(boolean b) {
       return self();
    }
 
+   /**
+    * If true, the keys written to this cache store are tracked in a Bloom filter, so that the cache doesn't look up the
+    * store for keys that were never written to it. The filter is rebuilt from the store contents when the cache starts.
+    * Only stores that are written exclusively by the local cache can use a Bloom filter, so it can't be enabled on
+    * shared stores.
+    */
+   public S bloomFilter(boolean b) {
+      attributes.attribute(BLOOM_FILTER).set(b);
+      return self();
+   }
+
    @Override
    public void validate() {
       async.validate();
@@ -172,6 +183,9 @@ public void validate() {
       boolean purgeOnStartup = attributes.attribute(PURGE_ON_STARTUP).get();
       boolean preload = attributes.attribute(PRELOAD).get();
       ConfigurationBuilder builder = getBuilder();
+      if (shared && attributes.attribute(BLOOM_FILTER).get())
+         throw log.bloomFilterOnSharedStore();
+
       if (!shared && !fetchPersistentState && !purgeOnStartup
             && builder.clustering().cacheMode().isClustered())
          log.staleEntriesWithoutFetchPersistentStateOrPurgeOnStartup();
@@ -17,12 +17,14 @@ public class ClusteringConfiguration {
    public static final AttributeDefinition<CacheMode> CACHE_MODE = AttributeDefinition.builder("cacheMode",  CacheMode.LOCAL).immutable().build();
    public static final AttributeDefinition<Long> REMOTE_TIMEOUT =
          AttributeDefinition.builder("remoteTimeout", TimeUnit.SECONDS.toMillis(15)).build();
+   public static final AttributeDefinition<Boolean> COALESCE_REMOTE_GETS = AttributeDefinition.builder("coalesceRemoteGets", false).immutable().build();
 
    static AttributeSet attributeDefinitionSet() {
-      return new AttributeSet(ClusteringConfiguration.class, CACHE_MODE);
+      return new AttributeSet(ClusteringConfiguration.class, CACHE_MODE, COALESCE_REMOTE_GETS);
    }
 
    private final Attribute<CacheMode> cacheMode;
+   private final Attribute<Boolean> coalesceRemoteGets;
    private final HashConfiguration hashConfiguration;
    private final L1Configuration l1Configuration;
    private final StateTransferConfiguration stateTransferConfiguration;
@@ -35,6 +37,7 @@ static AttributeSet attributeDefinitionSet() {
          PartitionHandlingConfiguration partitionHandlingStrategy) {
       this.attributes = attributes.checkProtection();
       this.cacheMode = attributes.attribute(CACHE_MODE);
+      this.coalesceRemoteGets = attributes.attribute(COALESCE_REMOTE_GETS);
       this.hashConfiguration = hashConfiguration;
       this.l1Configuration = l1Configuration;
       this.stateTransferConfiguration = stateTransferConfiguration;
@@ -65,6 +68,14 @@ public void remoteTimeout(long timeoutMillis) {
       syncConfiguration.replTimeout(timeoutMillis);
    }
 
+   /**
+    * If true, concurrent reads of the same key which need the value from the remote owners wait for a single remote get
+    * instead of each sending their own.
+    */
+   public boolean coalesceRemoteGets() {
+      return coalesceRemoteGets.get();
+   }
+
    /**
     * Configures cluster's behaviour in the presence of partitions or node failures.
     */
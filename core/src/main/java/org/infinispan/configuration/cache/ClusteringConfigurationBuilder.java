@@ -10,6 +10,7 @@
 import java.util.concurrent.TimeUnit;
 
 import static org.infinispan.configuration.cache.ClusteringConfiguration.CACHE_MODE;
+import static org.infinispan.configuration.cache.ClusteringConfiguration.COALESCE_REMOTE_GETS;
 import static org.infinispan.configuration.cache.ClusteringConfiguration.REMOTE_TIMEOUT;
 
 /**
@@ -68,6 +69,15 @@ public ClusteringConfigurationBuilder remoteTimeout(long l, TimeUnit unit) {
       return remoteTimeout(unit.toMillis(l));
    }
 
+   /**
+    * If true, concurrent reads of the same key which need the value from the remote owners wait for a single remote get
+    * instead of each sending their own. Only the non-transactional reads are coalesced.
+    */
+   public ClusteringConfigurationBuilder coalesceRemoteGets(boolean coalesceRemoteGets) {
+      attributes.attribute(COALESCE_REMOTE_GETS).set(coalesceRemoteGets);
+      return this;
+   }
+
 
    /**
     * Configure hash sub element
@@ -11,12 +11,14 @@
 
 public class Configuration {
    public static final AttributeDefinition<Boolean> SIMPLE_CACHE = AttributeDefinition.builder("simpleCache", false).immutable().build();
+   public static final AttributeDefinition<String> CACHE_GROUP = AttributeDefinition.builder("cacheGroup", null, String.class).immutable().build();
 
    public static AttributeSet attributeDefinitionSet() {
-      return new AttributeSet(Configuration.class, SIMPLE_CACHE);
+      return new AttributeSet(Configuration.class, SIMPLE_CACHE, CACHE_GROUP);
    }
 
    private final Attribute<Boolean> simpleCache;
+   private final Attribute<String> cacheGroup;
    private final ClusteringConfiguration clusteringConfiguration;
    private final CustomInterceptorsConfiguration customInterceptorsConfiguration;
    private final DataContainerConfiguration dataContainerConfiguration;
@@ -58,6 +60,7 @@ public static AttributeSet attributeDefinitionSet() {
       this.template = template;
       this.attributes = attributes.checkProtection();
       this.simpleCache = attributes.attribute(SIMPLE_CACHE);
+      this.cacheGroup = attributes.attribute(CACHE_GROUP);
       this.clusteringConfiguration = clusteringConfiguration;
       this.customInterceptorsConfiguration = customInterceptorsConfiguration;
       this.dataContainerConfiguration = dataContainerConfiguration;
@@ -91,6 +94,14 @@ public boolean simpleCache() {
       return simpleCache.get();
    }
 
+   /**
+    * @return the name of the cache storing the data of this cache, or {@code null} if this cache is not part of a
+    * cache group
+    */
+   public String cacheGroup() {
+      return cacheGroup.get();
+   }
+
    public ClusteringConfiguration clustering() {
       return clusteringConfiguration;
    }
@@ -180,6 +191,7 @@ public boolean isTemplate() {
    public String toString() {
       return "Configuration{" +
             "simpleCache=" + simpleCache +
+            ", cacheGroup=" + cacheGroup +
             ", clustering=" + clusteringConfiguration +
             ", customInterceptors=" + customInterceptorsConfiguration +
             ", dataContainer=" + dataContainerConfiguration +
@@ -207,6 +219,7 @@ public int hashCode() {
       final int prime = 31;
       int result = 1;
       result = prime * result + (simpleCache.get() ? 0 : 1);
+      result = prime * result + (cacheGroup.get() == null ? 0 : cacheGroup.get().hashCode());
       result = prime * result + (template ? 1231 : 1237);
       result = prime * result + ((clusteringConfiguration == null) ? 0 : clusteringConfiguration.hashCode());
       result = prime * result + ((compatibilityConfiguration == null) ? 0 : compatibilityConfiguration.hashCode());
@@ -248,6 +261,9 @@ public boolean equals(Object obj) {
       if (!simpleCache.get().equals(other.simpleCache.get())) {
          return false;
       }
+      if (cacheGroup.get() == null ? other.cacheGroup.get() != null : !cacheGroup.get().equals(other.cacheGroup.get())) {
+         return false;
+      }
       if (clusteringConfiguration == null) {
          if (other.clusteringConfiguration != null)
             return false;
@@ -1,6 +1,7 @@
 package org.infinispan.configuration.cache;
 
 import static java.util.Arrays.asList;
+import static org.infinispan.configuration.cache.Configuration.CACHE_GROUP;
 import static org.infinispan.configuration.cache.Configuration.SIMPLE_CACHE;
 
 import java.lang.reflect.Constructor;
@@ -75,6 +76,12 @@ public boolean simpleCache() {
       return attributes.attribute(SIMPLE_CACHE).get();
    }
 
+   @Override
+   public ConfigurationBuilder cacheGroup(String cacheGroup) {
+      attributes.attribute(CACHE_GROUP).set(cacheGroup);
+      return this;
+   }
+
    @Override
    public ClusteringConfigurationBuilder clustering() {
       return clustering;
@@ -8,6 +8,16 @@ public interface ConfigurationChildBuilder {
 
    boolean simpleCache();
 
+   /**
+    * Makes this cache a lightweight view over the cache with the given name, which stores the data of all the caches of
+    * the group. The caches of a group share the components, the topology and the data container of the group cache,
+    * and keep their entries apart by prefixing their keys with the cache name. All the other settings of this
+    * configuration are ignored: the group cache is configured as any other cache.
+    */
+   default ConfigurationChildBuilder cacheGroup(String cacheGroup) {
+      return this;
+   }
+
    ClusteringConfigurationBuilder clustering();
 
    CustomInterceptorsConfigurationBuilder customInterceptors();
@@ -18,6 +18,7 @@
  */
 public class GroupsConfiguration {
    public final static AttributeDefinition<Boolean> ENABLED = AttributeDefinition.builder("enabled", false).immutable().build();
+   public final static AttributeDefinition<Boolean> INDEXED = AttributeDefinition.builder("indexed", false).immutable().build();
    public final static AttributeDefinition<List<Grouper<?>>> GROUPERS = AttributeDefinition.builder("groupers", null, (Class<List<Grouper<?>>>)(Class<?>)List.class).initializer(new AttributeInitializer<List<Grouper<?>>>() {
       @Override
       public List<Grouper<?>> initialize() {
@@ -25,16 +26,18 @@ public List<Grouper<?>> initialize() {
       }
    }).immutable().build();
    static AttributeSet attributeDefinitionSet() {
-      return new AttributeSet(GroupsConfiguration.class, ENABLED, GROUPERS);
+      return new AttributeSet(GroupsConfiguration.class, ENABLED, INDEXED, GROUPERS);
    }
 
    private final Attribute<Boolean> enabled;
+   private final Attribute<Boolean> indexed;
    private final Attribute<List<Grouper<?>>> groupers;
    private final AttributeSet attributes;
 
    GroupsConfiguration(AttributeSet attributes) {
       this.attributes = attributes.checkProtection();
       enabled = attributes.attribute(ENABLED);
+      indexed = attributes.attribute(INDEXED);
       groupers = attributes.attribute(GROUPERS);
    }
 
@@ -48,6 +51,14 @@ public boolean enabled() {
       return enabled.get();
    }
 
+   /**
+    * If the keys of each group are indexed in the data container, so that looking up the entries of a group doesn't
+    * scan the whole container.
+    */
+   public boolean indexed() {
+      return indexed.get();
+   }
+
    /**
     * Get's the current groupers in use
     */
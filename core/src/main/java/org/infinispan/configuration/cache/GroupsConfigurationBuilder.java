@@ -2,6 +2,7 @@
 
 import static org.infinispan.configuration.cache.GroupsConfiguration.ENABLED;
 import static org.infinispan.configuration.cache.GroupsConfiguration.GROUPERS;
+import static org.infinispan.configuration.cache.GroupsConfiguration.INDEXED;
 
 import java.util.List;
 
@@ -51,6 +52,16 @@ public GroupsConfigurationBuilder disabled() {
       return this;
    }
 
+   /**
+    * Index the keys of each group in the data container, so that {@link org.infinispan.AdvancedCache#getGroup(String)}
+    * and the other group operations look up the entries of a group without scanning the whole container. The index
+    * costs some memory and an update on every insertion and removal of a grouped entry.
+    */
+   public GroupsConfigurationBuilder indexed(boolean indexed) {
+      attributes.attribute(INDEXED).set(indexed);
+      return this;
+   }
+
    /**
     * Set the groupers to use
     */
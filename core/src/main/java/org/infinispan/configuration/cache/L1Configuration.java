@@ -16,14 +16,16 @@ public class L1Configuration {
    public static final AttributeDefinition<Integer> INVALIDATION_THRESHOLD = AttributeDefinition.builder("invalidationThreshold", 0).immutable().build();
    public static final AttributeDefinition<Long> LIFESPAN = AttributeDefinition.builder("lifespan", TimeUnit.MINUTES.toMillis(10)).immutable().build();
    public static final AttributeDefinition<Long> CLEANUP_TASK_FREQUENCY = AttributeDefinition.builder("cleanupTaskFrequency", TimeUnit.MINUTES.toMillis(1)).xmlName("l1-cleanup-interval").immutable().build();
+   public static final AttributeDefinition<Boolean> LEASES = AttributeDefinition.builder("leases", false).xmlName("l1-leases").immutable().build();
    static AttributeSet attributeDefinitionSet() {
-      return new AttributeSet(L1Configuration.class, ENABLED, INVALIDATION_THRESHOLD, LIFESPAN, CLEANUP_TASK_FREQUENCY);
+      return new AttributeSet(L1Configuration.class, ENABLED, INVALIDATION_THRESHOLD, LIFESPAN, CLEANUP_TASK_FREQUENCY, LEASES);
    }
 
    private final Attribute<Boolean> enabled;
    private final Attribute<Integer> invalidationThreshold;
    private final Attribute<Long> lifespan;
    private final Attribute<Long> cleanupTaskFrequency;
+   private final Attribute<Boolean> leases;
    private final AttributeSet attributes;
 
    L1Configuration(AttributeSet attributes) {
@@ -32,6 +34,7 @@ static AttributeSet attributeDefinitionSet() {
       invalidationThreshold = attributes.attribute(INVALIDATION_THRESHOLD);
       lifespan = attributes.attribute(LIFESPAN);
       cleanupTaskFrequency = attributes.attribute(CLEANUP_TASK_FREQUENCY);
+      leases = attributes.attribute(LEASES);
    }
 
    public boolean enabled() {
@@ -71,6 +74,15 @@ public long lifespan() {
       return lifespan.get();
    }
 
+   /**
+    * If true, the L1 entries are leases valid for the L1 {@link #lifespan()}: the owners don't track the nodes that
+    * requested a key and don't invalidate their L1 entries when the key is written, so a read from L1 may return a
+    * stale value until the lease expires. Default false.
+    */
+   public boolean leases() {
+      return leases.get();
+   }
+
    public AttributeSet attributes() {
       return attributes;
    }
@@ -75,6 +75,16 @@ public L1ConfigurationBuilder cleanupTaskFrequency(long frequencyMillis, TimeUni
       return cleanupTaskFrequency(unit.toMillis(frequencyMillis));
    }
 
+   /**
+    * Use the L1 entries as leases valid for the L1 {@link #lifespan(long)}, instead of tracking the requestors of each
+    * key and invalidating their L1 entries on every write. This removes the invalidation traffic of the writes, at the
+    * cost of reading stale values from L1 until the lease expires, so it should be combined with a short lifespan.
+    */
+   public L1ConfigurationBuilder leases(boolean leases) {
+      attributes.attribute(LEASES).set(leases);
+      return this;
+   }
+
    public L1ConfigurationBuilder enable() {
       attributes.attribute(ENABLED).set(true);
       return this;
@@ -12,17 +12,20 @@
  */
 public class PersistenceConfiguration {
    public static final AttributeDefinition<Boolean> PASSIVATION = AttributeDefinition.builder("passivation", false).immutable().build();
+   public static final AttributeDefinition<Boolean> COALESCE_LOADS = AttributeDefinition.builder("coalesceLoads", false).immutable().build();
    static AttributeSet attributeDefinitionSet() {
-      return new AttributeSet(PersistenceConfiguration.class, PASSIVATION);
+      return new AttributeSet(PersistenceConfiguration.class, PASSIVATION, COALESCE_LOADS);
    }
 
    private final Attribute<Boolean> passivation;
+   private final Attribute<Boolean> coalesceLoads;
    private final AttributeSet attributes;
    private final List<StoreConfiguration> stores;
 
    PersistenceConfiguration(AttributeSet attributes, List<StoreConfiguration> stores) {
       this.attributes = attributes.checkProtection();
       passivation = attributes.attribute(PASSIVATION);
+      coalesceLoads = attributes.attribute(COALESCE_LOADS);
       this.stores = stores;
    }
 
@@ -39,6 +42,14 @@ public boolean passivation() {
       return passivation.get();
    }
 
+   /**
+    * If true, concurrent loads of the same key wait for a single lookup in the stores instead of each looking up the
+    * stores.
+    */
+   public boolean coalesceLoads() {
+      return coalesceLoads.get();
+   }
+
    public List<StoreConfiguration> stores() {
       return stores;
    }
@@ -13,6 +13,7 @@
 import java.util.List;
 import java.util.concurrent.TimeUnit;
 
+import static org.infinispan.configuration.cache.PersistenceConfiguration.COALESCE_LOADS;
 import static org.infinispan.configuration.cache.PersistenceConfiguration.PASSIVATION;
 
 /**
@@ -48,6 +49,15 @@ boolean passivation() {
       return attributes.attribute(PASSIVATION).get();
    }
 
+   /**
+    * If true, concurrent loads of the same key wait for a single lookup in the stores instead of each looking up the
+    * stores, e.g. when many threads read a hot key after it expired or after a restart.
+    */
+   public PersistenceConfigurationBuilder coalesceLoads(boolean b) {
+      attributes.attribute(COALESCE_LOADS).set(b);
+      return this;
+   }
+
    /**
     * Adds a cache loader which uses the specified builder class to build its configuration
     */
@@ -37,10 +37,12 @@ public class TransactionConfiguration {
    public static final AttributeDefinition<Long> COMPLETED_TX_TIMEOUT = AttributeDefinition.builder("complete-timeout", 60000l).immutable().build();
    public static final AttributeDefinition<TransactionProtocol> TRANSACTION_PROTOCOL = AttributeDefinition.builder("transaction-protocol", TransactionProtocol.DEFAULT).immutable().xmlName("protocol").build();
    public static final AttributeDefinition<Boolean> NOTIFICATIONS = AttributeDefinition.builder("notifications", true).immutable().build();
+   public static final AttributeDefinition<Integer> TOTAL_ORDER_BATCH_SIZE = AttributeDefinition.builder("total-order-batch-size", 1).immutable().build();
    static AttributeSet attributeDefinitionSet() {
       return new AttributeSet(TransactionConfiguration.class, AUTO_COMMIT, CACHE_STOP_TIMEOUT, EAGER_LOCKING_SINGLE_NODE, LOCKING_MODE, SYNC_COMMIT_PHASE, SYNC_ROLLBACK_PHASE,
             TRANSACTION_MANAGER_LOOKUP, TRANSACTION_SYNCHRONIZATION_REGISTRY_LOOKUP, TRANSACTION_MODE, USE_EAGER_LOCKING, USE_SYNCHRONIZATION, USE_1_PC_FOR_AUTO_COMMIT_TRANSACTIONS,
-            REAPER_WAKE_UP_INTERVAL, COMPLETED_TX_TIMEOUT, TRANSACTION_PROTOCOL, NOTIFICATIONS);
+            REAPER_WAKE_UP_INTERVAL, COMPLETED_TX_TIMEOUT, TRANSACTION_PROTOCOL, NOTIFICATIONS,
+            TOTAL_ORDER_BATCH_SIZE);
    }
 
    private final Attribute<Boolean> autoCommit;
@@ -59,6 +61,7 @@ static AttributeSet attributeDefinitionSet() {
    private final Attribute<Long> completedTxTimeout;
    private final Attribute<TransactionProtocol> transactionProtocol;
    private final Attribute<Boolean> notifications;
+   private final Attribute<Integer> totalOrderBatchSize;
    private final AttributeSet attributes;
    private final RecoveryConfiguration recovery;
 
@@ -80,6 +83,7 @@ static AttributeSet attributeDefinitionSet() {
       completedTxTimeout = attributes.attribute(COMPLETED_TX_TIMEOUT);
       transactionProtocol = attributes.attribute(TRANSACTION_PROTOCOL);
       notifications = attributes.attribute(NOTIFICATIONS);
+      totalOrderBatchSize = attributes.attribute(TOTAL_ORDER_BATCH_SIZE);
       this.recovery = recovery;
    }
 
@@ -312,6 +316,13 @@ public boolean notifications() {
       return notifications.get();
    }
 
+   /**
+    * @see TransactionConfigurationBuilder#totalOrderBatchSize(int)
+    */
+   public int totalOrderBatchSize() {
+      return totalOrderBatchSize.get();
+   }
+
    public AttributeSet attributes() {
       return attributes;
    }
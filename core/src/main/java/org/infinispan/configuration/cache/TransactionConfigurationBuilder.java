@@ -278,6 +278,16 @@ public TransactionConfigurationBuilder notifications(boolean enabled) {
       return this;
    }
 
+   /**
+    * The maximum number of concurrent prepares that are sent in a single totally ordered message when the
+    * {@link TransactionProtocol#TOTAL_ORDER} protocol is used. The receivers still validate the non-conflicting
+    * transactions of a batch in parallel. Defaults to 1, i.e. every prepare is sent on its own.
+    */
+   public TransactionConfigurationBuilder totalOrderBatchSize(int batchSize) {
+      attributes.attribute(TOTAL_ORDER_BATCH_SIZE).set(batchSize);
+      return this;
+   }
+
    @Override
    public void validate() {
       Attribute<Long> reaperWakeUpInterval = attributes.attribute(REAPER_WAKE_UP_INTERVAL);
@@ -301,6 +311,8 @@ public void validate() {
             throw log.invalidLockingModeForTotalOrder(lockingMode());
          }
       }
+      if (attributes.attribute(TOTAL_ORDER_BATCH_SIZE).get() < 1)
+         throw log.invalidTotalOrderBatchSize(attributes.attribute(TOTAL_ORDER_BATCH_SIZE).get());
       if (!attributes.attribute(NOTIFICATIONS).get()) {
          log.transactionNotificationsDisabled();
       }
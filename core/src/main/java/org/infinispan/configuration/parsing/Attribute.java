@@ -27,10 +27,14 @@ public enum Attribute {
     AWAIT_INITIAL_TRANSFER("await-initial-transfer"),
     BACKUP_FAILURE_POLICY("failure-policy"),
     BEFORE("before"),
+    BLOOM_FILTER("bloom-filter"),
+    CACHE_GROUP("cache-group"),
     CAPACITY_FACTOR("capacity"),
     CHUNK_SIZE("chunk-size"),
     CLASS("class"),
     CLUSTER("cluster"),
+    COALESCE_LOADS("coalesce-loads"),
+    COALESCE_REMOTE_GETS("coalesce-remote-gets"),
     COMPLETED_TX_TIMEOUT("complete-timeout"),
     CONCURRENCY_LEVEL("concurrency-level"),
     CONFIGURATION("configuration"),
@@ -50,6 +54,7 @@ public enum Attribute {
     GROUP_NAME("group-name"),
     ID("id"),
     INDEX("index"),
+    INDEXED("indexed"),
     INITIAL_CLUSTER_SIZE("initial-cluster-size"),
     INITIAL_CLUSTER_TIMEOUT("initial-cluster-timeout"),
     INTERVAL("interval"),
@@ -60,6 +65,7 @@ public enum Attribute {
     KEEP_ALIVE_TIME("keepalive-time"),
     KEY_EQUIVALENCE("key-equivalence"),
     KEY_PARTITIONER("key-partitioner"),
+    L1_LEASES("l1-leases"),
     L1_LIFESPAN("l1-lifespan"),
     LIFESPAN("lifespan"),
     LISTENER_EXECUTOR("listener-executor"),
@@ -135,6 +141,7 @@ public enum Attribute {
     THREAD_POLICY("thread-policy"),
     THREAD_POOL_SIZE("thread-pool-size"),
     TIMEOUT("timeout"),
+    TOTAL_ORDER_BATCH_SIZE("total-order-batch-size"),
     TOTAL_ORDER_EXECUTOR("total-order-executor"),
     TRANSACTION_MANAGER_LOOKUP_CLASS("transaction-manager-lookup"),
     TRANSACTION_PROTOCOL("protocol"),
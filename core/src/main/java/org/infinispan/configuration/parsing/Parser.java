@@ -810,6 +810,10 @@ private void parseTransport(XMLExtendedStreamReader reader, ConfigurationBuilder
                break;
             case BEFORE:
                break;
+            case BLOOM_FILTER:
+               break;
+            case CACHE_GROUP:
+               break;
             case CAPACITY_FACTOR:
                break;
             case CHUNK_SIZE:
@@ -820,6 +824,10 @@ private void parseTransport(XMLExtendedStreamReader reader, ConfigurationBuilder
                globalBuilder.transport().clusterName(value);
                break;
             }
+            case COALESCE_LOADS:
+               break;
+            case COALESCE_REMOTE_GETS:
+               break;
             case COMPLETED_TX_TIMEOUT:
                break;
             case CONCURRENCY_LEVEL:
@@ -885,6 +893,8 @@ private void parseTransport(XMLExtendedStreamReader reader, ConfigurationBuilder
                break;
             case KEY_PARTITIONER:
                break;
+            case L1_LEASES:
+               break;
             case L1_LIFESPAN:
                break;
             case LIFESPAN:
@@ -1174,6 +1184,9 @@ private void parseCacheAttribute(XMLExtendedStreamReader reader,
          case SIMPLE_CACHE:
             builder.simpleCache(Boolean.valueOf(value));
             break;
+         case CACHE_GROUP:
+            builder.cacheGroup(value);
+            break;
          case STATISTICS: {
             builder.jmxStatistics().enabled(Boolean.valueOf(value));
             break;
@@ -1716,6 +1729,10 @@ protected void parseTransaction(XMLExtendedStreamReader reader, ConfigurationBui
                builder.transaction().notifications(Boolean.parseBoolean(value));
                break;
             }
+            case TOTAL_ORDER_BATCH_SIZE: {
+               builder.transaction().totalOrderBatchSize(Integer.parseInt(value));
+               break;
+            }
             default: {
                throw ParseUtils.unexpectedAttribute(reader, i);
             }
@@ -1842,6 +1859,10 @@ private void parseClusteredCacheAttribute(XMLExtendedStreamReader reader,
             builder.clustering().remoteTimeout(Long.parseLong(value));
             break;
          }
+         case COALESCE_REMOTE_GETS: {
+            builder.clustering().coalesceRemoteGets(Boolean.parseBoolean(value));
+            break;
+         }
          default: {
             this.parseCacheAttribute(reader, index, attribute, value, builder);
          }
@@ -1949,6 +1970,10 @@ private void parseDistributedCache(XMLExtendedStreamReader reader, Configuration
                builder.clustering().l1().cleanupTaskFrequency(Long.parseLong(value));
                break;
             }
+            case L1_LEASES: {
+               builder.clustering().l1().leases(Boolean.parseBoolean(value));
+               break;
+            }
             case CAPACITY_FACTOR: {
                builder.clustering().hash().capacityFactor(Float.parseFloat(value));
                break;
@@ -1988,7 +2013,7 @@ private void parseDistributedCache(XMLExtendedStreamReader reader, Configuration
 
    private void parseGroups(final XMLExtendedStreamReader reader, final ConfigurationBuilderHolder holder) throws XMLStreamException {
       ConfigurationBuilder builder = holder.getCurrentConfigurationBuilder();
-      ParseUtils.requireSingleAttribute(reader, "enabled");
+      ParseUtils.requireAttributes(reader, Attribute.ENABLED.getLocalName());
       for (int i = 0; i < reader.getAttributeCount(); i++) {
          ParseUtils.requireNoNamespaceAttribute(reader, i);
          String value = replaceProperties(reader.getAttributeValue(i));
@@ -2001,6 +2026,9 @@ private void parseGroups(final XMLExtendedStreamReader reader, final Configurati
                   builder.clustering().hash().groups().disabled();
                }
                break;
+            case INDEXED:
+               builder.clustering().hash().groups().indexed(Boolean.parseBoolean(value));
+               break;
             default:
                throw ParseUtils.unexpectedAttribute(reader, i);
          }
@@ -2050,6 +2078,9 @@ private void parsePersistence(final XMLExtendedStreamReader reader, final Config
             case PASSIVATION:
                builder.persistence().passivation(Boolean.parseBoolean(value));
                break;
+            case COALESCE_LOADS:
+               builder.persistence().coalesceLoads(Boolean.parseBoolean(value));
+               break;
             default:
                throw ParseUtils.unexpectedAttribute(reader, i);
          }
@@ -2146,6 +2177,10 @@ public static void parseStoreAttribute(XMLExtendedStreamReader reader, int index
             storeBuilder.preload(Boolean.parseBoolean(value));
             break;
          }
+         case BLOOM_FILTER: {
+            storeBuilder.bloomFilter(Boolean.parseBoolean(value));
+            break;
+         }
          case FETCH_STATE: {
             storeBuilder.fetchPersistentState(Boolean.parseBoolean(value));
             break;
@@ -222,6 +222,7 @@ private void writeDistributedCache(XMLExtendedStreamWriter writer, String name,
       if (groups.attributes().isModified()) {
          writer.writeStartElement(Element.GROUPS);
          groups.attributes().write(writer, GroupsConfiguration.ENABLED);
+         groups.attributes().write(writer, GroupsConfiguration.INDEXED);
          for (Grouper<?> grouper : groups.groupers()) {
             writer.writeStartElement(Element.GROUPER);
             writer.writeAttribute(Attribute.CLASS, grouper.getClass().getName());
@@ -346,10 +347,12 @@ private void writeCommonClusteredCacheAttributes(XMLExtendedStreamWriter writer,
 
       AttributeSet syncAttributes = clustering.sync().attributes();
       syncAttributes.write(writer, ClusteringConfiguration.REMOTE_TIMEOUT, Attribute.REMOTE_TIMEOUT);
+      clustering.attributes().write(writer, ClusteringConfiguration.COALESCE_REMOTE_GETS, Attribute.COALESCE_REMOTE_GETS);
    }
 
    private void writeCommonCacheAttributesElements(XMLExtendedStreamWriter writer, String name, Configuration configuration) throws XMLStreamException {
       writer.writeAttribute(Attribute.NAME, name);
+      configuration.attributes().write(writer, Configuration.CACHE_GROUP, Attribute.CACHE_GROUP);
       configuration.jmxStatistics().attributes().write(writer, JMXStatisticsConfiguration.ENABLED, Attribute.STATISTICS);
       if (configuration.deadlockDetection().enabled()) {
          writer.writeAttribute(Attribute.SPIN_DURATION, Long.toString(configuration.deadlockDetection().spinDuration()));
@@ -425,6 +428,7 @@ private void writePersistence(XMLExtendedStreamWriter writer, Configuration conf
       if (attributes.isModified() || persistence.stores().size() > 0) {
          writer.writeStartElement(Element.PERSISTENCE);
          attributes.write(writer, PersistenceConfiguration.PASSIVATION, Attribute.PASSIVATION);
+         attributes.write(writer, PersistenceConfiguration.COALESCE_LOADS, Attribute.COALESCE_LOADS);
          for (StoreConfiguration store : persistence.stores()) {
             writeStore(writer, store);
          }
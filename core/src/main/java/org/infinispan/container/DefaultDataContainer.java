@@ -16,6 +16,7 @@
 import org.infinispan.container.entries.CacheEntrySizeCalculator;
 import org.infinispan.container.entries.InternalCacheEntry;
 import org.infinispan.container.entries.MarshalledValueEntrySizeCalculator;
+import org.infinispan.distribution.group.GroupIndex;
 import org.infinispan.eviction.ActivationManager;
 import org.infinispan.eviction.EvictionManager;
 import org.infinispan.eviction.EvictionStrategy;
@@ -67,6 +68,7 @@
    private TimeService timeService;
    private CacheNotifier cacheNotifier;
    private ExpirationManager<K, V> expirationManager;
+   private GroupIndex groupIndex;
 
    public DefaultDataContainer(int concurrencyLevel) {
       // If no comparing implementations passed, could fallback on JDK CHM
@@ -106,6 +108,9 @@ protected DefaultDataContainer(int concurrencyLevel, long thresholdSize,
                throw new IllegalArgumentException("Memory based approximation eviction cannot be used with LIRS!");
             }
             break;
+         case TINY_LFU:
+            eviction = Eviction.TINY_LFU;
+            break;
          default:
             throw new IllegalArgumentException("No such eviction strategy " + strategy);
       }
@@ -133,8 +138,9 @@ protected DefaultDataContainer(int concurrencyLevel, long thresholdSize,
       }
 
       EntrySizeCalculator<K, InternalCacheEntry<K, V>> calc = new CacheEntrySizeCalculator<>(sizeCalculator);
+      Eviction eviction = strategy == EvictionStrategy.TINY_LFU ? Eviction.TINY_LFU : Eviction.LRU;
 
-      entries = new BoundedEquivalentConcurrentHashMapV8<>(thresholdSize, Eviction.LRU, evictionListener, keyEquivalence,
+      entries = new BoundedEquivalentConcurrentHashMapV8<>(thresholdSize, eviction, evictionListener, keyEquivalence,
               AnyEquivalence.getInstance(), calc);
    }
 
@@ -152,6 +158,11 @@ public void initialize(EvictionManager evictionManager, PassivationManager passi
       this.expirationManager = expirationManager;
    }
 
+   @Inject
+   public void injectGroupIndex(GroupIndex groupIndex) {
+      this.groupIndex = groupIndex;
+   }
+
    public static <K, V> DefaultDataContainer<K, V> boundedDataContainer(int concurrencyLevel, long maxEntries,
             EvictionStrategy strategy, EvictionThreadPolicy thredPolicy,
             Equivalence<? super K> keyEquivalence, EvictionType thresholdPolicy) {
@@ -226,6 +237,10 @@ public void put(K k, V v, Metadata metadata) {
 
       entries.compute(copy.getKey(), (key, entry) -> {
          activator.onUpdate(key, entry == null);
+         if (groupIndex != null) {
+            // The key may have been dropped from the index while its entry was expired
+            groupIndex.add(key);
+         }
          return copy;
       });
    }
@@ -245,6 +260,9 @@ public InternalCacheEntry<K, V> remove(Object k) {
       final InternalCacheEntry<K,V>[] reference = new InternalCacheEntry[1];
       entries.compute((K) k, (key, entry) -> {
          activator.onRemove(key, entry == null);
+         if (entry != null && groupIndex != null) {
+            groupIndex.remove(key);
+         }
          reference[0] = entry;
          return null;
       });
@@ -287,6 +305,10 @@ public int sizeIncludingExpired() {
    @Override
    public void clear() {
       log.tracef("Clearing data container");
+      if (groupIndex != null) {
+         // Entries added concurrently are indexed again, the index can only be left with stale keys
+         groupIndex.clear();
+      }
       entries.clear();
    }
 
@@ -315,14 +337,33 @@ public void purgeExpired() {
    public void evict(K key) {
       entries.computeIfPresent(key, (o, entry) -> {
          passivator.passivate(entry);
+         if (groupIndex != null) {
+            groupIndex.remove(o);
+         }
          return null;
       });
    }
 
+   /**
+    * Drops the key from the group index if its entry is absent or expired. The no-op compute runs atomically with
+    * the writes of the key, so a key written concurrently stays in the index.
+    */
+   private void dropStaleGroupKey(K key) {
+      compute(key, (k, oldEntry, factory) -> oldEntry);
+   }
+
    @Override
    public InternalCacheEntry<K, V> compute(K key, ComputeAction<K, V> action) {
       return entries.compute(key, (k, oldEntry) -> {
          InternalCacheEntry<K, V> newEntry = action.compute(k, oldEntry, entryFactory);
+         if (groupIndex != null) {
+            // Also drops the stale keys of absent or expired entries
+            if (newEntry == null || (newEntry.canExpire() && newEntry.isExpired(timeService.wallClockTime()))) {
+               groupIndex.remove(k);
+            } else if (newEntry != oldEntry) {
+               groupIndex.add(k);
+            }
+         }
          if (newEntry == oldEntry) {
             return oldEntry;
          } else if (newEntry == null) {
@@ -350,6 +391,9 @@ private final class DefaultEvictionListener implements EvictionListener<K, Inter
 
       @Override
       public void onEntryEviction(Map<K, InternalCacheEntry<K, V>> evicted) {
+         if (groupIndex != null) {
+            evicted.keySet().forEach(DefaultDataContainer.this::dropStaleGroupKey);
+         }
          evictionManager.onEntryEviction(evicted);
       }
 
@@ -411,6 +455,9 @@ private InternalCacheEntry<K, V> getNext() {
                if (!entry.isExpired(now)) {
                   return entry;
                }
+               if (groupIndex != null) {
+                  dropStaleGroupKey(entry.getKey());
+               }
             }
          }
          return null;
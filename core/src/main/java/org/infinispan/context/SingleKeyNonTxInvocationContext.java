@@ -156,10 +156,16 @@ public boolean isEntryRemovedInContext(final Object key) {
       return ce != null && ce.isRemoved() && ce.isChanged();
    }
 
+   /**
+    * Clears the key, entry and lock owner of the last invocation, so that the context can be reused for another
+    * command once the previous invocation has completed.
+    */
    public void resetState() {
       this.key = null;
       this.cacheEntry = null;
       this.isLocked = false;
+      this.lockOwner = null;
+      resetInvocationState();
    }
 
 }
@@ -0,0 +1,65 @@
+package org.infinispan.counter;
+
+import org.infinispan.AdvancedCache;
+import org.infinispan.Cache;
+import org.infinispan.counter.impl.CounterKey;
+import org.infinispan.counter.impl.StrongCounterImpl;
+import org.infinispan.counter.impl.WeakCounterImpl;
+
+/**
+ * A helper that creates {@link StrongCounter} and {@link WeakCounter} instances backed by a given cache. Counters are
+ * stateless views over the cache entries keyed by {@link CounterKey}, so several instances of the same counter, on the
+ * same node or on different nodes, all update the same value. The counters are not available to Hot Rod clients.
+ *
+ * @since 9.0
+ */
+public class CounterLookup {
+
+   /**
+    * The default number of stripes used by {@link #getWeakCounter(Cache, String)}.
+    */
+   public static final int DEFAULT_WEAK_COUNTER_STRIPES = 16;
+
+   /**
+    * Retrieves a strong counter stored in the given cache.
+    *
+    * @param cache underlying cache
+    * @param name  the name of the counter
+    * @return a StrongCounter
+    */
+   public static StrongCounter getStrongCounter(Cache<?, ?> cache, String name) {
+      return new StrongCounterImpl(name, counterCache(cache));
+   }
+
+   /**
+    * Retrieves a weak counter stored in the given cache, using {@link #DEFAULT_WEAK_COUNTER_STRIPES} stripes.
+    *
+    * @param cache underlying cache
+    * @param name  the name of the counter
+    * @return a WeakCounter
+    */
+   public static WeakCounter getWeakCounter(Cache<?, ?> cache, String name) {
+      return getWeakCounter(cache, name, DEFAULT_WEAK_COUNTER_STRIPES);
+   }
+
+   /**
+    * Retrieves a weak counter stored in the given cache.
+    *
+    * @param cache   underlying cache
+    * @param name    the name of the counter
+    * @param stripes the number of keys the counter is spread over. It must be the same on all the nodes.
+    * @return a WeakCounter
+    */
+   public static WeakCounter getWeakCounter(Cache<?, ?> cache, String name, int stripes) {
+      if (stripes <= 0)
+         throw new IllegalArgumentException("The number of stripes must be positive");
+      return new WeakCounterImpl(name, stripes, counterCache(cache));
+   }
+
+   @SuppressWarnings("unchecked")
+   private static AdvancedCache<CounterKey, Long> counterCache(Cache<?, ?> cache) {
+      if (cache == null)
+         throw new IllegalArgumentException("Cache cannot be null");
+      return (AdvancedCache<CounterKey, Long>) cache.getAdvancedCache();
+   }
+}
@@ -0,0 +1,71 @@
+package org.infinispan.counter;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * A cluster-wide counter whose value is kept under a single cache key. Every update is executed atomically on the
+ * primary owner of that key as a read-write functional command, so each update observes all updates that completed
+ * before it.
+ * <p>
+ * Strong counters should be used when the caller needs the updated value back or needs compare-and-set semantics. For
+ * very high update rates where only the eventual total matters, consider a {@link WeakCounter} instead.
+ *
+ * @see CounterLookup#getStrongCounter(org.infinispan.Cache, String)
+ * @since 9.0
+ */
+public interface StrongCounter {
+
+   /**
+    * @return the name of this counter
+    */
+   String getName();
+
+   /**
+    * Retrieves the current value of the counter. A counter that was never updated has the value {@code 0}.
+    *
+    * @return a future completed with the counter value
+    */
+   CompletableFuture<Long> getValue();
+
+   /**
+    * Atomically adds the given delta to the counter.
+    *
+    * @param delta the value to add, may be negative
+    * @return a future completed with the updated counter value
+    */
+   CompletableFuture<Long> addAndGet(long delta);
+
+   /**
+    * Atomically increments the counter by one.
+    *
+    * @return a future completed with the updated counter value
+    */
+   default CompletableFuture<Long> incrementAndGet() {
+      return addAndGet(1L);
+   }
+
+   /**
+    * Atomically decrements the counter by one.
+    *
+    * @return a future completed with the updated counter value
+    */
+   default CompletableFuture<Long> decrementAndGet() {
+      return addAndGet(-1L);
+   }
+
+   /**
+    * Atomically sets the counter to {@code update} if its current value is {@code expect}.
+    *
+    * @param expect the expected current value
+    * @param update the new value
+    * @return a future completed with {@code true} if the value was updated, {@code false} otherwise
+    */
+   CompletableFuture<Boolean> compareAndSet(long expect, long update);
+
+   /**
+    * Resets the counter to {@code 0}.
+    *
+    * @return a future completed when the counter has been reset
+    */
+   CompletableFuture<Void> reset();
+}
@@ -0,0 +1,62 @@
+package org.infinispan.counter;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * A cluster-wide counter optimised for very high update rates. The value is spread over a fixed number of stripe keys,
+ * which land in different segments and hence on different owners. Updates are applied to a single stripe, preferring
+ * the stripes owned by the local node, while reads merge all stripes.
+ * <p>
+ * Updates are atomic but do not return the updated value, and a read concurrent with updates may not reflect all of
+ * them. All the nodes must use the same number of stripes for a given counter.
+ *
+ * @see CounterLookup#getWeakCounter(org.infinispan.Cache, String)
+ * @since 9.0
+ */
+public interface WeakCounter {
+
+   /**
+    * @return the name of this counter
+    */
+   String getName();
+
+   /**
+    * Merges the values of all the stripes. A counter that was never updated has the value {@code 0}.
+    *
+    * @return a future completed with the counter value
+    */
+   CompletableFuture<Long> getValue();
+
+   /**
+    * Adds the given delta to the counter.
+    *
+    * @param delta the value to add, may be negative
+    * @return a future completed when the update has been applied
+    */
+   CompletableFuture<Void> add(long delta);
+
+   /**
+    * Increments the counter by one.
+    *
+    * @return a future completed when the update has been applied
+    */
+   default CompletableFuture<Void> increment() {
+      return add(1L);
+   }
+
+   /**
+    * Decrements the counter by one.
+    *
+    * @return a future completed when the update has been applied
+    */
+   default CompletableFuture<Void> decrement() {
+      return add(-1L);
+   }
+
+   /**
+    * Resets all the stripes of the counter to {@code 0}.
+    *
+    * @return a future completed when the counter has been reset
+    */
+   CompletableFuture<Void> reset();
+}
@@ -0,0 +1,132 @@
+package org.infinispan.counter.impl;
+
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.infinispan.commons.api.functional.EntryView.ReadWriteEntryView;
+import org.infinispan.commons.marshall.AbstractExternalizer;
+import org.infinispan.commons.util.Util;
+import org.infinispan.marshall.core.Ids;
+
+/**
+ * Marshallable functions executed on the owner of a counter key by the counter implementations.
+ *
+ * @since 9.0
+ */
+public final class CounterFunctions {
+
+   private CounterFunctions() {
+   }
+
+   public static Function<ReadWriteEntryView<CounterKey, Long>, Long> addAndGet(long delta) {
+      return new AddAndGet(delta);
+   }
+
+   public static Function<ReadWriteEntryView<CounterKey, Long>, Boolean> compareAndSet(long expect, long update) {
+      return new CompareAndSet(expect, update);
+   }
+
+   private static long currentValue(ReadWriteEntryView<CounterKey, Long> view) {
+      return view.find().orElse(0L);
+   }
+
+   /**
+    * A counter function, identified by its type when marshalled.
+    */
+   private interface CounterFunction<R> extends Function<ReadWriteEntryView<CounterKey, Long>, R> {
+      byte type();
+   }
+
+   private static final class AddAndGet implements CounterFunction<Long> {
+      private final long delta;
+
+      private AddAndGet(long delta) {
+         this.delta = delta;
+      }
+
+      @Override
+      public byte type() {
+         return Externalizer.ADD_AND_GET;
+      }
+
+      @Override
+      public Long apply(ReadWriteEntryView<CounterKey, Long> view) {
+         long value = currentValue(view) + delta;
+         view.set(value);
+         return value;
+      }
+   }
+
+   private static final class CompareAndSet implements CounterFunction<Boolean> {
+      private final long expect;
+      private final long update;
+
+      private CompareAndSet(long expect, long update) {
+         this.expect = expect;
+         this.update = update;
+      }
+
+      @Override
+      public byte type() {
+         return Externalizer.COMPARE_AND_SET;
+      }
+
+      @Override
+      public Boolean apply(ReadWriteEntryView<CounterKey, Long> view) {
+         if (currentValue(view) != expect)
+            return Boolean.FALSE;
+         view.set(update);
+         return Boolean.TRUE;
+      }
+   }
+
+   public static final class Externalizer extends AbstractExternalizer<Function<ReadWriteEntryView<CounterKey, Long>, ?>> {
+      private static final byte ADD_AND_GET = 0;
+      private static final byte COMPARE_AND_SET = 1;
+
+      @Override
+      public void writeObject(ObjectOutput output, Function<ReadWriteEntryView<CounterKey, Long>, ?> function) throws IOException {
+         byte type = ((CounterFunction<?>) function).type();
+         output.writeByte(type);
+         switch (type) {
+            case ADD_AND_GET:
+               output.writeLong(((AddAndGet) function).delta);
+               break;
+            case COMPARE_AND_SET:
+               CompareAndSet cas = (CompareAndSet) function;
+               output.writeLong(cas.expect);
+               output.writeLong(cas.update);
+               break;
+            default:
+               throw new IllegalStateException("Unknown counter function type: " + type);
+         }
+      }
+
+      @Override
+      public Function<ReadWriteEntryView<CounterKey, Long>, ?> readObject(ObjectInput input) throws IOException, ClassNotFoundException {
+         byte type = input.readByte();
+         switch (type) {
+            case ADD_AND_GET:
+               return new AddAndGet(input.readLong());
+            case COMPARE_AND_SET:
+               return new CompareAndSet(input.readLong(), input.readLong());
+            default:
+               throw new IllegalStateException("Unknown counter function type: " + type);
+         }
+      }
+
+      @Override
+      public Integer getId() {
+         return Ids.COUNTER_FUNCTIONS;
+      }
+
+      @Override
+      @SuppressWarnings("unchecked")
+      public Set<Class<? extends Function<ReadWriteEntryView<CounterKey, Long>, ?>>> getTypeClasses() {
+         return Util.<Class<? extends Function<ReadWriteEntryView<CounterKey, Long>, ?>>>asSet(AddAndGet.class, CompareAndSet.class);
+      }
+   }
+}
@@ -0,0 +1,84 @@
+package org.infinispan.counter.impl;
+
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.Collections;
+import java.util.Set;
+
+import org.infinispan.commons.marshall.AbstractExternalizer;
+import org.infinispan.marshall.core.Ids;
+
+/**
+ * The key under which a counter, or one stripe of a weak counter, is stored. Strong counters always use stripe
+ * {@code 0}.
+ *
+ * @since 9.0
+ */
+public final class CounterKey {
+
+   private final String name;
+   private final int stripe;
+
+   public CounterKey(String name, int stripe) {
+      if (name == null)
+         throw new IllegalArgumentException("Counter name cannot be null");
+
+      this.name = name;
+      this.stripe = stripe;
+   }
+
+   public String getName() {
+      return name;
+   }
+
+   public int getStripe() {
+      return stripe;
+   }
+
+   @Override
+   public int hashCode() {
+      return 31 * name.hashCode() + stripe;
+   }
+
+   @Override
+   public boolean equals(Object obj) {
+      if (this == obj) {
+         return true;
+      }
+      if (!(obj instanceof CounterKey)) {
+         return false;
+      }
+      CounterKey other = (CounterKey) obj;
+      return stripe == other.stripe && name.equals(other.name);
+   }
+
+   @Override
+   public String toString() {
+      return "CounterKey[name=" + name + ", stripe=" + stripe + ']';
+   }
+
+   public static class Externalizer extends AbstractExternalizer<CounterKey> {
+
+      @Override
+      public void writeObject(ObjectOutput output, CounterKey key) throws IOException {
+         output.writeUTF(key.name);
+         output.writeInt(key.stripe);
+      }
+
+      @Override
+      public CounterKey readObject(ObjectInput input) throws IOException, ClassNotFoundException {
+         return new CounterKey(input.readUTF(), input.readInt());
+      }
+
+      @Override
+      public Integer getId() {
+         return Ids.COUNTER_KEY;
+      }
+
+      @Override
+      public Set<Class<? extends CounterKey>> getTypeClasses() {
+         return Collections.<Class<? extends CounterKey>>singleton(CounterKey.class);
+      }
+   }
+}
@@ -0,0 +1,60 @@
+package org.infinispan.counter.impl;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.infinispan.AdvancedCache;
+import org.infinispan.commons.api.functional.FunctionalMap.ReadWriteMap;
+import org.infinispan.counter.StrongCounter;
+import org.infinispan.functional.impl.FunctionalMapImpl;
+import org.infinispan.functional.impl.ReadWriteMapImpl;
+
+/**
+ * {@link StrongCounter} implementation that updates a single key through read-write functional commands, so the
+ * increment is executed on the primary owner under the key lock instead of in a client-side compare-and-set loop.
+ *
+ * @since 9.0
+ */
+public final class StrongCounterImpl implements StrongCounter {
+
+   private final String name;
+   private final CounterKey key;
+   private final AdvancedCache<CounterKey, Long> cache;
+   private final ReadWriteMap<CounterKey, Long> readWriteMap;
+
+   public StrongCounterImpl(String name, AdvancedCache<CounterKey, Long> cache) {
+      this.name = name;
+      this.key = new CounterKey(name, 0);
+      this.cache = cache;
+      this.readWriteMap = ReadWriteMapImpl.create(FunctionalMapImpl.create(cache));
+   }
+
+   @Override
+   public String getName() {
+      return name;
+   }
+
+   @Override
+   public CompletableFuture<Long> getValue() {
+      return cache.getAsync(key).thenApply(value -> value == null ? 0L : value);
+   }
+
+   @Override
+   public CompletableFuture<Long> addAndGet(long delta) {
+      return readWriteMap.eval(key, CounterFunctions.addAndGet(delta));
+   }
+
+   @Override
+   public CompletableFuture<Boolean> compareAndSet(long expect, long update) {
+      return readWriteMap.eval(key, CounterFunctions.compareAndSet(expect, update));
+   }
+
+   @Override
+   public CompletableFuture<Void> reset() {
+      return cache.removeAsync(key).thenApply(prev -> null);
+   }
+
+   @Override
+   public String toString() {
+      return "StrongCounter{name=" + name + '}';
+   }
+}
@@ -0,0 +1,138 @@
+package org.infinispan.counter.impl;
+
+import static org.infinispan.factories.KnownComponentNames.ASYNC_OPERATIONS_EXECUTOR;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.infinispan.AdvancedCache;
+import org.infinispan.commons.api.functional.FunctionalMap.ReadWriteMap;
+import org.infinispan.commons.api.functional.FunctionalMap.WriteOnlyMap;
+import org.infinispan.commons.marshall.MarshallableFunctions;
+import org.infinispan.counter.WeakCounter;
+import org.infinispan.distribution.DistributionManager;
+import org.infinispan.distribution.ch.ConsistentHash;
+import org.infinispan.functional.impl.FunctionalMapImpl;
+import org.infinispan.functional.impl.ReadWriteMapImpl;
+import org.infinispan.functional.impl.WriteOnlyMapImpl;
+import org.infinispan.remoting.transport.Address;
+
+/**
+ * {@link WeakCounter} implementation that spreads the counter over a fixed number of {@link CounterKey} stripes.
+ * Updates go to a random stripe whose primary owner is the local node if there is one, so that concurrent updates
+ * neither contend on the same key lock nor need a remote round trip. Reads fetch all the stripes with a single
+ * {@code getAll}, run on the asynchronous operations executor, and sum them.
+ *
+ * @since 9.0
+ */
+public final class WeakCounterImpl implements WeakCounter {
+
+   private final String name;
+   private final CounterKey[] stripes;
+   private final Set<CounterKey> stripeKeys;
+   private final AdvancedCache<CounterKey, Long> cache;
+   private final ReadWriteMap<CounterKey, Long> readWriteMap;
+   private final WriteOnlyMap<CounterKey, Long> writeOnlyMap;
+   private final ExecutorService asyncExecutor;
+   private volatile LocalStripes localStripes;
+
+   public WeakCounterImpl(String name, int stripeCount, AdvancedCache<CounterKey, Long> cache) {
+      this.name = name;
+      this.stripes = new CounterKey[stripeCount];
+      for (int i = 0; i < stripeCount; i++) {
+         stripes[i] = new CounterKey(name, i);
+      }
+      this.stripeKeys = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(stripes)));
+      this.cache = cache;
+      FunctionalMapImpl<CounterKey, Long> functionalMap = FunctionalMapImpl.create(cache);
+      this.readWriteMap = ReadWriteMapImpl.create(functionalMap);
+      this.writeOnlyMap = WriteOnlyMapImpl.create(functionalMap);
+      this.asyncExecutor = cache.getComponentRegistry().getComponent(ExecutorService.class, ASYNC_OPERATIONS_EXECUTOR);
+   }
+
+   @Override
+   public String getName() {
+      return name;
+   }
+
+   @Override
+   public CompletableFuture<Long> getValue() {
+      // a single getAll fetches all the stripes, one request per owner
+      return CompletableFuture.supplyAsync(() -> {
+         long value = 0;
+         for (Long stripeValue : cache.getAll(stripeKeys).values()) {
+            if (stripeValue != null)
+               value += stripeValue;
+         }
+         return value;
+      }, asyncExecutor);
+   }
+
+   @Override
+   public CompletableFuture<Void> add(long delta) {
+      return readWriteMap.eval(selectStripe(), CounterFunctions.addAndGet(delta)).thenApply(value -> null);
+   }
+
+   @Override
+   public CompletableFuture<Void> reset() {
+      return writeOnlyMap.evalMany(stripeKeys, MarshallableFunctions.removeConsumer());
+   }
+
+   private CounterKey selectStripe() {
+      ThreadLocalRandom random = ThreadLocalRandom.current();
+      int[] local = localStripeIndexes();
+      if (local != null && local.length > 0)
+         return stripes[local[random.nextInt(local.length)]];
+      return stripes[random.nextInt(stripes.length)];
+   }
+
+   private int[] localStripeIndexes() {
+      DistributionManager dm = cache.getDistributionManager();
+      if (dm == null)
+         return null;
+
+      ConsistentHash ch = dm.getWriteConsistentHash();
+      if (ch == null)
+         return null;
+
+      LocalStripes current = localStripes;
+      if (current == null || current.ch != ch) {
+         current = new LocalStripes(ch, computeLocalStripes(ch, cache.getCacheManager().getAddress()));
+         localStripes = current;
+      }
+      return current.indexes;
+   }
+
+   private int[] computeLocalStripes(ConsistentHash ch, Address self) {
+      int[] indexes = new int[stripes.length];
+      int count = 0;
+      for (int i = 0; i < stripes.length; i++) {
+         if (self != null && self.equals(ch.locatePrimaryOwner(stripes[i])))
+            indexes[count++] = i;
+      }
+      return Arrays.copyOf(indexes, count);
+   }
+
+   @Override
+   public String toString() {
+      return "WeakCounter{name=" + name + ", stripes=" + stripes.length + '}';
+   }
+
+   /**
+    * The stripes primarily owned by the local node, cached for a given consistent hash instance.
+    */
+   private static final class LocalStripes {
+      final ConsistentHash ch;
+      final int[] indexes;
+
+      LocalStripes(ConsistentHash ch, int[] indexes) {
+         this.ch = ch;
+         this.indexes = indexes;
+      }
+   }
+}
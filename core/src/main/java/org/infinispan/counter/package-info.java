@@ -0,0 +1,11 @@
+/**
+ * Cluster-wide counters built on top of the functional map API. A {@link org.infinispan.counter.StrongCounter} is
+ * stored under a single key and updated atomically on its primary owner, whereas a
+ * {@link org.infinispan.counter.WeakCounter} spreads its updates over several stripe keys and merges them on read.
+ * <p>
+ * The counters are only available to embedded caches. Hot Rod clients cannot use them yet, as that requires counter
+ * operations in the Hot Rod protocol.
+ *
+ * @public
+ */
+package org.infinispan.counter;
@@ -0,0 +1,75 @@
+package org.infinispan.distribution.group;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.infinispan.factories.annotations.Inject;
+import org.infinispan.factories.scopes.Scope;
+import org.infinispan.factories.scopes.Scopes;
+
+/**
+ * A secondary index of the keys of each group stored in the local data container, so that the entries of a group can
+ * be looked up without scanning the whole container.
+ * <p>
+ * The index is updated by the data container whenever a key is inserted, removed or evicted. Expired entries stay in
+ * the index until they are found while iterating the container or looking up the group, so the keys returned by
+ * {@link #getKeys(String)} must be checked against the data container.
+ *
+ * @since 9.0
+ * @see org.infinispan.configuration.cache.GroupsConfigurationBuilder#indexed(boolean)
+ */
+@Scope(Scopes.NAMED_CACHE)
+public class GroupIndex {
+
+   private final ConcurrentMap<String, Set<Object>> keysByGroup = new ConcurrentHashMap<>();
+   private GroupManager groupManager;
+
+   @Inject
+   public void injectDependencies(GroupManager groupManager) {
+      this.groupManager = groupManager;
+   }
+
+   /**
+    * Adds a key to the index of its group, if it belongs to one.
+    */
+   public void add(Object key) {
+      String group = groupManager.getGroup(key);
+      if (group != null) {
+         keysByGroup.compute(group, (g, keys) -> {
+            if (keys == null) {
+               keys = ConcurrentHashMap.newKeySet();
+            }
+            keys.add(key);
+            return keys;
+         });
+      }
+   }
+
+   /**
+    * Removes a key from the index of its group, if it belongs to one.
+    */
+   public void remove(Object key) {
+      String group = groupManager.getGroup(key);
+      if (group != null) {
+         keysByGroup.computeIfPresent(group, (g, keys) -> {
+            keys.remove(key);
+            return keys.isEmpty() ? null : keys;
+         });
+      }
+   }
+
+   /**
+    * @return a snapshot of the keys of the group stored in the local data container
+    */
+   public Set<Object> getKeys(String group) {
+      Set<Object> keys = keysByGroup.get(group);
+      return keys == null ? Collections.emptySet() : new HashSet<>(keys);
+   }
+
+   public void clear() {
+      keysByGroup.clear();
+   }
+}
@@ -11,7 +11,7 @@
  * @private
  */
 @Scope(Scopes.NAMED_CACHE)
-@DefaultFactoryFor(classes = GroupManager.class)
+@DefaultFactoryFor(classes = {GroupManager.class, GroupIndex.class})
 public class GroupManagerFactory extends AbstractNamedCacheComponentFactory implements AutoInstantiableFactory {
 
    @Override
@@ -20,6 +20,9 @@ public <T> T construct(Class<T> componentType) {
       if (!groupsConfiguration.enabled())
          return null;
 
+      if (componentType.equals(GroupIndex.class)) {
+         return groupsConfiguration.indexed() ? componentType.cast(new GroupIndex()) : null;
+      }
       return componentType.cast(new GroupManagerImpl(groupsConfiguration.groupers()));
    }
 }
@@ -2,6 +2,7 @@
 
 import static org.infinispan.commons.util.ReflectionUtil.invokeAccessibly;
 
+import org.infinispan.cache.impl.CacheGroupKey;
 import org.infinispan.commons.util.CollectionFactory;
 import org.infinispan.commons.util.ReflectionUtil;
 import org.infinispan.commons.util.Util;
@@ -95,6 +96,12 @@ public void injectDependencies(ClusteringDependentLogic clusteringDependentLogic
     
     @Override
     public String getGroup(Object key) {
+        if (key instanceof CacheGroupKey) {
+            // The keys of a cache group member are grouped by their own group, within that member only
+            CacheGroupKey groupKey = (CacheGroupKey) key;
+            String group = getGroup(groupKey.getKey());
+            return group == null ? null : CacheGroupKey.group(groupKey.getCacheName(), group);
+        }
         GroupMetadata metadata = getMetadata(key);
         if (metadata != null) {
             return applyGroupers(metadata.getGroup(key), key);
@@ -0,0 +1,64 @@
+package org.infinispan.distribution.group;
+
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.Collections;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.infinispan.commons.marshall.AbstractExternalizer;
+import org.infinispan.container.entries.CacheEntry;
+import org.infinispan.factories.annotations.Inject;
+import org.infinispan.marshall.core.Ids;
+
+/**
+ * A stream predicate that accepts the entries whose key belongs to a group. The {@link GroupManager} is injected on
+ * the node running the stream.
+ *
+ * @since 9.0
+ * @see org.infinispan.AdvancedCache#getGroupStream(String)
+ */
+public final class GroupPredicate<K, V> implements Predicate<CacheEntry<K, V>> {
+
+   private final String groupName;
+   private transient GroupManager groupManager;
+
+   public GroupPredicate(String groupName) {
+      this.groupName = groupName;
+   }
+
+   @Inject
+   public void injectDependencies(GroupManager groupManager) {
+      this.groupManager = groupManager;
+   }
+
+   @Override
+   public boolean test(CacheEntry<K, V> entry) {
+      // without grouping, no entry belongs to a group
+      return groupManager != null && groupName.equals(groupManager.getGroup(entry.getKey()));
+   }
+
+   public static class Externalizer extends AbstractExternalizer<GroupPredicate> {
+
+      @Override
+      public void writeObject(ObjectOutput output, GroupPredicate predicate) throws IOException {
+         output.writeUTF(predicate.groupName);
+      }
+
+      @Override
+      public GroupPredicate readObject(ObjectInput input) throws IOException, ClassNotFoundException {
+         return new GroupPredicate(input.readUTF());
+      }
+
+      @Override
+      public Integer getId() {
+         return Ids.GROUP_PREDICATE;
+      }
+
+      @Override
+      public Set<Class<? extends GroupPredicate>> getTypeClasses() {
+         return Collections.<Class<? extends GroupPredicate>>singleton(GroupPredicate.class);
+      }
+   }
+}
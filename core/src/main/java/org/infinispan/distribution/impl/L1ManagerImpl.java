@@ -46,6 +46,7 @@ public class L1ManagerImpl implements L1Manager, RemoteValueRetrievedListener {
    private CommandsFactory commandsFactory;
    private int threshold;
    private long l1Lifespan;
+   private boolean leases;
 
    // TODO replace this with a custom, expirable collection
    private final ConcurrentMap<Object, ConcurrentMap<Address, Long>> requestors;
@@ -76,7 +77,11 @@ public void init(Configuration configuration, RpcManager rpcManager, CommandsFac
    public void start() {
       this.threshold = configuration.clustering().l1().invalidationThreshold();
       this.l1Lifespan = configuration.clustering().l1().lifespan();
-      if (configuration.clustering().l1().cleanupTaskFrequency() > 0) {
+      this.leases = configuration.clustering().l1().leases();
+      // With leases the L1 entries expire on their own, there are no requestors to clean up
+      if (leases) {
+         log.debug("L1 entries are leases, the requestors are not tracked");
+      } else if (configuration.clustering().l1().cleanupTaskFrequency() > 0) {
          scheduledRequestorsCleanupTask = scheduledExecutor.scheduleAtFixedRate(new Runnable() {
             @Override
             public void run() {
@@ -116,6 +121,9 @@ private void prune(ConcurrentMap<Address, Long> reqs, long expiryTime) {
 
    @Override
    public void addRequestor(Object key, Address origin) {
+      if (leases) {
+         return;
+      }
       //we do a plain get first as that's likely to be enough
       ConcurrentMap<Address, Long> as = requestors.get(key);
       log.tracef("Registering requestor %s for key '%s'", origin, key);
@@ -136,6 +144,10 @@ public void addRequestor(Object key, Address origin) {
 
    @Override
    public Future<?> flushCache(Collection<Object> keys, Address origin, boolean assumeOriginKeptEntryInL1) {
+      if (leases) {
+         if (trace) log.tracef("Not invalidating keys %s, the L1 entries expire on their own", keys);
+         return null;
+      }
       final Collection<Address> invalidationAddresses = buildInvalidationAddressList(keys, origin, assumeOriginKeptEntryInL1);
 
       int nodes = invalidationAddresses.size();
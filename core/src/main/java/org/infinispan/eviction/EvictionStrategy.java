@@ -16,7 +16,12 @@ public enum EvictionStrategy {
    @Deprecated
    FIFO, 
    LRU, 
-   LIRS;
+   LIRS,
+   /**
+    * Window TinyLFU: a small LRU admission window in front of a segmented LRU, where entries are only admitted if
+    * they were accessed more often than the entry they would replace. Read hits are buffered, so they never block.
+    */
+   TINY_LFU;
 
    public boolean isEnabled() {
       return this != NONE;
@@ -10,6 +10,7 @@
 import org.infinispan.factories.annotations.DefaultFactoryFor;
 import org.infinispan.factories.annotations.Inject;
 import org.infinispan.factories.annotations.SurvivesRestarts;
+import org.infinispan.factories.components.ComponentAccessors;
 import org.infinispan.factories.components.ComponentMetadata;
 import org.infinispan.factories.components.ComponentMetadataRepo;
 import org.infinispan.factories.scopes.Scope;
@@ -36,8 +37,6 @@
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.TimeUnit;
 
-import static org.infinispan.commons.util.ReflectionUtil.invokeAccessibly;
-
 /**
  * A registry where components which have been created are stored.  Components are stored as singletons, registered
  * under a specific name.
@@ -247,9 +246,12 @@ private void invokeInjectionMethod(Object o, ComponentMetadata.InjectMetadata in
             params[i] = getOrCreateComponent(dependencies[i], name, nameIsFQCN);
          }
          if (System.getSecurityManager() == null) {
-            invokeAccessibly(o, injectMetadata.getMethod(), params);
+            ComponentAccessors.invoke(o, injectMetadata.getMethod(), params);
          } else {
-            AccessController.doPrivileged((PrivilegedAction<Object>) () -> invokeAccessibly(o, injectMetadata.getMethod(), params));
+            AccessController.doPrivileged((PrivilegedAction<Object>) () -> {
+               ComponentAccessors.invoke(o, injectMetadata.getMethod(), params);
+               return null;
+            });
          }
       }
    }
@@ -864,7 +866,7 @@ public int hashCode() {
       }
 
       void invoke() {
-         invokeAccessibly(component.instance, metadata.getMethod(), null);
+         ComponentAccessors.invoke(component.instance, metadata.getMethod(), null);
       }
 
       @Override
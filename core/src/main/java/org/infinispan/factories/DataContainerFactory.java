@@ -49,6 +49,7 @@ public <T> T construct(Class<T> componentType) {
                      level, keyEquivalence);
             case UNORDERED:
             case LRU:
+            case TINY_LFU:
 
                if (configuration.eviction().type() == EvictionType.MEMORY) {
                   EntrySizeCalculator esc;
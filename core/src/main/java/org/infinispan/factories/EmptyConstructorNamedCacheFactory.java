@@ -40,6 +40,7 @@
 import org.infinispan.statetransfer.StateTransferLockImpl;
 import org.infinispan.transaction.impl.TransactionCoordinator;
 import org.infinispan.transaction.totalorder.TotalOrderManager;
+import org.infinispan.transaction.totalorder.TotalOrderPrepareBatcher;
 import org.infinispan.transaction.xa.TransactionFactory;
 import org.infinispan.transaction.xa.recovery.RecoveryAdminOperations;
 import org.infinispan.xsite.BackupSender;
@@ -66,8 +67,8 @@
                               BatchContainer.class, EvictionManager.class,
                               TransactionCoordinator.class, RecoveryAdminOperations.class, StateTransferLock.class,
                               ClusteringDependentLogic.class, L1Manager.class, TransactionFactory.class, BackupSender.class,
-                              TotalOrderManager.class, ByteBufferFactory.class, MarshalledEntryFactory.class,
-                              RemoteValueRetrievedListener.class, InvocationContextFactory.class, CommitManager.class,
+                              TotalOrderManager.class, TotalOrderPrepareBatcher.class, ByteBufferFactory.class,
+                              MarshalledEntryFactory.class, RemoteValueRetrievedListener.class, InvocationContextFactory.class, CommitManager.class,
                               XSiteStateTransferManager.class, XSiteStateConsumer.class, XSiteStateProvider.class,
                               FunctionalNotifier.class})
 public class EmptyConstructorNamedCacheFactory extends AbstractNamedCacheComponentFactory implements AutoInstantiableFactory {
@@ -126,6 +127,9 @@ public <T> T construct(Class<T> componentType) {
          } else if (componentType.equals(TotalOrderManager.class)) {
             return isTransactional && configuration.transaction().transactionProtocol().isTotalOrder() ?
                   (T) new TotalOrderManager() : null;
+         } else if (componentType.equals(TotalOrderPrepareBatcher.class)) {
+            return isTransactional && configuration.transaction().transactionProtocol().isTotalOrder() &&
+                  configuration.transaction().totalOrderBatchSize() > 1 ? (T) new TotalOrderPrepareBatcher() : null;
          } else if (componentType.equals(ByteBufferFactory.class)) {
             return (T) new ByteBufferFactoryImpl();
          } else if (componentType.equals(MarshalledEntryFactory.class)) {
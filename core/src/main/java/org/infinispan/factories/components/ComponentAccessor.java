@@ -0,0 +1,29 @@
+package org.infinispan.factories.components;
+
+import org.infinispan.factories.annotations.Inject;
+import org.infinispan.factories.annotations.Start;
+import org.infinispan.factories.annotations.Stop;
+
+/**
+ * Invokes the {@link Inject}, {@link Start} and {@link Stop} methods declared by a component class without reflection.
+ * <p />
+ * Implementations are generated at build-time by the Infinispan component annotation processor, in the package of the
+ * component class and named after it with a {@link #SUFFIX} suffix. They are looked up by {@link ComponentAccessors}.
+ *
+ * @since 9.0
+ * @see ComponentAccessors
+ */
+public interface ComponentAccessor {
+
+   String SUFFIX = "_ComponentAccessor";
+
+   /**
+    * Invokes a method declared by the component class.
+    *
+    * @param instance   the component
+    * @param methodName name of the method to invoke
+    * @param parameters method parameters, or {@code null} if the method has none
+    * @return {@code false} if the method can't be invoked by this accessor, and must be invoked through reflection
+    */
+   boolean invoke(Object instance, String methodName, Object[] parameters) throws Exception;
+}
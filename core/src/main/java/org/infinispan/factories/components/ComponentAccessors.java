@@ -0,0 +1,63 @@
+package org.infinispan.factories.components;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+
+import org.infinispan.commons.CacheException;
+import org.infinispan.commons.util.ReflectionUtil;
+
+/**
+ * Invokes the component methods through the {@link ComponentAccessor} generated for the class declaring them, falling
+ * back to reflection for the classes that were not processed at build-time, e.g. custom modules.
+ *
+ * @since 9.0
+ */
+public final class ComponentAccessors {
+
+   private static final ComponentAccessor REFLECTION = (instance, methodName, parameters) -> false;
+
+   private static final ClassValue<ComponentAccessor> ACCESSORS = new ClassValue<ComponentAccessor>() {
+      @Override
+      protected ComponentAccessor computeValue(Class<?> type) {
+         try {
+            Class<?> accessorClass = Class.forName(type.getName() + ComponentAccessor.SUFFIX, true, type.getClassLoader());
+            return (ComponentAccessor) accessorClass.newInstance();
+         } catch (ReflectiveOperationException | LinkageError | ClassCastException e) {
+            return REFLECTION;
+         }
+      }
+   };
+
+   private ComponentAccessors() {
+   }
+
+   /**
+    * Same as {@link ReflectionUtil#invokeAccessibly(Object, Method, Object[])}, without reflection when possible.
+    */
+   public static void invoke(Object instance, Method method, Object[] parameters) {
+      ComponentAccessor accessor = accessor(method.getDeclaringClass());
+      if (accessor == REFLECTION) {
+         ReflectionUtil.invokeAccessibly(instance, method, parameters);
+         return;
+      }
+
+      boolean invoked;
+      try {
+         invoked = accessor.invoke(instance, method.getName(), parameters);
+      } catch (Throwable t) {
+         throw new CacheException("Unable to invoke method " + method + " on object of type " + instance.getClass().getSimpleName() +
+               (parameters != null ? " with parameters " + Arrays.asList(parameters) : ""), t);
+      }
+      if (!invoked) {
+         ReflectionUtil.invokeAccessibly(instance, method, parameters);
+      }
+   }
+
+   static ComponentAccessor accessor(Class<?> componentClass) {
+      return ACCESSORS.get(componentClass);
+   }
+
+   static boolean isGenerated(ComponentAccessor accessor) {
+      return accessor != REFLECTION;
+   }
+}
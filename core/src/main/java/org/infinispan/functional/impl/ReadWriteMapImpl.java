@@ -9,6 +9,7 @@
 import org.infinispan.commons.api.functional.Listeners.ReadWriteListeners;
 import org.infinispan.commons.api.functional.Param;
 import org.infinispan.commons.api.functional.Param.FutureMode;
+import org.infinispan.commons.api.functional.Patch;
 import org.infinispan.commons.api.functional.Traversable;
 import org.infinispan.commons.util.CloseableIteratorSet;
 import org.infinispan.commons.util.Experimental;
@@ -23,6 +24,7 @@
 import java.util.function.BiFunction;
 import java.util.function.Function;
 
+import static org.infinispan.commons.marshall.MarshallableFunctions.applyPatch;
 import static org.infinispan.functional.impl.Params.withFuture;
 
 /**
@@ -68,6 +70,18 @@ public <R> CompletableFuture<R> eval(K key, V value, BiFunction<V, ReadWriteEntr
       return withFuture(futureMode, fmap.asyncExec(), () -> (R) fmap.chain().invoke(ctx, cmd));
    }
 
+   @Override
+   public CompletableFuture<Void> patch(K key, Patch<V> patch) {
+      log.tracef("Invoked patch(k=%s, p=%s, %s)", key, patch, params);
+      Param<FutureMode> futureMode = params.get(FutureMode.ID);
+      // The patch is the argument of the function instead of a value
+      BiFunction<Patch<V>, ReadWriteEntryView<K, V>, Void> f = applyPatch();
+      ReadWriteKeyValueCommand cmd = fmap.cmdFactory().buildReadWriteKeyValueCommand(key, patch, (BiFunction) f, params);
+      InvocationContext ctx = fmap.invCtxFactory().createInvocationContext(true, 1);
+      ctx.setLockOwner(cmd.getKeyLockOwner());
+      return withFuture(futureMode, fmap.asyncExec(), () -> (Void) fmap.chain().invoke(ctx, cmd));
+   }
+
    @Override
    public <R> Traversable<R> evalMany(Map<? extends K, ? extends V> entries, BiFunction<V, ReadWriteEntryView<K, V>, R> f) {
       log.tracef("Invoked evalMany(entries=%s, %s)", entries, params);
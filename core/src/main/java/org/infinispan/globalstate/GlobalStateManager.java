@@ -31,6 +31,11 @@ public interface GlobalStateManager {
     */
    void writeScopedState(ScopedPersistentState state);
 
+   /**
+    * Deletes the persistent state for the specified scope
+    */
+   void deleteScopedState(String scope);
+
    /**
     * Persists the global state by contacting all registered scope providers
     */
@@ -8,6 +8,7 @@
 import java.io.IOException;
 import java.io.PrintWriter;
 import java.lang.invoke.MethodHandles;
+import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
@@ -108,6 +109,16 @@ public void writeScopedState(ScopedPersistentState state) {
       }
    }
 
+   @Override
+   public void deleteScopedState(String scope) {
+      File stateFile = getStateFile(scope);
+      try {
+         Files.deleteIfExists(stateFile.toPath());
+      } catch (IOException e) {
+         throw log.failedWritingGlobalState(e, stateFile);
+      }
+   }
+
    @Override
    public Optional<ScopedPersistentState> readScopedState(String scope) {
       File stateFile = getStateFile(scope);
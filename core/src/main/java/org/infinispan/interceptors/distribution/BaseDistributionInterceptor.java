@@ -3,6 +3,7 @@
 import org.infinispan.commands.FlagAffectedCommand;
 import org.infinispan.commands.ReplicableCommand;
 import org.infinispan.commands.functional.ReadOnlyManyCommand;
+import org.infinispan.commands.functional.ReadWriteKeyValueCommand;
 import org.infinispan.commands.read.AbstractDataCommand;
 import org.infinispan.commands.read.GetAllCommand;
 import org.infinispan.commands.remote.ClusteredGetAllCommand;
@@ -13,6 +14,8 @@
 import org.infinispan.commands.write.ValueMatcher;
 import org.infinispan.commands.write.WriteCommand;
 import org.infinispan.commons.CacheException;
+import org.infinispan.commons.equivalence.AnyEquivalence;
+import org.infinispan.commons.util.CollectionFactory;
 import org.infinispan.container.EntryFactory;
 import org.infinispan.container.entries.CacheEntry;
 import org.infinispan.container.entries.InternalCacheEntry;
@@ -28,6 +31,10 @@
 import org.infinispan.factories.annotations.Start;
 import org.infinispan.interceptors.impl.ClusteringInterceptor;
 import org.infinispan.interceptors.locking.ClusteringDependentLogic;
+import org.infinispan.jmx.JmxStatisticsExposer;
+import org.infinispan.jmx.annotations.ManagedAttribute;
+import org.infinispan.jmx.annotations.ManagedOperation;
+import org.infinispan.jmx.annotations.MeasurementType;
 import org.infinispan.remoting.RemoteException;
 import org.infinispan.remoting.inboundhandler.DeliverOrder;
 import org.infinispan.remoting.responses.CacheNotFoundResponse;
@@ -35,6 +42,7 @@
 import org.infinispan.remoting.responses.ExceptionResponse;
 import org.infinispan.remoting.responses.Response;
 import org.infinispan.remoting.responses.SuccessfulResponse;
+import org.infinispan.remoting.responses.UnsuccessfulResponse;
 import org.infinispan.remoting.rpc.ResponseFilter;
 import org.infinispan.remoting.rpc.ResponseMode;
 import org.infinispan.remoting.rpc.RpcManager;
@@ -57,6 +65,8 @@
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
 
 import static org.infinispan.commons.util.Util.toStr;
 
@@ -68,7 +78,7 @@
  * @author Pete Muir
  * @author Dan Berindei <dan@infinispan.org>
  */
-public abstract class BaseDistributionInterceptor extends ClusteringInterceptor {
+public abstract class BaseDistributionInterceptor extends ClusteringInterceptor implements JmxStatisticsExposer {
 
    protected DistributionManager dm;
 
@@ -76,6 +86,11 @@ public abstract class BaseDistributionInterceptor extends ClusteringInterceptor
    protected RemoteValueRetrievedListener rvrl;
    protected boolean isL1Enabled;
    private GroupManager groupManager;
+   // The remote gets in progress, only used if the remote gets are coalesced
+   private ConcurrentMap<Object, PendingRemoteGet> pendingRemoteGets;
+   private final LongAdder coalescedRemoteGets = new LongAdder();
+   @ManagedAttribute(description = "Enables or disables the gathering of statistics by this component", writable = true)
+   private boolean statisticsEnabled;
 
    private static final Log log = LogFactory.getLog(BaseDistributionInterceptor.class);
    private static final boolean trace = log.isTraceEnabled();
@@ -99,6 +114,11 @@ public void injectDependencies(DistributionManager distributionManager, Clusteri
    public void configure() {
       // Can't rely on the super injectConfiguration() to be called before our injectDependencies() method2
       isL1Enabled = cacheConfiguration.clustering().l1().enabled();
+      statisticsEnabled = cacheConfiguration.jmxStatistics().enabled();
+      if (cacheConfiguration.clustering().coalesceRemoteGets()) {
+         pendingRemoteGets = CollectionFactory.makeConcurrentMap(cacheConfiguration.dataContainer().keyEquivalence(),
+                                                                 AnyEquivalence.getInstance());
+      }
    }
 
    @Override
@@ -146,7 +166,48 @@ protected final CompletableFuture<InternalCacheEntry> retrieveFromRemoteSource(O
          InvocationContext ctx, boolean acquireRemoteLock, FlagAffectedCommand command, boolean isWrite)
          throws Exception {
       GlobalTransaction gtx = ctx.isInTxScope() ? ((TxInvocationContext) ctx).getGlobalTransaction() : null;
-      ClusteredGetCommand get = cf.buildClusteredGetCommand(key, command.getFlagsBitSet(), acquireRemoteLock, gtx);
+      long flagsBitSet = command.getFlagsBitSet();
+      if (pendingRemoteGets == null || gtx != null || acquireRemoteLock || isWrite) {
+         return remoteGet(key, flagsBitSet, acquireRemoteLock, gtx, isWrite);
+      }
+
+      // Only join a remote get with the same flags, they can change the value returned by the owners
+      PendingRemoteGet remoteGet = new PendingRemoteGet(flagsBitSet);
+      PendingRemoteGet pendingRemoteGet = pendingRemoteGets.putIfAbsent(key, remoteGet);
+      if (pendingRemoteGet != null) {
+         if (pendingRemoteGet.flagsBitSet == flagsBitSet) {
+            if (trace) {
+               log.tracef("Waiting for the concurrent remote get of key %s", key);
+            }
+            if (statisticsEnabled) {
+               coalescedRemoteGets.increment();
+            }
+            return pendingRemoteGet.future;
+         }
+         return remoteGet(key, flagsBitSet, false, null, false);
+      }
+      CompletableFuture<InternalCacheEntry> future;
+      try {
+         future = remoteGet(key, flagsBitSet, false, null, false);
+      } catch (Throwable t) {
+         pendingRemoteGets.remove(key, remoteGet);
+         remoteGet.future.completeExceptionally(t);
+         throw t;
+      }
+      future.whenComplete((entry, throwable) -> {
+         pendingRemoteGets.remove(key, remoteGet);
+         if (throwable != null) {
+            remoteGet.future.completeExceptionally(throwable);
+         } else {
+            remoteGet.future.complete(entry);
+         }
+      });
+      return remoteGet.future;
+   }
+
+   private CompletableFuture<InternalCacheEntry> remoteGet(Object key, long flagsBitSet, boolean acquireRemoteLock,
+         GlobalTransaction gtx, boolean isWrite) {
+      ClusteredGetCommand get = cf.buildClusteredGetCommand(key, flagsBitSet, acquireRemoteLock, gtx);
       get.setWrite(isWrite);
 
       RpcOptionsBuilder rpcOptionsBuilder =
@@ -154,6 +215,34 @@ protected final CompletableFuture<InternalCacheEntry> retrieveFromRemoteSource(O
       return handleRemoteValue(key, null, get, rpcOptionsBuilder, -1);
    }
 
+   @ManagedAttribute(
+         description = "Number of remote gets avoided by waiting for a concurrent remote get of the same key",
+         displayName = "Number of coalesced remote gets",
+         measurementType = MeasurementType.TRENDSUP
+   )
+   public long getCoalescedRemoteGets() {
+      return coalescedRemoteGets.sum();
+   }
+
+   @Override
+   public boolean getStatisticsEnabled() {
+      return statisticsEnabled;
+   }
+
+   @Override
+   public void setStatisticsEnabled(boolean enabled) {
+      statisticsEnabled = enabled;
+   }
+
+   @Override
+   @ManagedOperation(
+         description = "Resets statistics gathered by this component",
+         displayName = "Reset statistics"
+   )
+   public void resetStatistics() {
+      coalescedRemoteGets.reset();
+   }
+
    private CompletableFuture<InternalCacheEntry> handleRemoteValue(Object key, InternalCacheEntry value,
          ClusteredGetCommand getCommand, RpcOptionsBuilder rpcOptionsBuilder, int lastTopologyId) {
       if (value != null)
@@ -197,6 +286,15 @@ private CompletableFuture<InternalCacheEntry> handleRemoteValue(Object key, Inte
             newValue -> handleRemoteValue(key, newValue, getCommand, rpcOptionsBuilder, newTopologyId));
    }
 
+   private static class PendingRemoteGet {
+      final long flagsBitSet;
+      final CompletableFuture<InternalCacheEntry> future = new CompletableFuture<>();
+
+      PendingRemoteGet(long flagsBitSet) {
+         this.flagsBitSet = flagsBitSet;
+      }
+   }
+
    private CompletableFuture<InternalCacheEntry> invokeClusterGetCommandRemotely(List<Address> targets,
          RpcOptionsBuilder rpcOptionsBuilder, ClusteredGetCommand get, Object key) {
       ResponseFilter filter = new ClusteredGetResponseValidityFilter(targets, rpcManager.getAddress());
@@ -347,8 +445,7 @@ private CompletableFuture<Object> invokeRemotelyIfNeeded(InvocationContext ctx,
             // Ignore the previous value on the backup owners
             command.setValueMatcher(ValueMatcher.MATCH_ALWAYS);
             try {
-               rpcManager.invokeRemotely(recipients, command, determineRpcOptionsForBackupReplication(rpcManager,
-                                                                                                      isSync, recipients));
+               replicateToBackups(command, recipients, isSync);
             } finally {
                // Switch to the retry policy, in case the primary owner changed and the write already succeeded on the new primary
                command.setValueMatcher(valueMatcher.matcherForRetry());
@@ -370,8 +467,7 @@ private CompletableFuture<Object> invokeRemotelyIfNeeded(InvocationContext ctx,
                // Ignore the previous value on the backup owners
                command.setValueMatcher(ValueMatcher.MATCH_ALWAYS);
                try {
-                  rpcManager.invokeRemotely(recipients, command, determineRpcOptionsForBackupReplication(rpcManager,
-                                                                                                         isSync, recipients));
+                  replicateToBackups(command, recipients, isSync);
                } finally {
                   // Switch to the retry policy, in case the primary owner changed and the write already succeeded on the new primary
                   command.setValueMatcher(valueMatcher.matcherForRetry());
@@ -418,6 +514,41 @@ private CompletableFuture<Object> invokeRemotelyIfNeeded(InvocationContext ctx,
       }
    }
 
+   private void replicateToBackups(DataWriteCommand command, List<Address> recipients, boolean isSync) {
+      if (!(command instanceof ReadWriteKeyValueCommand)) {
+         rpcManager.invokeRemotely(recipients, command, determineRpcOptionsForBackupReplication(rpcManager, isSync,
+                                                                                                recipients));
+         return;
+      }
+      ReadWriteKeyValueCommand rwCommand = (ReadWriteKeyValueCommand) command;
+      // A patch is replicated without the previous value only when the backup owners are known to have it and can
+      // tell us otherwise: not during a rebalance, when the new owners may not have received the value yet, and not
+      // with asynchronous replication, as there are no responses
+      boolean replicatePreviousValue = !isSync || stateTransferManager.getCacheTopology().getPendingCH() != null;
+      rwCommand.setBackupReplication(true, replicatePreviousValue);
+      try {
+         Map<Address, Response> responses = rpcManager.invokeRemotely(recipients, command,
+               determineRpcOptionsForBackupReplication(rpcManager, isSync, recipients));
+         if (replicatePreviousValue) {
+            return;
+         }
+         List<Address> missingValue = new ArrayList<>();
+         for (Map.Entry<Address, Response> e : responses.entrySet()) {
+            if (e.getValue() == UnsuccessfulResponse.INSTANCE) {
+               missingValue.add(e.getKey());
+            }
+         }
+         if (!missingValue.isEmpty()) {
+            if (trace) log.tracef("Backup owners %s could not apply the patch, replicating the previous value", missingValue);
+            rwCommand.setBackupReplication(true, true);
+            rpcManager.invokeRemotely(missingValue, command, determineRpcOptionsForBackupReplication(rpcManager, true,
+                                                                                                     missingValue));
+         }
+      } finally {
+         rwCommand.setBackupReplication(false, false);
+      }
+   }
+
    private RpcOptions determineRpcOptionsForBackupReplication(RpcManager rpc, boolean isSync, List<Address> recipients) {
       RpcOptions options;
       if (isSync) {
@@ -28,6 +28,7 @@
 import org.infinispan.distribution.ch.ConsistentHash;
 import org.infinispan.distribution.util.ReadOnlySegmentAwareMap;
 import org.infinispan.distribution.util.ReadOnlySegmentAwareSet;
+import org.infinispan.jmx.annotations.MBean;
 import org.infinispan.remoting.RemoteException;
 import org.infinispan.remoting.responses.Response;
 import org.infinispan.remoting.responses.SuccessfulResponse;
@@ -68,6 +69,7 @@
  * @author Dan Berindei
  * @since 8.1
  */
+@MBean(objectName = "Distribution", description = "Component that retrieves the entries owned by other nodes.")
 public class NonTxDistributionInterceptor extends BaseDistributionInterceptor {
 
    private static Log log = LogFactory.getLog(NonTxDistributionInterceptor.class);
@@ -1,6 +1,7 @@
 package org.infinispan.interceptors.impl;
 
 import org.infinispan.commands.VisitableCommand;
+import org.infinispan.commands.Visitor;
 import org.infinispan.commons.CacheConfigurationException;
 import org.infinispan.commons.CacheException;
 import org.infinispan.commons.util.ImmutableListCopy;
@@ -14,11 +15,19 @@
 import org.infinispan.factories.scopes.Scopes;
 import org.infinispan.interceptors.AsyncInterceptor;
 import org.infinispan.interceptors.AsyncInterceptorChain;
+import org.infinispan.interceptors.DDAsyncInterceptor;
 import org.infinispan.util.logging.Log;
 import org.infinispan.util.logging.LogFactory;
 
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.ListIterator;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.locks.ReentrantLock;
 
@@ -39,6 +48,51 @@ public class AsyncInterceptorChainImpl implements AsyncInterceptorChain {
    private static final ImmutableListCopy<AsyncInterceptor> EMPTY_INTERCEPTORS_LIST =
          new ImmutableListCopy<>(new AsyncInterceptor[0]);
    private static final Log log = LogFactory.getLog(AsyncInterceptorChainImpl.class);
+   private static final boolean trace = log.isTraceEnabled();
+
+   // The visit method of each command type, by convention visitXxx(InvocationContext, Xxx)
+   private static final Map<Class<?>, Method> VISIT_METHODS = new HashMap<>();
+
+   static {
+      for (Method method : Visitor.class.getMethods()) {
+         Class<?>[] parameterTypes = method.getParameterTypes();
+         if (parameterTypes.length == 2 && InvocationContext.class.isAssignableFrom(parameterTypes[0]) &&
+               VisitableCommand.class.isAssignableFrom(parameterTypes[1]) &&
+               method.getName().equals("visit" + parameterTypes[1].getSimpleName())) {
+            VISIT_METHODS.put(parameterTypes[1], method);
+         }
+      }
+   }
+
+   // The class that implements acceptVisitor decides the visit method, subclasses like VersionedPrepareCommand inherit it
+   private static final ClassValue<Method> COMMAND_VISIT_METHODS = new ClassValue<Method>() {
+      @Override
+      protected Method computeValue(Class<?> commandClass) {
+         try {
+            Method acceptVisitor = commandClass.getMethod("acceptVisitor", InvocationContext.class, Visitor.class);
+            return VISIT_METHODS.get(acceptVisitor.getDeclaringClass());
+         } catch (NoSuchMethodException e) {
+            return null;
+         }
+      }
+   };
+
+   // The visit methods that a DDAsyncInterceptor class handles, all of them if it overrides handleDefault
+   private static final ClassValue<Set<Method>> HANDLED_VISIT_METHODS = new ClassValue<Set<Method>>() {
+      @Override
+      protected Set<Method> computeValue(Class<?> interceptorClass) {
+         if (isOverridden(interceptorClass, "handleDefault", InvocationContext.class, VisitableCommand.class)) {
+            return new HashSet<>(VISIT_METHODS.values());
+         }
+         Set<Method> handled = new HashSet<>();
+         for (Method visitMethod : VISIT_METHODS.values()) {
+            if (isOverridden(interceptorClass, visitMethod.getName(), visitMethod.getParameterTypes())) {
+               handled.add(visitMethod);
+            }
+         }
+         return handled;
+      }
+   };
 
    private final ComponentMetadataRepo componentMetadataRepo;
 
@@ -46,12 +100,26 @@ public class AsyncInterceptorChainImpl implements AsyncInterceptorChain {
 
    // Modifications are guarded with "lock", but reads do not need synchronization
    private volatile List<AsyncInterceptor> interceptors = EMPTY_INTERCEPTORS_LIST;
-   private volatile InterceptorListNode firstInterceptor = null;
+   private volatile CommandChains commandChains = new CommandChains(null, false);
+   // The specialized chains are built when the cache starts and after every later modification
+   private volatile boolean specializeChains;
 
    public AsyncInterceptorChainImpl(ComponentMetadataRepo componentMetadataRepo) {
       this.componentMetadataRepo = componentMetadataRepo;
    }
 
+   @Start
+   void buildSpecializedChains() {
+      final ReentrantLock lock = this.lock;
+      lock.lock();
+      try {
+         specializeChains = true;
+         rebuildInterceptors();
+      } finally {
+         lock.unlock();
+      }
+   }
+
    @Start
    private void printChainInfo() {
       if (log.isDebugEnabled()) {
@@ -227,13 +295,13 @@ public void appendInterceptor(AsyncInterceptor ci, boolean isCustom) {
 
    @Override
    public CompletableFuture<Object> invokeAsync(InvocationContext ctx, VisitableCommand command) {
-      return ((BaseAsyncInvocationContext) ctx).invoke(command, firstInterceptor);
+      return ((BaseAsyncInvocationContext) ctx).invoke(command, commandChains.firstInterceptor(command));
    }
 
    @Override
    public Object invoke(InvocationContext ctx, VisitableCommand command) {
       try {
-         return ((BaseAsyncInvocationContext) ctx).invokeSync(command, firstInterceptor);
+         return ((BaseAsyncInvocationContext) ctx).invokeSync(command, commandChains.firstInterceptor(command));
       } catch (InterruptedException e) {
          Thread.currentThread().interrupt();
          throw new CacheException(e);
@@ -323,6 +391,97 @@ private void rebuildInterceptors() {
       while (it.hasPrevious()) {
          node = new InterceptorListNode(it.previous(), node);
       }
-      this.firstInterceptor = node;
+      this.commandChains = new CommandChains(node, specializeChains);
+   }
+
+   /**
+    * Builds a chain for the commands that invoke {@code visitMethod} that only contains the interceptors that do
+    * something for them.
+    *
+    * <p>Interceptors extending {@link DDAsyncInterceptor} that don't override either {@code visitMethod}
+    * or {@code handleDefault} would only continue the invocation, so they are skipped. The resulting chain is shorter
+    * and each call site sees fewer interceptor types, which helps the JIT inline the visit methods.</p>
+    *
+    * <p>Interceptors after the last one that handles the command are kept, so that the last interceptor can still
+    * fork a new command. Forked commands always continue with the complete chain,
+    * see {@link InterceptorListNode#fullChainNode}.</p>
+    */
+   static InterceptorListNode specializeChain(InterceptorListNode firstInterceptor, Method visitMethod) {
+      List<AsyncInterceptor> handlingInterceptors = new ArrayList<>();
+      List<InterceptorListNode> fullChainNodes = new ArrayList<>();
+      InterceptorListNode fullChainNode = firstInterceptor;
+      for (InterceptorListNode node = firstInterceptor; node != null; node = node.nextNode) {
+         if (!ignoresCommand(node.interceptor, visitMethod)) {
+            handlingInterceptors.add(node.interceptor);
+            fullChainNodes.add(fullChainNode);
+            fullChainNode = node.nextNode;
+         }
+      }
+
+      // fullChainNode now points to the interceptors after the last handling interceptor
+      InterceptorListNode node = fullChainNode;
+      for (int i = handlingInterceptors.size() - 1; i >= 0; i--) {
+         node = new InterceptorListNode(handlingInterceptors.get(i), node, fullChainNodes.get(i));
+      }
+      if (trace) {
+         log.tracef("Interceptor chain for %s has %d interceptors", visitMethod.getName(),
+               handlingInterceptors.size());
+      }
+      return node;
+   }
+
+   /**
+    * @return The {@link Visitor} method that the commands of type {@code commandClass} invoke from
+    * {@code acceptVisitor}, or {@code null} if it cannot be determined.
+    */
+   static Method visitMethod(Class<?> commandClass) {
+      return COMMAND_VISIT_METHODS.get(commandClass);
+   }
+
+   private static boolean ignoresCommand(AsyncInterceptor interceptor, Method visitMethod) {
+      return interceptor instanceof DDAsyncInterceptor &&
+            !HANDLED_VISIT_METHODS.get(interceptor.getClass()).contains(visitMethod);
+   }
+
+   private static boolean isOverridden(Class<?> clazz, String methodName, Class<?>... parameterTypes) {
+      for (Class<?> c = clazz; c != DDAsyncInterceptor.class && c != null; c = c.getSuperclass()) {
+         try {
+            c.getDeclaredMethod(methodName, parameterTypes);
+            return true;
+         } catch (NoSuchMethodException e) {
+            // Check the superclass
+         }
+      }
+      return false;
+   }
+
+   /**
+    * The complete interceptor chain plus the specialized chains built for each visit method. A new instance is
+    * created every time the chain is modified.
+    */
+   private static final class CommandChains {
+      final InterceptorListNode firstInterceptor;
+      final Map<Method, InterceptorListNode> specializedChains;
+
+      CommandChains(InterceptorListNode firstInterceptor, boolean specialize) {
+         this.firstInterceptor = firstInterceptor;
+         if (specialize && firstInterceptor != null) {
+            specializedChains = new HashMap<>(VISIT_METHODS.size());
+            for (Method visitMethod : VISIT_METHODS.values()) {
+               specializedChains.put(visitMethod, specializeChain(firstInterceptor, visitMethod));
+            }
+         } else {
+            specializedChains = Collections.emptyMap();
+         }
+      }
+
+      InterceptorListNode firstInterceptor(VisitableCommand command) {
+         if (specializedChains.isEmpty()) {
+            return firstInterceptor;
+         }
+         Method visitMethod = COMMAND_VISIT_METHODS.get(command.getClass());
+         InterceptorListNode node = visitMethod != null ? specializedChains.get(visitMethod) : null;
+         return node != null ? node : firstInterceptor;
+      }
    }
 }
@@ -10,6 +10,7 @@
 import org.infinispan.util.logging.LogFactory;
 import org.jboss.logging.NDC;
 
+import java.util.Arrays;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutionException;
@@ -31,20 +32,25 @@ public abstract class BaseAsyncInvocationContext implements InvocationContext {
    private static final int SHORT_CIRCUIT = 1;
    private static final int STOP_INVOCATION = 2;
    private static final int FORK_INVOCATION = 3;
+   private static final int INITIAL_RETURN_HANDLERS = 8;
 
    // The next interceptor to execute.
    // Note: The field is only guaranteed to be correct while an interceptor is executing,
    // in order to support forkInvocationSync.
    private InterceptorListNode nextInterceptor;
-   // The next return handler to execute
-   private ReturnHandlerNode nextReturnHandler;
+   // Stack of return handlers, the last one is executed first.
+   // The array is kept between invocations, so a reused context doesn't allocate anything to register them.
+   private AsyncInterceptor.ReturnHandler[] returnHandlers;
+   private int returnHandlerCount;
+   // Return handlers below this index belong to the command that called forkInvocationSync
+   private int returnHandlerBase;
    private CompletableFuture<Object> future;
    private int action;
    private Object actionValue;
 
    @Override
    public final CompletableFuture<Void> onReturn(AsyncInterceptor.ReturnHandler returnHandler) {
-      nextReturnHandler = new ReturnHandlerNode(returnHandler, nextReturnHandler);
+      pushReturnHandler(returnHandler);
       return CONTINUE_INVOCATION;
    }
 
@@ -92,10 +98,13 @@ private void throwActionException() {
    @Override
    public Object forkInvocationSync(VisitableCommand newCommand) throws Throwable {
       InterceptorListNode savedInterceptorNode = nextInterceptor;
-      ReturnHandlerNode savedReturnHandler = nextReturnHandler;
-      nextReturnHandler = null;
+      int savedReturnHandlerBase = returnHandlerBase;
+      returnHandlerBase = returnHandlerCount;
       try {
-         Object returnValue = invokeInterceptorsSync(newCommand, savedInterceptorNode);
+         // The forked command may need interceptors that were skipped for the current command
+         InterceptorListNode forkInterceptorNode =
+               savedInterceptorNode != null ? savedInterceptorNode.fullChainNode : null;
+         Object returnValue = invokeInterceptorsSync(newCommand, forkInterceptorNode);
          return invokeReturnHandlersSync(newCommand, returnValue, null);
       } catch (Throwable t) {
          // Unwrap the exception from CompletableFutures.await
@@ -104,7 +113,8 @@ public Object forkInvocationSync(VisitableCommand newCommand) throws Throwable {
       } finally {
          action = INVOKE_NEXT;
          nextInterceptor = savedInterceptorNode;
-         nextReturnHandler = savedReturnHandler;
+         truncateReturnHandlers(returnHandlerBase);
+         returnHandlerBase = savedReturnHandlerBase;
       }
    }
 
@@ -115,11 +125,8 @@ private Throwable extractCompletableFutureException(Throwable t) {
 
    private Object invokeReturnHandlersSync(VisitableCommand command, Object returnValue, Throwable throwable)
          throws Throwable {
-      ReturnHandlerNode returnHandlerNode = nextReturnHandler;
-      nextReturnHandler = null;
-      while (returnHandlerNode != null) {
-         AsyncInterceptor.ReturnHandler current = returnHandlerNode.returnHandler;
-         returnHandlerNode = returnHandlerNode.nextNode;
+      while (returnHandlerCount > returnHandlerBase) {
+         AsyncInterceptor.ReturnHandler current = popReturnHandler();
 
          try {
             returnValue = invokeReturnHandlerSync(current, command, returnValue, throwable);
@@ -138,7 +145,8 @@ private Object invokeReturnHandlersSync(VisitableCommand command, Object returnV
    final CompletableFuture<Object> invoke(VisitableCommand command, InterceptorListNode firstInterceptor) {
       future = new CompletableFuture<>();
       nextInterceptor = firstInterceptor;
-      nextReturnHandler = null;
+      truncateReturnHandlers(0);
+      returnHandlerBase = 0;
       action = INVOKE_NEXT;
       invokeNextWithContext(command, null, null);
       return future;
@@ -167,7 +175,11 @@ private void invokeNext(VisitableCommand command, Object returnValue, Throwable
             ForkInfo forkInfo = (ForkInfo) this.actionValue;
             forkInfo.savedCommand = command;
             command = forkInfo.newCommand;
-            nextReturnHandler = new ReturnHandlerNode(forkInfo, nextReturnHandler);
+            pushReturnHandler(forkInfo);
+            // The forked command may need interceptors that were skipped for the current command
+            if (interceptorNode != null) {
+               interceptorNode = interceptorNode.fullChainNode;
+            }
          } else if (action == STOP_INVOCATION) {
             // forkInvocationSync end
             action = INVOKE_NEXT;
@@ -214,12 +226,11 @@ private void invokeNext(VisitableCommand command, Object returnValue, Throwable
                interceptorNode = null;
                nextInterceptor = null;
             }
-         } else if (nextReturnHandler != null) {
+         } else if (returnHandlerCount > returnHandlerBase) {
             // Interceptors are done, continue with the return handlers
-            AsyncInterceptor.ReturnHandler returnHandler = nextReturnHandler.returnHandler;
-            nextReturnHandler = nextReturnHandler.nextNode;
+            AsyncInterceptor.ReturnHandler returnHandler = popReturnHandler();
             if (trace)
-               log.tracef("Executing return handler %s with return value/exception %s/%s", nextReturnHandler,
+               log.tracef("Executing return handler %s with return value/exception %s/%s",
                      returnHandler, className(returnValue), throwable);
             try {
                CompletableFuture<Object> handlerFuture = returnHandler.handle(this, command, returnValue, throwable);
@@ -276,7 +287,8 @@ private CompletableFuture<Object> handleForkReturn(ForkInfo forkInfo, Object ret
 
    Object invokeSync(VisitableCommand command, InterceptorListNode firstInterceptor)
          throws Throwable {
-      nextReturnHandler = null;
+      truncateReturnHandlers(0);
+      returnHandlerBase = 0;
       action = INVOKE_NEXT;
       try {
          Object returnValue = invokeInterceptorsSync(command, firstInterceptor);
@@ -503,6 +515,44 @@ private Object invokeReturnHandlerSync(AsyncInterceptor.ReturnHandler returnHand
       }
    }
 
+   private void pushReturnHandler(AsyncInterceptor.ReturnHandler returnHandler) {
+      AsyncInterceptor.ReturnHandler[] handlers = returnHandlers;
+      if (handlers == null) {
+         handlers = new AsyncInterceptor.ReturnHandler[INITIAL_RETURN_HANDLERS];
+         returnHandlers = handlers;
+      } else if (returnHandlerCount == handlers.length) {
+         handlers = Arrays.copyOf(handlers, handlers.length * 2);
+         returnHandlers = handlers;
+      }
+      handlers[returnHandlerCount++] = returnHandler;
+   }
+
+   private AsyncInterceptor.ReturnHandler popReturnHandler() {
+      int index = --returnHandlerCount;
+      AsyncInterceptor.ReturnHandler returnHandler = returnHandlers[index];
+      returnHandlers[index] = null;
+      return returnHandler;
+   }
+
+   private void truncateReturnHandlers(int count) {
+      while (returnHandlerCount > count) {
+         returnHandlers[--returnHandlerCount] = null;
+      }
+   }
+
+   /**
+    * Clears the state left behind by the last invocation, so that the context can be reused for a new command
+    * once the previous invocation has completed.
+    */
+   protected final void resetInvocationState() {
+      nextInterceptor = null;
+      truncateReturnHandlers(0);
+      returnHandlerBase = 0;
+      future = null;
+      action = INVOKE_NEXT;
+      actionValue = null;
+   }
+
    private static <T, E extends Throwable> void completeFuture(CompletableFuture<T> future, T returnValue,
          E exception) {
       if (exception == null) {
@@ -539,6 +589,9 @@ private static String actionName(int action) {
    public InvocationContext clone() {
       try {
          BaseAsyncInvocationContext clone = (BaseAsyncInvocationContext) super.clone();
+         if (returnHandlers != null) {
+            clone.returnHandlers = returnHandlers.clone();
+         }
          return clone;
       } catch (CloneNotSupportedException e) {
          throw new CacheException("Impossible", e);
@@ -567,14 +620,4 @@ public CompletableFuture<Object> handle(InvocationContext rCtx, VisitableCommand
          return ((BaseAsyncInvocationContext) rCtx).handleForkReturn(this, rv, throwable);
       }
    }
-
-   private static class ReturnHandlerNode {
-      final AsyncInterceptor.ReturnHandler returnHandler;
-      final ReturnHandlerNode nextNode;
-
-      ReturnHandlerNode(AsyncInterceptor.ReturnHandler returnHandler, ReturnHandlerNode next) {
-         this.returnHandler = returnHandler;
-         this.nextNode = next;
-      }
-   }
 }
@@ -17,6 +17,7 @@
 import org.infinispan.remoting.rpc.RpcOptionsBuilder;
 import org.infinispan.remoting.transport.Address;
 import org.infinispan.transaction.impl.LocalTransaction;
+import org.infinispan.transaction.totalorder.TotalOrderPrepareBatcher;
 import org.infinispan.util.logging.Log;
 
 import java.util.Collection;
@@ -36,13 +37,16 @@ public abstract class BaseRpcInterceptor extends DDAsyncInterceptor {
 
    protected RpcManager rpcManager;
 
+   private TotalOrderPrepareBatcher totalOrderPrepareBatcher;
+
    protected boolean defaultSynchronous;
 
    protected abstract Log getLog();
 
    @Inject
-   public void inject(RpcManager rpcManager) {
+   public void inject(RpcManager rpcManager, TotalOrderPrepareBatcher totalOrderPrepareBatcher) {
       this.rpcManager = rpcManager;
+      this.totalOrderPrepareBatcher = totalOrderPrepareBatcher;
    }
 
    @Start
@@ -127,7 +131,9 @@ protected final Map<Address, Response> totalOrderPrepare(Collection<Address> rec
 
    private Map<Address, Response> internalTotalOrderPrepare(Collection<Address> recipients, PrepareCommand prepareCommand,
                                                             TimeoutValidationResponseFilter responseFilter) {
-      if (defaultSynchronous) {
+      if (totalOrderPrepareBatcher != null) {
+         return totalOrderPrepareBatcher.prepare(recipients, prepareCommand, responseFilter);
+      } else if (defaultSynchronous) {
          RpcOptionsBuilder builder = rpcManager.getRpcOptionsBuilder(ResponseMode.SYNCHRONOUS_IGNORE_LEAVERS, DeliverOrder.TOTAL);
          if (responseFilter != null) {
             builder.responseFilter(responseFilter);
@@ -21,10 +21,12 @@
 import org.infinispan.commands.write.RemoveCommand;
 import org.infinispan.commands.write.ReplaceCommand;
 import org.infinispan.commands.write.WriteCommand;
+import org.infinispan.commons.CacheException;
 import org.infinispan.commons.equivalence.Equivalence;
 import org.infinispan.commons.equivalence.EquivalentHashSet;
 import org.infinispan.commons.util.CloseableIterator;
 import org.infinispan.commons.util.CloseableSpliterator;
+import org.infinispan.commons.util.CollectionFactory;
 import org.infinispan.commons.util.Closeables;
 import org.infinispan.container.DataContainer;
 import org.infinispan.container.EntryFactory;
@@ -53,21 +55,26 @@
 import org.infinispan.persistence.manager.PersistenceManager;
 import org.infinispan.persistence.spi.AdvancedCacheLoader;
 import org.infinispan.persistence.util.PersistenceManagerCloseableSupplier;
+import org.infinispan.remoting.transport.Address;
 import org.infinispan.stream.impl.interceptor.AbstractDelegatingEntryCacheSet;
 import org.infinispan.stream.impl.interceptor.AbstractDelegatingKeyCacheSet;
 import org.infinispan.stream.impl.spliterators.IteratorAsSpliterator;
 import org.infinispan.util.CloseableSuppliedIterator;
 import org.infinispan.util.DistinctKeyDoubleEntryCloseableIterator;
 import org.infinispan.util.TimeService;
+import org.infinispan.util.concurrent.CompletableFutures;
 import org.infinispan.util.function.CloseableSupplier;
 import org.infinispan.util.logging.Log;
 import org.infinispan.util.logging.LogFactory;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Objects;
 import java.util.Set;
 import java.util.Spliterator;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
@@ -84,6 +91,7 @@
 public class CacheLoaderInterceptor<K, V> extends JmxStatsCommandInterceptor {
    private final AtomicLong cacheLoads = new AtomicLong(0);
    private final AtomicLong cacheMisses = new AtomicLong(0);
+   private final AtomicLong coalescedLoads = new AtomicLong(0);
 
    protected PersistenceManager persistenceManager;
    protected CacheNotifier notifier;
@@ -96,6 +104,8 @@
    private ExecutorService executorService;
    private Cache<K, V> cache;
    private Equivalence<? super K> keyEquivalence;
+   // The loads in progress, only used if the loads are coalesced
+   private ConcurrentMap<PendingLoadKey, CompletableFuture<InternalCacheEntry<K, V>>> pendingLoads;
 
    private static final Log log = LogFactory.getLog(CacheLoaderInterceptor.class);
    private static final boolean trace = log.isTraceEnabled();
@@ -119,6 +129,9 @@ protected void injectDependencies(PersistenceManager clm, EntryFactory entryFact
    @Start
    public void start() {
       this.keyEquivalence = cache.getCacheConfiguration().dataContainer().keyEquivalence();
+      if (cache.getCacheConfiguration().persistence().coalesceLoads()) {
+         this.pendingLoads = CollectionFactory.makeConcurrentMap();
+      }
    }
 
    @Override
@@ -318,8 +331,9 @@ protected final Boolean loadIfNeeded(final InvocationContext ctx, Object key, fi
 
    private Boolean loadInContext(InvocationContext ctx, Object key, FlagAffectedCommand cmd) {
       final AtomicReference<Boolean> isLoaded = new AtomicReference<>();
-      InternalCacheEntry<K, V> entry = PersistenceUtil.loadAndStoreInDataContainer(dataContainer, persistenceManager, (K) key,
-                                                                             ctx, timeService, isLoaded);
+      InternalCacheEntry<K, V> entry = pendingLoads != null ? coalescedLoad(ctx, (K) key, cmd, isLoaded) :
+            PersistenceUtil.loadAndStoreInDataContainer(dataContainer, persistenceManager, (K) key, ctx, timeService,
+                                                        isLoaded);
       Boolean isLoadedValue = isLoaded.get();
       if (trace) {
          log.tracef("Entry was loaded? %s", isLoadedValue);
@@ -349,6 +363,60 @@ private Boolean loadInContext(InvocationContext ctx, Object key, FlagAffectedCom
       return isLoadedValue;
    }
 
+   /**
+    * Loads the key unless another thread is already loading it, in which case it waits for that load instead. The
+    * loaded entry is stored in the data container by the loading thread, so the waiting threads read it from there,
+    * and only look up the stores themselves if it was removed or evicted in the meantime. Only the loads with the same
+    * origin and the same flags are coalesced, as both can change what is loaded.
+    */
+   private InternalCacheEntry<K, V> coalescedLoad(InvocationContext ctx, K key, FlagAffectedCommand cmd,
+                                                  AtomicReference<Boolean> isLoaded) {
+      CompletableFuture<InternalCacheEntry<K, V>> load = new CompletableFuture<>();
+      PendingLoadKey loadKey = new PendingLoadKey(key, ctx.getOrigin(), cmd.getFlagsBitSet(), keyEquivalence);
+      CompletableFuture<InternalCacheEntry<K, V>> pendingLoad = pendingLoads.putIfAbsent(loadKey, load);
+      if (pendingLoad == null) {
+         InternalCacheEntry<K, V> entry;
+         try {
+            entry = PersistenceUtil.loadAndStoreInDataContainer(dataContainer, persistenceManager, key, ctx,
+                                                                timeService, isLoaded);
+         } catch (Throwable t) {
+            pendingLoads.remove(loadKey, load);
+            load.completeExceptionally(t);
+            throw t;
+         }
+         pendingLoads.remove(loadKey, load);
+         load.complete(entry);
+         return entry;
+      }
+
+      if (trace) {
+         log.tracef("Waiting for the concurrent load of key %s", key);
+      }
+      if (getStatisticsEnabled()) {
+         coalescedLoads.incrementAndGet();
+      }
+      InternalCacheEntry<K, V> loaded;
+      try {
+         loaded = CompletableFutures.await(pendingLoad);
+      } catch (InterruptedException e) {
+         Thread.currentThread().interrupt();
+         throw new CacheException(e);
+      } catch (ExecutionException e) {
+         throw new CacheException(e.getCause());
+      }
+      if (loaded == null) {
+         isLoaded.set(Boolean.FALSE);
+         return null;
+      }
+      InternalCacheEntry<K, V> entry = dataContainer.get(key);
+      if (entry != null) {
+         isLoaded.set(null);
+         return entry;
+      }
+      return PersistenceUtil.loadAndStoreInDataContainer(dataContainer, persistenceManager, key, ctx, timeService,
+                                                         isLoaded);
+   }
+
    private boolean skipLoad(FlagAffectedCommand cmd, Object key, InvocationContext ctx) {
       if (!shouldAttemptLookup(ctx.lookupEntry(key))) {
          if (trace) {
@@ -427,6 +495,16 @@ public long getCacheLoaderMisses() {
       return cacheMisses.get();
    }
 
+   @ManagedAttribute(
+         description = "Number of cache store loads avoided by waiting for a concurrent load of the same key",
+         displayName = "Number of coalesced cache store loads",
+         measurementType = MeasurementType.TRENDSUP
+   )
+   @SuppressWarnings("unused")
+   public long getCacheLoaderCoalescedLoads() {
+      return coalescedLoads.get();
+   }
+
    @Override
    @ManagedOperation(
          description = "Resets statistics gathered by this component",
@@ -435,6 +513,7 @@ public long getCacheLoaderMisses() {
    public void resetStatistics() {
       cacheLoads.set(0);
       cacheMisses.set(0);
+      coalescedLoads.set(0);
    }
 
    @ManagedAttribute(
@@ -556,4 +635,35 @@ public int size() {
          return (int) size;
       }
    }
+
+   private static final class PendingLoadKey {
+      private final Object key;
+      private final Address origin;
+      private final long flagsBitSet;
+      private final Equivalence<Object> keyEquivalence;
+
+      @SuppressWarnings("unchecked")
+      PendingLoadKey(Object key, Address origin, long flagsBitSet, Equivalence<?> keyEquivalence) {
+         this.key = key;
+         this.origin = origin;
+         this.flagsBitSet = flagsBitSet;
+         this.keyEquivalence = (Equivalence<Object>) keyEquivalence;
+      }
+
+      @Override
+      public boolean equals(Object o) {
+         if (this == o) return true;
+         if (!(o instanceof PendingLoadKey)) return false;
+         PendingLoadKey other = (PendingLoadKey) o;
+         return flagsBitSet == other.flagsBitSet && Objects.equals(origin, other.origin)
+               && keyEquivalence.equals(key, other.key);
+      }
+
+      @Override
+      public int hashCode() {
+         int result = keyEquivalence.hashCode(key);
+         result = 31 * result + (origin != null ? origin.hashCode() : 0);
+         return 31 * result + Long.hashCode(flagsBitSet);
+      }
+   }
 }
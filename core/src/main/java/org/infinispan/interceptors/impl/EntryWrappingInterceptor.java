@@ -37,12 +37,14 @@
 import org.infinispan.container.DataContainer;
 import org.infinispan.container.EntryFactory;
 import org.infinispan.container.entries.CacheEntry;
+import org.infinispan.container.entries.InternalCacheEntry;
 import org.infinispan.container.entries.NullCacheEntry;
 import org.infinispan.context.Flag;
 import org.infinispan.context.InvocationContext;
 import org.infinispan.context.SingleKeyNonTxInvocationContext;
 import org.infinispan.context.impl.TxInvocationContext;
 import org.infinispan.distribution.group.GroupFilter;
+import org.infinispan.distribution.group.GroupIndex;
 import org.infinispan.distribution.group.GroupManager;
 import org.infinispan.factories.annotations.Inject;
 import org.infinispan.factories.annotations.Start;
@@ -88,6 +90,7 @@ public class EntryWrappingInterceptor extends DDAsyncInterceptor {
    private StateTransferLock stateTransferLock;
    private XSiteStateConsumer xSiteStateConsumer;
    private GroupManager groupManager;
+   private GroupIndex groupIndex;
    private CacheNotifier notifier;
 
    private static final Log log = LogFactory.getLog(EntryWrappingInterceptor.class);
@@ -146,7 +149,8 @@ protected Log getLog() {
    @Inject
    public void init(EntryFactory entryFactory, DataContainer<Object, Object> dataContainer, ClusteringDependentLogic cdl,
                     CommandsFactory commandFactory, StateConsumer stateConsumer, StateTransferLock stateTransferLock,
-                    XSiteStateConsumer xSiteStateConsumer, GroupManager groupManager, CacheNotifier notifier) {
+                    XSiteStateConsumer xSiteStateConsumer, GroupManager groupManager, GroupIndex groupIndex,
+                    CacheNotifier notifier) {
       this.entryFactory = entryFactory;
       this.dataContainer = dataContainer;
       this.cdl = cdl;
@@ -155,6 +159,7 @@ public void init(EntryFactory entryFactory, DataContainer<Object, Object> dataCo
       this.stateTransferLock = stateTransferLock;
       this.xSiteStateConsumer = xSiteStateConsumer;
       this.groupManager = groupManager;
+      this.groupIndex = groupIndex;
       this.notifier = notifier;
    }
 
@@ -385,6 +390,21 @@ public CompletableFuture<Void> visitGetKeysInGroupCommand(final InvocationContex
       if (!command.isGroupOwner()) {
          return ctx.continueInvocation();
       }
+      if (groupIndex != null) {
+         for (Object key : groupIndex.getKeys(groupName)) {
+            if (ctx.lookupEntry(key) != null) {
+               continue;
+            }
+            InternalCacheEntry<Object, Object> entry = dataContainer.get(key);
+            if (entry != null) {
+               entryFactory.wrapExternalEntry(ctx, key, entry, EntryFactory.Wrap.STORE, false);
+            } else {
+               // evicted or expired, a no-op compute drops the key from the index
+               dataContainer.compute(key, (k, oldEntry, factory) -> oldEntry);
+            }
+         }
+         return ctx.continueInvocation();
+      }
       final KeyFilter<Object> keyFilter = new CompositeKeyFilter<>(new GroupFilter<>(groupName, groupManager),
                                                                    new CollectionKeyFilter<>(ctx.getLookedUpEntries().keySet()));
       dataContainer.executeTask(keyFilter, (o, internalCacheEntry) -> {
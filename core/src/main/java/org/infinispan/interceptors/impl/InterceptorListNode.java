@@ -11,9 +11,23 @@
 class InterceptorListNode {
    public final AsyncInterceptor interceptor;
    public final InterceptorListNode nextNode;
+   /**
+    * The node of the complete chain where the invocation continues when the interceptor executed just before this
+    * node forks a new command. It is the node itself, unless this node is part of a chain specialized for a
+    * command type, where interceptors that don't handle the command were skipped.
+    */
+   public final InterceptorListNode fullChainNode;
 
    public InterceptorListNode(AsyncInterceptor interceptor, InterceptorListNode next) {
       this.interceptor = interceptor;
       this.nextNode = next;
+      this.fullChainNode = this;
+   }
+
+   public InterceptorListNode(AsyncInterceptor interceptor, InterceptorListNode next,
+         InterceptorListNode fullChainNode) {
+      this.interceptor = interceptor;
+      this.nextNode = next;
+      this.fullChainNode = fullChainNode;
    }
 }
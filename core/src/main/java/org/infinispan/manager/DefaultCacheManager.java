@@ -4,6 +4,7 @@
 import org.infinispan.Cache;
 import org.infinispan.IllegalLifecycleStateException;
 import org.infinispan.Version;
+import org.infinispan.cache.impl.CacheGroupMemberCache;
 import org.infinispan.commands.RemoveCacheCommand;
 import org.infinispan.commons.CacheConfigurationException;
 import org.infinispan.commons.CacheException;
@@ -514,8 +515,14 @@ public void run() {
    @Override
    public void removeCache(String cacheName) {
       authzHelper.checkPermission(AuthorizationPermission.ADMIN);
+      CacheWrapper cacheWrapper = caches.get(cacheName);
+      boolean cacheGroupMember = cacheWrapper != null && cacheWrapper.cache instanceof CacheGroupMemberCache;
+      if (cacheGroupMember) {
+         // The entries are stored in the group cache, so they are removed once for the whole cluster
+         cacheWrapper.cache.clear();
+      }
       ComponentRegistry cacheComponentRegistry = globalComponentRegistry.getNamedComponentRegistry(cacheName);
-      if (cacheComponentRegistry != null) {
+      if (cacheComponentRegistry != null || cacheGroupMember) {
          RemoveCacheCommand cmd = new RemoveCacheCommand(ByteString.fromString(cacheName), this);
          Transport transport = getTransport();
          try {
@@ -616,12 +623,23 @@ private <K, V> Cache<K, V> wireAndStartCache(String cacheName, String configurat
             if (c.isTemplate() && cacheName.equals(configurationName)) {
                throw log.templateConfigurationStartAttempt(cacheName);
             }
+            if (c.cacheGroup() != null && (c.cacheGroup().equals(cacheName)
+                  || configurationManager.getConfigurationOrDefault(c.cacheGroup()).cacheGroup() != null)) {
+               throw log.invalidCacheGroup(cacheName, c.cacheGroup());
+            }
             createdCacheWrapper = new CacheWrapper();
             if (caches.put(cacheName, createdCacheWrapper) != null) {
                throw new IllegalStateException("attempt to initialize the cache twice");
             }
          }
 
+         if (c.cacheGroup() != null) {
+            // The caches of a group are views over the group cache, they don't have components of their own
+            Cache<K, V> cache = createCacheGroupMember(cacheName, c.cacheGroup());
+            createdCacheWrapper.setCache(cache);
+            return cache;
+         }
+
          log.tracef("About to wire and start cache %s", cacheName);
          Cache<K, V> cache = new InternalCacheFactory<K, V>().createCache(c, globalComponentRegistry, cacheName);
          ComponentRegistry cr = cache.getAdvancedCache().getComponentRegistry();
@@ -648,6 +666,24 @@ private <K, V> Cache<K, V> wireAndStartCache(String cacheName, String configurat
       }
    }
 
+   /**
+    * Removes the view of a cache of a cache group. Its entries are removed from the group cache by
+    * {@link #removeCache(String)}.
+    *
+    * @return {@code true} if this node had created the cache
+    */
+   public boolean removeCacheGroupMember(String cacheName) {
+      CacheWrapper cacheWrapper = caches.get(cacheName);
+      return cacheWrapper != null && cacheWrapper.cache instanceof CacheGroupMemberCache
+            && caches.remove(cacheName, cacheWrapper);
+   }
+
+   private <K, V> Cache<K, V> createCacheGroupMember(String cacheName, String cacheGroup) {
+      log.tracef("Creating cache %s in cache group %s", cacheName, cacheGroup);
+      Cache<?, V> groupCache = getCache(cacheGroup);
+      return new CacheGroupMemberCache<>(cacheName, groupCache.getAdvancedCache());
+   }
+
    @Override
    public void start() {
       authzHelper.checkPermission(AuthorizationPermission.LIFECYCLE);
@@ -673,6 +709,10 @@ private void terminate(String cacheName) {
             log.tracef("Ignoring cache %s, which hasn't properly started yet!", cacheName);
             return;
          }
+         if (cache instanceof CacheGroupMemberCache) {
+            // The group cache is stopped on its own
+            return;
+         }
          unregisterCacheMBean(cache);
          if (cache.getStatus().isTerminated()) {
             log.tracef("Ignoring cache %s, it is already terminated.", cacheName);
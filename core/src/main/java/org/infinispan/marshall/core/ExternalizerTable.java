@@ -4,8 +4,10 @@
 import org.infinispan.atomic.impl.AtomicHashMap;
 import org.infinispan.atomic.impl.AtomicHashMapDelta;
 import org.infinispan.atomic.impl.ClearOperation;
+import org.infinispan.atomic.impl.GroupedFieldKey;
 import org.infinispan.atomic.impl.PutOperation;
 import org.infinispan.atomic.impl.RemoveOperation;
+import org.infinispan.cache.impl.CacheGroupKey;
 import org.infinispan.commands.CommandInvocationId;
 import org.infinispan.commands.RemoteCommandsFactory;
 import org.infinispan.commands.write.ValueMatcher;
@@ -40,6 +42,8 @@
 import org.infinispan.container.versioning.NumericVersion;
 import org.infinispan.container.versioning.SimpleClusteredVersion;
 import org.infinispan.context.Flag;
+import org.infinispan.counter.impl.CounterFunctions;
+import org.infinispan.counter.impl.CounterKey;
 import org.infinispan.distribution.ch.impl.AffinityPartitioner;
 import org.infinispan.distribution.ch.impl.DefaultConsistentHash;
 import org.infinispan.distribution.ch.impl.DefaultConsistentHashFactory;
@@ -50,6 +54,7 @@
 import org.infinispan.distribution.ch.impl.SyncReplicatedConsistentHashFactory;
 import org.infinispan.distribution.ch.impl.TopologyAwareConsistentHashFactory;
 import org.infinispan.distribution.ch.impl.TopologyAwareSyncConsistentHashFactory;
+import org.infinispan.distribution.group.GroupPredicate;
 import org.infinispan.factories.GlobalComponentRegistry;
 import org.infinispan.factories.annotations.ComponentName;
 import org.infinispan.factories.annotations.Inject;
@@ -84,6 +89,7 @@
 import org.infinispan.notifications.cachelistener.filter.KeyFilterAsCacheEventFilter;
 import org.infinispan.notifications.cachelistener.filter.KeyValueFilterAsCacheEventFilter;
 import org.infinispan.partitionhandling.AvailabilityMode;
+import org.infinispan.pipeline.impl.PipelineOperations;
 import org.infinispan.remoting.responses.CacheNotFoundResponse;
 import org.infinispan.remoting.responses.ExceptionResponse;
 import org.infinispan.remoting.responses.SuccessfulResponse;
@@ -387,6 +393,13 @@ private void loadInternalMarshallables() {
       addInternalExternalizer(new PersistentUUID.Externalizer());
 
       addInternalExternalizer(new Immutables.ImmutableEntryExternalizer());
+
+      addInternalExternalizer(new CounterKey.Externalizer());
+      addInternalExternalizer(new CounterFunctions.Externalizer());
+      addInternalExternalizer(new PipelineOperations.Externalizer());
+      addInternalExternalizer(new CacheGroupKey.Externalizer());
+      addInternalExternalizer(new GroupedFieldKey.Externalizer());
+      addInternalExternalizer(new GroupPredicate.Externalizer());
    }
 
    void addInternalExternalizer(AdvancedExternalizer<?> ext) {
@@ -174,4 +174,12 @@ public interface Ids extends org.infinispan.commons.marshall.Ids {
    int AFFINITY_FUNCTION_PARTITIONER = 165;
 
    int PERSISTENT_UUID = 166;
+
+   // 167 used by immutables in commons
+   int COUNTER_KEY = 168;
+   int COUNTER_FUNCTIONS = 169;
+   int PIPELINE_OPERATIONS = 170;
+   int CACHE_GROUP_KEY = 171;
+   int GROUPED_FIELD_KEY = 172;
+   int GROUP_PREDICATE = 173;
 }
@@ -36,6 +36,7 @@
 import org.infinispan.factories.KnownComponentNames;
 import org.infinispan.lifecycle.ComponentStatus;
 import org.infinispan.marshall.core.Ids;
+import org.infinispan.notifications.cachelistener.cluster.ClusterEventsCommand;
 import org.infinispan.statetransfer.StateRequestCommand;
 import org.infinispan.statetransfer.StateResponseCommand;
 import org.infinispan.stream.impl.StreamRequestCommand;
@@ -101,7 +102,8 @@ public Set<Class<? extends CacheRpcCommand>> getTypeClasses() {
                TotalOrderVersionedCommitCommand.class, TotalOrderRollbackCommand.class,
                XSiteStateTransferControlCommand.class, XSiteStatePushCommand.class, SingleXSiteRpcCommand.class,
                ClusteredGetAllCommand.class,
-               StreamRequestCommand.class, StreamSegmentResponseCommand.class, StreamResponseCommand.class);
+               StreamRequestCommand.class, StreamSegmentResponseCommand.class, StreamResponseCommand.class,
+               ClusterEventsCommand.class);
       // Only interested in cache specific replicable commands
       coreCommands.addAll(gcr.getModuleProperties().moduleCacheRpcCommands());
       return coreCommands;
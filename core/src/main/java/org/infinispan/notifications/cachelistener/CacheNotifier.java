@@ -10,11 +10,14 @@
 import org.infinispan.metadata.Metadata;
 import org.infinispan.notifications.ClassLoaderAwareFilteringListenable;
 import org.infinispan.notifications.ClassLoaderAwareListenable;
+import org.infinispan.notifications.cachelistener.filter.CacheEventConverter;
+import org.infinispan.notifications.cachelistener.filter.CacheEventFilter;
 import org.infinispan.partitionhandling.AvailabilityMode;
 import org.infinispan.topology.CacheTopology;
 import org.infinispan.transaction.xa.GlobalTransaction;
 
 import java.util.Collection;
+import java.util.function.Function;
 
 /**
  * Public interface with all allowed notifications.
@@ -25,6 +28,15 @@
 @Scope(Scopes.NAMED_CACHE)
 public interface CacheNotifier<K, V> extends ClassLoaderAwareFilteringListenable<K, V>, ClassLoaderAwareListenable {
 
+   /**
+    * Adds a listener like {@link #addListener(Object, CacheEventFilter, CacheEventConverter)}, but the events it
+    * receives carry the keys returned by {@code keyMapper} instead of the keys of this cache. Keys mapped to
+    * {@code null} are left out of the events, and events left without any key are not delivered.
+    */
+   <C> void addKeyMappingListener(Object listener, CacheEventFilter<? super K, ? super V> filter,
+                                  CacheEventConverter<? super K, ? super V, C> converter,
+                                  Function<? super K, ?> keyMapper);
+
    /**
     * Notifies all registered listeners of a {@link org.infinispan.notifications.cachelistener.event.CacheEntryCreatedEvent} event.
     */
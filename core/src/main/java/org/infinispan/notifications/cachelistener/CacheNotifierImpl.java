@@ -61,6 +61,7 @@
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
+import java.util.function.Function;
 import java.util.stream.Stream;
 
 import static org.infinispan.commons.util.InfinispanCollections.transformCollectionToMap;
@@ -733,6 +734,19 @@ public void addListener(Object listener, KeyFilter<? super K> filter, ClassLoade
    @Override
    public <C> void addListener(Object listener, CacheEventFilter<? super K, ? super V> filter,
                                            CacheEventConverter<? super K, ? super V, C> converter, ClassLoader classLoader) {
+      addListenerInternal(listener, filter, converter, classLoader, null);
+   }
+
+   @Override
+   public <C> void addKeyMappingListener(Object listener, CacheEventFilter<? super K, ? super V> filter,
+                                         CacheEventConverter<? super K, ? super V, C> converter,
+                                         Function<? super K, ?> keyMapper) {
+      addListenerInternal(listener, filter, converter, null, keyMapper);
+   }
+
+   private <C> void addListenerInternal(Object listener, CacheEventFilter<? super K, ? super V> filter,
+                                        CacheEventConverter<? super K, ? super V, C> converter,
+                                        ClassLoader classLoader, Function<? super K, ?> keyMapper) {
       final Listener l = testListenerClassValidity(listener.getClass());
       final UUID generatedId = UUID.randomUUID();
       final CacheMode cacheMode = config.clustering().cacheMode();
@@ -752,6 +766,7 @@ public <C> void addListener(Object listener, CacheEventFilter<? super K, ? super
                   .setFilter(filter)
                   .setConverter(converter)
                   .setIdentifier(generatedId)
+                  .setKeyMapper(keyMapper)
                   .setClassLoader(classLoader);
             foundMethods = validateAndAddListenerInvocations(listener, builder);
             builder.registerListenerInvocations();
@@ -767,6 +782,7 @@ public <C> void addListener(Object listener, CacheEventFilter<? super K, ? super
                .setFilter(filter)
                .setConverter(converter)
                .setIdentifier(generatedId)
+               .setKeyMapper(keyMapper)
                .setClassLoader(classLoader);
          foundMethods = validateAndAddListenerInvocations(listener, builder);
       }
@@ -952,6 +968,7 @@ protected class CacheInvocationBuilder extends AbstractInvocationBuilder {
       boolean includeCurrentState;
       UUID identifier;
       Listener.Observation observation;
+      Function<? super K, ?> keyMapper;
 
       public CacheEventFilter<? super K, ? super V> getFilter() {
          return filter;
@@ -1016,10 +1033,18 @@ public CacheInvocationBuilder setObservation(Listener.Observation observation) {
          return this;
       }
 
+      public CacheInvocationBuilder setKeyMapper(Function<? super K, ?> keyMapper) {
+         this.keyMapper = keyMapper;
+         return this;
+      }
+
       @Override
       public CacheEntryListenerInvocation<K, V> build() {
          ListenerInvocation<Event<K, V>> invocation = new ListenerInvocationImpl(target, method, sync, classLoader,
                                                                                  subject);
+         if (keyMapper != null) {
+            invocation = new KeyMappingListenerInvocation<>(invocation, keyMapper);
+         }
 
          wireFilterAndConverterDependencies(filter, converter);
 
@@ -1108,6 +1133,49 @@ void registerListenerInvocations() {
       }
    }
 
+   /**
+    * Replaces the keys of the events before invoking the listener. Events without any key left are not delivered.
+    */
+   private static final class KeyMappingListenerInvocation<K, V> implements ListenerInvocation<Event<K, V>> {
+      private final ListenerInvocation<Event<K, V>> invocation;
+      private final Function<? super K, ?> keyMapper;
+
+      KeyMappingListenerInvocation(ListenerInvocation<Event<K, V>> invocation, Function<? super K, ?> keyMapper) {
+         this.invocation = invocation;
+         this.keyMapper = keyMapper;
+      }
+
+      @Override
+      @SuppressWarnings("unchecked")
+      public void invoke(Event<K, V> event) {
+         if (!(event instanceof EventImpl)) {
+            invocation.invoke(event);
+            return;
+         }
+         EventImpl<K, V> eventImpl = (EventImpl<K, V>) event;
+         EventImpl<K, V> mapped = eventImpl.clone();
+         if (eventImpl.getType() == CACHE_ENTRY_EVICTED) {
+            Map<K, V> entries = new HashMap<>();
+            eventImpl.getEntries().forEach((k, v) -> {
+               K key = (K) keyMapper.apply(k);
+               if (key != null) entries.put(key, v);
+            });
+            if (entries.isEmpty()) return;
+            mapped.setEntries(entries);
+         } else if (eventImpl.getKey() != null) {
+            K key = (K) keyMapper.apply(eventImpl.getKey());
+            if (key == null) return;
+            mapped.setKey(key);
+         }
+         invocation.invoke(mapped);
+      }
+
+      @Override
+      public Object getTarget() {
+         return invocation.getTarget();
+      }
+   }
+
    protected class NonClusteredListenerInvocation extends BaseCacheEntryListenerInvocation<K, V> {
 
       private final QueueingSegmentListener<K, V, Event<K, V>> handler;
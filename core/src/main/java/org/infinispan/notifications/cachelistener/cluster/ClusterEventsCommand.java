@@ -0,0 +1,104 @@
+package org.infinispan.notifications.cachelistener.cluster;
+
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.UUID;
+
+import org.infinispan.Cache;
+import org.infinispan.commands.remote.BaseRpcCommand;
+import org.infinispan.context.InvocationContext;
+import org.infinispan.util.ByteString;
+import org.infinispan.util.logging.Log;
+import org.infinispan.util.logging.LogFactory;
+
+/**
+ * Delivers a batch of cluster events to the cluster listeners registered on the target node. Unlike
+ * {@link MultiClusterEventCallable} it does not go through the distributed executor.
+ *
+ * @since 9.0
+ */
+public class ClusterEventsCommand<K, V> extends BaseRpcCommand {
+   public static final byte COMMAND_ID = 61;
+
+   private static final Log log = LogFactory.getLog(ClusterEventsCommand.class);
+   private static final boolean trace = log.isTraceEnabled();
+
+   private Cache<K, V> cache;
+   private ClusterCacheNotifier<K, V> clusterCacheNotifier;
+
+   private Map<UUID, Collection<ClusterEvent<K, V>>> events;
+
+   // Only here for CommandIdUniquenessTest
+   private ClusterEventsCommand() { super(null); }
+
+   public ClusterEventsCommand(ByteString cacheName) {
+      super(cacheName);
+   }
+
+   public ClusterEventsCommand(ByteString cacheName, Map<UUID, Collection<ClusterEvent<K, V>>> events) {
+      super(cacheName);
+      this.events = events;
+   }
+
+   public void init(Cache<K, V> cache, ClusterCacheNotifier<K, V> clusterCacheNotifier) {
+      this.cache = cache;
+      this.clusterCacheNotifier = clusterCacheNotifier;
+   }
+
+   public Map<UUID, Collection<ClusterEvent<K, V>>> getEvents() {
+      return events;
+   }
+
+   @Override
+   public Object perform(InvocationContext ctx) throws Throwable {
+      if (trace) {
+         log.tracef("Received cluster event(s) %s", events);
+      }
+      for (Entry<UUID, Collection<ClusterEvent<K, V>>> entry : events.entrySet()) {
+         Collection<ClusterEvent<K, V>> listenerEvents = entry.getValue();
+         for (ClusterEvent<K, V> event : listenerEvents) {
+            event.cache = cache;
+         }
+         clusterCacheNotifier.notifyClusterListeners(listenerEvents, entry.getKey());
+      }
+      return null;
+   }
+
+   @Override
+   public byte getCommandId() {
+      return COMMAND_ID;
+   }
+
+   @Override
+   public void writeTo(ObjectOutput output) throws IOException {
+      output.writeObject(events);
+   }
+
+   @Override
+   public void readFrom(ObjectInput input) throws IOException, ClassNotFoundException {
+      events = (Map<UUID, Collection<ClusterEvent<K, V>>>) input.readObject();
+   }
+
+   @Override
+   public boolean isReturnValueExpected() {
+      return false;
+   }
+
+   @Override
+   public boolean canBlock() {
+      // Listeners may block
+      return true;
+   }
+
+   @Override
+   public String toString() {
+      return "ClusterEventsCommand{" +
+            "cacheName=" + cacheName +
+            ", events=" + events +
+            '}';
+   }
+}
@@ -1,38 +1,73 @@
 package org.infinispan.notifications.cachelistener.cluster.impl;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
 
 import org.infinispan.Cache;
+import org.infinispan.commands.CommandsFactory;
 import org.infinispan.commons.CacheException;
-import org.infinispan.distexec.DistributedExecutionCompletionService;
-import org.infinispan.distexec.DistributedExecutorService;
-import org.infinispan.factories.annotations.Start;
+import org.infinispan.factories.annotations.Inject;
 import org.infinispan.notifications.cachelistener.cluster.ClusterEvent;
-import org.infinispan.notifications.cachelistener.cluster.ClusterEventCallable;
 import org.infinispan.notifications.cachelistener.cluster.ClusterEventManager;
-import org.infinispan.notifications.cachelistener.cluster.MultiClusterEventCallable;
+import org.infinispan.notifications.cachelistener.cluster.ClusterEventsCommand;
+import org.infinispan.remoting.rpc.RpcManager;
 import org.infinispan.remoting.transport.Address;
+import org.infinispan.remoting.transport.jgroups.SuspectException;
+import org.infinispan.util.logging.Log;
+import org.infinispan.util.logging.LogFactory;
 
+/**
+ * Sends the cluster events gathered by a thread in a single {@link ClusterEventsCommand} per target node.
+ * <p>
+ * Events for synchronous cluster listeners are sent right away and the thread waits for them to be delivered. Events
+ * for asynchronous cluster listeners go through a per target {@link EventStream}, which keeps a single batch in
+ * flight: events raised while a batch is being delivered are coalesced into the next one, whatever the transaction
+ * or thread that raised them. This preserves the order of the events and bounds the requests a busy cache sends to a
+ * listener node.
+ * <p>
+ * The events waiting for the batch in flight are bounded too, without ever blocking the writers: once a stream holds
+ * {@link #MAX_PENDING_EVENTS}, new events for that node are dropped with a warning until the batch in flight is
+ * acknowledged. A batch that fails for any reason other than the node leaving is sent again, up to
+ * {@link #MAX_SEND_ATTEMPTS} times, before its events are dropped with a warning.
+ */
 public class BatchingClusterEventManagerImpl<K, V> implements ClusterEventManager<K, V>{
+   private static final Log log = LogFactory.getLog(BatchingClusterEventManagerImpl.class);
+   private static final boolean trace = log.isTraceEnabled();
+   static final int MAX_PENDING_EVENTS = 1024;
+   static final int MAX_SEND_ATTEMPTS = 3;
+
    private final Cache<K, V> cache;
-   
-   private DistributedExecutorService distExecService;
-   
+
+   private RpcManager rpcManager;
+   private CommandsFactory commandsFactory;
+
+   private final ConcurrentMap<Address, EventStream> streams = new ConcurrentHashMap<>();
+
    private final ThreadLocal<EventContext<K, V>> localContext = new ThreadLocal<>();
-   
+
+   private int maxPendingEvents = MAX_PENDING_EVENTS;
+
    public BatchingClusterEventManagerImpl(Cache<K, V> cache) {
       this.cache = cache;
    }
-   
-   @Start
-   public void start() {
-      distExecService = SecurityActions.getDefaultExecutorService(cache);
+
+   @Inject
+   public void inject(RpcManager rpcManager, CommandsFactory commandsFactory) {
+      this.rpcManager = rpcManager;
+      this.commandsFactory = commandsFactory;
    }
-   
+
    @Override
    public void addEvents(Address target, UUID identifier, Collection<ClusterEvent<K, V>> events, boolean sync) {
       EventContext<K, V> ctx = localContext.get();
@@ -47,22 +82,46 @@ public void addEvents(Address target, UUID identifier, Collection<ClusterEvent<K
    public void sendEvents() {
       EventContext<K, V> ctx = localContext.get();
       if (ctx != null) {
-         ctx.sendToTargets(distExecService);
+         ctx.sendToTargets(this);
          localContext.remove();
       }
    }
-   
+
    @Override
    public void dropEvents() {
       localContext.remove();
    }
-   
+
+   private CompletableFuture<?> send(Address target, Map<UUID, Collection<ClusterEvent<K, V>>> events) {
+      ClusterEventsCommand<K, V> command = commandsFactory.buildClusterEventsCommand(events);
+      try {
+         return rpcManager.invokeRemotelyAsync(Collections.singleton(target), command,
+               rpcManager.getDefaultRpcOptions(true));
+      } catch (Throwable t) {
+         CompletableFuture<?> failed = new CompletableFuture<>();
+         failed.completeExceptionally(t);
+         return failed;
+      }
+   }
+
+   private void stream(Address target, Map<UUID, Collection<ClusterEvent<K, V>>> events) {
+      EventStream stream = streams.get(target);
+      if (stream == null) {
+         stream = new EventStream(target);
+         EventStream existing = streams.putIfAbsent(target, stream);
+         if (existing != null) {
+            stream = existing;
+         }
+      }
+      stream.add(events);
+   }
+
    private static interface EventContext<K, V> {
       public void addTargets(Address address, UUID identifier, Collection<ClusterEvent<K, V>> events, boolean sync);
-      
-      public void sendToTargets(DistributedExecutorService service);
+
+      public void sendToTargets(BatchingClusterEventManagerImpl<K, V> manager);
    }
-   
+
    protected static class UnicastEventContext<K, V> implements EventContext<K, V> {
       protected final Map<Address, TargetEvents<K, V>> targets = new HashMap<>();
 
@@ -73,56 +132,151 @@ public void addTargets(Address address, UUID identifier, Collection<ClusterEvent
             targetEvents = new TargetEvents<>();
             targets.put(address, targetEvents);
          }
-         
-         Map<UUID, Collection<ClusterEvent<K, V>>> listenerEvents = targetEvents.events;
+
+         Map<UUID, Collection<ClusterEvent<K, V>>> listenerEvents = sync ? targetEvents.syncEvents : targetEvents.asyncEvents;
          // This shouldn't be set before, so do put instead of doing get then put
          Collection<ClusterEvent<K, V>> prevEvents = listenerEvents.put(identifier, events);
          if (prevEvents != null) {
             // If we have multiple events to the same node for the same uuid condense them.  This shouldn't really happen...
             events.addAll(prevEvents);
          }
-         if (sync) {
-            targetEvents.sync = true;
-         }
       }
-      
+
       @Override
-      public void sendToTargets(DistributedExecutorService service) {
-         DistributedExecutionCompletionService<Void> completion = new DistributedExecutionCompletionService<Void>(service);
-         int syncCount = 0;
+      public void sendToTargets(BatchingClusterEventManagerImpl<K, V> manager) {
+         List<CompletableFuture<?>> syncFutures = null;
          for (Entry<Address, TargetEvents<K, V>> entry : targets.entrySet()) {
             TargetEvents<K, V> value = entry.getValue();
-            if (value.events.size() > 1) {
-               if (value.sync) {
-                  completion.submit(entry.getKey(), new MultiClusterEventCallable<>(value.events));
-                  syncCount++;
-               } else {
-                  service.submit(entry.getKey(), new MultiClusterEventCallable<>(value.events));
+            if (!value.asyncEvents.isEmpty()) {
+               manager.stream(entry.getKey(), value.asyncEvents);
+            }
+            if (!value.syncEvents.isEmpty()) {
+               if (syncFutures == null) {
+                  syncFutures = new ArrayList<>(targets.size());
                }
-            } else if (value.events.size() == 1) {
-               Entry<UUID, Collection<ClusterEvent<K, V>>> entryValue = value.events.entrySet().iterator().next();
-               if (value.sync) {
-                  completion.submit(entry.getKey(), new ClusterEventCallable<K, V>(entryValue.getKey(), entryValue.getValue()));
-                  syncCount++;
-               } else {
-                  service.submit(entry.getKey(), new ClusterEventCallable<K, V>(entryValue.getKey(), entryValue.getValue()));
+               syncFutures.add(manager.send(entry.getKey(), value.syncEvents));
+            }
+         }
+
+         if (syncFutures != null) {
+            try {
+               for (CompletableFuture<?> future : syncFutures) {
+                  future.get();
+               }
+            } catch (InterruptedException e) {
+               Thread.currentThread().interrupt();
+               throw new CacheException("Interrupted while waiting for event notifications to complete.", e);
+            } catch (ExecutionException e) {
+               // Delivery failures are not reported to the writer, as with any other listener
+               if (trace) {
+                  log.tracef(e.getCause(), "Failed to deliver cluster events");
                }
             }
          }
-         
-         try {
-            for (int i = 0; i < syncCount; ++i) {
-               completion.take();
+      }
+   }
+
+   private static class TargetEvents<K, V> {
+      final Map<UUID, Collection<ClusterEvent<K, V>>> syncEvents = new HashMap<>();
+      final Map<UUID, Collection<ClusterEvent<K, V>>> asyncEvents = new HashMap<>();
+   }
+
+   /**
+    * Ordered stream of asynchronous cluster events to a single node. Only one batch is in flight at any time, so the
+    * events are delivered in the order they were added, and the next batch is sent once the node acknowledged the
+    * previous one. Events added to a full stream are dropped.
+    */
+   private class EventStream {
+      private final Address target;
+      // Guarded by this
+      private Map<UUID, Collection<ClusterEvent<K, V>>> pending = new HashMap<>();
+      private int pendingCount;
+      private boolean inFlight;
+      private boolean overflowing;
+
+      EventStream(Address target) {
+         this.target = target;
+      }
+
+      void add(Map<UUID, Collection<ClusterEvent<K, V>>> events) {
+         Map<UUID, Collection<ClusterEvent<K, V>>> batch;
+         synchronized (this) {
+            if (inFlight && pendingCount >= maxPendingEvents) {
+               if (!overflowing) {
+                  overflowing = true;
+                  log.clusterEventsOverflow(maxPendingEvents, target);
+               }
+               return;
+            }
+            for (Entry<UUID, Collection<ClusterEvent<K, V>>> entry : events.entrySet()) {
+               pendingCount += entry.getValue().size();
+               Collection<ClusterEvent<K, V>> listenerEvents = pending.get(entry.getKey());
+               if (listenerEvents == null) {
+                  pending.put(entry.getKey(), new ArrayList<>(entry.getValue()));
+               } else {
+                  listenerEvents.addAll(entry.getValue());
+               }
             }
+            if (inFlight) {
+               // Coalesced with the events waiting for the batch in flight
+               return;
+            }
+            inFlight = true;
+            batch = takePending();
          }
-         catch (InterruptedException e) {
-            throw new CacheException("Interrupted while waiting for event notifications to complete.", e);
+         sendBatch(batch, 1);
+      }
+
+      // Guarded by this
+      private Map<UUID, Collection<ClusterEvent<K, V>>> takePending() {
+         Map<UUID, Collection<ClusterEvent<K, V>>> batch = pending;
+         pending = new HashMap<>();
+         pendingCount = 0;
+         overflowing = false;
+         return batch;
+      }
+
+      private void sendBatch(Map<UUID, Collection<ClusterEvent<K, V>>> batch, int attempt) {
+         if (trace) {
+            log.tracef("Sending cluster events %s to %s", batch, target);
          }
+         send(target, batch).whenComplete((responses, throwable) -> {
+            Throwable cause = throwable instanceof CompletionException ? throwable.getCause() : throwable;
+            if (cause != null && !(cause instanceof SuspectException)) {
+               int count = eventCount(batch);
+               log.clusterEventsDeliveryFailed(count, target, attempt, MAX_SEND_ATTEMPTS, cause);
+               if (attempt < MAX_SEND_ATTEMPTS) {
+                  // Still in flight, the pending events wait for this batch
+                  sendBatch(batch, attempt + 1);
+                  return;
+               }
+               log.clusterEventsDropped(count, target, attempt);
+            }
+            Map<UUID, Collection<ClusterEvent<K, V>>> next;
+            synchronized (this) {
+               if (cause instanceof SuspectException) {
+                  // The cluster listeners of a node that left are gone with it
+                  takePending();
+                  inFlight = false;
+                  streams.remove(target, this);
+                  return;
+               }
+               if (pending.isEmpty()) {
+                  inFlight = false;
+                  return;
+               }
+               next = takePending();
+            }
+            sendBatch(next, 1);
+         });
       }
    }
-   
-   private static class TargetEvents<K, V> {
-      final Map<UUID, Collection<ClusterEvent<K, V>>> events = new HashMap<>();
-      boolean sync = false;
+
+   private static <K, V> int eventCount(Map<UUID, Collection<ClusterEvent<K, V>>> batch) {
+      int count = 0;
+      for (Collection<ClusterEvent<K, V>> events : batch.values()) {
+         count += events.size();
+      }
+      return count;
    }
 }
@@ -5,6 +5,7 @@
 import org.infinispan.commons.io.ByteBufferFactory;
 import org.infinispan.commons.marshall.StreamingMarshaller;
 import org.infinispan.commons.util.Util;
+import org.infinispan.configuration.cache.AbstractStoreConfiguration;
 import org.infinispan.configuration.cache.Configuration;
 import org.infinispan.configuration.cache.EvictionConfigurationBuilder;
 import org.infinispan.configuration.cache.Index;
@@ -83,6 +84,8 @@ public class PersistenceManagerImpl implements PersistenceManager {
 
    private final ReadWriteLock storesMutex = new ReentrantReadWriteLock();
    private final Map<Object, StoreConfiguration> configMap = new HashMap<>();
+   // The Bloom filters of the stores that enable them, mapped from both the loader and the writer
+   private final Map<Object, StoreBloomFilter> bloomFilters = new HashMap<>();
 
    private CacheStoreFactoryRegistry cacheStoreFactoryRegistry;
    private ExpirationManager expirationManager;
@@ -162,6 +165,12 @@ public void start() {
                   }
                }
             }
+
+            for (CacheLoader l : loaders) {
+               StoreBloomFilter bloomFilter = bloomFilters.get(l);
+               if (bloomFilter != null)
+                  bloomFilter.build();
+            }
          } finally {
             if (xaTx != null) {
                transactionManager.resume(xaTx);
@@ -255,14 +264,18 @@ public void disableStore(String storeType) {
             Iterator<CacheLoader> clIt = loaders.iterator();
             while (clIt.hasNext()) {
                CacheLoader l = clIt.next();
-               if (undelegate(l).getClass().getName().equals(storeType))
+               if (undelegate(l).getClass().getName().equals(storeType)) {
                   clIt.remove();
+                  bloomFilters.remove(l);
+               }
             }
             Iterator<CacheWriter> cwIt = writers.iterator();
             while (cwIt.hasNext()) {
                CacheWriter w = cwIt.next();
-               if (undelegate(w).getClass().getName().equals(storeType))
+               if (undelegate(w).getClass().getName().equals(storeType)) {
                   cwIt.remove();
+                  bloomFilters.remove(w);
+               }
             }
          } finally {
             storesMutex.writeLock().unlock();
@@ -451,6 +464,11 @@ public MarshalledEntry loadFromAllStores(Object key, InvocationContext context)
          for (CacheLoader l : loaders) {
             if (!context.isOriginLocal() && isLocalOnlyLoader(l))
                continue;
+            StoreBloomFilter bloomFilter = bloomFilters.get(l);
+            if (bloomFilter != null && !bloomFilter.mightContain(key)) {
+               if (trace) log.tracef("Skipping lookup of key %s in store %s, it is not in the Bloom filter", key, l);
+               continue;
+            }
 
             MarshalledEntry load = l.load(key);
             if (load != null)
@@ -478,7 +496,15 @@ public void writeToAllStores(MarshalledEntry marshalledEntry, AccessMode mode) {
       try {
          for (CacheWriter w : writers) {
             if (mode.canPerform(configMap.get(w))) {
-               w.write(marshalledEntry);
+               StoreBloomFilter bloomFilter = bloomFilters.get(w);
+               if (bloomFilter != null) {
+                  // Add the key both before and after the write, so that a concurrent rebuild cannot miss it
+                  bloomFilter.add(marshalledEntry.getKey());
+                  w.write(marshalledEntry);
+                  bloomFilter.add(marshalledEntry.getKey());
+               } else {
+                  w.write(marshalledEntry);
+               }
             }
          }
       } finally {
@@ -545,7 +571,22 @@ private void createLoadersAndWriters() {
          initializeLoader(processedConfiguration, loader, ctx);
          initializeWriter(processedConfiguration, writer, ctx);
          initializeBareInstance(bareInstance, ctx);
+         createBloomFilter(processedConfiguration, loader, writer);
+      }
+   }
+
+   private void createBloomFilter(StoreConfiguration cfg, CacheLoader loader, CacheWriter writer) {
+      if (!(cfg instanceof AbstractStoreConfiguration) || !((AbstractStoreConfiguration) cfg).bloomFilter())
+         return;
+      if (!(loader instanceof AdvancedCacheLoader)) {
+         log.debugf("Not using a Bloom filter for store %s, it cannot iterate over its keys", loader);
+         return;
       }
+      StoreBloomFilter bloomFilter = new StoreBloomFilter((AdvancedCacheLoader<Object, Object>) loader,
+            configuration.dataContainer().keyEquivalence(), persistenceExecutor);
+      bloomFilters.put(loader, bloomFilter);
+      if (writer != null)
+         bloomFilters.put(writer, bloomFilter);
    }
 
    private CacheLoader postProcessReader(StoreConfiguration cfg, CacheWriter writer, CacheLoader loader) {
@@ -0,0 +1,165 @@
+package org.infinispan.persistence.manager;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.infinispan.commons.equivalence.Equivalence;
+import org.infinispan.persistence.spi.AdvancedCacheLoader;
+import org.infinispan.util.concurrent.WithinThreadExecutor;
+import org.infinispan.util.logging.Log;
+import org.infinispan.util.logging.LogFactory;
+
+/**
+ * A Bloom filter of the keys written to a cache store, used to skip the store lookups for the keys that were never
+ * written to it.
+ * <p>
+ * The filter is built from the store contents, and every key written through the persistence manager is added to it
+ * both before and after the write, so it never misses a key present in the store. Removals are not tracked, they only
+ * cause false positives. When the number of keys exceeds the capacity of the filter, a bigger filter is built from the
+ * store contents in the background.
+ *
+ * @since 9.0
+ */
+final class StoreBloomFilter {
+   private static final Log log = LogFactory.getLog(StoreBloomFilter.class);
+
+   private static final long MIN_CAPACITY = 1 << 16;
+
+   private final AdvancedCacheLoader<Object, Object> loader;
+   private final Equivalence<Object> keyEquivalence;
+   private final Executor executor;
+   private final AtomicBoolean rebuildInProgress = new AtomicBoolean();
+
+   // null until the first build completes, until then the store is always looked up
+   private volatile Filter current;
+   // the filter being built, it also receives the keys written during the build
+   private volatile Filter next;
+
+   StoreBloomFilter(AdvancedCacheLoader<Object, Object> loader, Equivalence<Object> keyEquivalence, Executor executor) {
+      this.loader = loader;
+      this.keyEquivalence = keyEquivalence;
+      this.executor = executor;
+   }
+
+   /**
+    * @return {@code false} if the key was never written to the store, {@code true} if it might have been
+    */
+   boolean mightContain(Object key) {
+      Filter filter = current;
+      return filter == null || filter.mightContain(keyEquivalence.hashCode(key));
+   }
+
+   /**
+    * Must be invoked both before and after writing the key to the store: the second invocation guarantees that a
+    * concurrent build either sees the key in the store or receives it here.
+    */
+   void add(Object key) {
+      int hash = keyEquivalence.hashCode(key);
+      // Read next before current, the build publishes the new filter as current before clearing next
+      Filter building = next;
+      Filter filter = current;
+      boolean saturated = false;
+      if (filter != null) {
+         filter.add(hash);
+         saturated = filter.isSaturated();
+      }
+      if (building != null) {
+         building.add(hash);
+      }
+      if (saturated && rebuildInProgress.compareAndSet(false, true)) {
+         executor.execute(() -> {
+            try {
+               build();
+            } catch (Throwable t) {
+               log.debugf(t, "Unable to rebuild the Bloom filter of store %s", loader);
+            } finally {
+               rebuildInProgress.set(false);
+            }
+         });
+      }
+   }
+
+   /**
+    * Builds a new filter from the store contents, sized for twice the current number of entries.
+    */
+   void build() {
+      Filter filter = new Filter(Math.max(MIN_CAPACITY, 2L * loader.size()));
+      next = filter;
+      try {
+         loader.process(null, (marshalledEntry, taskContext) -> filter.add(keyEquivalence.hashCode(marshalledEntry.getKey())),
+               new WithinThreadExecutor(), false, false);
+         current = filter;
+      } finally {
+         next = null;
+      }
+      log.debugf("Built Bloom filter of store %s with capacity %d", loader, filter.capacity);
+   }
+
+   private static final class Filter {
+      // 10 bits per key and 7 hash functions give about 1% false positives at capacity
+      private static final int BITS_PER_KEY = 10;
+      private static final int NUM_HASHES = 7;
+
+      private final long capacity;
+      private final long numBits;
+      private final AtomicLongArray bits;
+      private final LongAdder keys = new LongAdder();
+
+      Filter(long capacity) {
+         this.capacity = capacity;
+         int numWords = (int) Math.min(Integer.MAX_VALUE, (capacity * BITS_PER_KEY + 63) / 64);
+         this.numBits = numWords * 64L;
+         this.bits = new AtomicLongArray(numWords);
+      }
+
+      void add(int hash) {
+         long h1 = mix(hash);
+         long h2 = mix(h1) | 1;
+         boolean modified = false;
+         for (int i = 0; i < NUM_HASHES; i++) {
+            long bit = Math.floorMod(h1 + i * h2, numBits);
+            int word = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            long value = bits.get(word);
+            while ((value & mask) == 0) {
+               if (bits.compareAndSet(word, value, value | mask)) {
+                  modified = true;
+                  break;
+               }
+               value = bits.get(word);
+            }
+         }
+         if (modified) {
+            keys.increment();
+         }
+      }
+
+      boolean mightContain(int hash) {
+         long h1 = mix(hash);
+         long h2 = mix(h1) | 1;
+         for (int i = 0; i < NUM_HASHES; i++) {
+            long bit = Math.floorMod(h1 + i * h2, numBits);
+            if ((bits.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+               return false;
+            }
+         }
+         return true;
+      }
+
+      boolean isSaturated() {
+         return keys.sum() > capacity;
+      }
+
+      private static long mix(long h) {
+         // MurmurHash3 fmix64
+         h ^= h >>> 33;
+         h *= 0xff51afd7ed558ccdL;
+         h ^= h >>> 33;
+         h *= 0xc4ceb9fe1a85ec53L;
+         h ^= h >>> 33;
+         return h;
+      }
+   }
+}
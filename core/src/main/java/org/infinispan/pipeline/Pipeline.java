@@ -0,0 +1,63 @@
+package org.infinispan.pipeline;
+
+import org.infinispan.AdvancedCache;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Collects independent cache operations and submits them together when {@link #execute()} is invoked.
+ * <p>
+ * Operations are grouped by key: keys which are only read are fetched with a single
+ * {@link AdvancedCache#getAll(java.util.Set)}, while keys with at least one write are applied by a single
+ * read-write functional command, which sends one request to the primary owner of each group of keys. Operations on
+ * the same key are applied in the order they were added, on the owner of the key, under the key lock.
+ * <p>
+ * A pipeline is not atomic and does not start a transaction: each key is updated independently and a failure on one
+ * owner does not roll back the writes applied on the others. The future returned by each operation is completed
+ * once {@link #execute()} returns, either with the operation result or exceptionally with the failure of the request
+ * that carried it.
+ * <p>
+ * Instances are not thread-safe and can be executed only once.
+ *
+ * @param <K> the type of keys
+ * @param <V> the type of values
+ * @since 9.0
+ * @see AdvancedCache#pipeline()
+ */
+public interface Pipeline<K, V> {
+
+   /**
+    * Reads the value associated with the key.
+    *
+    * @return a future completed with the value, or {@code null} if the key is not mapped
+    */
+   CompletableFuture<V> get(K key);
+
+   /**
+    * Associates the value with the key.
+    *
+    * @return a future completed with the previous value, or {@code null} if the key was not mapped
+    */
+   CompletableFuture<V> put(K key, V value);
+
+   /**
+    * Removes the mapping for the key.
+    *
+    * @return a future completed with the previous value, or {@code null} if the key was not mapped
+    */
+   CompletableFuture<V> remove(K key);
+
+   /**
+    * @return the number of operations added so far
+    */
+   int size();
+
+   /**
+    * Submits all the operations added so far and waits for them to complete. The futures returned by the individual
+    * operations are completed before this method returns. If any request fails, the affected futures are completed
+    * exceptionally and the first failure is rethrown once all the requests have completed.
+    *
+    * @throws IllegalStateException if the pipeline has already been executed
+    */
+   void execute();
+}
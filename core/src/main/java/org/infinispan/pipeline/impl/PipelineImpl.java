@@ -0,0 +1,224 @@
+package org.infinispan.pipeline.impl;
+
+import org.infinispan.AdvancedCache;
+import org.infinispan.cache.impl.DecoratedCache;
+import org.infinispan.commons.CacheException;
+import org.infinispan.commons.api.functional.FunctionalMap.ReadWriteMap;
+import org.infinispan.configuration.cache.Configuration;
+import org.infinispan.functional.impl.FunctionalMapImpl;
+import org.infinispan.functional.impl.ReadWriteMapImpl;
+import org.infinispan.pipeline.Pipeline;
+import org.infinispan.util.logging.Log;
+import org.infinispan.util.logging.LogFactory;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * {@link Pipeline} implementation which reads the keys without writes through
+ * {@link AdvancedCache#getAll(Set)} and applies all the other keys with a single
+ * {@link ReadWriteMap#evalMany(Map, java.util.function.BiFunction)} invocation. Both commands already split their
+ * keys by owner, so the number of requests depends on the number of owners involved rather than on the number of
+ * operations.
+ * <p>
+ * Simple caches don't support the functional API, so their keys with writes are applied one by one with
+ * {@link AdvancedCache#compute(Object, java.util.function.BiFunction)}. There is no remote request to save there.
+ * <p>
+ * The functional commands skip indexing, cache stores and transactions, and ignore the flags of a
+ * {@link DecoratedCache}. If any of those are involved, the keys with writes are applied one operation at a time
+ * with the regular commands instead.
+ *
+ * @since 9.0
+ */
+public final class PipelineImpl<K, V> implements Pipeline<K, V> {
+   private static final Log log = LogFactory.getLog(PipelineImpl.class);
+   private static final boolean trace = log.isTraceEnabled();
+
+   private final AdvancedCache<K, V> cache;
+   private final Map<K, PendingKey<V>> pending = new LinkedHashMap<>();
+   private int size;
+   private boolean executed;
+
+   public PipelineImpl(AdvancedCache<K, V> cache) {
+      this.cache = cache;
+   }
+
+   @Override
+   public CompletableFuture<V> get(K key) {
+      return add(key, PipelineOperations.GET, null);
+   }
+
+   @Override
+   public CompletableFuture<V> put(K key, V value) {
+      if (value == null)
+         throw new NullPointerException("Null values are not supported!");
+      return add(key, PipelineOperations.PUT, value);
+   }
+
+   @Override
+   public CompletableFuture<V> remove(K key) {
+      return add(key, PipelineOperations.REMOVE, null);
+   }
+
+   @Override
+   public int size() {
+      return size;
+   }
+
+   private CompletableFuture<V> add(K key, byte type, V value) {
+      if (key == null)
+         throw new NullPointerException("Null keys are not supported!");
+      checkNotExecuted();
+      PendingKey<V> pendingKey = pending.get(key);
+      if (pendingKey == null) {
+         pendingKey = new PendingKey<>();
+         pending.put(key, pendingKey);
+      }
+      CompletableFuture<V> future = new CompletableFuture<>();
+      pendingKey.operations.add(type, value);
+      pendingKey.futures.add(future);
+      size++;
+      return future;
+   }
+
+   @Override
+   @SuppressWarnings("unchecked")
+   public void execute() {
+      checkNotExecuted();
+      executed = true;
+      if (trace) log.tracef("Executing pipeline with %d operations on %d keys", size, pending.size());
+
+      Set<K> readKeys = new HashSet<>();
+      Map<K, PipelineOperations> writes = new HashMap<>();
+      pending.forEach((key, pendingKey) -> {
+         if (pendingKey.operations.isReadOnly()) {
+            readKeys.add(key);
+         } else {
+            writes.put(key, pendingKey.operations);
+         }
+      });
+
+      Throwable failure = null;
+      if (!readKeys.isEmpty()) {
+         try {
+            Map<K, V> values = cache.getAll(readKeys);
+            for (K key : readKeys) {
+               pending.get(key).completeAll(values.get(key));
+            }
+         } catch (Throwable t) {
+            failure = t;
+            failAll(readKeys, t);
+         }
+      }
+      if (!writes.isEmpty() && cache.getCacheConfiguration().simpleCache()) {
+         try {
+            writes.forEach(this::compute);
+         } catch (Throwable t) {
+            if (failure == null)
+               failure = t;
+            failAll(writes.keySet(), t);
+         }
+      } else if (!writes.isEmpty() && !canEvalMany()) {
+         try {
+            writes.forEach(this::applyOneByOne);
+         } catch (Throwable t) {
+            if (failure == null)
+               failure = t;
+            failAll(writes.keySet(), t);
+         }
+      } else if (!writes.isEmpty()) {
+         try {
+            ReadWriteMap<K, PipelineOperations> readWriteMap = ReadWriteMapImpl.create(FunctionalMapImpl.create(
+                  (AdvancedCache<K, PipelineOperations>) (AdvancedCache) cache));
+            readWriteMap.evalMany(writes, PipelineOperations.apply()).forEach(this::complete);
+            for (K key : writes.keySet()) {
+               pending.get(key).failIncomplete(() -> new CacheException("No result received for key " + key));
+            }
+         } catch (Throwable t) {
+            if (failure == null)
+               failure = t;
+            failAll(writes.keySet(), t);
+         }
+      }
+      if (failure instanceof RuntimeException)
+         throw (RuntimeException) failure;
+      else if (failure != null)
+         throw new CacheException(failure);
+   }
+
+   /**
+    * The functional commands bypass the query indexing, the cache loader and passivation, the transactional paths
+    * and any flags set on the cache, so the pipeline only uses them when none of those apply.
+    */
+   private boolean canEvalMany() {
+      Configuration config = cache.getCacheConfiguration();
+      if (config.indexing().index().isEnabled() || config.persistence().usingStores()
+            || config.transaction().transactionMode().isTransactional())
+         return false;
+      return !(cache instanceof DecoratedCache) || ((DecoratedCache<K, V>) cache).getFlags().isEmpty();
+   }
+
+   private void applyOneByOne(K key, PipelineOperations operations) {
+      Object[] results = new Object[operations.size() + 1];
+      results[0] = key;
+      operations.applyTo(cache, key, results);
+      complete(results);
+   }
+
+   @SuppressWarnings("unchecked")
+   private void compute(K key, PipelineOperations operations) {
+      Object[] results = new Object[operations.size() + 1];
+      results[0] = key;
+      cache.compute(key, (k, oldValue) -> (V) operations.replay(oldValue, results));
+      complete(results);
+   }
+
+   @SuppressWarnings("unchecked")
+   private void complete(Object[] results) {
+      PendingKey<V> pendingKey = pending.get(results[0]);
+      for (int i = 0; i < pendingKey.futures.size(); i++) {
+         pendingKey.futures.get(i).complete((V) results[i + 1]);
+      }
+   }
+
+   private void failAll(Set<K> keys, Throwable t) {
+      for (K key : keys) {
+         pending.get(key).failIncomplete(() -> t);
+      }
+   }
+
+   private void checkNotExecuted() {
+      if (executed)
+         throw new IllegalStateException("Pipeline has already been executed");
+   }
+
+   @Override
+   public String toString() {
+      return "Pipeline{cache=" + cache.getName() + ", size=" + size + ", executed=" + executed + '}';
+   }
+
+   private static final class PendingKey<V> {
+      final PipelineOperations operations = new PipelineOperations();
+      final List<CompletableFuture<V>> futures = new ArrayList<>(2);
+
+      void completeAll(V value) {
+         for (CompletableFuture<V> future : futures) {
+            future.complete(value);
+         }
+      }
+
+      void failIncomplete(Supplier<Throwable> failure) {
+         for (CompletableFuture<V> future : futures) {
+            if (!future.isDone())
+               future.completeExceptionally(failure.get());
+         }
+      }
+   }
+}
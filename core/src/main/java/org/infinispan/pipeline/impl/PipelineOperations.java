@@ -0,0 +1,208 @@
+package org.infinispan.pipeline.impl;
+
+import org.infinispan.AdvancedCache;
+import org.infinispan.commons.api.functional.EntryView.ReadWriteEntryView;
+import org.infinispan.commons.io.UnsignedNumeric;
+import org.infinispan.commons.marshall.AbstractExternalizer;
+import org.infinispan.commons.util.Util;
+import org.infinispan.marshall.core.Ids;
+
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.function.BiFunction;
+
+/**
+ * The operations queued by a {@link PipelineImpl} for a single key. Instances are shipped to the owner of the key as
+ * the value of a read-write functional command and replayed there by {@link #apply()}.
+ *
+ * @since 9.0
+ */
+public final class PipelineOperations {
+   static final byte GET = 0;
+   static final byte PUT = 1;
+   static final byte REMOVE = 2;
+
+   private static final int INITIAL_CAPACITY = 2;
+
+   private byte[] types;
+   private Object[] values;
+   private int size;
+
+   PipelineOperations() {
+      this(new byte[INITIAL_CAPACITY], new Object[INITIAL_CAPACITY], 0);
+   }
+
+   private PipelineOperations(byte[] types, Object[] values, int size) {
+      this.types = types;
+      this.values = values;
+      this.size = size;
+   }
+
+   void add(byte type, Object value) {
+      if (size == types.length) {
+         types = Arrays.copyOf(types, size * 2);
+         values = Arrays.copyOf(values, size * 2);
+      }
+      types[size] = type;
+      values[size] = value;
+      size++;
+   }
+
+   boolean isReadOnly() {
+      for (int i = 0; i < size; i++) {
+         if (types[i] != GET)
+            return false;
+      }
+      return true;
+   }
+
+   int size() {
+      return size;
+   }
+
+   /**
+    * Applies the operations in order and returns an array holding the key followed by the result of each operation,
+    * so that the originator can match the results even though they are not returned in key order. The view does not
+    * reflect its own pending changes, so the operations are replayed on a local copy of the value and only the final
+    * state is written.
+    */
+   Object[] applyTo(ReadWriteEntryView<Object, Object> view) {
+      Object[] results = new Object[size + 1];
+      results[0] = view.key();
+      Object initial = view.find().orElse(null);
+      Object current = replay(initial, results);
+      if (isReadOnly()) {
+         return results;
+      }
+      if (current != null) {
+         view.set(current);
+      } else if (initial != null) {
+         view.remove();
+      }
+      return results;
+   }
+
+   /**
+    * Applies the operations in order with the regular cache commands, storing the result of each operation in
+    * {@code results} starting at index 1.
+    */
+   @SuppressWarnings("unchecked")
+   <K, V> void applyTo(AdvancedCache<K, V> cache, K key, Object[] results) {
+      for (int i = 0; i < size; i++) {
+         switch (types[i]) {
+            case GET:
+               results[i + 1] = cache.get(key);
+               break;
+            case PUT:
+               results[i + 1] = cache.put(key, (V) values[i]);
+               break;
+            case REMOVE:
+               results[i + 1] = cache.remove(key);
+               break;
+         }
+      }
+   }
+
+   /**
+    * Replays the operations on {@code initial}, storing the result of each operation in {@code results} starting at
+    * index 1.
+    *
+    * @return the value after the last operation, {@code null} if the key is not mapped
+    */
+   Object replay(Object initial, Object[] results) {
+      Object current = initial;
+      for (int i = 0; i < size; i++) {
+         results[i + 1] = current;
+         switch (types[i]) {
+            case PUT:
+               current = values[i];
+               break;
+            case REMOVE:
+               current = null;
+               break;
+         }
+      }
+      return current;
+   }
+
+   @Override
+   public String toString() {
+      StringBuilder sb = new StringBuilder("PipelineOperations{");
+      for (int i = 0; i < size; i++) {
+         if (i > 0)
+            sb.append(", ");
+         sb.append(types[i] == GET ? "get" : types[i] == PUT ? "put(" + values[i] + ")" : "remove");
+      }
+      return sb.append('}').toString();
+   }
+
+   @SuppressWarnings("unchecked")
+   static <K, V> BiFunction<PipelineOperations, ReadWriteEntryView<K, V>, Object[]> apply() {
+      return (BiFunction) Apply.INSTANCE;
+   }
+
+   private static final class Apply implements BiFunction<PipelineOperations, ReadWriteEntryView<Object, Object>, Object[]> {
+      private static final Apply INSTANCE = new Apply();
+
+      @Override
+      public Object[] apply(PipelineOperations operations, ReadWriteEntryView<Object, Object> view) {
+         return operations.applyTo(view);
+      }
+   }
+
+   public static final class Externalizer extends AbstractExternalizer<Object> {
+      private static final byte OPERATIONS = 0;
+      private static final byte APPLY = 1;
+
+      @Override
+      public void writeObject(ObjectOutput output, Object object) throws IOException {
+         if (object instanceof PipelineOperations) {
+            PipelineOperations operations = (PipelineOperations) object;
+            output.writeByte(OPERATIONS);
+            UnsignedNumeric.writeUnsignedInt(output, operations.size);
+            for (int i = 0; i < operations.size; i++) {
+               byte type = operations.types[i];
+               output.writeByte(type);
+               if (type == PUT)
+                  output.writeObject(operations.values[i]);
+            }
+         } else {
+            output.writeByte(APPLY);
+         }
+      }
+
+      @Override
+      public Object readObject(ObjectInput input) throws IOException, ClassNotFoundException {
+         byte kind = input.readByte();
+         switch (kind) {
+            case OPERATIONS:
+               int size = UnsignedNumeric.readUnsignedInt(input);
+               byte[] types = new byte[size];
+               Object[] values = new Object[size];
+               for (int i = 0; i < size; i++) {
+                  types[i] = input.readByte();
+                  if (types[i] == PUT)
+                     values[i] = input.readObject();
+               }
+               return new PipelineOperations(types, values, size);
+            case APPLY:
+               return Apply.INSTANCE;
+            default:
+               throw new IllegalStateException("Unknown pipeline object type: " + kind);
+         }
+      }
+
+      @Override
+      public Integer getId() {
+         return Ids.PIPELINE_OPERATIONS;
+      }
+
+      @Override
+      public Set<Class<?>> getTypeClasses() {
+         return Util.<Class<?>>asSet(PipelineOperations.class, Apply.class);
+      }
+   }
+}
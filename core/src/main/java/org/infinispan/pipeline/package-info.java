@@ -0,0 +1,7 @@
+/**
+ * Pipelining of independent cache operations. A {@link org.infinispan.pipeline.Pipeline} collects reads and writes
+ * and submits them as a single unit, so that each owner receives one request for all the keys it owns.
+ *
+ * @public
+ */
+package org.infinispan.pipeline;
@@ -2,9 +2,12 @@
 
 import org.infinispan.IllegalLifecycleStateException;
 import org.infinispan.commands.CommandsFactory;
+import org.infinispan.commands.RemoveCacheCommand;
 import org.infinispan.commands.ReplicableCommand;
 import org.infinispan.commands.remote.CacheRpcCommand;
 import org.infinispan.commons.CacheException;
+import org.infinispan.configuration.ConfigurationManager;
+import org.infinispan.configuration.cache.Configuration;
 import org.infinispan.factories.ComponentRegistry;
 import org.infinispan.factories.GlobalComponentRegistry;
 import org.infinispan.factories.annotations.ComponentName;
@@ -116,6 +119,11 @@ private void handleCacheRpcCommand(Address origin, CacheRpcCommand command, Repl
       ComponentRegistry cr = globalComponentRegistry.getNamedComponentRegistry(cacheName);
 
       if (cr == null) {
+         if (command instanceof RemoveCacheCommand && isCacheGroupMember(cacheName)) {
+            // Cache group members never have components, but their configuration and their view must be removed
+            create(command, reply).run();
+            return;
+         }
          if (trace) {
             log.tracef("Silently ignoring that %s cache is not defined", cacheName);
          }
@@ -127,6 +135,12 @@ private void handleCacheRpcCommand(Address origin, CacheRpcCommand command, Repl
       handler.handle(command, reply, mode);
    }
 
+   private boolean isCacheGroupMember(ByteString cacheName) {
+      Configuration configuration = globalComponentRegistry.getComponent(ConfigurationManager.class)
+            .getConfiguration(cacheName.toString());
+      return configuration != null && configuration.cacheGroup() != null;
+   }
+
    private void initializeCacheRpcCommand(CacheRpcCommand command, ComponentRegistry componentRegistry) {
       CommandsFactory commandsFactory = componentRegistry.getCommandsFactory();
       // initialize this command with components specific to the intended cache instance
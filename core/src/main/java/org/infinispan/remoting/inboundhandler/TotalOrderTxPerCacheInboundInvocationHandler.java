@@ -1,6 +1,8 @@
 package org.infinispan.remoting.inboundhandler;
 
+import org.infinispan.commands.ReplicableCommand;
 import org.infinispan.commands.remote.CacheRpcCommand;
+import org.infinispan.commands.remote.MultipleRpcCommand;
 import org.infinispan.commands.tx.PrepareCommand;
 import org.infinispan.commands.tx.RollbackCommand;
 import org.infinispan.commands.tx.totalorder.TotalOrderCommitCommand;
@@ -12,6 +14,7 @@
 import org.infinispan.interceptors.totalorder.RetryPrepareException;
 import org.infinispan.remoting.responses.CacheNotFoundResponse;
 import org.infinispan.remoting.responses.ExceptionResponse;
+import org.infinispan.remoting.responses.SuccessfulResponse;
 import org.infinispan.statetransfer.StateRequestCommand;
 import org.infinispan.transaction.impl.TotalOrderRemoteTransactionState;
 import org.infinispan.transaction.totalorder.TotalOrderLatch;
@@ -20,6 +23,8 @@
 import org.infinispan.util.logging.Log;
 import org.infinispan.util.logging.LogFactory;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
 /**
  * A {@link org.infinispan.remoting.inboundhandler.PerCacheInboundInvocationHandler} implementation for total order
  * caches.
@@ -52,15 +57,15 @@ public void handle(CacheRpcCommand command, Reply reply, DeliverOrder order) {
          switch (command.getCommandId()) {
             case TotalOrderVersionedPrepareCommand.COMMAND_ID:
             case TotalOrderNonVersionedPrepareCommand.COMMAND_ID:
-               if (!stateTransferManager.ownsData()) {
-                  log.debugf("No Data in local node.");
-                  reply.reply(null);
+               handlePrepare(command, reply);
+               return;
+            case MultipleRpcCommand.COMMAND_ID:
+               if (isPrepareBatch((MultipleRpcCommand) command)) {
+                  handlePrepareBatch((MultipleRpcCommand) command, reply);
                   return;
                }
-               TotalOrderRemoteTransactionState state = ((TotalOrderPrepareCommand) command).getOrCreateState();
-               totalOrderManager.ensureOrder(state, ((PrepareCommand) command).getKeysToLock());
-               runnable = createRunnableForPrepare(state, (PrepareCommand) command, reply);
-               onExecutorService = true;
+               onExecutorService = executeOnExecutorService(order, command);
+               runnable = createDefaultRunnable(command, reply, commandTopologyId, true, onExecutorService);
                break;
             case TotalOrderCommitCommand.COMMAND_ID:
             case TotalOrderVersionedCommitCommand.COMMAND_ID:
@@ -80,6 +85,54 @@ public void handle(CacheRpcCommand command, Reply reply, DeliverOrder order) {
       }
    }
 
+   private void handlePrepare(CacheRpcCommand command, Reply reply) throws InterruptedException {
+      if (!stateTransferManager.ownsData()) {
+         log.debugf("No Data in local node.");
+         reply.reply(null);
+         return;
+      }
+      TotalOrderRemoteTransactionState state = ((TotalOrderPrepareCommand) command).getOrCreateState();
+      totalOrderManager.ensureOrder(state, ((PrepareCommand) command).getKeysToLock());
+      handleRunnable(createRunnableForPrepare(state, (PrepareCommand) command, reply), true);
+   }
+
+   /**
+    * Orders the prepares of a batch as if they were delivered one after the other. The non-conflicting prepares are
+    * validated in parallel and the batch is replied when all of them are.
+    */
+   private void handlePrepareBatch(MultipleRpcCommand command, Reply reply) {
+      ReplicableCommand[] prepares = command.getCommands();
+      BatchReply batchReply = new BatchReply(reply, prepares.length);
+      for (int i = 0; i < prepares.length; i++) {
+         CacheRpcCommand prepare = (CacheRpcCommand) prepares[i];
+         Reply prepareReply = batchReply.replyFor(i);
+         // the batch is checked against its highest topology, each prepare is checked against its own
+         if (isCommandSentBeforeFirstTopology(extractCommandTopologyId(prepare))) {
+            prepareReply.reply(CacheNotFoundResponse.INSTANCE);
+            continue;
+         }
+         try {
+            prepare.setOrigin(command.getOrigin());
+            handlePrepare(prepare, prepareReply);
+         } catch (Throwable throwable) {
+            prepareReply.reply(exceptionHandlingCommand(prepare, throwable));
+         }
+      }
+   }
+
+   private static boolean isPrepareBatch(MultipleRpcCommand command) {
+      ReplicableCommand[] commands = command.getCommands();
+      if (commands == null || commands.length == 0) {
+         return false;
+      }
+      for (ReplicableCommand innerCommand : commands) {
+         if (!(innerCommand instanceof TotalOrderPrepareCommand)) {
+            return false;
+         }
+      }
+      return true;
+   }
+
    @Override
    protected Log getLog() {
       return log;
@@ -149,4 +202,28 @@ protected void onFinally() {
          }
       };
    }
+
+   /**
+    * Collects the responses to the prepares of a batch and replies with all of them, in the batch order.
+    */
+   private static class BatchReply {
+      private final Reply reply;
+      private final Object[] responses;
+      private final AtomicInteger pending;
+
+      private BatchReply(Reply reply, int size) {
+         this.reply = reply;
+         this.responses = new Object[size];
+         this.pending = new AtomicInteger(size);
+      }
+
+      private Reply replyFor(int index) {
+         return returnValue -> {
+            responses[index] = returnValue;
+            if (pending.decrementAndGet() == 0) {
+               reply.reply(SuccessfulResponse.create(responses));
+            }
+         };
+      }
+   }
 }
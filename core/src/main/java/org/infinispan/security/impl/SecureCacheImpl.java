@@ -3,6 +3,7 @@
 import org.infinispan.AdvancedCache;
 import org.infinispan.CacheCollection;
 import org.infinispan.CacheSet;
+import org.infinispan.CacheStream;
 import org.infinispan.atomic.Delta;
 import org.infinispan.batch.BatchContainer;
 import org.infinispan.configuration.cache.Configuration;
@@ -23,6 +24,7 @@
 import org.infinispan.notifications.cachelistener.filter.CacheEventConverter;
 import org.infinispan.notifications.cachelistener.filter.CacheEventFilter;
 import org.infinispan.partitionhandling.AvailabilityMode;
+import org.infinispan.pipeline.Pipeline;
 import org.infinispan.remoting.rpc.RpcManager;
 import org.infinispan.security.AuthorizationManager;
 import org.infinispan.security.AuthorizationPermission;
@@ -684,6 +686,11 @@ public Map<K, CacheEntry<K, V>> getAllCacheEntries(Set<?> keys) {
       return delegate.getAllCacheEntries(keys);
    }
 
+   @Override
+   public Pipeline<K, V> pipeline() {
+      return new SecurePipeline(delegate.pipeline());
+   }
+
    @Override
    public Map<K, V> getGroup(String groupName) {
       authzManager.checkPermission(AuthorizationPermission.BULK_READ);
@@ -696,6 +703,12 @@ public void removeGroup(String groupName) {
       delegate.removeGroup(groupName);
    }
 
+   @Override
+   public CacheStream<CacheEntry<K, V>> getGroupStream(String groupName) {
+      authzManager.checkPermission(AuthorizationPermission.BULK_READ);
+      return delegate.getGroupStream(groupName);
+   }
+
    @Override
    public boolean equals(Object o) {
       return delegate.equals(o);
@@ -710,4 +723,43 @@ public int hashCode() {
    public String toString() {
       return String.format("SecureCache '%s'", delegate.getName());
    }
+
+   /**
+    * Checks the permission of each operation when it is added, as the operations are executed by the unsecured cache.
+    */
+   private class SecurePipeline implements Pipeline<K, V> {
+      private final Pipeline<K, V> pipeline;
+
+      SecurePipeline(Pipeline<K, V> pipeline) {
+         this.pipeline = pipeline;
+      }
+
+      @Override
+      public CompletableFuture<V> get(K key) {
+         authzManager.checkPermission(AuthorizationPermission.READ);
+         return pipeline.get(key);
+      }
+
+      @Override
+      public CompletableFuture<V> put(K key, V value) {
+         authzManager.checkPermission(AuthorizationPermission.WRITE);
+         return pipeline.put(key, value);
+      }
+
+      @Override
+      public CompletableFuture<V> remove(K key) {
+         authzManager.checkPermission(AuthorizationPermission.WRITE);
+         return pipeline.remove(key);
+      }
+
+      @Override
+      public int size() {
+         return pipeline.size();
+      }
+
+      @Override
+      public void execute() {
+         pipeline.execute();
+      }
+   }
 }
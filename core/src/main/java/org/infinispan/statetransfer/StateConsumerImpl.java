@@ -155,6 +155,19 @@ public class StateConsumerImpl implements StateConsumer {
    @GuardedBy("transferMapsLock")
    private final Map<Integer, InboundTransferTask> transfersBySegment = new HashMap<Integer, InboundTransferTask>();
 
+   /**
+    * The segments completely received during the current rebalance. Inbound transfers are cancelled and restarted when
+    * their source leaves, when they fail or when the topology changes, but these segments are never requested again
+    * until the end of the rebalance, unless we stop owning them in the meantime. The ledger is reset when a new
+    * rebalance starts, including the rebalance started by a new coordinator or after a merge, because the segments
+    * received before may be stale.
+    * <p>
+    * The ledger is deliberately not persisted: a node that restarts joins with a new topology and must fetch all its
+    * segments again, and the entries it received before the restart are not trusted.
+    */
+   @GuardedBy("transferMapsLock")
+   private final Set<Integer> receivedSegments = new HashSet<Integer>();
+
    /**
     * Push RPCs on a background thread
     */
@@ -284,6 +297,9 @@ public void onTopologyUpdate(final CacheTopology cacheTopology, final boolean is
          // Only update the rebalance topology id when starting the rebalance, as we're going to ignore any state
          // response with a smaller topology id
          stateTransferTopologyId.compareAndSet(NO_REBALANCE_IN_PROGRESS, cacheTopology.getTopologyId());
+         synchronized (transferMapsLock) {
+            receivedSegments.clear();
+         }
          cacheNotifier.notifyDataRehashed(cacheTopology.getCurrentCH(), cacheTopology.getPendingCH(),
                                           cacheTopology.getUnionCH(), cacheTopology.getTopologyId(), true);
       }
@@ -390,6 +406,9 @@ public void onTopologyUpdate(final CacheTopology cacheTopology, final boolean is
                boolean changed = stateTransferTopologyId.compareAndSet(rebalanceTopologyId, NO_REBALANCE_IN_PROGRESS);
                if (changed) {
                   stopApplyingState();
+                  synchronized (transferMapsLock) {
+                     receivedSegments.clear();
+                  }
 
                   // if the coordinator changed, we might get two concurrent topology updates,
                   // but we only want to notify the @DataRehashed listeners once
@@ -576,6 +595,14 @@ private void applyChunk(Address sender, Set<Integer> mySegments, StateChunk stat
             doApplyState(sender, stateChunk.getSegmentId(), stateChunk.getCacheEntries());
          }
 
+         if (stateChunk.isLastChunk()) {
+            synchronized (transferMapsLock) {
+               // The transfer could have been cancelled while we were applying the state
+               if (transfersBySegment.get(stateChunk.getSegmentId()) == inboundTransfer) {
+                  receivedSegments.add(stateChunk.getSegmentId());
+               }
+            }
+         }
          inboundTransfer.onStateReceived(stateChunk.getSegmentId(), stateChunk.isLastChunk());
       } else {
          if (cache.getStatus().allowInvocations()) {
@@ -689,6 +716,7 @@ public void stop() {
             }
             transfersBySource.clear();
             transfersBySegment.clear();
+            receivedSegments.clear();
          }
       } catch (Throwable t) {
          log.errorf(t, "Failed to stop StateConsumer of cache %s on node %s", cacheName, rpcManager.getAddress());
@@ -879,7 +907,8 @@ private void retryTransferTask(InboundTransferTask task) {
          Set<Address> excludedSources = new HashSet<>();
          if (removeTransfer(task)) {
             excludedSources.add(task.getSource());
-            failedSegments.addAll(task.getSegments());
+            // the segments already received from the failed source are kept
+            failedSegments.addAll(task.getUnfinishedSegments());
          }
 
          // should re-add only segments we still own and are not already in
@@ -900,6 +929,8 @@ private void retryTransferTask(InboundTransferTask task) {
     */
    private void cancelTransfers(Set<Integer> removedSegments) {
       synchronized (transferMapsLock) {
+         // the data of the removed segments is going to be discarded
+         receivedSegments.removeAll(removedSegments);
          List<Integer> segmentsToCancel = new ArrayList<Integer>(removedSegments);
          while (!segmentsToCancel.isEmpty()) {
             int segmentId = segmentsToCancel.remove(0);
@@ -1006,8 +1037,9 @@ private void restartBrokenTransfers(CacheTopology cacheTopology, Set<Integer> ad
             }
          }
 
-         // exclude those that are already in progress from a valid source
+         // exclude those that are already in progress from a valid source, or already received
          addedSegments.removeAll(transfersBySegment.keySet());
+         addedSegments.removeAll(receivedSegments);
       }
    }
 
@@ -1024,6 +1056,7 @@ private InboundTransferTask addTransfer(Address source, Set<Integer> segmentsFro
             log.tracef("Adding transfer from %s for segments %s", source, segmentsFromSource);
          }
          segmentsFromSource.removeAll(transfersBySegment.keySet());  // already in progress segments are excluded
+         segmentsFromSource.removeAll(receivedSegments);  // already received segments are excluded
          if (segmentsFromSource.isEmpty()) {
             if (trace) {
                log.tracef("All segments are already in progress, skipping");
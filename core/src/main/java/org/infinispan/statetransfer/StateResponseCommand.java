@@ -1,6 +1,7 @@
 package org.infinispan.statetransfer;
 
 import org.infinispan.commands.remote.BaseRpcCommand;
+import org.infinispan.commons.marshall.BufferSizeHint;
 import org.infinispan.commons.marshall.MarshallUtil;
 import org.infinispan.context.InvocationContext;
 import org.infinispan.remoting.transport.Address;
@@ -20,7 +21,7 @@
  * @author anistor@redhat.com
  * @since 5.2
  */
-public class StateResponseCommand extends BaseRpcCommand {
+public class StateResponseCommand extends BaseRpcCommand implements BufferSizeHint {
 
    private static final Log log = LogFactory.getLog(StateResponseCommand.class);
 
@@ -82,6 +83,17 @@ public boolean canBlock() {
       return true;
    }
 
+   @Override
+   public int getSizePredictionElements() {
+      int elements = 0;
+      if (stateChunks != null) {
+         for (StateChunk chunk : stateChunks) {
+            elements += chunk.getCacheEntries().size();
+         }
+      }
+      return elements;
+   }
+
    @Override
    public byte getCommandId() {
       return COMMAND_ID;
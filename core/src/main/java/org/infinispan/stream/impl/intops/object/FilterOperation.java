@@ -1,5 +1,6 @@
 package org.infinispan.stream.impl.intops.object;
 
+import org.infinispan.factories.ComponentRegistry;
 import org.infinispan.stream.impl.intops.IntermediateOperation;
 
 import java.util.function.Predicate;
@@ -21,6 +22,11 @@ public Stream<S> perform(Stream<S> stream) {
       return stream.filter(predicate);
    }
 
+   @Override
+   public void handleInjection(ComponentRegistry registry) {
+      registry.wireDependencies(predicate);
+   }
+
    public Predicate<? super S> getPredicate() {
       return predicate;
    }
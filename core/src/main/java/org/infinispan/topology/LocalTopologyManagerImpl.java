@@ -443,10 +443,24 @@ protected void doHandleStableTopologyUpdate(String cacheName, CacheTopology newS
          if (stableTopology == null || stableTopology.getTopologyId() < newStableTopology.getTopologyId()) {
             log.tracef("Updating stable topology for cache %s: %s", cacheName, newStableTopology);
             cacheStatus.setStableTopology(newStableTopology);
+            deletePersistentState(cacheName, cacheStatus);
          }
       }
    }
 
+   /**
+    * The persisted consistent hash is only valid for the restored topology, so it is deleted as soon as the cache
+    * becomes stable after the restore. It is written again by the next graceful shutdown, and a node that crashes in
+    * the meantime rejoins without a persistent state and receives its segments through state transfer.
+    */
+   private void deletePersistentState(String cacheName, LocalCacheStatus cacheStatus) {
+      if (globalStateManager == null || !cacheStatus.hasPersistentState())
+         return;
+
+      cacheStatus.setPersistentState(false);
+      globalStateManager.deleteScopedState(cacheName);
+   }
+
    @Override
    public void handleRebalance(final String cacheName, final CacheTopology cacheTopology, final int viewId,
          final Address sender) throws InterruptedException {
@@ -640,8 +654,12 @@ public void handleCacheShutdown(String cacheName) {
       cacheState.setProperty(GlobalStateManagerImpl.TIMESTAMP, timeService.instant().toString());
       cacheState.setProperty(GlobalStateManagerImpl.VERSION_MAJOR, Version.getMajor());
       LocalCacheStatus cacheStatus = runningCaches.get(cacheName);
-      cacheStatus.getCurrentTopology().getCurrentCH().remapAddresses(persistentUUIDManager.addressToPersistentUUID()).toScopedState(cacheState);
-      globalStateManager.writeScopedState(cacheState);
+      synchronized (runningCaches) {
+         // A late stable topology update must not delete the state we are writing
+         cacheStatus.setPersistentState(false);
+         cacheStatus.getCurrentTopology().getCurrentCH().remapAddresses(persistentUUIDManager.addressToPersistentUUID()).toScopedState(cacheState);
+         globalStateManager.writeScopedState(cacheState);
+      }
    }
 
    private Object executeOnCoordinator(ReplicableCommand command, long timeout) throws Exception {
@@ -783,10 +801,12 @@ class LocalCacheStatus {
    private volatile CacheTopology currentTopology;
    private volatile CacheTopology stableTopology;
    private final SemaphoreCompletionService<Void> topologyUpdatesCompletionService;
+   private volatile boolean persistentState;
 
    public LocalCacheStatus(CacheJoinInfo joinInfo, CacheTopologyHandler handler, PartitionHandlingManager phm,
          ExecutorService executor) {
       this.joinInfo = joinInfo;
+      this.persistentState = joinInfo.getPersistentStateChecksum().isPresent();
       this.handler = handler;
       this.partitionHandlingManager = phm;
 
@@ -825,4 +845,12 @@ public void setStableTopology(CacheTopology stableTopology) {
    public SemaphoreCompletionService<Void> getTopologyUpdatesCompletionService() {
       return topologyUpdatesCompletionService;
    }
+
+   public boolean hasPersistentState() {
+      return persistentState;
+   }
+
+   public void setPersistentState(boolean persistentState) {
+      this.persistentState = persistentState;
+   }
 }
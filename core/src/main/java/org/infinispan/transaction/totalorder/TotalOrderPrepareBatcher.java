@@ -0,0 +1,311 @@
+package org.infinispan.transaction.totalorder;
+
+import org.infinispan.commands.CommandsFactory;
+import org.infinispan.commands.ReplicableCommand;
+import org.infinispan.commands.tx.PrepareCommand;
+import org.infinispan.commons.CacheException;
+import org.infinispan.configuration.cache.Configuration;
+import org.infinispan.configuration.cache.Configurations;
+import org.infinispan.factories.annotations.Inject;
+import org.infinispan.factories.annotations.Start;
+import org.infinispan.partitionhandling.AvailabilityException;
+import org.infinispan.remoting.inboundhandler.DeliverOrder;
+import org.infinispan.remoting.responses.ExceptionResponse;
+import org.infinispan.remoting.responses.Response;
+import org.infinispan.remoting.responses.SuccessfulResponse;
+import org.infinispan.remoting.responses.TimeoutValidationResponseFilter;
+import org.infinispan.remoting.rpc.ResponseFilter;
+import org.infinispan.remoting.rpc.ResponseMode;
+import org.infinispan.remoting.rpc.RpcManager;
+import org.infinispan.remoting.rpc.RpcOptionsBuilder;
+import org.infinispan.remoting.transport.Address;
+import org.infinispan.remoting.transport.jgroups.SuspectException;
+import org.infinispan.statetransfer.OutdatedTopologyException;
+import org.infinispan.util.concurrent.CompletableFutures;
+import org.infinispan.util.logging.Log;
+import org.infinispan.util.logging.LogFactory;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Sends the prepares of concurrent transactions in batches, one totally ordered message per batch.
+ * <p/>
+ * The thread preparing a transaction queues its prepare and, if no other thread is sending, it sends all the queued
+ * prepares with the same recipients in a single {@link org.infinispan.commands.remote.MultipleRpcCommand}. The
+ * prepares queued while a batch is sent go in the next batch, so the batches grow with the load and a single prepare
+ * is sent on its own. The receivers order the prepares of a batch with the {@link TotalOrderManager} in the batch
+ * order and validate the non-conflicting ones in parallel.
+ * <p/>
+ * The receivers reply to a batch when all its prepares are validated. With the two phase commit, a prepare waits for
+ * the commit of the conflicting transactions delivered before it, so the conflicting prepares are never sent in the
+ * same batch.
+ *
+ * @since 9.0
+ */
+public class TotalOrderPrepareBatcher {
+
+   private static final Log log = LogFactory.getLog(TotalOrderPrepareBatcher.class);
+   private static final boolean trace = log.isTraceEnabled();
+
+   private final Queue<PendingPrepare> queue = new ConcurrentLinkedQueue<>();
+   private final AtomicBoolean sending = new AtomicBoolean(false);
+   private RpcManager rpcManager;
+   private CommandsFactory commandsFactory;
+   private Configuration configuration;
+   private int maxBatchSize;
+   private boolean synchronous;
+   private boolean separateConflicts;
+
+   @Inject
+   public void inject(RpcManager rpcManager, CommandsFactory commandsFactory, Configuration configuration) {
+      this.rpcManager = rpcManager;
+      this.commandsFactory = commandsFactory;
+      this.configuration = configuration;
+   }
+
+   @Start
+   public void start() {
+      maxBatchSize = configuration.transaction().totalOrderBatchSize();
+      synchronous = configuration.clustering().cacheMode().isSynchronous();
+      separateConflicts = !Configurations.isOnePhaseTotalOrderCommit(configuration);
+   }
+
+   /**
+    * Sends the prepare in the next batch and waits for its responses.
+    *
+    * @param recipients     the recipients of the prepare, or {@code null} for all the members
+    * @param command        the prepare
+    * @param responseFilter the filter of the responses to the prepare, or {@code null} to wait for all of them
+    * @return the responses to the prepare, empty if the cache is asynchronous
+    */
+   public Map<Address, Response> prepare(Collection<Address> recipients, PrepareCommand command,
+                                         TimeoutValidationResponseFilter responseFilter) {
+      PendingPrepare prepare = new PendingPrepare(recipients == null ? null : new HashSet<>(recipients), command,
+                                                  responseFilter);
+      queue.add(prepare);
+      sendQueued();
+      try {
+         return CompletableFutures.await(prepare.future);
+      } catch (InterruptedException e) {
+         Thread.currentThread().interrupt();
+         throw new CacheException("Thread interrupted while invoking RPC", e);
+      } catch (ExecutionException e) {
+         Throwable cause = e.getCause();
+         if (cause instanceof CacheException) {
+            throw ((CacheException) cause);
+         } else {
+            throw new CacheException("Unexpected exception replicating command", cause);
+         }
+      }
+   }
+
+   private void sendQueued() {
+      //the thread that queued a prepare after the sender stopped polling, but before it released the flag, sends it
+      while (!queue.isEmpty() && sending.compareAndSet(false, true)) {
+         try {
+            // the same recipients may come in a different order or collection type, the null key stands for all members
+            Map<Set<Address>, Batch> batches = new LinkedHashMap<>();
+            PendingPrepare prepare;
+            while ((prepare = queue.poll()) != null) {
+               Batch batch = batches.get(prepare.recipients);
+               if (batch != null && !batch.accepts(prepare)) {
+                  send(batch);
+                  batch = null;
+               }
+               if (batch == null) {
+                  batch = new Batch(prepare.recipients);
+                  batches.put(prepare.recipients, batch);
+               }
+               batch.add(prepare);
+            }
+            batches.values().forEach(this::send);
+         } finally {
+            sending.set(false);
+         }
+      }
+   }
+
+   private void send(Batch batch) {
+      List<PendingPrepare> prepares = batch.prepares;
+      boolean single = prepares.size() == 1;
+      ReplicableCommand command;
+      ResponseFilter responseFilter;
+      if (single) {
+         command = prepares.get(0).command;
+         responseFilter = prepares.get(0).responseFilter;
+      } else {
+         List<ReplicableCommand> commands = new ArrayList<>(prepares.size());
+         prepares.forEach(prepare -> commands.add(prepare.command));
+         command = commandsFactory.buildReplicateCommand(commands);
+         responseFilter = new BatchResponseFilter(prepares);
+      }
+      if (trace) {
+         log.tracef("Sending a batch of %d prepare(s) to %s", prepares.size(), batch.recipients);
+      }
+
+      RpcOptionsBuilder builder = rpcManager.getRpcOptionsBuilder(synchronous ? ResponseMode.SYNCHRONOUS_IGNORE_LEAVERS :
+                                                                        ResponseMode.ASYNCHRONOUS, DeliverOrder.TOTAL);
+      if (synchronous && responseFilter != null) {
+         builder.responseFilter(responseFilter);
+      }
+      CompletableFuture<Map<Address, Response>> future;
+      try {
+         future = rpcManager.invokeRemotelyAsync(batch.recipients, command, builder.build());
+      } catch (Throwable throwable) {
+         prepares.forEach(prepare -> prepare.future.completeExceptionally(throwable));
+         return;
+      }
+      future.whenComplete((responses, throwable) -> {
+         if (throwable != null) {
+            Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null ?
+                  throwable.getCause() : throwable;
+            prepares.forEach(prepare -> prepare.future.completeExceptionally(cause));
+         } else if (single) {
+            prepares.get(0).complete(responses);
+         } else {
+            for (int i = 0; i < prepares.size(); i++) {
+               prepares.get(i).completeFromBatch(responses, i);
+            }
+         }
+      });
+   }
+
+   /**
+    * @return the response to the prepare at the given position of a batch
+    */
+   private static Object prepareResponse(Response batchResponse, int index) {
+      if (batchResponse instanceof SuccessfulResponse) {
+         Object[] responses = (Object[]) ((SuccessfulResponse) batchResponse).getResponseValue();
+         return responses[index];
+      }
+      return batchResponse;
+   }
+
+   private static Response checkResponse(Object response, Address sender) {
+      if (response == null) {
+         return SuccessfulResponse.SUCCESSFUL_EMPTY_RESPONSE;
+      } else if (response instanceof ExceptionResponse) {
+         Exception e = ((ExceptionResponse) response).getException();
+         if (e instanceof SuspectException) throw log.thirdPartySuspected(sender, (SuspectException) e);
+         if (e instanceof AvailabilityException || e instanceof OutdatedTopologyException) throw (CacheException) e;
+         throw log.remoteException(sender, e);
+      }
+      return (Response) response;
+   }
+
+   private class PendingPrepare {
+      private final Set<Address> recipients;
+      private final PrepareCommand command;
+      private final TimeoutValidationResponseFilter responseFilter;
+      private final CompletableFuture<Map<Address, Response>> future = new CompletableFuture<>();
+
+      private PendingPrepare(Set<Address> recipients, PrepareCommand command,
+                             TimeoutValidationResponseFilter responseFilter) {
+         this.recipients = recipients;
+         this.command = command;
+         this.responseFilter = responseFilter;
+      }
+
+      private void complete(Map<Address, Response> responses) {
+         try {
+            if (synchronous && responseFilter != null) {
+               responseFilter.validate();
+            }
+            future.complete(responses);
+         } catch (Throwable throwable) {
+            future.completeExceptionally(throwable);
+         }
+      }
+
+      private void completeFromBatch(Map<Address, Response> batchResponses, int index) {
+         Map<Address, Response> responses = new HashMap<>(batchResponses.size());
+         try {
+            for (Map.Entry<Address, Response> entry : batchResponses.entrySet()) {
+               responses.put(entry.getKey(), checkResponse(prepareResponse(entry.getValue(), index), entry.getKey()));
+            }
+         } catch (Throwable throwable) {
+            future.completeExceptionally(throwable);
+            return;
+         }
+         complete(responses);
+      }
+   }
+
+   private class Batch {
+      private final Set<Address> recipients;
+      private final List<PendingPrepare> prepares = new ArrayList<>();
+      private final Set<Object> keys = new HashSet<>();
+
+      private Batch(Set<Address> recipients) {
+         this.recipients = recipients;
+      }
+
+      private boolean accepts(PendingPrepare prepare) {
+         if (prepares.size() >= maxBatchSize) {
+            return false;
+         }
+         if (separateConflicts) {
+            for (Object key : prepare.command.getKeysToLock()) {
+               if (keys.contains(key)) {
+                  return false;
+               }
+            }
+         }
+         return true;
+      }
+
+      private void add(PendingPrepare prepare) {
+         prepares.add(prepare);
+         if (separateConflicts) {
+            keys.addAll(prepare.command.getKeysToLock());
+         }
+      }
+   }
+
+   /**
+    * Passes the responses to the filters of the prepares of a batch. It needs more responses until all the filters
+    * are satisfied.
+    */
+   private static class BatchResponseFilter implements ResponseFilter {
+      private final List<PendingPrepare> prepares;
+
+      private BatchResponseFilter(List<PendingPrepare> prepares) {
+         this.prepares = prepares;
+      }
+
+      @Override
+      public boolean isAcceptable(Response response, Address sender) {
+         for (int i = 0; i < prepares.size(); i++) {
+            ResponseFilter filter = prepares.get(i).responseFilter;
+            if (filter != null) {
+               Object prepareResponse = prepareResponse(response, i);
+               filter.isAcceptable(prepareResponse instanceof Response ? (Response) prepareResponse : null, sender);
+            }
+         }
+         return true;
+      }
+
+      @Override
+      public boolean needMoreResponses() {
+         for (PendingPrepare prepare : prepares) {
+            if (prepare.responseFilter == null || prepare.responseFilter.needMoreResponses()) {
+               return true;
+            }
+         }
+         return false;
+      }
+   }
+}
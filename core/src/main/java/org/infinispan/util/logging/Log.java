@@ -1426,4 +1426,25 @@ TimeoutException timeoutWaitingForView(int expectedViewId, int currentViewId,
    @LogMessage(level = WARN)
    @Message(value = "The %s is no longer supported since version %s. Attribute %s on line %d will be ignored.", id = 415)
    void ignoredAttribute(String componentName, String version, String attributeName, int line);
+
+   @Message(value = "Cache '%s' cannot belong to the cache group '%s', cache groups must be regular caches", id = 416)
+   CacheConfigurationException invalidCacheGroup(String cacheName, String cacheGroup);
+
+   @Message(value = "A Bloom filter can't be enabled on a shared store, other nodes write to the store without updating the filter", id = 417)
+   CacheConfigurationException bloomFilterOnSharedStore();
+
+   @Message(value = "totalOrderBatchSize must be >= 1, we got %d", id = 418)
+   CacheConfigurationException invalidTotalOrderBatchSize(int batchSize);
+
+   @LogMessage(level = WARN)
+   @Message(value = "More than %d cluster events are pending delivery to %s, dropping new events until the pending ones are sent", id = 419)
+   void clusterEventsOverflow(int maxPendingEvents, Address target);
+
+   @LogMessage(level = WARN)
+   @Message(value = "Failed to deliver %d cluster events to %s, attempt %d of %d", id = 420)
+   void clusterEventsDeliveryFailed(int count, Address target, int attempt, int maxAttempts, @Cause Throwable cause);
+
+   @LogMessage(level = WARN)
+   @Message(value = "Dropped %d cluster events to %s after %d failed delivery attempts", id = 421)
+   void clusterEventsDropped(int count, Address target, int attempts);
 }
@@ -10,11 +10,15 @@
 import org.infinispan.distexec.DefaultExecutorService;
 import org.infinispan.interceptors.base.BaseCustomInterceptor;
 import org.infinispan.manager.EmbeddedCacheManager;
+import org.infinispan.pipeline.Pipeline;
 import org.infinispan.test.fwk.TestCacheManagerFactory;
 import org.infinispan.transaction.TransactionMode;
 import org.testng.annotations.Test;
 
+import java.util.concurrent.CompletableFuture;
+
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 import static org.testng.Assert.assertTrue;
 
 /**
@@ -83,4 +87,25 @@ public void testStatistics() {
       cache.put("key", "value");
       assertEquals(1L, cache.getAdvancedCache().getStats().getStores());
    }
+
+   public void testPipeline() throws Exception {
+      cache.put("k1", "v1");
+      cache.put("k2", "v2");
+      Pipeline<Object, Object> pipeline = cache.getAdvancedCache().pipeline();
+      CompletableFuture<Object> get1 = pipeline.get("k1");
+      CompletableFuture<Object> put2 = pipeline.put("k2", "new2");
+      CompletableFuture<Object> get2 = pipeline.get("k2");
+      CompletableFuture<Object> remove1 = pipeline.remove("k1");
+      CompletableFuture<Object> put3 = pipeline.put("k3", "v3");
+      pipeline.execute();
+
+      assertEquals("v1", get1.get());
+      assertEquals("v2", put2.get());
+      assertEquals("new2", get2.get());
+      assertEquals("v1", remove1.get());
+      assertNull(put3.get());
+      assertNull(cache.get("k1"));
+      assertEquals("new2", cache.get("k2"));
+      assertEquals("v3", cache.get("k3"));
+   }
 }
@@ -0,0 +1,179 @@
+package org.infinispan.atomic;
+
+import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertFalse;
+import static org.testng.AssertJUnit.assertNull;
+import static org.testng.AssertJUnit.assertTrue;
+
+import java.io.Serializable;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import javax.transaction.Transaction;
+import javax.transaction.TransactionManager;
+
+import org.infinispan.Cache;
+import org.infinispan.atomic.impl.GroupedFieldKey;
+import org.infinispan.configuration.cache.CacheMode;
+import org.infinispan.configuration.cache.ConfigurationBuilder;
+import org.infinispan.distribution.DistributionManager;
+import org.infinispan.remoting.transport.Address;
+import org.infinispan.test.MultipleCacheManagersTest;
+import org.infinispan.transaction.LockingMode;
+import org.testng.annotations.Test;
+
+/**
+ * Tests the fine grained atomic maps whose fields are co-located through grouping, without a structure entry.
+ *
+ * @since 9.0
+ */
+@Test(groups = "functional", testName = "atomic.GroupedFineGrainedAtomicMapTest")
+public class GroupedFineGrainedAtomicMapTest extends MultipleCacheManagersTest {
+
+   @Override
+   protected void createCacheManagers() throws Throwable {
+      ConfigurationBuilder builder = getDefaultClusteredCacheConfig(CacheMode.DIST_SYNC, true);
+      builder.transaction().lockingMode(LockingMode.PESSIMISTIC)
+            .locking().lockAcquisitionTimeout(1000);
+      builder.clustering().hash().numOwners(2).groups().enabled();
+      createClusteredCaches(3, builder);
+   }
+
+   public void testFieldOperations() {
+      FineGrainedAtomicMap<String, String> map = AtomicMapLookup.getGroupedFineGrainedAtomicMap(cache(0), "session1");
+      assertTrue(map.isEmpty());
+      map.put("a", "1");
+      map.put("b", "2");
+      Map<String, String> more = new HashMap<>();
+      more.put("c", "3");
+      more.put("d", "4");
+      map.putAll(more);
+      assertEquals("2", map.remove("b"));
+
+      FineGrainedAtomicMap<String, String> remote = AtomicMapLookup.getGroupedFineGrainedAtomicMap(cache(2), "session1");
+      assertEquals("1", remote.get("a"));
+      assertNull(remote.get("b"));
+      assertTrue(remote.containsKey("c"));
+      assertEquals(3, remote.size());
+      Map<String, String> expected = new HashMap<>();
+      expected.put("a", "1");
+      expected.put("c", "3");
+      expected.put("d", "4");
+      assertEquals(expected, new HashMap<>(remote));
+
+      // Another map whose fields share the group name is not visible
+      AtomicMapLookup.getGroupedFineGrainedAtomicMap(cache(1), new SameGroupKey("session1")).put("a", "x");
+      assertEquals(expected.keySet(), remote.keySet());
+
+      AtomicMapLookup.removeGroupedFineGrainedAtomicMap(cache(1), "session1");
+      assertTrue(map.isEmpty());
+      assertEquals(1, AtomicMapLookup.getGroupedFineGrainedAtomicMap(cache(0), new SameGroupKey("session1")).size());
+   }
+
+   public void testFieldsAreColocatedWithoutStructureEntry() {
+      FineGrainedAtomicMap<Integer, String> map = AtomicMapLookup.getGroupedFineGrainedAtomicMap(cache(0), "session2");
+      for (int i = 0; i < 10; i++) {
+         map.put(i, "v" + i);
+      }
+
+      DistributionManager dm = advancedCache(0).getDistributionManager();
+      Set<Address> owners = new HashSet<>(dm.locate(new GroupedFieldKey("session2", 0)));
+      for (int i = 1; i < 10; i++) {
+         assertEquals(owners, new HashSet<>(dm.locate(new GroupedFieldKey("session2", i))));
+      }
+      for (Cache<Object, Object> cache : caches()) {
+         assertNull(cache.getAdvancedCache().getDataContainer().get("session2"));
+      }
+   }
+
+   public void testConcurrentWritesOfDifferentFields() throws Exception {
+      FineGrainedAtomicMap<String, String> map = AtomicMapLookup.getGroupedFineGrainedAtomicMap(cache(0), "session3");
+      map.put("a", "1");
+      map.put("b", "1");
+
+      TransactionManager tm = tm(0);
+      tm.begin();
+      map.put("a", "2");
+      Transaction tx = tm.suspend();
+
+      // Would time out if the write of "a" locked the whole map
+      FineGrainedAtomicMap<String, String> other = AtomicMapLookup.getGroupedFineGrainedAtomicMap(cache(1), "session3");
+      tm(1).begin();
+      other.put("b", "2");
+      other.put("c", "2");
+      tm(1).commit();
+
+      tm.resume(tx);
+      assertEquals(3, map.size());
+      tm.commit();
+
+      assertEquals("2", other.get("a"));
+      assertEquals("2", other.get("b"));
+      assertEquals(3, other.size());
+   }
+
+   public void testRollbackDiscardsFields() throws Exception {
+      FineGrainedAtomicMap<String, String> map = AtomicMapLookup.getGroupedFineGrainedAtomicMap(cache(0), "session4");
+      map.put("a", "1");
+
+      tm(0).begin();
+      map.put("b", "1");
+      map.remove("a");
+      assertEquals(1, map.size());
+      assertFalse(map.containsKey("a"));
+      tm(0).rollback();
+
+      assertEquals(1, map.size());
+      assertEquals("1", map.get("a"));
+   }
+
+   @Test(expectedExceptions = IllegalStateException.class)
+   public void testGroupingRequired() {
+      ConfigurationBuilder builder = getDefaultClusteredCacheConfig(CacheMode.DIST_SYNC, true);
+      manager(0).defineConfiguration("noGroups", builder.build());
+      AtomicMapLookup.getGroupedFineGrainedAtomicMap(manager(0).getCache("noGroups"), "session5");
+   }
+
+   @Test(expectedExceptions = IllegalStateException.class)
+   public void testTransactionRequired() {
+      ConfigurationBuilder builder = getDefaultClusteredCacheConfig(CacheMode.DIST_SYNC, false);
+      builder.clustering().hash().groups().enabled();
+      manager(0).defineConfiguration("nonTx", builder.build());
+      AtomicMapLookup.getGroupedFineGrainedAtomicMap(manager(0).getCache("nonTx"), "session6");
+   }
+
+   @Test(expectedExceptions = IllegalArgumentException.class)
+   public void testArrayKeyRejected() {
+      AtomicMapLookup.getGroupedFineGrainedAtomicMap(cache(0), new byte[]{1, 2, 3});
+   }
+
+   @Test(expectedExceptions = IllegalArgumentException.class)
+   public void testKeyWithoutToStringRejected() {
+      AtomicMapLookup.getGroupedFineGrainedAtomicMap(cache(0), new Object());
+   }
+
+   static final class SameGroupKey implements Serializable {
+      private final String name;
+
+      SameGroupKey(String name) {
+         this.name = name;
+      }
+
+      @Override
+      public boolean equals(Object o) {
+         return o instanceof SameGroupKey && name.equals(((SameGroupKey) o).name);
+      }
+
+      @Override
+      public int hashCode() {
+         return name.hashCode();
+      }
+
+      @Override
+      public String toString() {
+         return name;
+      }
+   }
+}
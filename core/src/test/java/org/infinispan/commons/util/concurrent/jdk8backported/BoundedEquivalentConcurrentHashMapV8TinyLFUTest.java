@@ -0,0 +1,148 @@
+package org.infinispan.commons.util.concurrent.jdk8backported;
+
+import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertNotNull;
+import static org.testng.AssertJUnit.assertTrue;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.infinispan.commons.util.concurrent.jdk8backported.BoundedEquivalentConcurrentHashMapV8.Eviction;
+import org.infinispan.commons.util.concurrent.jdk8backported.BoundedEquivalentConcurrentHashMapV8.EvictionListener;
+import org.infinispan.commons.util.concurrent.jdk8backported.BoundedEquivalentConcurrentHashMapV8.NullEvictionListener;
+import org.testng.annotations.Test;
+
+/**
+ * Tests bounded concurrent hash map V8 logic with the W-TinyLFU eviction policy.
+ *
+ * @since 9.0
+ */
+@Test(groups = "functional", testName = "util.concurrent.jdk8backported.BoundedEquivalentConcurrentHashMapV8TinyLFUTest")
+public class BoundedEquivalentConcurrentHashMapV8TinyLFUTest extends BoundedEquivalentConcurrentHashMapV8BaseTest {
+
+   @Override
+   public Eviction evictionPolicy() {
+      return Eviction.TINY_LFU;
+   }
+
+   /**
+    * Read hits are recorded in lossy buffers, so the entry that is never read is not guaranteed to be the victim.
+    * Check that exactly one entry is evicted instead.
+    */
+   @Override
+   public void testCacheGetHits() throws InterruptedException {
+      final int COUNT_PER_THREAD = 10000;
+      final int THREADS = 10;
+      final int COUNT = COUNT_PER_THREAD * THREADS;
+      final AtomicInteger evictions = new AtomicInteger();
+
+      final EvictionListener<Integer, Integer> l = new NullEvictionListener<Integer, Integer>() {
+         @Override
+         public void onEntryChosenForEviction(Map.Entry<Integer, Integer> entry) {
+            evictions.incrementAndGet();
+         }
+      };
+
+      final Map<Integer, Integer> bchm = createMap(COUNT + 1, evictionPolicy(), l);
+      for (int i = 0; i <= COUNT; i++)
+         bchm.put(i, i);
+
+      Thread threads[] = new Thread[THREADS];
+      for (int i = 0; i < THREADS; i++) {
+         final int start = COUNT_PER_THREAD * i;
+         final int end = start + COUNT_PER_THREAD;
+         threads[i] = new Thread() {
+            public void run() {
+               for (int i = start; i < end; i++)
+                  assertNotNull(bchm.get(i));
+            }
+         };
+      }
+      for (int i = 0; i < THREADS; i++)
+         threads[i].start();
+      for (int i = 0; i < THREADS; i++)
+         threads[i].join();
+
+      bchm.put(COUNT + 1, COUNT + 1);
+
+      assertEquals(COUNT + 1, bchm.size());
+      assertEquals(1, evictions.get());
+      assertTrue(bchm.containsKey(COUNT + 1));
+   }
+
+   public void testFrequentlyReadEntriesSurviveScan() {
+      final int COUNT = 1000;
+      final Map<Integer, Integer> bchm = createMap(COUNT, evictionPolicy());
+
+      for (int i = 0; i < COUNT; i++)
+         bchm.put(i, i);
+      // Make the first half of the entries hot
+      for (int r = 0; r < 5; r++) {
+         for (int i = 0; i < COUNT / 2; i++)
+            assertNotNull(bchm.get(i));
+      }
+
+      // A one-off scan over new keys must not flush the hot entries
+      for (int i = COUNT; i < COUNT * 10; i++)
+         bchm.put(i, i);
+
+      assertEquals(COUNT, bchm.size());
+      int hot = 0;
+      for (int i = 0; i < COUNT / 2; i++) {
+         if (bchm.containsKey(i))
+            hot++;
+      }
+      assertTrue("Only " + hot + " hot entries survived the scan", hot > COUNT * 4 / 10);
+   }
+
+   public void testNewEntryKeptWithSmallMaxSize() {
+      final int MAX_SIZE = 10;
+      final Map<Integer, Integer> bchm = createMap(MAX_SIZE, evictionPolicy());
+
+      for (int i = 0; i < MAX_SIZE * 10; i++) {
+         bchm.put(i, i);
+         // The window holds at least one entry, so the entry just written is never the victim
+         assertTrue("Entry " + i + " was evicted right after being written", bchm.containsKey(i));
+         assertTrue(bchm.size() <= MAX_SIZE);
+      }
+   }
+
+   public void testConcurrentWritesDrained() throws InterruptedException {
+      final int MAX_SIZE = 100;
+      final int COUNT_PER_THREAD = 10000;
+      final int THREADS = 8;
+      final Map<Integer, Integer> bchm = createMap(MAX_SIZE, evictionPolicy());
+
+      Thread threads[] = new Thread[THREADS];
+      for (int i = 0; i < THREADS; i++) {
+         final int start = COUNT_PER_THREAD * i;
+         threads[i] = new Thread() {
+            public void run() {
+               for (int i = start; i < start + COUNT_PER_THREAD; i++)
+                  bchm.put(i, i);
+            }
+         };
+      }
+      for (int i = 0; i < THREADS; i++)
+         threads[i].start();
+      for (int i = 0; i < THREADS; i++)
+         threads[i].join();
+
+      // Each maintenance run applies a bounded batch, the following operations apply the rest
+      for (int i = 0; i < 100; i++)
+         bchm.put(-1, i);
+      assertEquals(MAX_SIZE, bchm.size());
+   }
+
+   public void testSketchKeepsFrequenciesWhenGrowing() {
+      FrequencySketch sketch = new FrequencySketch(16);
+      for (int i = 0; i < 5; i++) {
+         sketch.increment(42);
+      }
+      sketch.increment(7);
+      sketch.ensureCapacity(1024);
+      assertTrue(sketch.frequency(42) >= 5);
+      assertTrue(sketch.frequency(7) >= 1);
+      assertTrue(sketch.frequency(42) > sketch.frequency(7));
+   }
+}
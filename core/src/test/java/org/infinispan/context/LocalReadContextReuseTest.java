@@ -0,0 +1,127 @@
+package org.infinispan.context;
+
+import org.infinispan.Cache;
+import org.infinispan.commands.read.GetKeyValueCommand;
+import org.infinispan.interceptors.AsyncInterceptorChain;
+import org.infinispan.interceptors.BaseCustomAsyncInterceptor;
+import org.infinispan.manager.EmbeddedCacheManager;
+import org.infinispan.notifications.Listener;
+import org.infinispan.notifications.cachelistener.annotation.CacheEntryVisited;
+import org.infinispan.notifications.cachelistener.event.CacheEntryVisitedEvent;
+import org.infinispan.test.SingleCacheManagerTest;
+import org.infinispan.test.TestingUtil;
+import org.infinispan.test.fwk.TestCacheManagerFactory;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertNotNull;
+import static org.testng.AssertJUnit.assertNotSame;
+import static org.testng.AssertJUnit.assertNull;
+import static org.testng.AssertJUnit.assertSame;
+import static org.testng.AssertJUnit.assertTrue;
+
+/**
+ * Tests that local, non-transactional reads reuse their invocation context safely.
+ *
+ * @since 9.0
+ */
+@Test(groups = "functional", testName = "context.LocalReadContextReuseTest")
+public class LocalReadContextReuseTest extends SingleCacheManagerTest {
+
+   public LocalReadContextReuseTest() {
+      // Changing the interceptor chain disables the reuse until the cache is restarted
+      cleanup = CleanupPhase.AFTER_METHOD;
+   }
+
+   @Override
+   protected EmbeddedCacheManager createCacheManager() throws Exception {
+      return TestCacheManagerFactory.createCacheManager(false);
+   }
+
+   public void testContextIsReused() {
+      cache.put("k1", "v1");
+
+      assertEquals("v1", cache.get("k1"));
+      InvocationContext ctx = readContext();
+      assertNull(cache.get("missing"));
+      assertSame(ctx, readContext());
+      assertEquals("v1", cache.getAdvancedCache().getCacheEntry("k1").getValue());
+      assertSame(ctx, readContext());
+   }
+
+   public void testNestedReadFromListener() {
+      cache.put("outer", "v1");
+      cache.put("inner", "v2");
+      assertEquals("v2", cache.get("inner"));
+      InvocationContext ctx = readContext();
+
+      NestedReadListener listener = new NestedReadListener(cache);
+      cache.addListener(listener);
+      try {
+         assertEquals("v1", cache.get("outer"));
+         assertEquals("v2", listener.innerValue);
+         // The outer read holds the context while the listener reads
+         assertTrue(listener.contextInUse);
+         assertSame(ctx, readContext());
+      } finally {
+         cache.removeListener(listener);
+      }
+   }
+
+   public void testInterceptorAddedAfterStartDisablesReuse() {
+      cache.put("k1", "v1");
+      ContextRecordingInterceptor interceptor = new ContextRecordingInterceptor();
+      AsyncInterceptorChain chain = cache.getAdvancedCache().getAsyncInterceptorChain();
+      chain.addInterceptor(interceptor, 1);
+      try {
+         assertEquals("v1", cache.get("k1"));
+         assertEquals("v1", cache.get("k1"));
+         assertEquals(2, interceptor.contexts.size());
+         assertNotSame(interceptor.contexts.get(0), interceptor.contexts.get(1));
+      } finally {
+         chain.removeInterceptor(ContextRecordingInterceptor.class);
+      }
+   }
+
+   private InvocationContext readContext() {
+      ThreadLocal<?> contexts = TestingUtil.extractField(cache, "readContexts");
+      Object holder = contexts.get();
+      assertNotNull(holder);
+      return TestingUtil.extractField(holder, "ctx");
+   }
+
+   @Listener
+   public static class NestedReadListener {
+      private final Cache<Object, Object> cache;
+      volatile Object innerValue;
+      volatile boolean contextInUse;
+
+      NestedReadListener(Cache<Object, Object> cache) {
+         this.cache = cache;
+      }
+
+      @CacheEntryVisited
+      public void entryVisited(CacheEntryVisitedEvent<Object, Object> event) {
+         if (!event.isPre() && "outer".equals(event.getKey())) {
+            ThreadLocal<?> contexts = TestingUtil.extractField(cache, "readContexts");
+            contextInUse = TestingUtil.extractField(contexts.get(), "inUse");
+            innerValue = cache.get("inner");
+         }
+      }
+   }
+
+   static class ContextRecordingInterceptor extends BaseCustomAsyncInterceptor {
+      final List<InvocationContext> contexts = new ArrayList<>();
+
+      @Override
+      public CompletableFuture<Void> visitGetKeyValueCommand(InvocationContext ctx, GetKeyValueCommand command)
+            throws Throwable {
+         contexts.add(ctx);
+         return super.visitGetKeyValueCommand(ctx, command);
+      }
+   }
+}
@@ -0,0 +1,85 @@
+package org.infinispan.counter;
+
+import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertFalse;
+import static org.testng.AssertJUnit.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.infinispan.Cache;
+import org.infinispan.configuration.cache.CacheMode;
+import org.infinispan.configuration.cache.ConfigurationBuilder;
+import org.infinispan.test.MultipleCacheManagersTest;
+import org.testng.annotations.Test;
+
+@Test(groups = "functional", testName = "counter.CounterTest")
+public class CounterTest extends MultipleCacheManagersTest {
+
+   @Override
+   protected void createCacheManagers() throws Throwable {
+      ConfigurationBuilder builder = getDefaultClusteredCacheConfig(CacheMode.DIST_SYNC, false);
+      builder.clustering().hash().numOwners(2);
+      createClusteredCaches(3, builder);
+   }
+
+   public void testStrongCounter() throws Exception {
+      StrongCounter c0 = CounterLookup.getStrongCounter(cache(0), "strong");
+      StrongCounter c1 = CounterLookup.getStrongCounter(cache(1), "strong");
+
+      assertEquals(0L, (long) c0.getValue().get());
+      assertEquals(1L, (long) c0.incrementAndGet().get());
+      assertEquals(11L, (long) c1.addAndGet(10).get());
+      assertEquals(10L, (long) c0.decrementAndGet().get());
+      assertEquals(10L, (long) c1.getValue().get());
+
+      assertFalse(c1.compareAndSet(5, 20).get());
+      assertTrue(c1.compareAndSet(10, 20).get());
+      assertEquals(20L, (long) c0.getValue().get());
+
+      c0.reset().get();
+      assertEquals(0L, (long) c1.getValue().get());
+   }
+
+   public void testConcurrentStrongCounterUpdates() throws Exception {
+      List<CompletableFuture<Long>> futures = new ArrayList<>();
+      for (Cache<Object, Object> cache : this.<Object, Object>caches()) {
+         StrongCounter counter = CounterLookup.getStrongCounter(cache, "concurrent-strong");
+         for (int i = 0; i < 100; i++) {
+            futures.add(counter.incrementAndGet());
+         }
+      }
+      CompletableFuture.allOf(futures.toArray(new CompletableFuture[futures.size()])).get();
+      assertEquals(300L, (long) CounterLookup.getStrongCounter(cache(2), "concurrent-strong").getValue().get());
+   }
+
+   public void testWeakCounter() throws Exception {
+      List<CompletableFuture<Void>> futures = new ArrayList<>();
+      for (Cache<Object, Object> cache : this.<Object, Object>caches()) {
+         WeakCounter counter = CounterLookup.getWeakCounter(cache, "weak", 8);
+         for (int i = 0; i < 100; i++) {
+            futures.add(counter.increment());
+         }
+         futures.add(counter.add(-10));
+      }
+      CompletableFuture.allOf(futures.toArray(new CompletableFuture[futures.size()])).get();
+
+      WeakCounter counter = CounterLookup.getWeakCounter(cache(1), "weak", 8);
+      assertEquals(270L, (long) counter.getValue().get());
+      counter.reset().get();
+      assertEquals(0L, (long) CounterLookup.getWeakCounter(cache(0), "weak", 8).getValue().get());
+   }
+
+   public void testCountersAreIndependent() throws Exception {
+      CounterLookup.getStrongCounter(cache(0), "a").addAndGet(5).get();
+      CounterLookup.getWeakCounter(cache(0), "b").add(7).get();
+      assertEquals(5L, (long) CounterLookup.getStrongCounter(cache(1), "a").getValue().get());
+      assertEquals(7L, (long) CounterLookup.getWeakCounter(cache(1), "b").getValue().get());
+   }
+
+   @Test(expectedExceptions = IllegalArgumentException.class)
+   public void testInvalidStripes() {
+      CounterLookup.getWeakCounter(cache(0), "invalid", 0);
+   }
+}
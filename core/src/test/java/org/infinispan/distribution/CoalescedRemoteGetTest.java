@@ -0,0 +1,115 @@
+package org.infinispan.distribution;
+
+import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertTrue;
+import static org.testng.AssertJUnit.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.infinispan.Cache;
+import org.infinispan.commands.ReplicableCommand;
+import org.infinispan.commands.read.GetCacheEntryCommand;
+import org.infinispan.commands.remote.ClusteredGetCommand;
+import org.infinispan.commons.CacheException;
+import org.infinispan.configuration.cache.CacheMode;
+import org.infinispan.configuration.cache.ConfigurationBuilder;
+import org.infinispan.interceptors.distribution.BaseDistributionInterceptor;
+import org.infinispan.interceptors.distribution.NonTxDistributionInterceptor;
+import org.infinispan.remoting.rpc.RpcManager;
+import org.infinispan.test.MultipleCacheManagersTest;
+import org.infinispan.test.TestingUtil;
+import org.infinispan.test.fwk.CleanupAfterMethod;
+import org.infinispan.util.AbstractControlledRpcManager;
+import org.infinispan.util.CountingRpcManager;
+import org.testng.annotations.Test;
+
+/**
+ * Tests that concurrent reads of the same key send a single remote get.
+ *
+ * @since 9.0
+ */
+@Test(groups = "functional", testName = "distribution.CoalescedRemoteGetTest")
+@CleanupAfterMethod
+public class CoalescedRemoteGetTest extends MultipleCacheManagersTest {
+
+   @Override
+   protected void createCacheManagers() throws Throwable {
+      ConfigurationBuilder cfg = getDefaultClusteredCacheConfig(CacheMode.DIST_SYNC, false);
+      cfg.clustering().coalesceRemoteGets(true).hash().numOwners(1).l1().disable();
+      cfg.jmxStatistics().enable();
+      createCluster(cfg, 2);
+      waitForClusterToForm();
+   }
+
+   public void testConcurrentRemoteGets() throws Exception {
+      Cache<Object, Object> reader = cache(0);
+      Object key = getKeyForCache(1);
+      cache(1).put(key, "v");
+
+      CyclicBarrier barrier = new CyclicBarrier(2);
+      BlockingInterceptor blockingInterceptor = new BlockingInterceptor(barrier, GetCacheEntryCommand.class, false, false);
+      cache(1).getAdvancedCache().getAsyncInterceptorChain().addInterceptorBefore(blockingInterceptor, NonTxDistributionInterceptor.class);
+      CountingRpcManager rpcManager = CountingRpcManager.replaceRpcManager(reader);
+      NonTxDistributionInterceptor interceptor = TestingUtil.findInterceptor(reader, NonTxDistributionInterceptor.class);
+
+      List<Future<Object>> gets = new ArrayList<>();
+      gets.add(fork(() -> reader.get(key)));
+      // Wait for the remote get to reach the owner
+      barrier.await(10, TimeUnit.SECONDS);
+      for (int i = 0; i < 3; i++) {
+         gets.add(fork(() -> reader.get(key)));
+      }
+      eventuallyEquals(3L, interceptor::getCoalescedRemoteGets);
+
+      blockingInterceptor.suspend(true);
+      barrier.await(10, TimeUnit.SECONDS);
+      for (Future<Object> get : gets) {
+         assertEquals("v", get.get(10, TimeUnit.SECONDS));
+      }
+      assertEquals(1, rpcManager.clusterGet);
+
+      // The remote gets are not coalesced once the first one completed
+      assertEquals("v", reader.get(key));
+      assertEquals(2, rpcManager.clusterGet);
+   }
+
+   public void testRemoteGetFailingSynchronously() {
+      Cache<Object, Object> reader = cache(0);
+      Object key = getKeyForCache(1);
+      cache(1).put(key, "v");
+
+      RpcManager realRpcManager = TestingUtil.extractComponent(reader, RpcManager.class);
+      TestingUtil.replaceComponent(reader, RpcManager.class, new FailingRpcManager(realRpcManager), true);
+      try {
+         reader.get(key);
+         fail("The remote get should have failed");
+      } catch (CacheException e) {
+         // expected
+      }
+      Map<?, ?> pendingRemoteGets = (Map<?, ?>) TestingUtil.extractField(BaseDistributionInterceptor.class,
+            TestingUtil.findInterceptor(reader, NonTxDistributionInterceptor.class), "pendingRemoteGets");
+      assertTrue(pendingRemoteGets.isEmpty());
+
+      // A later get is not stuck waiting for the failed one
+      TestingUtil.replaceComponent(reader, RpcManager.class, realRpcManager, true);
+      assertEquals("v", reader.get(key));
+   }
+
+   private static class FailingRpcManager extends AbstractControlledRpcManager {
+      FailingRpcManager(RpcManager realOne) {
+         super(realOne);
+      }
+
+      @Override
+      protected void beforeInvokeRemotely(ReplicableCommand command) {
+         if (command instanceof ClusteredGetCommand) {
+            throw new CacheException("Injected failure");
+         }
+      }
+   }
+}
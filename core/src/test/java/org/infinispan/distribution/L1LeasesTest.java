@@ -0,0 +1,63 @@
+package org.infinispan.distribution;
+
+import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertNull;
+import static org.testng.AssertJUnit.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+
+import org.infinispan.Cache;
+import org.infinispan.configuration.cache.CacheMode;
+import org.infinispan.configuration.cache.ConfigurationBuilder;
+import org.infinispan.container.entries.InternalCacheEntry;
+import org.infinispan.test.MultipleCacheManagersTest;
+import org.infinispan.test.TestingUtil;
+import org.infinispan.util.ControlledTimeService;
+import org.infinispan.util.CountingRpcManager;
+import org.infinispan.util.TimeService;
+import org.testng.annotations.Test;
+
+/**
+ * Tests that L1 entries used as leases are not invalidated by the writes and expire after the L1 lifespan.
+ *
+ * @since 9.0
+ */
+@Test(groups = "functional", testName = "distribution.L1LeasesTest")
+public class L1LeasesTest extends MultipleCacheManagersTest {
+
+   private static final long LEASE = TimeUnit.SECONDS.toMillis(10);
+
+   private ControlledTimeService timeService;
+
+   @Override
+   protected void createCacheManagers() throws Throwable {
+      ConfigurationBuilder cfg = getDefaultClusteredCacheConfig(CacheMode.DIST_SYNC, false);
+      cfg.clustering().hash().numOwners(1).l1().enable().leases(true).lifespan(LEASE);
+      createCluster(cfg, 2);
+      waitForClusterToForm();
+      timeService = new ControlledTimeService(0);
+      TestingUtil.replaceComponent(manager(0), TimeService.class, timeService, true);
+   }
+
+   public void testWriteDoesNotInvalidateLease() {
+      Cache<Object, Object> reader = cache(0);
+      Cache<Object, Object> owner = cache(1);
+      MagicKey key = new MagicKey(owner);
+      owner.put(key, "v1");
+
+      assertEquals("v1", reader.get(key));
+      InternalCacheEntry entry = reader.getAdvancedCache().getDataContainer().get(key);
+      assertTrue(entry.isL1Entry());
+
+      CountingRpcManager rpcManager = CountingRpcManager.replaceRpcManager(owner);
+      owner.put(key, "v2");
+      assertEquals(0, rpcManager.otherCount);
+
+      // The lease is still valid, the stale value is read from L1
+      assertEquals("v1", reader.get(key));
+
+      timeService.advance(LEASE + 1);
+      assertNull(reader.getAdvancedCache().getDataContainer().get(key));
+      assertEquals("v2", reader.get(key));
+   }
+}
@@ -0,0 +1,141 @@
+package org.infinispan.distribution.groups;
+
+import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertFalse;
+import static org.testng.AssertJUnit.assertTrue;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.infinispan.AdvancedCache;
+import org.infinispan.Cache;
+import org.infinispan.configuration.cache.CacheMode;
+import org.infinispan.configuration.cache.ConfigurationBuilder;
+import org.infinispan.container.entries.CacheEntry;
+import org.infinispan.container.entries.InternalCacheEntry;
+import org.infinispan.distribution.group.GroupIndex;
+import org.infinispan.distribution.group.GroupManager;
+import org.infinispan.distribution.groups.BaseUtilGroupTest.GroupKey;
+import org.infinispan.stream.CacheCollectors;
+import org.infinispan.test.MultipleCacheManagersTest;
+import org.infinispan.test.TestingUtil;
+import org.infinispan.util.CountingRpcManager;
+import org.testng.annotations.Test;
+
+/**
+ * Tests the group operations with the group index enabled, and that they contact the owner of the group once.
+ *
+ * @since 9.0
+ */
+@Test(groups = "functional", testName = "distribution.groups.GroupBulkOperationsTest")
+public class GroupBulkOperationsTest extends MultipleCacheManagersTest {
+
+   private static final String GROUP = "customer-1";
+   private static final String OTHER_GROUP = "customer-2";
+
+   @Override
+   protected void createCacheManagers() throws Throwable {
+      ConfigurationBuilder builder = getDefaultClusteredCacheConfig(CacheMode.DIST_SYNC, false);
+      builder.clustering().hash().numOwners(1).groups().enabled().indexed(true);
+      createClusteredCaches(3, builder);
+   }
+
+   public void testGetGroupThroughIndex() {
+      AdvancedCache<GroupKey, String> nonOwner = nonOwner();
+      fill(nonOwner);
+      nonOwner.remove(new GroupKey(GROUP, 0));
+
+      GroupIndex index = TestingUtil.extractComponent(primaryOwner(), GroupIndex.class);
+      assertEquals(9, index.getKeys(GROUP).size());
+
+      Map<GroupKey, String> group = nonOwner.getGroup(GROUP);
+      assertEquals(9, group.size());
+      for (int i = 1; i < 10; i++) {
+         assertEquals("v" + i, group.get(new GroupKey(GROUP, i)));
+      }
+
+      // evicted keys are skipped and dropped from the index
+      primaryOwner().getAdvancedCache().evict(new GroupKey(GROUP, 1));
+      assertEquals(8, nonOwner.getGroup(GROUP).size());
+      assertEquals(8, index.getKeys(GROUP).size());
+   }
+
+   public void testExpiredKeysDroppedFromIndex() {
+      fill(nonOwner());
+      Cache<GroupKey, String> primaryOwner = primaryOwner();
+      GroupKey expiring = new GroupKey(GROUP, 10);
+      primaryOwner.put(expiring, "v10", 10, TimeUnit.MILLISECONDS);
+      GroupIndex index = TestingUtil.extractComponent(primaryOwner, GroupIndex.class);
+      assertEquals(11, index.getKeys(GROUP).size());
+
+      TestingUtil.sleepThread(50);
+      // iterating the container skips the expired entry and drops its key
+      for (InternalCacheEntry<GroupKey, String> entry : primaryOwner.getAdvancedCache().getDataContainer()) {
+         assertFalse(expiring.equals(entry.getKey()));
+      }
+      assertEquals(10, index.getKeys(GROUP).size());
+
+      // writing the key again adds it back
+      primaryOwner.put(expiring, "v10");
+      assertEquals(11, index.getKeys(GROUP).size());
+      assertEquals(11, primaryOwner.getAdvancedCache().getGroup(GROUP).size());
+   }
+
+   public void testRemoveGroupInOneRequest() {
+      AdvancedCache<GroupKey, String> nonOwner = nonOwner();
+      fill(nonOwner);
+
+      CountingRpcManager rpcManager = CountingRpcManager.replaceRpcManager(nonOwner);
+      nonOwner.removeGroup(GROUP);
+      // one request to list the group and one to remove its entries
+      assertEquals(2, rpcManager.otherCount + rpcManager.clusterGet);
+
+      assertTrue(nonOwner.getGroup(GROUP).isEmpty());
+      assertEquals(10, nonOwner.getGroup(OTHER_GROUP).size());
+      assertTrue(TestingUtil.extractComponent(primaryOwner(), GroupIndex.class).getKeys(GROUP).isEmpty());
+   }
+
+   public void testGroupStream() {
+      AdvancedCache<GroupKey, String> nonOwner = nonOwner();
+      fill(nonOwner);
+
+      CountingRpcManager rpcManager = CountingRpcManager.replaceRpcManager(nonOwner);
+      Set<String> values = nonOwner.getGroupStream(GROUP).map(CacheEntry::getValue)
+            .collect(CacheCollectors.serializableCollector(Collectors::toSet));
+      assertEquals(1, rpcManager.otherCount);
+
+      assertEquals(10, values.size());
+      for (int i = 0; i < 10; i++) {
+         assertTrue(values.contains("v" + i));
+      }
+      assertEquals(10, primaryOwner().getAdvancedCache().getGroupStream(OTHER_GROUP).count());
+   }
+
+   private void fill(Cache<GroupKey, String> cache) {
+      cache.clear();
+      for (int i = 0; i < 10; i++) {
+         cache.put(new GroupKey(GROUP, i), "v" + i);
+         cache.put(new GroupKey(OTHER_GROUP, i), "v" + i);
+      }
+   }
+
+   private Cache<GroupKey, String> primaryOwner() {
+      for (Cache<GroupKey, String> cache : this.<GroupKey, String>caches()) {
+         if (TestingUtil.extractComponent(cache, GroupManager.class).isPrimaryOwner(GROUP)) {
+            return cache;
+         }
+      }
+      throw new IllegalStateException("No primary owner for " + GROUP);
+   }
+
+   private AdvancedCache<GroupKey, String> nonOwner() {
+      for (Cache<GroupKey, String> cache : this.<GroupKey, String>caches()) {
+         if (!TestingUtil.extractComponent(cache, GroupManager.class).isOwner(GROUP)) {
+            return cache.getAdvancedCache();
+         }
+      }
+      throw new IllegalStateException("No non-owner for " + GROUP);
+   }
+}
@@ -0,0 +1,78 @@
+package org.infinispan.factories.components;
+
+import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertFalse;
+import static org.testng.AssertJUnit.assertTrue;
+
+import org.infinispan.factories.annotations.Inject;
+import org.infinispan.factories.annotations.Start;
+import org.infinispan.statetransfer.StateTransferManagerImpl;
+import org.infinispan.test.AbstractInfinispanTest;
+import org.testng.annotations.Test;
+
+/**
+ * Tests the invocation of the component methods through the generated accessors and through reflection.
+ *
+ * @since 9.0
+ */
+@Test(groups = "unit", testName = "factories.components.ComponentAccessorsTest")
+public class ComponentAccessorsTest extends AbstractInfinispanTest {
+
+   public void testGeneratedAccessor() throws Exception {
+      ComponentAccessor accessor = ComponentAccessors.accessor(StateTransferManagerImpl.class);
+      assertTrue(ComponentAccessors.isGenerated(accessor));
+      assertFalse(accessor.invoke(new StateTransferManagerImpl(), "unknownMethod", null));
+
+      assertTrue(ComponentAccessors.isGenerated(ComponentAccessors.accessor(TestComponent.class)));
+      TestComponent component = new TestComponent();
+      ComponentAccessors.invoke(component, TestComponent.class.getMethod("start"), null);
+      assertEquals(1, component.started);
+   }
+
+   public void testPrimitiveParameters() throws Exception {
+      assertTrue(ComponentAccessors.isGenerated(ComponentAccessors.accessor(PrimitiveTestComponent.class)));
+      PrimitiveTestComponent component = new PrimitiveTestComponent();
+      ComponentAccessors.invoke(component, PrimitiveTestComponent.class.getMethod("inject", int.class, boolean.class),
+            new Object[]{42, true});
+      assertEquals(42, component.size);
+      assertTrue(component.enabled);
+   }
+
+   public void testReflectionFallback() throws Exception {
+      // No accessor is generated for private methods
+      assertFalse(ComponentAccessors.isGenerated(ComponentAccessors.accessor(PrivateTestComponent.class)));
+
+      PrivateTestComponent component = new PrivateTestComponent();
+      ComponentAccessors.invoke(component, PrivateTestComponent.class.getDeclaredMethod("start"), null);
+      assertEquals(1, component.started);
+   }
+
+   public static class TestComponent {
+      int started;
+
+      @Start
+      public void start() {
+         started++;
+      }
+   }
+
+   public static class PrimitiveTestComponent {
+      int size;
+      boolean enabled;
+
+      @Inject
+      public void inject(int size, boolean enabled) {
+         this.size = size;
+         this.enabled = enabled;
+      }
+   }
+
+   public static class PrivateTestComponent {
+      int started;
+
+      @Start
+      private void start() {
+         started++;
+      }
+   }
+}
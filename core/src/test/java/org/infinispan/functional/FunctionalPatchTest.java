@@ -0,0 +1,115 @@
+package org.infinispan.functional;
+
+import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertNull;
+
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.infinispan.Cache;
+import org.infinispan.commons.api.functional.FunctionalMap.ReadWriteMap;
+import org.infinispan.commons.api.functional.Patch;
+import org.infinispan.configuration.cache.CacheMode;
+import org.infinispan.configuration.cache.ConfigurationBuilder;
+import org.infinispan.distribution.MagicKey;
+import org.infinispan.functional.impl.FunctionalMapImpl;
+import org.infinispan.functional.impl.ReadWriteMapImpl;
+import org.infinispan.test.MultipleCacheManagersTest;
+import org.testng.annotations.Test;
+
+/**
+ * Tests that patches applied through the functional API are replicated without the value they modify.
+ *
+ * @since 9.0
+ */
+@Test(groups = "functional", testName = "functional.FunctionalPatchTest")
+public class FunctionalPatchTest extends MultipleCacheManagersTest {
+
+   @Override
+   protected void createCacheManagers() throws Throwable {
+      ConfigurationBuilder builder = getDefaultClusteredCacheConfig(CacheMode.DIST_SYNC, false);
+      builder.clustering().hash().numOwners(2);
+      createCluster(builder, 3);
+      waitForClusterToForm();
+   }
+
+   public void testPatchIsAppliedByAllOwners() {
+      Cache<Object, Document> primary = cache(0);
+      MagicKey key = new MagicKey(primary, cache(1));
+      primary.put(key, new Document("a"));
+
+      ReadWriteMap<Object, Document> rw = ReadWriteMapImpl.create(FunctionalMapImpl.create(this.<Object, Document>cache(2).getAdvancedCache()));
+      Document.marshalled.set(0);
+      rw.patch(key, new AppendPatch("b")).join();
+      rw.patch(key, new AppendPatch("c")).join();
+
+      // Neither the previous nor the new value travel with the patch
+      assertEquals(0, Document.marshalled.get());
+      assertEquals("abc", this.<Object, Document>cache(0).getAdvancedCache().getDataContainer().get(key).getValue().text);
+      assertEquals("abc", this.<Object, Document>cache(1).getAdvancedCache().getDataContainer().get(key).getValue().text);
+   }
+
+   public void testPatchOnBackupWithoutValue() {
+      Cache<Object, Document> primary = cache(0);
+      MagicKey key = new MagicKey(primary, cache(1));
+      primary.put(key, new Document("a"));
+      this.<Object, Document>cache(1).getAdvancedCache().getDataContainer().remove(key);
+
+      ReadWriteMap<Object, Document> rw = ReadWriteMapImpl.create(FunctionalMapImpl.create(primary.getAdvancedCache()));
+      Document.marshalled.set(0);
+      rw.patch(key, new AppendPatch("b")).join();
+
+      // The backup owner could not apply the patch, so the previous value was replicated
+      assertEquals(1, Document.marshalled.get());
+      assertEquals("ab", this.<Object, Document>cache(1).getAdvancedCache().getDataContainer().get(key).getValue().text);
+   }
+
+   public void testPatchRemovingValue() {
+      Cache<Object, Document> primary = cache(0);
+      MagicKey key = new MagicKey(primary, cache(1));
+      primary.put(key, new Document("a"));
+
+      ReadWriteMap<Object, Document> rw = ReadWriteMapImpl.create(FunctionalMapImpl.create(primary.getAdvancedCache()));
+      rw.patch(key, new RemovePatch()).join();
+
+      assertNull(primary.get(key));
+      assertNull(this.<Object, Document>cache(1).getAdvancedCache().getDataContainer().get(key));
+   }
+
+   static final class Document implements Serializable {
+      static final AtomicInteger marshalled = new AtomicInteger();
+
+      final String text;
+
+      Document(String text) {
+         this.text = text;
+      }
+
+      private void writeObject(ObjectOutputStream out) throws IOException {
+         marshalled.incrementAndGet();
+         out.defaultWriteObject();
+      }
+   }
+
+   static final class AppendPatch implements Patch<Document>, Serializable {
+      private final String suffix;
+
+      AppendPatch(String suffix) {
+         this.suffix = suffix;
+      }
+
+      @Override
+      public Document apply(Document value) {
+         return new Document(value.text + suffix);
+      }
+   }
+
+   static final class RemovePatch implements Patch<Document>, Serializable {
+      @Override
+      public Document apply(Document value) {
+         return null;
+      }
+   }
+}
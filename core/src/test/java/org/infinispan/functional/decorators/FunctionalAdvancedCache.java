@@ -36,6 +36,7 @@
 import org.infinispan.notifications.cachelistener.filter.CacheEventConverter;
 import org.infinispan.notifications.cachelistener.filter.CacheEventFilter;
 import org.infinispan.partitionhandling.AvailabilityMode;
+import org.infinispan.pipeline.Pipeline;
 import org.infinispan.remoting.rpc.RpcManager;
 import org.infinispan.security.AuthorizationManager;
 import org.infinispan.stats.Stats;
@@ -439,6 +440,11 @@ public Map<K, CacheEntry<K, V>> getAllCacheEntries(Set<?> keys) {
       return null;  // TODO: Customise this generated block
    }
 
+   @Override
+   public Pipeline<K, V> pipeline() {
+      return null;  // TODO: Customise this generated block
+   }
+
    @Override
    public Map<K, V> getGroup(String groupName) {
       return null;  // TODO: Customise this generated block
@@ -449,6 +455,11 @@ public void removeGroup(String groupName) {
       // TODO: Customise this generated block
    }
 
+   @Override
+   public CacheStream<CacheEntry<K, V>> getGroupStream(String groupName) {
+      return null;  // TODO: Customise this generated block
+   }
+
    @Override
    public AvailabilityMode getAvailability() {
       return null;  // TODO: Customise this generated block
@@ -134,6 +134,26 @@ protected void shutdownAndRestart(int extraneousNodePosition, boolean reverse) t
       }
    }
 
+   protected void restartCrashAndRejoin() throws Throwable {
+      // The first restart restores the persisted state on every node
+      shutdownAndRestart(-1, false);
+
+      // The restored state is only valid for the restored topology
+      String cacheName = cache(0).getName();
+      for (int i = 0; i < getClusterSize(); i++) {
+         GlobalStateManager globalStateManager = TestingUtil.extractGlobalComponent(manager(i), GlobalStateManager.class);
+         eventually(() -> !globalStateManager.readScopedState(cacheName).isPresent());
+      }
+
+      // A crashed node rejoins without a persistent state and is given its segments by a rebalance
+      int crashed = getClusterSize() - 1;
+      killMember(crashed);
+      createStatefulCacheManager(Character.toString((char) ('A' + crashed)), false);
+      waitForClusterToForm();
+      cache(crashed).put("rejoined", "value");
+      assertEquals("value", cache(0).get("rejoined"));
+   }
+
    private void checkClusterRestartedCorrectly(Map<JGroupsAddress, PersistentUUID> addressMappings) throws Exception {
       Iterator<Map.Entry<JGroupsAddress, PersistentUUID>> addressIterator = addressMappings.entrySet().iterator();
       for (int i = 0; i < cacheManagers.size(); i++) {
@@ -32,4 +32,8 @@ public void testFailedRestartWithExtraneousCoordinator() throws Throwable {
    public void testFailedRestartWithExtraneousNode() throws Throwable {
       shutdownAndRestart(1, false);
    }
+
+   public void testCrashAndRejoinAfterRestart() throws Throwable {
+      restartCrashAndRejoin();
+   }
 }
@@ -0,0 +1,231 @@
+package org.infinispan.interceptors.impl;
+
+import org.infinispan.commands.VisitableCommand;
+import org.infinispan.commands.Visitor;
+import org.infinispan.commands.read.GetKeyValueCommand;
+import org.infinispan.commands.tx.PrepareCommand;
+import org.infinispan.commands.tx.VersionedPrepareCommand;
+import org.infinispan.commands.write.PutKeyValueCommand;
+import org.infinispan.commons.equivalence.AnyEquivalence;
+import org.infinispan.context.InvocationContext;
+import org.infinispan.context.SingleKeyNonTxInvocationContext;
+import org.infinispan.context.impl.TxInvocationContext;
+import org.infinispan.factories.components.ComponentMetadataRepo;
+import org.infinispan.interceptors.AsyncInterceptor;
+import org.infinispan.interceptors.BaseAsyncInterceptor;
+import org.infinispan.interceptors.DDAsyncInterceptor;
+import org.infinispan.metadata.EmbeddedMetadata;
+import org.infinispan.remoting.rpc.CustomReplicableCommand;
+import org.infinispan.util.concurrent.CompletableFutures;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertNull;
+
+/**
+ * Tests the interceptor chains that {@link AsyncInterceptorChainImpl} specializes for each command type.
+ *
+ * @since 9.0
+ */
+@Test(groups = "unit", testName = "interceptors.impl.SpecializedInterceptorChainTest")
+public class SpecializedInterceptorChainTest {
+
+   private final List<String> visited = new ArrayList<>();
+
+   private AsyncInterceptorChainImpl createChain(AsyncInterceptor... interceptors) {
+      ComponentMetadataRepo componentMetadataRepo = new ComponentMetadataRepo();
+      componentMetadataRepo.initialize(Collections.emptyList(), SpecializedInterceptorChainTest.class.getClassLoader());
+      AsyncInterceptorChainImpl chain = new AsyncInterceptorChainImpl(componentMetadataRepo);
+      for (AsyncInterceptor interceptor : interceptors) {
+         chain.appendInterceptor(interceptor, false);
+      }
+      chain.buildSpecializedChains();
+      return chain;
+   }
+
+   private static List<AsyncInterceptor> chainFor(AsyncInterceptorChainImpl chain, VisitableCommand command) {
+      InterceptorListNode first = null;
+      for (AsyncInterceptor interceptor : reversed(chain.getInterceptors())) {
+         first = new InterceptorListNode(interceptor, first);
+      }
+      List<AsyncInterceptor> result = new ArrayList<>();
+      for (InterceptorListNode node = AsyncInterceptorChainImpl.specializeChain(first,
+            AsyncInterceptorChainImpl.visitMethod(command.getClass())); node != null;
+           node = node.nextNode) {
+         result.add(node.interceptor);
+      }
+      return result;
+   }
+
+   private static List<AsyncInterceptor> reversed(List<AsyncInterceptor> interceptors) {
+      List<AsyncInterceptor> reversed = new ArrayList<>(interceptors);
+      Collections.reverse(reversed);
+      return reversed;
+   }
+
+   private static SingleKeyNonTxInvocationContext newContext() {
+      return new SingleKeyNonTxInvocationContext(null, AnyEquivalence.getInstance());
+   }
+
+   private static GetKeyValueCommand getCommand() {
+      return new GetKeyValueCommand("k", 0);
+   }
+
+   private static PutKeyValueCommand putCommand() {
+      return new PutKeyValueCommand("k", "v", false, null, new EmbeddedMetadata.Builder().build(), 0, null, null);
+   }
+
+   public void testSkipsInterceptorsThatIgnoreCommand() {
+      RecordingInterceptor first = new RecordingInterceptor("first");
+      GetInterceptor get = new GetInterceptor("get");
+      PutInterceptor put = new PutInterceptor("put");
+      DefaultInterceptor dflt = new DefaultInterceptor("default");
+      TerminalInterceptor terminal = new TerminalInterceptor("terminal");
+      AsyncInterceptorChainImpl chain = createChain(first, get, put, dflt, terminal);
+
+      assertEquals(Arrays.asList(first, get, dflt, terminal), chainFor(chain, getCommand()));
+      assertEquals(Arrays.asList(first, put, dflt, terminal), chainFor(chain, putCommand()));
+
+      visited.clear();
+      assertEquals("terminal", chain.invoke(newContext(), getCommand()));
+      assertEquals(Arrays.asList("first", "get", "default", "terminal"), visited);
+   }
+
+   public void testVisitMethodOfCommandType() throws Exception {
+      assertEquals(Visitor.class.getMethod("visitGetKeyValueCommand", InvocationContext.class,
+            GetKeyValueCommand.class), AsyncInterceptorChainImpl.visitMethod(GetKeyValueCommand.class));
+      // Subclasses that don't override acceptVisitor use the visit method of their superclass
+      assertEquals(Visitor.class.getMethod("visitPrepareCommand", TxInvocationContext.class, PrepareCommand.class),
+            AsyncInterceptorChainImpl.visitMethod(VersionedPrepareCommand.class));
+      assertNull(AsyncInterceptorChainImpl.visitMethod(CustomReplicableCommand.class));
+   }
+
+   public void testUnknownCommandUsesCompleteChain() {
+      GetInterceptor get = new GetInterceptor("get");
+      TerminalInterceptor terminal = new TerminalInterceptor("terminal");
+      AsyncInterceptorChainImpl chain = createChain(get, terminal);
+
+      visited.clear();
+      assertEquals("terminal", chain.invoke(newContext(), new CustomReplicableCommand("v")));
+      assertEquals(Arrays.asList("terminal"), visited);
+   }
+
+   public void testKeepsInterceptorsAfterLastHandlingInterceptor() {
+      GetInterceptor get = new GetInterceptor("get");
+      PutInterceptor put = new PutInterceptor("put");
+      AsyncInterceptorChainImpl chain = createChain(get, put);
+
+      assertEquals(Arrays.asList(get, put), chainFor(chain, getCommand()));
+      assertEquals(Arrays.asList(put), chainFor(chain, putCommand()));
+   }
+
+   public void testForkedCommandUsesCompleteChain() throws Exception {
+      ForkingInterceptor fork = new ForkingInterceptor("fork");
+      GetInterceptor get = new GetInterceptor("get");
+      TerminalInterceptor terminal = new TerminalInterceptor("terminal");
+      AsyncInterceptorChainImpl chain = createChain(fork, get, terminal);
+
+      // The get interceptor is not needed for the put, but it is needed for the forked get
+      assertEquals(Arrays.asList(fork, terminal), chainFor(chain, putCommand()));
+
+      visited.clear();
+      assertEquals("terminal", chain.invoke(newContext(), putCommand()));
+      assertEquals(Arrays.asList("fork", "get", "terminal", "terminal"), visited);
+
+      visited.clear();
+      assertEquals("terminal", CompletableFutures.await(chain.invokeAsync(newContext(), putCommand())));
+      assertEquals(Arrays.asList("fork", "get", "terminal", "terminal"), visited);
+   }
+
+   class RecordingInterceptor extends BaseAsyncInterceptor {
+      final String name;
+
+      RecordingInterceptor(String name) {
+         this.name = name;
+      }
+
+      @Override
+      public CompletableFuture<Void> visitCommand(InvocationContext ctx, VisitableCommand command) throws Throwable {
+         visited.add(name);
+         return ctx.continueInvocation();
+      }
+   }
+
+   class TerminalInterceptor extends RecordingInterceptor {
+      TerminalInterceptor(String name) {
+         super(name);
+      }
+
+      @Override
+      public CompletableFuture<Void> visitCommand(InvocationContext ctx, VisitableCommand command) throws Throwable {
+         visited.add(name);
+         return ctx.shortCircuit(name);
+      }
+   }
+
+   class GetInterceptor extends DDAsyncInterceptor {
+      final String name;
+
+      GetInterceptor(String name) {
+         this.name = name;
+      }
+
+      @Override
+      public CompletableFuture<Void> visitGetKeyValueCommand(InvocationContext ctx, GetKeyValueCommand command)
+            throws Throwable {
+         visited.add(name);
+         return ctx.continueInvocation();
+      }
+   }
+
+   class PutInterceptor extends DDAsyncInterceptor {
+      final String name;
+
+      PutInterceptor(String name) {
+         this.name = name;
+      }
+
+      @Override
+      public CompletableFuture<Void> visitPutKeyValueCommand(InvocationContext ctx, PutKeyValueCommand command)
+            throws Throwable {
+         visited.add(name);
+         return ctx.continueInvocation();
+      }
+   }
+
+   class DefaultInterceptor extends DDAsyncInterceptor {
+      final String name;
+
+      DefaultInterceptor(String name) {
+         this.name = name;
+      }
+
+      @Override
+      protected CompletableFuture<Void> handleDefault(InvocationContext ctx, VisitableCommand command)
+            throws Throwable {
+         visited.add(name);
+         return ctx.continueInvocation();
+      }
+   }
+
+   class ForkingInterceptor extends DDAsyncInterceptor {
+      final String name;
+
+      ForkingInterceptor(String name) {
+         this.name = name;
+      }
+
+      @Override
+      public CompletableFuture<Void> visitPutKeyValueCommand(InvocationContext ctx, PutKeyValueCommand command)
+            throws Throwable {
+         visited.add(name);
+         return ctx.forkInvocation(getCommand(), (rCtx, rCommand, rv, throwable) -> rCtx.continueInvocation());
+      }
+   }
+}
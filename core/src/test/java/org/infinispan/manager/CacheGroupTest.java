@@ -0,0 +1,222 @@
+package org.infinispan.manager;
+
+import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertFalse;
+import static org.testng.AssertJUnit.assertNull;
+import static org.testng.AssertJUnit.assertTrue;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.infinispan.Cache;
+import org.infinispan.CacheStream;
+import org.infinispan.cache.impl.CacheGroupKey;
+import org.infinispan.commons.CacheConfigurationException;
+import org.infinispan.configuration.cache.CacheMode;
+import org.infinispan.configuration.cache.ConfigurationBuilder;
+import org.infinispan.container.entries.CacheEntry;
+import org.infinispan.distribution.group.Group;
+import org.infinispan.notifications.Listener;
+import org.infinispan.notifications.cachelistener.annotation.CacheEntryCreated;
+import org.infinispan.notifications.cachelistener.event.CacheEntryCreatedEvent;
+import org.infinispan.pipeline.Pipeline;
+import org.infinispan.test.MultipleCacheManagersTest;
+import org.testng.annotations.Test;
+
+/**
+ * Tests the isolation of the caches belonging to the same cache group.
+ *
+ * @since 9.0
+ */
+@Test(groups = "functional", testName = "manager.CacheGroupTest")
+public class CacheGroupTest extends MultipleCacheManagersTest {
+
+   private static final String GROUP = "tenants";
+
+   @Override
+   protected void createCacheManagers() throws Throwable {
+      createCluster(getDefaultClusteredCacheConfig(CacheMode.DIST_SYNC, false), 2);
+      ConfigurationBuilder member = new ConfigurationBuilder();
+      member.cacheGroup(GROUP);
+      for (EmbeddedCacheManager cm : cacheManagers) {
+         ConfigurationBuilder group = getDefaultClusteredCacheConfig(CacheMode.DIST_SYNC, false);
+         group.clustering().hash().groups().enabled();
+         cm.defineConfiguration(GROUP, group.build());
+         cm.defineConfiguration("a", member.build());
+         cm.defineConfiguration("b", member.build());
+         cm.defineConfiguration("removed", member.build());
+         cm.defineConfiguration("invalid", new ConfigurationBuilder().cacheGroup("a").build());
+      }
+      waitForClusterToForm(GROUP);
+   }
+
+   public void testIsolation() {
+      Cache<String, String> a0 = cache(0, "a");
+      Cache<String, String> b0 = cache(0, "b");
+      Cache<String, String> a1 = cache(1, "a");
+      Cache<String, String> b1 = cache(1, "b");
+
+      a0.put("k1", "a1");
+      a0.put("k2", "a2");
+      b1.put("k1", "b1");
+
+      assertEquals("a1", a1.get("k1"));
+      assertEquals("b1", b0.get("k1"));
+      assertNull(b0.get("k2"));
+      assertTrue(a1.containsKey("k2"));
+      assertFalse(b1.containsKey("k2"));
+      assertEquals("a1", a1.getAdvancedCache().getCacheEntry("k1").getValue());
+
+      Map<String, String> all = a1.getAdvancedCache().getAll(new HashSet<>(Arrays.asList("k1", "k2", "k3")));
+      assertEquals(2, all.size());
+      assertEquals("a2", all.get("k2"));
+
+      assertEquals(2, a1.size());
+      assertEquals(1, b0.size());
+      assertEquals(new HashSet<>(Arrays.asList("k1", "k2")), new HashSet<>(a0.keySet()));
+      assertEquals(3, cache(1, GROUP).size());
+      assertTrue(cache(0, GROUP).containsKey(new CacheGroupKey("b", "k1")));
+
+      a1.clear();
+      assertTrue(a0.isEmpty());
+      assertEquals("b1", b1.get("k1"));
+   }
+
+   public void testNoComponents() {
+      cache(0, "a");
+      assertEquals("a", cache(0, "a").getName());
+      assertNull(manager(0).getGlobalComponentRegistry().getNamedComponentRegistry("a"));
+   }
+
+   public void testRemoveCache() {
+      Cache<String, String> removed0 = cache(0, "removed");
+      cache(1, "removed");
+      removed0.put("k", "v");
+      manager(0).removeCache("removed");
+      assertFalse(manager(0).cacheExists("removed"));
+      assertFalse(manager(1).cacheExists("removed"));
+      assertFalse(cache(1, GROUP).containsKey(new CacheGroupKey("removed", "k")));
+   }
+
+   public void testClearAsync() throws Exception {
+      Cache<String, String> a0 = cache(0, "a");
+      a0.put("k", "v");
+      cache(1, "a").clearAsync().get(10, TimeUnit.SECONDS);
+      assertTrue(a0.isEmpty());
+   }
+
+   public void testListenerKeys() {
+      Cache<String, String> a0 = cache(0, "a");
+      KeyListener listener = new KeyListener();
+      a0.addListener(listener);
+      try {
+         cache(0, "b").put("other", "v");
+         a0.put("k", "v");
+         assertEquals(Collections.singletonList("k"), listener.keys);
+      } finally {
+         a0.removeListener(listener);
+      }
+   }
+
+   public void testFilteredListenerKeys() {
+      Cache<String, String> a0 = cache(0, "a");
+      KeyListener listener = new KeyListener();
+      a0.getAdvancedCache().addListener(listener, key -> key.equals("k2"));
+      try {
+         a0.put("k1", "v");
+         cache(0, "b").put("k2", "v");
+         a0.put("k2", "v");
+         assertEquals(Collections.singletonList("k2"), listener.keys);
+      } finally {
+         a0.removeListener(listener);
+      }
+   }
+
+   public void testPipeline() throws Exception {
+      Cache<String, String> a0 = cache(0, "a");
+      a0.put("k", "old");
+      Pipeline<String, String> pipeline = a0.getAdvancedCache().pipeline();
+      CompletableFuture<String> put = pipeline.put("k", "new");
+      CompletableFuture<String> get = pipeline.get("missing");
+      pipeline.execute();
+
+      assertEquals("old", put.get());
+      assertNull(get.get());
+      assertEquals("new", cache(1, "a").get("k"));
+      assertNull(cache(1, "b").get("k"));
+   }
+
+   public void testGrouping() {
+      Cache<GroupedKey, String> a0 = cache(0, "a");
+      Cache<GroupedKey, String> b0 = cache(0, "b");
+      a0.put(new GroupedKey("g", "1"), "a1");
+      a0.put(new GroupedKey("g", "2"), "a2");
+      a0.put(new GroupedKey("h", "3"), "a3");
+      b0.put(new GroupedKey("g", "1"), "b1");
+
+      Cache<GroupedKey, String> a1 = cache(1, "a");
+      Map<GroupedKey, String> group = a1.getAdvancedCache().getGroup("g");
+      assertEquals(2, group.size());
+      assertEquals("a2", group.get(new GroupedKey("g", "2")));
+      assertEquals(1, b0.getAdvancedCache().getGroup("g").size());
+      try (CacheStream<CacheEntry<GroupedKey, String>> stream = a0.getAdvancedCache().getGroupStream("g")) {
+         assertEquals(2, stream.filter(e -> e.getKey().group.equals("g")).count());
+      }
+
+      a1.getAdvancedCache().removeGroup("g");
+      assertTrue(a0.getAdvancedCache().getGroup("g").isEmpty());
+      assertEquals("a3", a0.get(new GroupedKey("h", "3")));
+      assertEquals("b1", b0.get(new GroupedKey("g", "1")));
+   }
+
+   @Test(expectedExceptions = CacheConfigurationException.class)
+   public void testNestedCacheGroup() {
+      manager(0).getCache("invalid");
+   }
+
+   @Listener
+   public static class KeyListener {
+      final List<Object> keys = new CopyOnWriteArrayList<>();
+
+      @CacheEntryCreated
+      public void onCreated(CacheEntryCreatedEvent<Object, Object> event) {
+         if (!event.isPre()) {
+            keys.add(event.getKey());
+         }
+      }
+   }
+
+   public static class GroupedKey implements Serializable {
+      final String group;
+      final String id;
+
+      GroupedKey(String group, String id) {
+         this.group = group;
+         this.id = id;
+      }
+
+      @Group
+      public String getGroup() {
+         return group;
+      }
+
+      @Override
+      public boolean equals(Object o) {
+         if (!(o instanceof GroupedKey)) return false;
+         GroupedKey other = (GroupedKey) o;
+         return group.equals(other.group) && id.equals(other.id);
+      }
+
+      @Override
+      public int hashCode() {
+         return 31 * group.hashCode() + id.hashCode();
+      }
+   }
+}
@@ -0,0 +1,62 @@
+package org.infinispan.marshall;
+
+import org.infinispan.commands.remote.SingleRpcCommand;
+import org.infinispan.commands.write.PutKeyValueCommand;
+import org.infinispan.commands.write.PutMapCommand;
+import org.infinispan.commons.marshall.AbstractMarshaller;
+import org.infinispan.commons.marshall.AdaptiveBufferSizePredictor;
+import org.infinispan.commons.marshall.BufferSizePredictor;
+import org.infinispan.commons.marshall.ElementCountBufferSizePredictor;
+import org.infinispan.util.ByteString;
+import org.testng.annotations.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.testng.AssertJUnit.assertNotSame;
+import static org.testng.AssertJUnit.assertSame;
+import static org.testng.AssertJUnit.assertTrue;
+
+/**
+ * Tests that the commands implementing {@link org.infinispan.commons.marshall.BufferSizeHint} get their own predictor,
+ * even when wrapped.
+ *
+ * @since 9.0
+ */
+@Test(groups = "functional", testName = "marshall.BufferSizeHintTest")
+public class BufferSizeHintTest {
+
+   public void testWrappedCommandsUseTheirOwnPredictor() {
+      TestMarshaller marshaller = new TestMarshaller();
+      ByteString cacheName = ByteString.fromString("cache");
+      Map<Object, Object> map = new HashMap<>();
+      map.put("k", "v");
+      PutMapCommand putMap = new PutMapCommand(map, null, null, 0, null);
+      SingleRpcCommand wrappedPutMap = new SingleRpcCommand(cacheName, putMap);
+      SingleRpcCommand wrappedPut = new SingleRpcCommand(cacheName, new PutKeyValueCommand());
+
+      BufferSizePredictor putMapPredictor = marshaller.getBufferSizePredictor(wrappedPutMap);
+      assertTrue(putMapPredictor instanceof ElementCountBufferSizePredictor);
+      assertSame(putMapPredictor, marshaller.getBufferSizePredictor(putMap));
+      BufferSizePredictor putPredictor = marshaller.getBufferSizePredictor(wrappedPut);
+      assertTrue(putPredictor instanceof AdaptiveBufferSizePredictor);
+      assertNotSame(putMapPredictor, putPredictor);
+   }
+
+   private static final class TestMarshaller extends AbstractMarshaller {
+      @Override
+      protected org.infinispan.commons.io.ByteBuffer objectToBuffer(Object o, int estimatedSize) {
+         throw new UnsupportedOperationException();
+      }
+
+      @Override
+      public Object objectFromByteBuffer(byte[] buf, int offset, int length) {
+         throw new UnsupportedOperationException();
+      }
+
+      @Override
+      public boolean isMarshallable(Object o) {
+         return true;
+      }
+   }
+}
@@ -0,0 +1,181 @@
+package org.infinispan.notifications.cachelistener.cluster;
+
+import static org.testng.AssertJUnit.assertEquals;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.infinispan.Cache;
+import org.infinispan.commands.ReplicableCommand;
+import org.infinispan.commons.CacheException;
+import org.infinispan.configuration.cache.CacheMode;
+import org.infinispan.configuration.cache.ConfigurationBuilder;
+import org.infinispan.distribution.MagicKey;
+import org.infinispan.notifications.Listener;
+import org.infinispan.notifications.cachelistener.annotation.CacheEntryCreated;
+import org.infinispan.notifications.cachelistener.annotation.CacheEntryModified;
+import org.infinispan.notifications.cachelistener.cluster.impl.BatchingClusterEventManagerImpl;
+import org.infinispan.notifications.cachelistener.event.CacheEntryEvent;
+import org.infinispan.remoting.responses.Response;
+import org.infinispan.remoting.rpc.RpcManager;
+import org.infinispan.remoting.rpc.RpcOptions;
+import org.infinispan.remoting.transport.Address;
+import org.infinispan.test.MultipleCacheManagersTest;
+import org.infinispan.test.TestingUtil;
+import org.infinispan.test.fwk.CleanupAfterMethod;
+import org.infinispan.util.AbstractControlledRpcManager;
+import org.testng.annotations.Test;
+
+/**
+ * Tests that asynchronous cluster listeners receive the events in the order they were raised, even when writes keep
+ * raising events while the previous ones are still being delivered.
+ *
+ * @since 9.0
+ */
+@Test(groups = "functional", testName = "notifications.cachelistener.cluster.ClusterListenerAsyncOrderTest")
+@CleanupAfterMethod
+public class ClusterListenerAsyncOrderTest extends MultipleCacheManagersTest {
+
+   @Override
+   protected void createCacheManagers() throws Throwable {
+      ConfigurationBuilder builder = getDefaultClusteredCacheConfig(CacheMode.DIST_SYNC, false);
+      builder.clustering().hash().numOwners(1);
+      createClusteredCaches(2, builder);
+   }
+
+   public void testEventsDeliveredInOrder() {
+      Cache<Object, Integer> listenerCache = cache(0);
+      Cache<Object, Integer> ownerCache = cache(1);
+      AsyncClusterListener listener = new AsyncClusterListener();
+      listenerCache.addListener(listener);
+
+      final int count = 1000;
+      MagicKey key = new MagicKey(ownerCache);
+      for (int i = 0; i < count; i++) {
+         ownerCache.put(key, i);
+      }
+
+      eventually(() -> listener.values.size() == count, TimeUnit.SECONDS.toMillis(10));
+      for (int i = 0; i < count; i++) {
+         assertEquals(Integer.valueOf(i), listener.values.get(i));
+      }
+   }
+
+   public void testEventsDroppedWhenStreamFull() throws Exception {
+      Cache<Object, Integer> listenerCache = cache(0);
+      Cache<Object, Integer> ownerCache = cache(1);
+      AsyncClusterListener listener = new AsyncClusterListener();
+      listenerCache.addListener(listener);
+
+      ClusterEventManager<?, ?> eventManager = TestingUtil.extractComponent(ownerCache, ClusterEventManager.class);
+      RpcManager rpcManager = (RpcManager) TestingUtil.extractField(eventManager, "rpcManager");
+      BlockingRpcManager blockingRpcManager = new BlockingRpcManager(rpcManager);
+      TestingUtil.replaceField(blockingRpcManager, "rpcManager", eventManager, BatchingClusterEventManagerImpl.class);
+      TestingUtil.replaceField(10, "maxPendingEvents", eventManager, BatchingClusterEventManagerImpl.class);
+      try {
+         MagicKey key = new MagicKey(ownerCache);
+         // The first event is in flight until released, the writers must not wait for it
+         ownerCache.put(key, 0);
+         Future<Void> writes = fork(() -> {
+            for (int i = 1; i <= 20; i++) {
+               ownerCache.put(key, i);
+            }
+            return null;
+         });
+         writes.get(10, TimeUnit.SECONDS);
+
+         blockingRpcManager.release.complete(null);
+         // Only the events that fit in the stream are delivered
+         eventually(() -> listener.values.size() == 11, TimeUnit.SECONDS.toMillis(10));
+         for (int i = 0; i <= 10; i++) {
+            assertEquals(Integer.valueOf(i), listener.values.get(i));
+         }
+         ownerCache.put(key, 21);
+         eventually(() -> listener.values.size() == 12, TimeUnit.SECONDS.toMillis(10));
+         assertEquals(Integer.valueOf(21), listener.values.get(11));
+      } finally {
+         blockingRpcManager.release.complete(null);
+         TestingUtil.replaceField(rpcManager, "rpcManager", eventManager, BatchingClusterEventManagerImpl.class);
+      }
+   }
+
+   public void testFailedBatchSentAgain() {
+      Cache<Object, Integer> listenerCache = cache(0);
+      Cache<Object, Integer> ownerCache = cache(1);
+      AsyncClusterListener listener = new AsyncClusterListener();
+      listenerCache.addListener(listener);
+
+      ClusterEventManager<?, ?> eventManager = TestingUtil.extractComponent(ownerCache, ClusterEventManager.class);
+      RpcManager rpcManager = (RpcManager) TestingUtil.extractField(eventManager, "rpcManager");
+      FailingRpcManager failingRpcManager = new FailingRpcManager(rpcManager);
+      TestingUtil.replaceField(failingRpcManager, "rpcManager", eventManager, BatchingClusterEventManagerImpl.class);
+      try {
+         MagicKey key = new MagicKey(ownerCache);
+         for (int i = 0; i < 10; i++) {
+            ownerCache.put(key, i);
+         }
+
+         eventually(() -> listener.values.size() == 10, TimeUnit.SECONDS.toMillis(10));
+         assertEquals(1, failingRpcManager.failures.get());
+         for (int i = 0; i < 10; i++) {
+            assertEquals(Integer.valueOf(i), listener.values.get(i));
+         }
+      } finally {
+         TestingUtil.replaceField(rpcManager, "rpcManager", eventManager, BatchingClusterEventManagerImpl.class);
+      }
+   }
+
+   private static class BlockingRpcManager extends AbstractControlledRpcManager {
+      final CompletableFuture<Void> release = new CompletableFuture<>();
+
+      BlockingRpcManager(RpcManager realOne) {
+         super(realOne);
+      }
+
+      @Override
+      public CompletableFuture<Map<Address, Response>> invokeRemotelyAsync(Collection<Address> recipients,
+                                                                           ReplicableCommand rpc, RpcOptions options) {
+         CompletableFuture<Map<Address, Response>> future = super.invokeRemotelyAsync(recipients, rpc, options);
+         if (rpc instanceof ClusterEventsCommand) {
+            return release.thenCombine(future, (ignored, responses) -> responses);
+         }
+         return future;
+      }
+   }
+
+   private static class FailingRpcManager extends AbstractControlledRpcManager {
+      final AtomicInteger failures = new AtomicInteger();
+
+      FailingRpcManager(RpcManager realOne) {
+         super(realOne);
+      }
+
+      @Override
+      public CompletableFuture<Map<Address, Response>> invokeRemotelyAsync(Collection<Address> recipients,
+                                                                           ReplicableCommand rpc, RpcOptions options) {
+         if (rpc instanceof ClusterEventsCommand && failures.compareAndSet(0, 1)) {
+            CompletableFuture<Map<Address, Response>> failed = new CompletableFuture<>();
+            failed.completeExceptionally(new CacheException("Induced failure"));
+            return failed;
+         }
+         return super.invokeRemotelyAsync(recipients, rpc, options);
+      }
+   }
+
+   @Listener(clustered = true, sync = false)
+   public static class AsyncClusterListener {
+      final List<Integer> values = new CopyOnWriteArrayList<>();
+
+      @CacheEntryCreated
+      @CacheEntryModified
+      public void onEvent(CacheEntryEvent<Object, Integer> event) {
+         values.add(event.getValue());
+      }
+   }
+}
@@ -0,0 +1,81 @@
+package org.infinispan.persistence;
+
+import static org.infinispan.test.TestingUtil.marshaller;
+import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertNull;
+
+import org.infinispan.Cache;
+import org.infinispan.commons.CacheConfigurationException;
+import org.infinispan.configuration.cache.ConfigurationBuilder;
+import org.infinispan.manager.EmbeddedCacheManager;
+import org.infinispan.marshall.core.MarshalledEntryImpl;
+import org.infinispan.persistence.dummy.DummyInMemoryStore;
+import org.infinispan.persistence.dummy.DummyInMemoryStoreConfigurationBuilder;
+import org.infinispan.test.CacheManagerCallable;
+import org.infinispan.test.SingleCacheManagerTest;
+import org.infinispan.test.TestingUtil;
+import org.infinispan.test.fwk.TestCacheManagerFactory;
+import org.testng.annotations.Test;
+
+/**
+ * Tests that the Bloom filter of a store skips the lookups of the keys that were never written to it.
+ *
+ * @since 9.0
+ */
+@Test(groups = "functional", testName = "persistence.BloomFilterStoreTest")
+public class BloomFilterStoreTest extends SingleCacheManagerTest {
+
+   @Override
+   protected EmbeddedCacheManager createCacheManager() throws Exception {
+      return TestCacheManagerFactory.createCacheManager(storeConfiguration(getClass().getName()));
+   }
+
+   private ConfigurationBuilder storeConfiguration(String storeName) {
+      ConfigurationBuilder cfg = getDefaultStandaloneCacheConfig(false);
+      cfg.persistence().addStore(DummyInMemoryStoreConfigurationBuilder.class)
+            .storeName(storeName).bloomFilter(true);
+      return cfg;
+   }
+
+   public void testMissSkipsStore() {
+      DummyInMemoryStore store = TestingUtil.getFirstLoader(cache);
+      store.clearStats();
+
+      assertNull(cache.get("missing"));
+      assertEquals(0, (int) store.stats().get("load"));
+
+      cache.put("k1", "v1");
+      cache.evict("k1");
+      assertEquals("v1", cache.get("k1"));
+      assertEquals(1, (int) store.stats().get("load"));
+   }
+
+   public void testFilterBuiltFromStoreContents() {
+      String storeName = getClass().getName() + "-restart";
+      TestingUtil.withCacheManager(new CacheManagerCallable(
+            TestCacheManagerFactory.createCacheManager(storeConfiguration(storeName))) {
+         @Override
+         public void call() {
+            Cache<Object, Object> c = cm.getCache();
+            DummyInMemoryStore store = TestingUtil.getFirstLoader(c);
+            // Bypass the persistence manager, the filter does not know about this key
+            store.write(new MarshalledEntryImpl("k2", "v2", null, marshaller(c)));
+            assertNull(c.get("k2"));
+         }
+      });
+      TestingUtil.withCacheManager(new CacheManagerCallable(
+            TestCacheManagerFactory.createCacheManager(storeConfiguration(storeName))) {
+         @Override
+         public void call() {
+            assertEquals("v2", cm.getCache().get("k2"));
+         }
+      });
+   }
+
+   @Test(expectedExceptions = CacheConfigurationException.class)
+   public void testSharedStore() {
+      ConfigurationBuilder cfg = new ConfigurationBuilder();
+      cfg.persistence().addStore(DummyInMemoryStoreConfigurationBuilder.class).shared(true).bloomFilter(true);
+      cfg.build();
+   }
+}
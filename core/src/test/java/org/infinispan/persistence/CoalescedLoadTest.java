@@ -0,0 +1,133 @@
+package org.infinispan.persistence;
+
+import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.infinispan.commons.configuration.BuiltBy;
+import org.infinispan.commons.configuration.ConfigurationFor;
+import org.infinispan.commons.configuration.attributes.AttributeSet;
+import org.infinispan.configuration.cache.AbstractStoreConfiguration;
+import org.infinispan.configuration.cache.AbstractStoreConfigurationBuilder;
+import org.infinispan.configuration.cache.AsyncStoreConfiguration;
+import org.infinispan.configuration.cache.ConfigurationBuilder;
+import org.infinispan.configuration.cache.PersistenceConfigurationBuilder;
+import org.infinispan.configuration.cache.SingletonStoreConfiguration;
+import org.infinispan.context.Flag;
+import org.infinispan.interceptors.impl.CacheLoaderInterceptor;
+import org.infinispan.manager.EmbeddedCacheManager;
+import org.infinispan.marshall.core.MarshalledEntry;
+import org.infinispan.persistence.spi.CacheLoader;
+import org.infinispan.persistence.spi.InitializationContext;
+import org.infinispan.test.SingleCacheManagerTest;
+import org.infinispan.test.TestingUtil;
+import org.infinispan.test.fwk.TestCacheManagerFactory;
+import org.testng.annotations.Test;
+
+/**
+ * Tests that concurrent loads of the same key look up the store only once.
+ *
+ * @since 9.0
+ */
+@Test(groups = "functional", testName = "persistence.CoalescedLoadTest")
+public class CoalescedLoadTest extends SingleCacheManagerTest {
+
+   @Override
+   protected EmbeddedCacheManager createCacheManager() throws Exception {
+      ConfigurationBuilder cfg = getDefaultStandaloneCacheConfig(false);
+      cfg.jmxStatistics().enable();
+      cfg.persistence().coalesceLoads(true).addStore(BlockingStoreConfigurationBuilder.class);
+      return TestCacheManagerFactory.createCacheManager(cfg);
+   }
+
+   public void testConcurrentMisses() throws Exception {
+      BlockingStore store = TestingUtil.getFirstLoader(cache);
+      CacheLoaderInterceptor interceptor = TestingUtil.findInterceptor(cache, CacheLoaderInterceptor.class);
+
+      List<Future<Object>> gets = new ArrayList<>();
+      gets.add(fork(() -> cache.get("k")));
+      eventuallyEquals(1, () -> store.loads.get());
+      for (int i = 0; i < 3; i++) {
+         gets.add(fork(() -> cache.get("k")));
+      }
+      eventuallyEquals(3L, interceptor::getCacheLoaderCoalescedLoads);
+      // A load with different flags is not coalesced
+      gets.add(fork(() -> cache.getAdvancedCache().withFlags(Flag.ZERO_LOCK_ACQUISITION_TIMEOUT).get("k")));
+      eventuallyEquals(2, () -> store.loads.get());
+
+      store.release.countDown();
+      for (Future<Object> get : gets) {
+         assertNull(get.get(10, TimeUnit.SECONDS));
+      }
+      assertEquals(2, store.loads.get());
+      assertEquals(3L, interceptor.getCacheLoaderCoalescedLoads());
+      assertEquals(5L, interceptor.getCacheLoaderMisses());
+
+      // The loads are not coalesced once the first one completed
+      assertNull(cache.get("k"));
+      assertEquals(3, store.loads.get());
+   }
+
+   public static class BlockingStore implements CacheLoader {
+      final AtomicInteger loads = new AtomicInteger();
+      final CountDownLatch release = new CountDownLatch(1);
+
+      @Override
+      public void init(InitializationContext ctx) {
+      }
+
+      @Override
+      public MarshalledEntry load(Object key) {
+         loads.incrementAndGet();
+         try {
+            release.await(10, TimeUnit.SECONDS);
+         } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+         }
+         return null;
+      }
+
+      @Override
+      public boolean contains(Object key) {
+         return false;
+      }
+
+      @Override
+      public void start() {
+      }
+
+      @Override
+      public void stop() {
+      }
+   }
+
+   @BuiltBy(BlockingStoreConfigurationBuilder.class)
+   @ConfigurationFor(BlockingStore.class)
+   public static class BlockingStoreConfiguration extends AbstractStoreConfiguration {
+      public BlockingStoreConfiguration(AttributeSet attributes, AsyncStoreConfiguration async, SingletonStoreConfiguration singletonStore) {
+         super(attributes, async, singletonStore);
+      }
+   }
+
+   public static class BlockingStoreConfigurationBuilder extends AbstractStoreConfigurationBuilder<BlockingStoreConfiguration, BlockingStoreConfigurationBuilder> {
+      public BlockingStoreConfigurationBuilder(PersistenceConfigurationBuilder builder) {
+         super(builder, BlockingStoreConfiguration.attributeDefinitionSet());
+      }
+
+      @Override
+      public BlockingStoreConfiguration create() {
+         return new BlockingStoreConfiguration(attributes.protect(), async.create(), singletonStore.create());
+      }
+
+      @Override
+      public BlockingStoreConfigurationBuilder self() {
+         return this;
+      }
+   }
+}
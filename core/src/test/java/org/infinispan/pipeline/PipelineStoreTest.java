@@ -0,0 +1,67 @@
+package org.infinispan.pipeline;
+
+import org.infinispan.configuration.cache.ConfigurationBuilder;
+import org.infinispan.context.Flag;
+import org.infinispan.manager.EmbeddedCacheManager;
+import org.infinispan.persistence.dummy.DummyInMemoryStore;
+import org.infinispan.persistence.dummy.DummyInMemoryStoreConfigurationBuilder;
+import org.infinispan.test.SingleCacheManagerTest;
+import org.infinispan.test.TestingUtil;
+import org.infinispan.test.fwk.TestCacheManagerFactory;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertFalse;
+import static org.testng.AssertJUnit.assertNull;
+
+/**
+ * Checks that a pipeline on a cache with a store loads the previous values and writes through to the store.
+ *
+ * @since 9.0
+ */
+@Test(groups = "functional", testName = "pipeline.PipelineStoreTest")
+public class PipelineStoreTest extends SingleCacheManagerTest {
+
+   @Override
+   protected EmbeddedCacheManager createCacheManager() throws Exception {
+      ConfigurationBuilder builder = getDefaultStandaloneCacheConfig(false);
+      builder.persistence().addStore(DummyInMemoryStoreConfigurationBuilder.class)
+            .storeName(getClass().getSimpleName());
+      return TestCacheManagerFactory.createCacheManager(builder);
+   }
+
+   public void testPreviousValuesLoadedFromStore() throws Exception {
+      cache.put("k1", "v1");
+      cache.put("k2", "v2");
+      cache.evict("k1");
+      cache.evict("k2");
+      assertEquals(0, cache.getAdvancedCache().getDataContainer().size());
+
+      Pipeline<Object, Object> pipeline = cache.getAdvancedCache().pipeline();
+      CompletableFuture<Object> put1 = pipeline.put("k1", "new1");
+      CompletableFuture<Object> remove2 = pipeline.remove("k2");
+      CompletableFuture<Object> put3 = pipeline.put("k3", "new3");
+      pipeline.execute();
+
+      assertEquals("v1", put1.get());
+      assertEquals("v2", remove2.get());
+      assertNull(put3.get());
+
+      DummyInMemoryStore store = (DummyInMemoryStore) TestingUtil.getFirstLoader(cache);
+      assertEquals("new1", store.load("k1").getValue());
+      assertFalse(store.contains("k2"));
+      assertEquals("new3", store.load("k3").getValue());
+   }
+
+   public void testFlagsApplied() throws Exception {
+      Pipeline<Object, Object> pipeline = cache.getAdvancedCache().withFlags(Flag.SKIP_CACHE_STORE).pipeline();
+      pipeline.put("skipped", "value");
+      pipeline.execute();
+
+      assertEquals("value", cache.get("skipped"));
+      DummyInMemoryStore store = (DummyInMemoryStore) TestingUtil.getFirstLoader(cache);
+      assertFalse(store.contains("skipped"));
+   }
+}
@@ -0,0 +1,104 @@
+package org.infinispan.pipeline;
+
+import org.infinispan.Cache;
+import org.infinispan.configuration.cache.CacheMode;
+import org.infinispan.configuration.cache.ConfigurationBuilder;
+import org.infinispan.distribution.MagicKey;
+import org.infinispan.test.MultipleCacheManagersTest;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertFalse;
+import static org.testng.AssertJUnit.assertNull;
+import static org.testng.AssertJUnit.assertTrue;
+import static org.testng.AssertJUnit.fail;
+
+@Test(groups = "functional", testName = "pipeline.PipelineTest")
+public class PipelineTest extends MultipleCacheManagersTest {
+
+   @Override
+   protected void createCacheManagers() throws Throwable {
+      ConfigurationBuilder builder = getDefaultClusteredCacheConfig(CacheMode.DIST_SYNC, false);
+      builder.clustering().hash().numOwners(2);
+      createClusteredCaches(3, builder);
+   }
+
+   public void testMixedOperations() throws Exception {
+      List<MagicKey> keys = new ArrayList<>();
+      for (int i = 0; i < 6; i++) {
+         keys.add(new MagicKey("k" + i, cache(i % 3)));
+      }
+      cache(0).put(keys.get(0), "v0");
+      cache(0).put(keys.get(1), "v1");
+      cache(0).put(keys.get(2), "v2");
+
+      Pipeline<Object, Object> pipeline = advancedCache(1).pipeline();
+      CompletableFuture<Object> get0 = pipeline.get(keys.get(0));
+      CompletableFuture<Object> put1 = pipeline.put(keys.get(1), "new1");
+      CompletableFuture<Object> remove2 = pipeline.remove(keys.get(2));
+      CompletableFuture<Object> get3 = pipeline.get(keys.get(3));
+      CompletableFuture<Object> put4 = pipeline.put(keys.get(4), "new4");
+      CompletableFuture<Object> remove5 = pipeline.remove(keys.get(5));
+      assertEquals(6, pipeline.size());
+      assertFalse(get0.isDone());
+
+      pipeline.execute();
+
+      assertEquals("v0", get0.get());
+      assertEquals("v1", put1.get());
+      assertEquals("v2", remove2.get());
+      assertNull(get3.get());
+      assertNull(put4.get());
+      assertNull(remove5.get());
+
+      for (Cache<Object, Object> cache : caches()) {
+         assertEquals("v0", cache.get(keys.get(0)));
+         assertEquals("new1", cache.get(keys.get(1)));
+         assertNull(cache.get(keys.get(2)));
+         assertNull(cache.get(keys.get(3)));
+         assertEquals("new4", cache.get(keys.get(4)));
+         assertNull(cache.get(keys.get(5)));
+      }
+   }
+
+   public void testOperationsOnSameKeyAppliedInOrder() throws Exception {
+      MagicKey key = new MagicKey("same", cache(2));
+      Pipeline<Object, Object> pipeline = advancedCache(0).pipeline();
+      CompletableFuture<Object> get1 = pipeline.get(key);
+      CompletableFuture<Object> put1 = pipeline.put(key, "a");
+      CompletableFuture<Object> get2 = pipeline.get(key);
+      CompletableFuture<Object> put2 = pipeline.put(key, "b");
+      CompletableFuture<Object> remove = pipeline.remove(key);
+      CompletableFuture<Object> put3 = pipeline.put(key, "c");
+      pipeline.execute();
+
+      assertNull(get1.get());
+      assertNull(put1.get());
+      assertEquals("a", get2.get());
+      assertEquals("a", put2.get());
+      assertEquals("b", remove.get());
+      assertNull(put3.get());
+      assertEquals("c", cache(1).get(key));
+   }
+
+   public void testExecuteOnlyOnce() {
+      Pipeline<Object, Object> pipeline = advancedCache(0).pipeline();
+      pipeline.put("k", "v");
+      pipeline.execute();
+      assertTrue(pipeline.size() == 1);
+      try {
+         pipeline.execute();
+         fail("Expected IllegalStateException");
+      } catch (IllegalStateException expected) {
+      }
+      try {
+         pipeline.get("k");
+         fail("Expected IllegalStateException");
+      } catch (IllegalStateException expected) {
+      }
+   }
+}
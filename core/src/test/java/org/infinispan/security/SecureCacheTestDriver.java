@@ -638,6 +638,16 @@ public void testRemoveGroup_String(SecureCache<String, String> cache) {
       cache.removeGroup("someGroup");
    }
 
+   @TestCachePermission(AuthorizationPermission.BULK_READ)
+   public void testGetGroupStream_String(SecureCache<String, String> cache) {
+      cache.getGroupStream("someGroup").count();
+   }
+
+   @TestCachePermission(AuthorizationPermission.WRITE)
+   public void testPipeline(SecureCache<String, String> cache) {
+      cache.pipeline().put("a", "a");
+   }
+
    @TestCachePermission(AuthorizationPermission.WRITE)
    public void testPutAll_Map_Metadata(SecureCache<String, String> cache) {
       cache.putAll(Collections.singletonMap("a", "a"), new EmbeddedMetadata.Builder().
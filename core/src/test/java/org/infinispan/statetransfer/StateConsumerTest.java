@@ -31,6 +31,7 @@
 import org.infinispan.remoting.transport.Address;
 import org.infinispan.remoting.transport.Transport;
 import org.infinispan.test.AbstractInfinispanTest;
+import org.infinispan.test.TestingUtil;
 import org.infinispan.topology.CacheTopology;
 import org.infinispan.topology.PersistentUUID;
 import org.infinispan.topology.PersistentUUIDManager;
@@ -261,7 +262,13 @@ public Object call() throws Exception {
       for (Integer segment : newSegments) {
          stateChunks.add(new StateChunk(segment, Collections.<InternalCacheEntry>emptyList(), true));
       }
-      stateConsumer.applyState(addresses[1], 2, stateChunks);
+      stateConsumer.applyState(addresses[1], 4, stateChunks);
+      Set<Integer> receivedSegments = TestingUtil.extractField(stateConsumer, "receivedSegments");
+      assertEquals(receivedSegments, newSegments);
+
+      // a new coordinator starts a new rebalance before the end of the current one
+      stateConsumer.onTopologyUpdate(new CacheTopology(5, 5, ch2, ch3, ch23, ch23.getMembers(), persistentUUIDManager.mapAddresses(ch23.getMembers())), true);
+      assertTrue(receivedSegments.isEmpty());
 
       stateConsumer.stop();
       assertFalse(stateConsumer.hasActiveTransfers());
@@ -0,0 +1,160 @@
+package org.infinispan.tx.totalorder;
+
+import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.infinispan.commands.ReplicableCommand;
+import org.infinispan.commands.remote.MultipleRpcCommand;
+import org.infinispan.commands.tx.totalorder.TotalOrderPrepareCommand;
+import org.infinispan.configuration.cache.CacheMode;
+import org.infinispan.configuration.cache.ConfigurationBuilder;
+import org.infinispan.configuration.cache.VersioningScheme;
+import org.infinispan.remoting.rpc.RpcManager;
+import org.infinispan.test.MultipleCacheManagersTest;
+import org.infinispan.test.TestingUtil;
+import org.infinispan.transaction.TransactionProtocol;
+import org.infinispan.transaction.totalorder.TotalOrderPrepareBatcher;
+import org.infinispan.util.AbstractControlledRpcManager;
+import org.infinispan.util.concurrent.IsolationLevel;
+import org.testng.annotations.Test;
+
+/**
+ * Tests that the prepares of concurrent transactions are sent in a single totally ordered message.
+ *
+ * @since 9.0
+ */
+@Test(groups = "functional", testName = "tx.totalorder.TotalOrderPrepareBatchingTest")
+public class TotalOrderPrepareBatchingTest extends MultipleCacheManagersTest {
+
+   private static final int TRANSACTIONS = 5;
+
+   private final boolean writeSkew;
+   protected BatchTrackingRpcManager rpcManager;
+
+   public TotalOrderPrepareBatchingTest() {
+      this(false);
+   }
+
+   protected TotalOrderPrepareBatchingTest(boolean writeSkew) {
+      this.writeSkew = writeSkew;
+      this.cleanup = CleanupPhase.AFTER_METHOD;
+   }
+
+   @Override
+   protected void createCacheManagers() throws Throwable {
+      ConfigurationBuilder builder = getDefaultClusteredCacheConfig(CacheMode.REPL_SYNC, true);
+      builder.transaction().transactionProtocol(TransactionProtocol.TOTAL_ORDER).totalOrderBatchSize(TRANSACTIONS)
+            .recovery().disable();
+      builder.locking().isolationLevel(IsolationLevel.REPEATABLE_READ).writeSkewCheck(writeSkew);
+      if (writeSkew) {
+         builder.versioning().enable().scheme(VersioningScheme.SIMPLE);
+      }
+      createCluster(builder, 2);
+      waitForClusterToForm();
+      rpcManager = TestingUtil.wrapComponent(cache(0), RpcManager.class,
+            (cache, current) -> new BatchTrackingRpcManager(current), true);
+   }
+
+   public void testConcurrentPreparesAreBatched() throws Exception {
+      Future<Void> blocker = blockPrepares();
+      List<Future<Void>> transactions = new ArrayList<>();
+      for (int i = 0; i < TRANSACTIONS; i++) {
+         transactions.add(queueTransaction("k" + i, "v" + i));
+      }
+      rpcManager.release.countDown();
+
+      blocker.get(30, TimeUnit.SECONDS);
+      for (Future<Void> transaction : transactions) {
+         transaction.get(30, TimeUnit.SECONDS);
+      }
+      assertEquals(Collections.nCopies(1, TRANSACTIONS), rpcManager.batchSizes.subList(1, rpcManager.batchSizes.size()));
+      for (int i = 0; i < TRANSACTIONS; i++) {
+         assertEquals("v" + i, cache(0).get("k" + i));
+         assertEquals("v" + i, cache(1).get("k" + i));
+      }
+   }
+
+   public void testBatchSizeIsBounded() throws Exception {
+      Future<Void> blocker = blockPrepares();
+      List<Future<Void>> transactions = new ArrayList<>();
+      for (int i = 0; i < TRANSACTIONS + 2; i++) {
+         transactions.add(queueTransaction("k" + i, "v" + i));
+      }
+      rpcManager.release.countDown();
+
+      blocker.get(30, TimeUnit.SECONDS);
+      for (Future<Void> transaction : transactions) {
+         transaction.get(30, TimeUnit.SECONDS);
+      }
+      assertEquals(3, rpcManager.batchSizes.size());
+      assertEquals(TRANSACTIONS, (int) rpcManager.batchSizes.get(1));
+      assertEquals(2, (int) rpcManager.batchSizes.get(2));
+      assertEquals("v" + (TRANSACTIONS + 1), cache(1).get("k" + (TRANSACTIONS + 1)));
+   }
+
+   /**
+    * Sends a first prepare and blocks it, so that the following prepares are queued.
+    */
+   protected Future<Void> blockPrepares() throws InterruptedException {
+      Future<Void> blocker = fork(() -> {
+         tm(0).begin();
+         cache(0).put("blocker", "blocker");
+         tm(0).commit();
+         return null;
+      });
+      assertTrue(rpcManager.blocked.await(10, TimeUnit.SECONDS));
+      return blocker;
+   }
+
+   protected Future<Void> queueTransaction(Object key, Object value) {
+      Queue<?> queue = TestingUtil.extractField(TestingUtil.extractComponent(cache(0), TotalOrderPrepareBatcher.class),
+            "queue");
+      int queued = queue.size();
+      Future<Void> transaction = fork(() -> {
+         tm(0).begin();
+         cache(0).put(key, value);
+         tm(0).commit();
+         return null;
+      });
+      eventually(() -> queue.size() == queued + 1);
+      return transaction;
+   }
+
+   /**
+    * Records the number of prepares sent in each message and blocks the first prepare until released.
+    */
+   protected static class BatchTrackingRpcManager extends AbstractControlledRpcManager {
+      final List<Integer> batchSizes = Collections.synchronizedList(new ArrayList<>());
+      final CountDownLatch blocked = new CountDownLatch(1);
+      final CountDownLatch release = new CountDownLatch(1);
+
+      BatchTrackingRpcManager(RpcManager realOne) {
+         super(realOne);
+      }
+
+      @Override
+      protected void beforeInvokeRemotely(ReplicableCommand command) {
+         if (command instanceof TotalOrderPrepareCommand) {
+            batchSizes.add(1);
+            if (blocked.getCount() > 0) {
+               blocked.countDown();
+               try {
+                  release.await(30, TimeUnit.SECONDS);
+               } catch (InterruptedException e) {
+                  Thread.currentThread().interrupt();
+               }
+            }
+         } else if (command instanceof MultipleRpcCommand) {
+            batchSizes.add(((MultipleRpcCommand) command).getCommands().length);
+         }
+      }
+   }
+}
@@ -0,0 +1,49 @@
+package org.infinispan.tx.totalorder;
+
+import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertTrue;
+import static org.testng.AssertJUnit.fail;
+
+import java.util.Arrays;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import javax.transaction.RollbackException;
+
+import org.testng.annotations.Test;
+
+/**
+ * Tests the batching of the prepares with the two phase commit required by the write skew check.
+ *
+ * @since 9.0
+ */
+@Test(groups = "functional", testName = "tx.totalorder.TotalOrderVersionedPrepareBatchingTest")
+public class TotalOrderVersionedPrepareBatchingTest extends TotalOrderPrepareBatchingTest {
+
+   public TotalOrderVersionedPrepareBatchingTest() {
+      super(true);
+   }
+
+   public void testConflictingPreparesAreNotBatched() throws Exception {
+      Future<Void> blocker = blockPrepares();
+      Future<Void> first = queueTransaction("a", "first");
+      Future<Void> other = queueTransaction("b", "other");
+      Future<Void> second = queueTransaction("a", "second");
+      rpcManager.release.countDown();
+
+      blocker.get(30, TimeUnit.SECONDS);
+      first.get(30, TimeUnit.SECONDS);
+      other.get(30, TimeUnit.SECONDS);
+      try {
+         second.get(30, TimeUnit.SECONDS);
+         fail("The write skew check should have failed");
+      } catch (ExecutionException e) {
+         assertTrue(String.valueOf(e.getCause()), e.getCause() instanceof RollbackException);
+      }
+      // the second prepare waits for the commit of the first, so it is sent in its own message
+      assertEquals(Arrays.asList(1, 2, 1), rpcManager.batchSizes);
+      assertEquals("first", cache(1).get("a"));
+      assertEquals("other", cache(1).get("b"));
+   }
+}
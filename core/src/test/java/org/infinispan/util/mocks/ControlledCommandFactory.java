@@ -55,6 +55,8 @@
 import org.infinispan.functional.impl.Params;
 import org.infinispan.manager.EmbeddedCacheManager;
 import org.infinispan.metadata.Metadata;
+import org.infinispan.notifications.cachelistener.cluster.ClusterEvent;
+import org.infinispan.notifications.cachelistener.cluster.ClusterEventsCommand;
 import org.infinispan.remoting.transport.Address;
 import org.infinispan.statetransfer.StateChunk;
 import org.infinispan.statetransfer.StateRequestCommand;
@@ -392,6 +394,11 @@ public <R> StreamResponseCommand<R> buildStreamResponseCommand(Object identifier
       return actual.buildStreamResponseCommand(identifier, complete, lostSegments, response);
    }
 
+   @Override
+   public <K, V> ClusterEventsCommand<K, V> buildClusterEventsCommand(Map<UUID, Collection<ClusterEvent<K, V>>> events) {
+      return actual.buildClusterEventsCommand(events);
+   }
+
    @Override
    public GetCacheEntryCommand buildGetCacheEntryCommand(Object key, long flagsBitSet) {
       return actual.buildGetCacheEntryCommand(key, flagsBitSet);
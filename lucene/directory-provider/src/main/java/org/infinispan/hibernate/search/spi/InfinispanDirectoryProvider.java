@@ -38,6 +38,8 @@ public class InfinispanDirectoryProvider implements org.hibernate.search.store.D
    private String dataCacheName;
    private String lockingCacheName;
    private Integer chunkSize;
+   private Integer chunkPrefetch;
+   private Integer localChunkCacheSize;
 
    private Directory directory;
 
@@ -69,6 +71,8 @@ public void initialize(String directoryProviderName, Properties properties, Buil
       lockingCacheName = InfinispanIntegration.getLockingCacheName(properties);
       //Let it return null if it's not set, so that we can avoid applying any override.
       chunkSize = ConfigurationParseHelper.getIntValue(properties, "chunk_size");
+      chunkPrefetch = ConfigurationParseHelper.getIntValue(properties, InfinispanIntegration.CHUNK_PREFETCH);
+      localChunkCacheSize = ConfigurationParseHelper.getIntValue(properties, InfinispanIntegration.LOCAL_CHUNK_CACHE_SIZE);
       writeFileListAsync = getWriteFileListAsync(properties);
 
       //Only override the default Infinispan LockDirectory if an explicit option is set:
@@ -128,6 +132,12 @@ public void start(DirectoryBasedIndexManager indexManager) {
       if (chunkSize != null) {
          directoryBuildContext.chunkSize(chunkSize.intValue());
       }
+      if (chunkPrefetch != null) {
+         directoryBuildContext.prefetchChunks(chunkPrefetch.intValue());
+      }
+      if (localChunkCacheSize != null) {
+         directoryBuildContext.localChunkCacheSize(localChunkCacheSize.intValue());
+      }
       if (indexWriterLockFactory != null) {
          directoryBuildContext.overrideWriteLocker(indexWriterLockFactory);
       }
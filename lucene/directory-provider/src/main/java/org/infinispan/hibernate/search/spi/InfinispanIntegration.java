@@ -53,6 +53,20 @@ private InfinispanIntegration() {
     */
    public static final String WRITE_METADATA_ASYNC = "write_metadata_async";
 
+   /**
+    * Configuration attribute to set the number of index chunks fetched asynchronously ahead of a sequential read.
+    * <p/>
+    * Defaults to {@code 0}, which disables prefetching.
+    */
+   public static final String CHUNK_PREFETCH = "chunk_prefetch";
+
+   /**
+    * Configuration attribute to set the maximum size in bytes of the node-local cache of the index chunks being read.
+    * <p/>
+    * Defaults to {@code 0}, which disables the local cache.
+    */
+   public static final String LOCAL_CHUNK_CACHE_SIZE = "local_chunk_cache_size";
+
    /**
     * @param properties the Hibernate Search configuration
     * @return the name of the Cache to be retrieved from the CacheManager to store Index Metadata
@@ -40,6 +40,25 @@ public interface BuildContext {
     */
    BuildContext overrideSegmentReadLocker(SegmentReadLocker srl);
 
+   /**
+    * Sets the number of chunks fetched asynchronously ahead of a sequential read of a segment, so that the reader doesn't
+    * block on a remote fetch each time it crosses a chunk boundary. Defaults to 0, which disables prefetching.
+    *
+    * @param chunks the number of chunks to prefetch
+    * @return the same building context to eventually create the Directory instance
+    */
+   BuildContext prefetchChunks(int chunks);
+
+   /**
+    * Enables a node-local cache of the segment chunks read from the chunks cache, bounded to the given size and evicting
+    * the least recently used chunks. As segment files are never modified once written, the cached chunks don't need
+    * to be invalidated until the file is deleted. Defaults to 0, which disables the local cache.
+    *
+    * @param bytes the maximum total size of the cached chunks
+    * @return the same building context to eventually create the Directory instance
+    */
+   BuildContext localChunkCacheSize(long bytes);
+
    /**
     * Overrides the IndexWriter LockFactory
     *
@@ -43,6 +43,8 @@ public class DirectoryBuilderImpl implements BuildContext {
    private boolean writeFileListAsync = false;
    private Executor deleteExecutor = null;
    private int affinitySegmentId = -1;
+   private int prefetchChunks = 0;
+   private long localChunkCacheSize = 0;
 
    public DirectoryBuilderImpl(Cache<?, ?> metadataCache, Cache<?, ?> chunksCache, Cache<?, ?> distLocksCache, String indexName) {
       this.metadataCache = checkValidConfiguration(checkNotNull(metadataCache, "metadataCache"), indexName);
@@ -63,7 +65,7 @@ public Directory create() {
       if (deleteExecutor == null) {
          deleteExecutor = new WithinThreadExecutor();
       }
-      return new DirectoryLucene(metadataCache, chunksCache, distLocksCache, indexName, lockFactory, chunkSize, srl, writeFileListAsync, deleteExecutor, affinitySegmentId);
+      return new DirectoryLucene(metadataCache, chunksCache, distLocksCache, indexName, lockFactory, chunkSize, srl, writeFileListAsync, deleteExecutor, affinitySegmentId, prefetchChunks, localChunkCacheSize);
    }
 
    @Override
@@ -90,6 +92,22 @@ public BuildContext affinityLocationIntoSegment(int segmentId) {
       return this;
    }
 
+   @Override
+   public BuildContext prefetchChunks(int chunks) {
+      if (chunks < 0)
+         throw new IllegalArgumentException("prefetchChunks must not be negative");
+      this.prefetchChunks = chunks;
+      return this;
+   }
+
+   @Override
+   public BuildContext localChunkCacheSize(long bytes) {
+      if (bytes < 0)
+         throw new IllegalArgumentException("localChunkCacheSize must not be negative");
+      this.localChunkCacheSize = bytes;
+      return this;
+   }
+
    @Override
    public BuildContext writeFileListAsynchronously(boolean writeFileListAsync) {
       this.writeFileListAsync = writeFileListAsync;
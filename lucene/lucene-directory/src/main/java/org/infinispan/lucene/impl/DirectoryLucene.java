@@ -37,6 +37,8 @@ class DirectoryLucene extends Directory implements DirectoryExtensions {
    private final String indexName;
    private final Executor deleteExecutor;
    private final int affinitySegmentId;
+   private final int prefetchChunks;
+   private final LocalChunkCache localChunkCache;
 
    private volatile LockFactory lockFactory;
 
@@ -51,10 +53,14 @@ class DirectoryLucene extends Directory implements DirectoryExtensions {
     * @param fileListUpdatedAsync When true, the writes to the list of currently existing files in the Directory will use the putAsync method rather than put.
     * @param deleteExecutor The Executor to run file deletes in the background
     * @param affinitySegmentId A hint interpreted by the consistent hashing function to force locality with a specific segment identifier
+    * @param prefetchChunks The number of chunks to fetch asynchronously ahead of a sequential read, 0 to disable prefetching
+    * @param localChunkCacheSize The maximum size in bytes of the node-local cache of the chunks being read, 0 to disable it
     */
-   public DirectoryLucene(Cache<?, ?> metadataCache, Cache<?, ?> chunksCache, Cache<?, ?> distLocksCache, String indexName, LockFactory lf, int chunkSize, SegmentReadLocker readLocker, boolean fileListUpdatedAsync, Executor deleteExecutor, int affinitySegmentId) {
+   public DirectoryLucene(Cache<?, ?> metadataCache, Cache<?, ?> chunksCache, Cache<?, ?> distLocksCache, String indexName, LockFactory lf, int chunkSize, SegmentReadLocker readLocker, boolean fileListUpdatedAsync, Executor deleteExecutor, int affinitySegmentId, int prefetchChunks, long localChunkCacheSize) {
       this.deleteExecutor = deleteExecutor;
       this.affinitySegmentId = affinitySegmentId;
+      this.prefetchChunks = prefetchChunks;
+      this.localChunkCache = localChunkCacheSize > 0 ? new LocalChunkCache(localChunkCacheSize) : null;
       this.impl = new DirectoryImplementor(metadataCache, chunksCache, distLocksCache, indexName, chunkSize, readLocker, fileListUpdatedAsync, affinitySegmentId);
       this.indexName = indexName;
       this.lockFactory = lf;
@@ -75,6 +81,8 @@ public void deleteFile(final String name) {
    @Override
    public void renameFile(final String from, final String to) {
       impl.renameFile(from, to);
+      invalidateLocalChunks(from);
+      invalidateLocalChunks(to);
    }
 
    /**
@@ -103,7 +111,7 @@ public IndexInput openInput(final String name, final IOContext context) throws I
       if (indexInputContext.readLocks == null) {
          return new SingleChunkIndexInput(indexInputContext);
       } else {
-         return new InfinispanIndexInput(indexInputContext);
+         return new InfinispanIndexInput(indexInputContext, prefetchChunks, localChunkCache);
       }
    }
 
@@ -185,6 +193,12 @@ public Cache<Object, Integer> getDistLockCache() {
       return impl.getDistLocksCache();
    }
 
+   private void invalidateLocalChunks(String fileName) {
+      if (localChunkCache != null) {
+         localChunkCache.invalidate(fileName);
+      }
+   }
+
    final class DeleteTask implements Runnable {
 
       private final String fileName;
@@ -200,6 +214,7 @@ public String getFileName() {
       @Override
       public void run() {
          impl.deleteFile(fileName);
+         invalidateLocalChunks(fileName);
       }
    }
 
@@ -1,6 +1,10 @@
 package org.infinispan.lucene.impl;
 
 import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 import org.apache.lucene.store.IndexInput;
 import org.infinispan.Cache;
@@ -34,6 +38,12 @@ public class InfinispanIndexInput extends IndexInput {
    private final String filename;
    private final long fileLength;
    private final int affinitySegmentId;
+   private final int prefetchChunks;
+   private final LocalChunkCache localChunkCache;
+
+   // chunks being fetched ahead of a sequential read, owned by each clone
+   private Map<Integer, CompletableFuture<Object>> prefetched = new HashMap<>();
+   private int lastPrefetchedChunk = -1;
 
    private int currentBufferSize;
    private byte[] buffer;
@@ -41,6 +51,14 @@ public class InfinispanIndexInput extends IndexInput {
    private int currentLoadedChunk = -1;
 
    public InfinispanIndexInput(final IndexInputContext ctx) {
+      this(ctx, 0, null);
+   }
+
+   /**
+    * @param prefetchChunks the number of chunks to fetch asynchronously ahead of a sequential read, or 0 to disable it
+    * @param localChunkCache the node-local cache of the chunks of the Directory, or {@code null} if disabled
+    */
+   InfinispanIndexInput(final IndexInputContext ctx, int prefetchChunks, LocalChunkCache localChunkCache) {
       super(ctx.fileKey.getFileName());
       this.chunksCache = ctx.chunksCache;
       this.fileKey = ctx.fileKey;
@@ -49,13 +67,16 @@ public InfinispanIndexInput(final IndexInputContext ctx) {
       this.readLocks = ctx.readLocks;
       this.affinitySegmentId = ctx.affinitySegmentId;
       this.filename = fileKey.getFileName();
+      this.prefetchChunks = prefetchChunks;
+      this.localChunkCache = localChunkCache;
       if (trace) {
          log.tracef("Opened new IndexInput for file:%s in index: %s", filename, fileKey.getIndexName());
       }
    }
 
    private InfinispanIndexInput(final String resourceDescription, final Cache<ChunkCacheKey, Object> chunksCache,
-         FileCacheKey fileKey, int chunkSize, String filename, long fileLength, int affinitySegmentId) {
+         FileCacheKey fileKey, int chunkSize, String filename, long fileLength, int affinitySegmentId,
+         int prefetchChunks, LocalChunkCache localChunkCache) {
       super(resourceDescription);
       this.chunksCache = chunksCache;
       this.fileKey = fileKey;
@@ -64,6 +85,8 @@ private InfinispanIndexInput(final String resourceDescription, final Cache<Chunk
       this.fileLength = fileLength;
       this.readLocks = null;//Lifecycle of this IndexInput is dependent on a parent IndexInput
       this.affinitySegmentId = affinitySegmentId;
+      this.prefetchChunks = prefetchChunks;
+      this.localChunkCache = localChunkCache;
       this.isClone = true;
    }
 
@@ -100,6 +123,8 @@ public void close() {
       bufferPosition = 0;
       currentLoadedChunk = -1;
       buffer = null;
+      prefetched.clear();
+      lastPrefetchedChunk = -1;
       if (isClone) return;
       readLocks.deleteOrReleaseReadLock(filename);
       if (trace) {
@@ -117,21 +142,23 @@ public void seek(final long pos) {
       bufferPosition = (int) (pos % chunkSize);
       final int targetChunk = (int) (pos / chunkSize);
       if (targetChunk != currentLoadedChunk) {
+         boolean sequential = targetChunk == currentLoadedChunk + 1;
          currentLoadedChunk = targetChunk;
          setBufferToCurrentChunkIfPossible();
+         prefetch(sequential);
       }
    }
 
    private void nextChunk() throws IOException {
       currentLoadedChunk++;
       setBufferToCurrentChunk();
+      prefetch(true);
    }
 
    private void setBufferToCurrentChunk() throws IOException {
-      ChunkCacheKey key = new ChunkCacheKey(fileKey.getIndexName(), filename, currentLoadedChunk, chunkSize, affinitySegmentId);
-      buffer = (byte[]) chunksCache.get(key);
+      buffer = loadChunk(currentLoadedChunk);
       if (buffer == null) {
-         throw new IOException("Read past EOF: Chunk value could not be found for key " + key);
+         throw new IOException("Read past EOF: Chunk value could not be found for key " + chunkKey(currentLoadedChunk));
       }
       currentBufferSize = buffer.length;
    }
@@ -139,8 +166,7 @@ private void setBufferToCurrentChunk() throws IOException {
    // Lucene might try seek(pos) using an illegal pos value
    // RAMDirectory teaches to position the cursor to the end of previous chunk in this case
    private void setBufferToCurrentChunkIfPossible() {
-      ChunkCacheKey key = new ChunkCacheKey(fileKey.getIndexName(), filename, currentLoadedChunk, chunkSize, affinitySegmentId);
-      buffer = (byte[]) chunksCache.get(key);
+      buffer = loadChunk(currentLoadedChunk);
       if (buffer == null) {
          currentLoadedChunk--;
          bufferPosition = chunkSize;
@@ -150,6 +176,57 @@ private void setBufferToCurrentChunkIfPossible() {
       }
    }
 
+   private byte[] loadChunk(int chunkId) {
+      ChunkCacheKey key = chunkKey(chunkId);
+      byte[] chunk = localChunkCache != null ? localChunkCache.get(key) : null;
+      if (chunk == null) {
+         CompletableFuture<Object> future = prefetched.remove(chunkId);
+         chunk = (byte[]) (future != null ? getPrefetched(future, key) : chunksCache.get(key));
+         if (chunk != null && localChunkCache != null) {
+            localChunkCache.put(key, chunk);
+         }
+      }
+      return chunk;
+   }
+
+   private Object getPrefetched(CompletableFuture<Object> future, ChunkCacheKey key) {
+      try {
+         return future.join();
+      } catch (CompletionException e) {
+         if (trace) {
+            log.tracef(e, "Failed to prefetch chunk %s, fetching it again", key);
+         }
+         return chunksCache.get(key);
+      }
+   }
+
+   /**
+    * Starts fetching the chunks following the current one when the file is read sequentially, so that crossing a
+    * chunk boundary doesn't wait for a remote fetch. Pending prefetches are dropped after a random seek.
+    */
+   private void prefetch(boolean sequential) {
+      if (prefetchChunks <= 0) {
+         return;
+      }
+      if (!sequential) {
+         prefetched.clear();
+         lastPrefetchedChunk = currentLoadedChunk;
+         return;
+      }
+      int lastChunk = Math.min(currentLoadedChunk + prefetchChunks, (int) ((fileLength - 1) / chunkSize));
+      for (int chunkId = Math.max(lastPrefetchedChunk, currentLoadedChunk) + 1; chunkId <= lastChunk; chunkId++) {
+         ChunkCacheKey key = chunkKey(chunkId);
+         if (localChunkCache == null || localChunkCache.get(key) == null) {
+            prefetched.put(chunkId, chunksCache.getAsync(key));
+         }
+      }
+      lastPrefetchedChunk = Math.max(lastPrefetchedChunk, lastChunk);
+   }
+
+   private ChunkCacheKey chunkKey(int chunkId) {
+      return new ChunkCacheKey(fileKey.getIndexName(), filename, chunkId, chunkSize, affinitySegmentId);
+   }
+
    @Override
    public long length() {
       return this.fileLength;
@@ -162,6 +239,7 @@ public InfinispanIndexInput clone() {
       // as in other Directory implementations. Apparently not all clones
       // are cleaned up, but the original is (especially .tis files)
       clone.isClone = true;
+      clone.prefetched = new HashMap<>(prefetched);
       return clone;
    }
 
@@ -170,7 +248,8 @@ public IndexInput slice(String sliceDescription, long offset, long length) throw
    }
 
    InfinispanIndexInput copyAndReset() {
-      return new InfinispanIndexInput(filename, chunksCache, fileKey, chunkSize, filename, fileLength, affinitySegmentId);
+      return new InfinispanIndexInput(filename, chunksCache, fileKey, chunkSize, filename, fileLength, affinitySegmentId,
+            prefetchChunks, localChunkCache);
    }
 
 }
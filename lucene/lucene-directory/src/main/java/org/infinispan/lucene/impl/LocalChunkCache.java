@@ -0,0 +1,66 @@
+package org.infinispan.lucene.impl;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.infinispan.lucene.ChunkCacheKey;
+
+/**
+ * A node-local, size bounded cache of the chunks read by a Directory, evicting the least recently used chunks first.
+ * Lucene never modifies an index file once it has been written, so the cached chunks of a file only need to be dropped
+ * when the file is deleted.
+ *
+ * @since 9.0
+ */
+final class LocalChunkCache {
+
+   private final long maxBytes;
+
+   private final LinkedHashMap<ChunkCacheKey, byte[]> chunks = new LinkedHashMap<>(16, 0.75f, true);
+
+   private long size;
+
+   /**
+    * @param maxBytes the maximum total size of the cached chunks
+    */
+   LocalChunkCache(long maxBytes) {
+      this.maxBytes = maxBytes;
+   }
+
+   synchronized byte[] get(ChunkCacheKey key) {
+      return chunks.get(key);
+   }
+
+   synchronized void put(ChunkCacheKey key, byte[] chunk) {
+      if (chunk.length > maxBytes) {
+         return;
+      }
+      byte[] previous = chunks.put(key, chunk);
+      if (previous != null) {
+         size -= previous.length;
+      }
+      size += chunk.length;
+      for (Iterator<byte[]> it = chunks.values().iterator(); size > maxBytes && it.hasNext(); ) {
+         size -= it.next().length;
+         it.remove();
+      }
+   }
+
+   /**
+    * Drops all the cached chunks of a file.
+    */
+   synchronized void invalidate(String fileName) {
+      for (Iterator<Map.Entry<ChunkCacheKey, byte[]>> it = chunks.entrySet().iterator(); it.hasNext(); ) {
+         Map.Entry<ChunkCacheKey, byte[]> entry = it.next();
+         if (entry.getKey().getFileName().equals(fileName)) {
+            size -= entry.getValue().length;
+            it.remove();
+         }
+      }
+   }
+
+   synchronized long size() {
+      return size;
+   }
+}
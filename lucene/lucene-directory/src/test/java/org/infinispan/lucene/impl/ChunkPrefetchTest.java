@@ -0,0 +1,115 @@
+package org.infinispan.lucene.impl;
+
+import static org.infinispan.lucene.CacheTestSupport.assertTextIsFoundInIds;
+import static org.infinispan.lucene.CacheTestSupport.writeTextToIndex;
+import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertNull;
+
+import java.io.IOException;
+
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.IOContext;
+import org.apache.lucene.store.IndexInput;
+import org.apache.lucene.store.IndexOutput;
+import org.infinispan.configuration.cache.CacheMode;
+import org.infinispan.configuration.cache.ConfigurationBuilder;
+import org.infinispan.lucene.ChunkCacheKey;
+import org.infinispan.lucene.directory.DirectoryBuilder;
+import org.infinispan.manager.EmbeddedCacheManager;
+import org.infinispan.test.SingleCacheManagerTest;
+import org.infinispan.test.fwk.TestCacheManagerFactory;
+import org.testng.annotations.Test;
+
+/**
+ * Tests reading segments with chunk prefetching and the node-local chunk cache enabled.
+ *
+ * @since 9.0
+ */
+@Test(groups = "functional", testName = "lucene.impl.ChunkPrefetchTest")
+public class ChunkPrefetchTest extends SingleCacheManagerTest {
+
+   private static final String INDEX_NAME = "index";
+   private static final int CHUNK_SIZE = 7;
+   private static final int FILE_SIZE = 100;
+
+   @Override
+   protected EmbeddedCacheManager createCacheManager() throws Exception {
+      ConfigurationBuilder builder = TestCacheManagerFactory.getDefaultCacheConfiguration(true);
+      builder.clustering().cacheMode(CacheMode.LOCAL)
+            .invocationBatching().enable();
+      return TestCacheManagerFactory.createCacheManager(builder);
+   }
+
+   public void testReadWithPrefetch() throws IOException {
+      Directory dir = DirectoryBuilder.newDirectoryInstance(cache, cache, cache, INDEX_NAME)
+            .chunkSize(CHUNK_SIZE).prefetchChunks(3).localChunkCacheSize(1024).create();
+      writeFile(dir, "file");
+
+      try (IndexInput input = dir.openInput("file", IOContext.READ)) {
+         for (int i = 0; i < FILE_SIZE; i++) {
+            assertEquals((byte) i, input.readByte());
+         }
+         input.seek(50);
+         assertEquals((byte) 50, input.readByte());
+         input.seek(3);
+         byte[] bytes = new byte[FILE_SIZE - 3];
+         input.readBytes(bytes, 0, bytes.length);
+         for (int i = 0; i < bytes.length; i++) {
+            assertEquals((byte) (i + 3), bytes[i]);
+         }
+      }
+
+      writeTextToIndex(dir, 0, "hello from a prefetching directory");
+      assertTextIsFoundInIds(dir, "prefetching", 0);
+   }
+
+   public void testLocalCacheServesChunks() throws IOException {
+      Directory dir = DirectoryBuilder.newDirectoryInstance(cache, cache, cache, INDEX_NAME)
+            .chunkSize(CHUNK_SIZE).localChunkCacheSize(1024).create();
+      writeFile(dir, "cached");
+      readFile(dir, "cached");
+
+      // Segment files are immutable: once read, the chunks are served by the local cache
+      for (int i = 0; i * CHUNK_SIZE < FILE_SIZE; i++) {
+         cache.remove(new ChunkCacheKey(INDEX_NAME, "cached", i, CHUNK_SIZE, -1));
+      }
+      readFile(dir, "cached");
+   }
+
+   public void testLocalCacheBounds() {
+      LocalChunkCache localCache = new LocalChunkCache(20);
+      ChunkCacheKey a0 = new ChunkCacheKey(INDEX_NAME, "a", 0, 10, -1);
+      ChunkCacheKey a1 = new ChunkCacheKey(INDEX_NAME, "a", 1, 10, -1);
+      ChunkCacheKey b0 = new ChunkCacheKey(INDEX_NAME, "b", 0, 10, -1);
+      localCache.put(a0, new byte[10]);
+      localCache.put(a1, new byte[10]);
+      localCache.get(a0);
+      localCache.put(b0, new byte[10]);
+      assertEquals(20, localCache.size());
+      assertNull(localCache.get(a1));
+
+      localCache.invalidate("a");
+      assertEquals(10, localCache.size());
+      assertNull(localCache.get(a0));
+
+      localCache.put(a0, new byte[30]);
+      assertNull(localCache.get(a0));
+      assertEquals(10, localCache.size());
+   }
+
+   private void writeFile(Directory dir, String fileName) throws IOException {
+      try (IndexOutput output = dir.createOutput(fileName, IOContext.DEFAULT)) {
+         for (int i = 0; i < FILE_SIZE; i++) {
+            output.writeByte((byte) i);
+         }
+      }
+   }
+
+   private void readFile(Directory dir, String fileName) throws IOException {
+      try (IndexInput input = dir.openInput(fileName, IOContext.READ)) {
+         for (int i = 0; i < FILE_SIZE; i++) {
+            assertEquals((byte) i, input.readByte());
+         }
+      }
+   }
+}
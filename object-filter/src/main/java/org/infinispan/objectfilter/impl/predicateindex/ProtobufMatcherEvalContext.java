@@ -2,6 +2,7 @@
 
 import org.infinispan.protostream.MessageContext;
 import org.infinispan.protostream.ProtobufParser;
+import org.infinispan.protostream.RawProtoStreamReader;
 import org.infinispan.protostream.SerializationContext;
 import org.infinispan.protostream.TagHandler;
 import org.infinispan.protostream.WrappedMessage;
@@ -9,18 +10,22 @@
 import org.infinispan.protostream.descriptors.FieldDescriptor;
 import org.infinispan.protostream.descriptors.JavaType;
 import org.infinispan.protostream.descriptors.Type;
+import org.infinispan.protostream.impl.RawProtoStreamReaderImpl;
+import org.infinispan.protostream.impl.WireFormat;
 
 import java.io.IOException;
 
 /**
+ * Evaluates the filters over a protobuf encoded {@link WrappedMessage}. Only the fields referenced by the predicates
+ * and projections of the filters are decoded, the other fields (including nested messages) are skipped without being
+ * parsed. The parsing stops as soon as all the referenced top level fields were seen, unless some of them are
+ * repeated.
+ *
  * @author anistor@redhat.com
  * @since 7.0
  */
 public final class ProtobufMatcherEvalContext extends MatcherEvalContext<Descriptor, FieldDescriptor, Integer> implements TagHandler {
 
-   private boolean payloadStarted = false;
-   private int skipping = 0;
-
    private byte[] payload;
    private String entityTypeName;
    private Descriptor payloadMessageDescriptor;
@@ -47,124 +52,194 @@ public Descriptor getEntityType() {
    public void onStart() {
    }
 
-   //todo [anistor] missing tags need to be fired with default value defined in proto schema or null if they admit null; missing messages need to be fired with null at end of the nesting level. BTW, seems like this is better to be included in Protostream as a feature
    @Override
    public void onTag(int fieldNumber, String fieldName, Type type, JavaType javaType, Object tagValue) {
-      if (payloadStarted) {
-         if (skipping == 0) {
-            AttributeNode<FieldDescriptor, Integer> attrNode = currentNode.getChild(fieldNumber);
-            if (attrNode != null) { // process only 'interesting' tags
-               messageContext.markField(fieldNumber);
-               attrNode.processValue(tagValue, this);
-            }
-         }
-      } else {
-         switch (fieldNumber) {
-            case WrappedMessage.WRAPPED_DESCRIPTOR_FULL_NAME:
-               entityTypeName = (String) tagValue;
-               break;
+      switch (fieldNumber) {
+         case WrappedMessage.WRAPPED_DESCRIPTOR_FULL_NAME:
+            entityTypeName = (String) tagValue;
+            break;
 
-            case WrappedMessage.WRAPPED_DESCRIPTOR_ID:
-               entityTypeName = serializationContext.getTypeNameById((Integer) tagValue);
-               break;
+         case WrappedMessage.WRAPPED_DESCRIPTOR_ID:
+            entityTypeName = serializationContext.getTypeNameById((Integer) tagValue);
+            break;
 
-            case WrappedMessage.WRAPPED_MESSAGE_BYTES:
-               payload = (byte[]) tagValue;
-               break;
+         case WrappedMessage.WRAPPED_MESSAGE_BYTES:
+            payload = (byte[]) tagValue;
+            break;
 
-            case WrappedMessage.WRAPPED_DOUBLE:
-            case WrappedMessage.WRAPPED_FLOAT:
-            case WrappedMessage.WRAPPED_INT64:
-            case WrappedMessage.WRAPPED_UINT64:
-            case WrappedMessage.WRAPPED_INT32:
-            case WrappedMessage.WRAPPED_FIXED64:
-            case WrappedMessage.WRAPPED_FIXED32:
-            case WrappedMessage.WRAPPED_BOOL:
-            case WrappedMessage.WRAPPED_STRING:
-            case WrappedMessage.WRAPPED_BYTES:
-            case WrappedMessage.WRAPPED_UINT32:
-            case WrappedMessage.WRAPPED_SFIXED32:
-            case WrappedMessage.WRAPPED_SFIXED64:
-            case WrappedMessage.WRAPPED_SINT32:
-            case WrappedMessage.WRAPPED_SINT64:
-            case WrappedMessage.WRAPPED_ENUM:
-               break;
-            // this is a primitive value, which we ignore for now due to lack of support for querying primitives
+         case WrappedMessage.WRAPPED_DOUBLE:
+         case WrappedMessage.WRAPPED_FLOAT:
+         case WrappedMessage.WRAPPED_INT64:
+         case WrappedMessage.WRAPPED_UINT64:
+         case WrappedMessage.WRAPPED_INT32:
+         case WrappedMessage.WRAPPED_FIXED64:
+         case WrappedMessage.WRAPPED_FIXED32:
+         case WrappedMessage.WRAPPED_BOOL:
+         case WrappedMessage.WRAPPED_STRING:
+         case WrappedMessage.WRAPPED_BYTES:
+         case WrappedMessage.WRAPPED_UINT32:
+         case WrappedMessage.WRAPPED_SFIXED32:
+         case WrappedMessage.WRAPPED_SFIXED64:
+         case WrappedMessage.WRAPPED_SINT32:
+         case WrappedMessage.WRAPPED_SINT64:
+         case WrappedMessage.WRAPPED_ENUM:
+            break;
+         // this is a primitive value, which we ignore for now due to lack of support for querying primitives
 
-            default:
-               throw new IllegalStateException("Unexpected field : " + fieldNumber);
-         }
+         default:
+            throw new IllegalStateException("Unexpected field : " + fieldNumber);
       }
    }
 
    @Override
    public void onStartNested(int fieldNumber, String fieldName, Descriptor messageDescriptor) {
-      if (payloadStarted) {
-         if (skipping == 0) {
-            AttributeNode<FieldDescriptor, Integer> attrNode = currentNode.getChild(fieldNumber);
-            if (attrNode != null) { // ignore 'uninteresting' tags
-               messageContext.markField(fieldNumber);
-               pushContext(fieldName, messageDescriptor);
-               currentNode = attrNode;
-               return;
-            }
-         }
-
-         // found an uninteresting nesting level, start skipping from here on until this level ends
-         skipping++;
-      } else {
-         throw new IllegalStateException("No nested message is supported");
-      }
+      throw new IllegalStateException("No nested message is supported");
    }
 
    @Override
    public void onEndNested(int fieldNumber, String fieldName, Descriptor messageDescriptor) {
-      if (payloadStarted) {
-         if (skipping == 0) {
-            popContext();
-            currentNode = currentNode.getParent();
-         } else {
-            skipping--;
-         }
-      } else {
-         throw new IllegalStateException("No nested message is supported");
-      }
+      throw new IllegalStateException("No nested message is supported");
    }
 
    @Override
    public void onEnd() {
-      if (payloadStarted) {
-         processMissingFields();
-      } else {
-         payloadStarted = true;
-
-         if (payload != null) {
-            if (entityTypeName == null) {
-               throw new IllegalStateException("Descriptor name is missing");
-            }
-
-            payloadMessageDescriptor = serializationContext.getMessageDescriptor(entityTypeName);
-            messageContext = new MessageContext<>(null, null, payloadMessageDescriptor);
+      if (payload != null) {
+         if (entityTypeName == null) {
+            throw new IllegalStateException("Descriptor name is missing");
          }
+
+         payloadMessageDescriptor = serializationContext.getMessageDescriptor(entityTypeName);
       }
    }
 
    @Override
    protected void processAttributes(AttributeNode<FieldDescriptor, Integer> node, Object instance) {
+      messageContext = new MessageContext<>(null, null, payloadMessageDescriptor);
       try {
-         ProtobufParser.INSTANCE.parse(this, payloadMessageDescriptor, payload);
+         parseMessage(RawProtoStreamReaderImpl.newInstance(payload), payloadMessageDescriptor, countSingularChildren(node));
       } catch (IOException e) {
          throw new RuntimeException(e);  // TODO [anistor] proper exception handling needed
       }
+      processMissingFields();
+   }
+
+   /**
+    * Counts the non-repeated fields referenced by the children of a node. Once all of them were seen the remaining
+    * fields of the message can't affect the outcome.
+    *
+    * @return the number of non-repeated children, or -1 if some of the children are repeated
+    */
+   private static int countSingularChildren(AttributeNode<FieldDescriptor, Integer> node) {
+      AttributeNode<FieldDescriptor, Integer>[] children = node.getChildren();
+      for (AttributeNode<FieldDescriptor, Integer> child : children) {
+         if (child.getMetadata().isRepeated()) {
+            return -1;
+         }
+      }
+      return children.length;
    }
 
-   private void pushContext(String fieldName, Descriptor messageDescriptor) {
-      messageContext = new MessageContext<>(messageContext, fieldName, messageDescriptor);
+   /**
+    * Parses the fields of the current message until its end or until {@code remainingFields} reaches 0. Only the
+    * fields that have a corresponding child in the current attribute node are decoded, the others are skipped.
+    *
+    * @param remainingFields the number of referenced fields not seen yet, or -1 to parse the whole message
+    */
+   private void parseMessage(RawProtoStreamReader in, Descriptor messageDescriptor, int remainingFields) throws IOException {
+      while (remainingFields != 0) {
+         int tag = in.readTag();
+         if (tag == 0 || WireFormat.getTagWireType(tag) == WireFormat.WIRETYPE_END_GROUP) {
+            break;
+         }
+         int fieldNumber = WireFormat.getTagFieldNumber(tag);
+         AttributeNode<FieldDescriptor, Integer> attrNode = currentNode.getChild(fieldNumber);
+         FieldDescriptor fd = attrNode != null ? messageDescriptor.findFieldByNumber(fieldNumber) : null;
+         if (fd == null) {
+            // not an 'interesting' field, skip it without decoding
+            in.skipField(tag);
+            continue;
+         }
+
+         messageContext.markField(fieldNumber);
+         switch (WireFormat.getTagWireType(tag)) {
+            case WireFormat.WIRETYPE_LENGTH_DELIMITED:
+               if (fd.getType() == Type.MESSAGE) {
+                  int length = in.readRawVarint32();
+                  int oldLimit = in.pushLimit(length);
+                  parseNested(in, fd, attrNode);
+                  in.checkLastTagWas(0);
+                  in.popLimit(oldLimit);
+               } else if (fd.getType() == Type.STRING) {
+                  attrNode.processValue(in.readString(), this);
+               } else {
+                  attrNode.processValue(in.readByteArray(), this);
+               }
+               break;
+
+            case WireFormat.WIRETYPE_START_GROUP:
+               parseNested(in, fd, attrNode);
+               in.checkLastTagWas(WireFormat.makeTag(fieldNumber, WireFormat.WIRETYPE_END_GROUP));
+               break;
+
+            case WireFormat.WIRETYPE_FIXED32:
+            case WireFormat.WIRETYPE_FIXED64:
+            case WireFormat.WIRETYPE_VARINT:
+               attrNode.processValue(readPrimitive(in, fd), this);
+               break;
+
+            default:
+               throw new IOException("Found tag with invalid wire type : tag=" + tag);
+         }
+
+         if (remainingFields > 0) {
+            remainingFields--;
+         }
+      }
    }
 
-   private void popContext() {
+   private void parseNested(RawProtoStreamReader in, FieldDescriptor fd, AttributeNode<FieldDescriptor, Integer> attrNode) throws IOException {
+      messageContext = new MessageContext<>(messageContext, fd.getName(), fd.getMessageType());
+      currentNode = attrNode;
+      // nested messages are always parsed to the end, the reader must be positioned after them
+      parseMessage(in, fd.getMessageType(), -1);
       processMissingFields();
       messageContext = messageContext.getParentContext();
+      currentNode = currentNode.getParent();
+   }
+
+   private static Object readPrimitive(RawProtoStreamReader in, FieldDescriptor fd) throws IOException {
+      switch (fd.getType()) {
+         case DOUBLE:
+            return in.readDouble();
+         case FLOAT:
+            return in.readFloat();
+         case BOOL:
+            return in.readBool();
+         case INT32:
+            return in.readInt32();
+         case SFIXED32:
+            return in.readSFixed32();
+         case FIXED32:
+            return in.readFixed32();
+         case UINT32:
+            return in.readUInt32();
+         case SINT32:
+            return in.readSInt32();
+         case INT64:
+            return in.readInt64();
+         case UINT64:
+            return in.readUInt64();
+         case FIXED64:
+            return in.readFixed64();
+         case SFIXED64:
+            return in.readSFixed64();
+         case SINT64:
+            return in.readSInt64();
+         case ENUM:
+            return in.readEnum();
+         default:
+            throw new IOException("Unexpected field type : " + fd.getType());
+      }
    }
 
    private void processMissingFields() {
@@ -3,9 +3,17 @@
 import org.infinispan.objectfilter.impl.ProtobufMatcher;
 import org.infinispan.objectfilter.test.model.MarshallerRegistration;
 import org.infinispan.protostream.ProtobufUtil;
+import org.infinispan.protostream.RawProtoStreamWriter;
 import org.infinispan.protostream.SerializationContext;
+import org.infinispan.protostream.WrappedMessage;
 import org.infinispan.protostream.config.Configuration;
+import org.infinispan.protostream.impl.RawProtoStreamWriterImpl;
 import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+
+import static org.junit.Assert.assertTrue;
 
 /**
  * @author anistor@redhat.com
@@ -43,4 +51,21 @@ protected byte[] createPerson2() throws Exception {
    protected ProtobufMatcher createMatcher() {
       return new ProtobufMatcher(serCtx);
    }
+
+   @Test
+   public void testParsingStopsAfterReferencedFields() throws Exception {
+      ByteArrayOutputStream payload = new ByteArrayOutputStream();
+      payload.write(ProtobufUtil.toByteArray(serCtx, super.createPerson1()));
+      // a trailing field with an invalid wire type, it would fail the parsing if it was reached
+      payload.write(0x7F);
+
+      ByteArrayOutputStream wrapped = new ByteArrayOutputStream();
+      RawProtoStreamWriter out = RawProtoStreamWriterImpl.newInstance(wrapped);
+      out.writeString(WrappedMessage.WRAPPED_DESCRIPTOR_FULL_NAME, "org.infinispan.objectfilter.test.model.Person");
+      out.writeBytes(WrappedMessage.WRAPPED_MESSAGE_BYTES, payload.toByteArray());
+      out.flush();
+
+      String queryString = "from org.infinispan.objectfilter.test.model.Person where name = 'John'";
+      assertTrue(match(queryString, wrapped.toByteArray()));
+   }
 }
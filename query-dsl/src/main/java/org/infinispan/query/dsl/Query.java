@@ -27,6 +27,15 @@ public interface Query {
     */
    <T> List<T> list();
 
+   /**
+    * Returns an iterator over the results of a search. Unlike {@link #list()}, the results may be retrieved lazily, so
+    * the iterator must be closed if it is not exhausted.
+    *
+    * @param pageSize the number of results retrieved at once by the remote queries, it has no effect on the local ones
+    * @return an iterator over the objects that were found from the search
+    */
+   <T> QueryResultIterator<T> iterator(int pageSize);
+
    /**
     * Gets the total number of results matching the query, ignoring pagination (firstResult, maxResult).
     *
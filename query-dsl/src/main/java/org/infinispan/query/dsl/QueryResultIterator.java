@@ -0,0 +1,18 @@
+package org.infinispan.query.dsl;
+
+import java.util.Iterator;
+
+/**
+ * An iterator over the results of a {@link Query}. The results may be retrieved lazily, so the iterator holds
+ * resources until all the results were iterated or it is closed.
+ *
+ * @since 9.0
+ */
+public interface QueryResultIterator<T> extends Iterator<T>, AutoCloseable {
+
+   /**
+    * Releases the resources held by the iterator. The remaining results are discarded.
+    */
+   @Override
+   void close();
+}
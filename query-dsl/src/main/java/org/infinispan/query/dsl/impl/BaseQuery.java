@@ -2,11 +2,13 @@
 
 import org.infinispan.query.dsl.Query;
 import org.infinispan.query.dsl.QueryFactory;
+import org.infinispan.query.dsl.QueryResultIterator;
 import org.infinispan.query.dsl.impl.logging.Log;
 import org.jboss.logging.Logger;
 
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.Map;
 import java.util.Set;
 
@@ -104,6 +106,29 @@ public Query setParameters(Map<String, Object> paramValues) {
       return this;
    }
 
+   /**
+    * Iterates over the results of {@link #list()}. The queries that can retrieve their results lazily override it.
+    */
+   @Override
+   public <T> QueryResultIterator<T> iterator(int pageSize) {
+      Iterator<T> results = this.<T>list().iterator();
+      return new QueryResultIterator<T>() {
+         @Override
+         public boolean hasNext() {
+            return results.hasNext();
+         }
+
+         @Override
+         public T next() {
+            return results.next();
+         }
+
+         @Override
+         public void close() {
+         }
+      };
+   }
+
    /**
     * Reset internal state after query parameters are modified. This is needed to ensure the next execution of the query
     * uses the new parameter values.
@@ -1,6 +1,7 @@
 package org.infinispan.query.dsl.impl;
 
 import org.infinispan.query.dsl.Query;
+import org.infinispan.query.dsl.QueryResultIterator;
 
 import java.util.Collections;
 import java.util.List;
@@ -32,6 +33,11 @@ public <T> List<T> list() {
       return Collections.emptyList();
    }
 
+   @Override
+   public <T> QueryResultIterator<T> iterator(int pageSize) {
+      return null;
+   }
+
    @Override
    public int getResultSize() {
       return 0;
@@ -0,0 +1,55 @@
+package org.infinispan.query.affinity;
+
+import org.hibernate.search.filter.FullTextFilterImplementor;
+import org.hibernate.search.spi.BuildContext;
+import org.infinispan.configuration.cache.Configuration;
+import org.infinispan.configuration.cache.Index;
+import org.infinispan.factories.ComponentRegistry;
+import org.infinispan.query.backend.ComponentRegistryService;
+import org.infinispan.query.logging.Log;
+import org.infinispan.util.logging.LogFactory;
+
+import java.util.Properties;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Sharding of the {@link LocalShardIndexManager}: the documents are routed to the shard of their segment like with the
+ * {@link AffinityShardIdentifierProvider}, but the queries only target the shards of the segments the local node is
+ * the primary owner of, as the others are empty or being purged.
+ *
+ * @since 9.0
+ */
+public class LocalAffinityShardIdentifierProvider extends AffinityShardIdentifierProvider {
+
+   private static final Log log = LogFactory.getLog(LocalAffinityShardIdentifierProvider.class, Log.class);
+
+   private ComponentRegistry componentRegistry;
+
+   private LocalShardTracker shardTracker;
+
+   @Override
+   public void initialize(Properties properties, BuildContext buildContext) {
+      super.initialize(properties, buildContext);
+      componentRegistry = buildContext.getServiceManager().requestService(ComponentRegistryService.class).getComponentRegistry();
+      Configuration configuration = componentRegistry.getComponent(Configuration.class);
+      if (configuration.clustering().cacheMode().isClustered() && configuration.indexing().index() != Index.ALL) {
+         throw log.localShardsRequireIndexAll(componentRegistry.getCacheName());
+      }
+      // The shards are created on demand, but their ownership must be tracked from the start
+      shardTracker = LocalShardTracker.getInstance(componentRegistry);
+   }
+
+   /**
+    * Runs an index update of the key. The update waits while the shard of the key's segment is being rebuilt, so
+    * that the rebuild cannot overwrite it with an older value.
+    */
+   public void runInSegment(Object key, Runnable work) {
+      shardTracker.runInSegment(key, work);
+   }
+
+   @Override
+   public Set<String> getShardIdentifiersForQuery(FullTextFilterImplementor[] fullTextFilters) {
+      return LocalShardTracker.getPrimarySegments(componentRegistry).stream().map(String::valueOf).collect(Collectors.toSet());
+   }
+}
@@ -0,0 +1,51 @@
+package org.infinispan.query.affinity;
+
+import org.apache.lucene.search.similarities.Similarity;
+import org.hibernate.search.backend.PurgeAllLuceneWork;
+import org.hibernate.search.engine.service.spi.ServiceManager;
+import org.hibernate.search.indexes.spi.DirectoryBasedIndexManager;
+import org.hibernate.search.spi.WorkerBuildContext;
+import org.infinispan.factories.ComponentRegistry;
+import org.infinispan.query.backend.ComponentRegistryService;
+
+import java.util.Properties;
+
+/**
+ * {@link org.hibernate.search.indexes.spi.IndexManager} of a fully local index split into one shard per segment.
+ * <p>
+ * Unlike the {@link ShardIndexManager}, the shards are stored in the directory configured for the index (for example
+ * {@code ram} or {@code filesystem}) and every node only indexes the segments it is the primary owner of. The shards of
+ * the segments a node no longer owns are purged, and the shards of the segments it starts owning are rebuilt from the
+ * local data, after each rebalance. The cache must use the {@link org.infinispan.configuration.cache.Index#ALL} indexing
+ * mode, so that the primary owner of an entry indexes it wherever the write originated. The index of the whole
+ * cluster must be queried with a clustered query; the query DSL rejects the types indexed in local shards.
+ *
+ * @since 9.0
+ */
+public class LocalShardIndexManager extends DirectoryBasedIndexManager {
+
+   private int segment;
+
+   @Override
+   public void initialize(String indexName, Properties properties, Similarity similarity, WorkerBuildContext buildContext) {
+      super.initialize(indexName, properties, similarity, buildContext);
+      segment = Integer.parseInt(indexName.substring(indexName.lastIndexOf(".") + 1));
+      ServiceManager serviceManager = buildContext.getServiceManager();
+      ComponentRegistryService componentRegistryService = serviceManager.requestService(ComponentRegistryService.class);
+      ComponentRegistry componentRegistry = componentRegistryService.getComponentRegistry();
+      LocalShardTracker.getInstance(componentRegistry).addShard(this);
+   }
+
+   int getSegment() {
+      return segment;
+   }
+
+   /**
+    * Removes all the documents from the shard, synchronously.
+    */
+   void purge() {
+      for (Class<?> type : getContainedTypes()) {
+         performStreamOperation(new PurgeAllLuceneWork(type), null, false);
+      }
+   }
+}
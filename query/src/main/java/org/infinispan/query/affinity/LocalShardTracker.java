@@ -0,0 +1,186 @@
+package org.infinispan.query.affinity;
+
+import org.infinispan.Cache;
+import org.infinispan.CacheStream;
+import org.infinispan.container.entries.CacheEntry;
+import org.infinispan.context.Flag;
+import org.infinispan.configuration.cache.ClusteringConfiguration;
+import org.infinispan.configuration.cache.Configuration;
+import org.infinispan.distribution.DistributionManager;
+import org.infinispan.distribution.ch.ConsistentHash;
+import org.infinispan.distribution.ch.KeyPartitioner;
+import org.infinispan.factories.ComponentRegistry;
+import org.infinispan.marshall.core.MarshalledValue;
+import org.infinispan.notifications.Listener;
+import org.infinispan.notifications.cachelistener.annotation.TopologyChanged;
+import org.infinispan.notifications.cachelistener.event.TopologyChangedEvent;
+import org.infinispan.query.impl.massindex.IndexUpdater;
+import org.infinispan.query.logging.Log;
+import org.infinispan.remoting.rpc.RpcManager;
+import org.infinispan.util.logging.LogFactory;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Keeps the {@link LocalShardIndexManager} shards of a cache in sync with the segments the local node is the primary
+ * owner of.
+ * <p>
+ * A segment is rebuilt under the write lock of the segment, and the index updates of its keys take the read lock, so
+ * an update never races with the rebuild of its shard.
+ *
+ * @since 9.0
+ */
+final class LocalShardTracker {
+
+   private static final Log log = LogFactory.getLog(LocalShardTracker.class, Log.class);
+
+   private final ComponentRegistry componentRegistry;
+
+   private final ConcurrentMap<Integer, List<LocalShardIndexManager>> shardsBySegment = new ConcurrentHashMap<>();
+
+   private final ReadWriteLock[] segmentLocks;
+
+   private final KeyPartitioner keyPartitioner;
+
+   // guarded by this
+   private Set<Integer> ownedSegments = Collections.emptySet();
+
+   private LocalShardTracker(ComponentRegistry componentRegistry) {
+      this.componentRegistry = componentRegistry;
+      ClusteringConfiguration clustering = componentRegistry.getComponent(Configuration.class).clustering();
+      int numSegments = clustering.cacheMode().isClustered() ? clustering.hash().numSegments() : 1;
+      segmentLocks = new ReadWriteLock[numSegments];
+      for (int i = 0; i < numSegments; i++) {
+         segmentLocks[i] = new ReentrantReadWriteLock();
+      }
+      keyPartitioner = clustering.cacheMode().isClustered() ? componentRegistry.getComponent(KeyPartitioner.class) : null;
+   }
+
+   static synchronized LocalShardTracker getInstance(ComponentRegistry componentRegistry) {
+      LocalShardTracker tracker = componentRegistry.getComponent(LocalShardTracker.class);
+      if (tracker == null) {
+         tracker = new LocalShardTracker(componentRegistry);
+         componentRegistry.registerComponent(tracker, LocalShardTracker.class);
+         componentRegistry.getComponent(Cache.class).addListener(tracker.new OwnershipListener());
+      }
+      return tracker;
+   }
+
+   void addShard(LocalShardIndexManager indexManager) {
+      shardsBySegment.computeIfAbsent(indexManager.getSegment(), s -> new CopyOnWriteArrayList<>()).add(indexManager);
+   }
+
+   void runInSegment(Object key, Runnable work) {
+      Lock lock = segmentLocks[keyPartitioner != null ? keyPartitioner.getSegment(key) : 0].readLock();
+      lock.lock();
+      try {
+         work.run();
+      } finally {
+         lock.unlock();
+      }
+   }
+
+   /**
+    * @return the segments the local node is the primary owner of in the read consistent hash
+    */
+   static Set<Integer> getPrimarySegments(ComponentRegistry componentRegistry) {
+      DistributionManager distributionManager = componentRegistry.getComponent(DistributionManager.class);
+      if (distributionManager == null) {
+         return Collections.singleton(0);
+      }
+      ConsistentHash readConsistentHash = distributionManager.getReadConsistentHash();
+      if (readConsistentHash == null) {
+         // the cache did not join the cluster yet
+         return Collections.emptySet();
+      }
+      RpcManager rpcManager = componentRegistry.getComponent(RpcManager.class);
+      return readConsistentHash.getPrimarySegmentsForOwner(rpcManager.getAddress());
+   }
+
+   private synchronized void updateOwnership() {
+      Set<Integer> newOwnedSegments = getPrimarySegments(componentRegistry);
+      Set<Integer> lostSegments = new HashSet<>(ownedSegments);
+      lostSegments.removeAll(newOwnedSegments);
+      Set<Integer> gainedSegments = new HashSet<>(newOwnedSegments);
+      gainedSegments.removeAll(ownedSegments);
+      ownedSegments = newOwnedSegments;
+
+      if (!lostSegments.isEmpty()) {
+         log.debugf("Purging the local shards of segments %s", lostSegments);
+         for (Integer segment : lostSegments) {
+            List<LocalShardIndexManager> shards = shardsBySegment.get(segment);
+            if (shards != null) {
+               shards.forEach(LocalShardIndexManager::purge);
+            }
+         }
+      }
+      if (!gainedSegments.isEmpty()) {
+         log.debugf("Rebuilding the local shards of segments %s", gainedSegments);
+         rebuild(gainedSegments);
+      }
+   }
+
+   private void rebuild(Set<Integer> segments) {
+      Cache<Object, Object> cache = componentRegistry.getComponent(Cache.class);
+      IndexUpdater indexUpdater = new IndexUpdater(cache);
+      for (Integer segment : segments) {
+         Lock lock = segmentLocks[segment].writeLock();
+         lock.lock();
+         try {
+            // the shard may hold the stale documents of a previous ownership of the segment
+            List<LocalShardIndexManager> shards = shardsBySegment.get(segment);
+            if (shards != null) {
+               shards.forEach(LocalShardIndexManager::purge);
+            }
+            reindex(cache, indexUpdater, segment);
+         } finally {
+            lock.unlock();
+         }
+      }
+   }
+
+   private void reindex(Cache<Object, Object> cache, IndexUpdater indexUpdater, Integer segment) {
+      try (CacheStream<CacheEntry<Object, Object>> stream = cache.getAdvancedCache().withFlags(Flag.CACHE_MODE_LOCAL)
+            .cacheEntrySet().stream()) {
+         Iterator<CacheEntry<Object, Object>> iterator = stream.filterKeySegments(Collections.singleton(segment)).iterator();
+         while (iterator.hasNext()) {
+            CacheEntry<Object, Object> entry = iterator.next();
+            Object value = entry.getValue();
+            if (value instanceof MarshalledValue) {
+               value = ((MarshalledValue) value).get();
+            }
+            if (value != null) {
+               indexUpdater.updateIndex(entry.getKey(), value);
+            }
+         }
+      }
+      List<LocalShardIndexManager> shards = shardsBySegment.get(segment);
+      if (shards != null) {
+         Set<Class<?>> types = new HashSet<>();
+         shards.forEach(shard -> types.addAll(shard.getContainedTypes()));
+         types.forEach(indexUpdater::flush);
+      }
+   }
+
+   @Listener(sync = false)
+   public final class OwnershipListener {
+
+      @TopologyChanged
+      @SuppressWarnings("unused")
+      public void onTopologyChange(TopologyChangedEvent<?, ?> tce) {
+         if (!tce.isPre()) {
+            updateOwnership();
+         }
+      }
+   }
+}
@@ -4,6 +4,7 @@
 import org.hibernate.search.backend.spi.Work;
 import org.hibernate.search.backend.spi.WorkType;
 import org.hibernate.search.backend.spi.Worker;
+import org.hibernate.search.engine.spi.EntityIndexBinding;
 import org.hibernate.search.spi.SearchIntegrator;
 import org.hibernate.search.store.ShardIdentifierProvider;
 import org.infinispan.Cache;
@@ -32,6 +33,7 @@
 import org.infinispan.marshall.core.MarshalledValue;
 import org.infinispan.query.Transformer;
 import org.infinispan.query.affinity.AffinityShardIdentifierProvider;
+import org.infinispan.query.affinity.LocalAffinityShardIdentifierProvider;
 import org.infinispan.query.impl.DefaultSearchWorkCreator;
 import org.infinispan.query.logging.Log;
 import org.infinispan.registry.InternalCacheRegistry;
@@ -236,7 +238,7 @@ private void purgeAllIndexes(TransactionContext transactionContext) {
 
    // Method that will be called when data needs to be removed from Lucene.
    protected void removeFromIndexes(final Object value, final Object key, final TransactionContext transactionContext) {
-      performSearchWork(value, keyToString(key), WorkType.DELETE, transactionContext);
+      performShardedSearchWork(value, key, WorkType.DELETE, transactionContext);
    }
 
    private boolean isPrimaryOwner(Object key) {
@@ -248,7 +250,21 @@ protected void updateIndexes(final boolean usingSkipIndexCleanupFlag, final Obje
       // unless the specific flag is allowing this.
       ShardIdentifierProvider shardIdentifierProvider = searchFactory.getIndexBinding(value.getClass()).getShardIdentifierProvider();
       if (shardIdentifierProvider == null || !(shardIdentifierProvider instanceof AffinityShardIdentifierProvider) || isPrimaryOwner(key)) {
-         performSearchWork(value, keyToString(key), usingSkipIndexCleanupFlag ? WorkType.ADD : WorkType.UPDATE, transactionContext);
+         performShardedSearchWork(value, key, usingSkipIndexCleanupFlag ? WorkType.ADD : WorkType.UPDATE, transactionContext);
+      }
+   }
+
+   /**
+    * The local shards are rebuilt after a rebalance, so the updates of a local shard wait until its rebuild is done.
+    */
+   private void performShardedSearchWork(Object value, Object key, WorkType workType, TransactionContext transactionContext) {
+      EntityIndexBinding indexBinding = value != null ? searchFactory.getIndexBinding(value.getClass()) : null;
+      ShardIdentifierProvider shardIdentifierProvider = indexBinding != null ? indexBinding.getShardIdentifierProvider() : null;
+      if (shardIdentifierProvider instanceof LocalAffinityShardIdentifierProvider) {
+         ((LocalAffinityShardIdentifierProvider) shardIdentifierProvider).runInSegment(key,
+               () -> performSearchWork(value, keyToString(key), workType, transactionContext));
+      } else {
+         performSearchWork(value, keyToString(key), workType, transactionContext);
       }
    }
 
@@ -20,6 +20,8 @@
 import org.infinispan.factories.ComponentRegistry;
 import org.infinispan.manager.EmbeddedCacheManager;
 import org.infinispan.query.affinity.AffinityShardIdentifierProvider;
+import org.infinispan.query.affinity.LocalAffinityShardIdentifierProvider;
+import org.infinispan.query.affinity.LocalShardIndexManager;
 import org.infinispan.query.affinity.ShardIndexManager;
 
 import static org.hibernate.search.cfg.Environment.INDEX_MANAGER_IMPL_NAME;
@@ -141,6 +143,9 @@ private static Properties augment(Properties origin) {
          if (key.toString().endsWith(INDEX_MANAGER_IMPL_NAME) && entry.getValue().equals(ShardIndexManager.class.getName())) {
             target.put(key.toString().replace(INDEX_MANAGER_IMPL_NAME, SHARDING_STRATEGY), AffinityShardIdentifierProvider.class.getName());
          }
+         if (key.toString().endsWith(INDEX_MANAGER_IMPL_NAME) && entry.getValue().equals(LocalShardIndexManager.class.getName())) {
+            target.put(key.toString().replace(INDEX_MANAGER_IMPL_NAME, SHARDING_STRATEGY), LocalAffinityShardIdentifierProvider.class.getName());
+         }
       }
       return target;
    }
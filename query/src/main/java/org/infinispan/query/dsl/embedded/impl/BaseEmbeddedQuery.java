@@ -2,6 +2,7 @@
 
 import org.infinispan.AdvancedCache;
 import org.infinispan.commons.util.CloseableIterator;
+import org.infinispan.commons.util.Closeables;
 import org.infinispan.objectfilter.ObjectFilter;
 import org.infinispan.query.dsl.QueryFactory;
 import org.infinispan.query.dsl.impl.BaseQuery;
@@ -12,6 +13,7 @@
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.PriorityQueue;
 
 /**
@@ -128,6 +130,47 @@ private List<Object> listInternal() {
       return results;
    }
 
+   /**
+    * Iterates over the results lazily, without collecting them in memory. Results that need to be sorted are collected
+    * in memory anyway.
+    */
+   CloseableIterator<Object> iterator() {
+      if (getComparator() != null) {
+         return Closeables.iterator(list().iterator());
+      }
+      CloseableIterator<ObjectFilter.FilterResult> iterator = getIterator();
+      return new CloseableIterator<Object>() {
+
+         private long skipped;
+
+         private int returned;
+
+         @Override
+         public boolean hasNext() {
+            while (skipped < startOffset && iterator.hasNext()) {
+               iterator.next();
+               skipped++;
+            }
+            return (maxResults == -1 || returned < maxResults) && iterator.hasNext();
+         }
+
+         @Override
+         public Object next() {
+            if (!hasNext()) {
+               throw new NoSuchElementException();
+            }
+            ObjectFilter.FilterResult entry = iterator.next();
+            returned++;
+            return projection != null ? entry.getProjection() : entry.getInstance();
+         }
+
+         @Override
+         public void close() {
+            iterator.close();
+         }
+      };
+   }
+
    /**
     * Create a comparator to be used for ordering the results returned by {@link #getIterator()}.
     *
@@ -1,7 +1,8 @@
 package org.infinispan.query.dsl.embedded.impl;
 
-import org.infinispan.query.dsl.Query;
+import org.infinispan.commons.util.CloseableIterator;
 import org.infinispan.query.dsl.QueryFactory;
+import org.infinispan.query.dsl.QueryResultIterator;
 import org.infinispan.query.dsl.impl.BaseQuery;
 
 import java.util.Arrays;
@@ -36,7 +37,7 @@ public void resetQuery() {
       }
    }
 
-   private Query createQuery() {
+   private BaseQuery createQuery() {
       // the query is created first time only
       if (query == null) {
          query = queryEngine.buildQuery(queryFactory, jpaQuery, namedParameters, startOffset, maxResults);
@@ -49,6 +50,28 @@ public <T> List<T> list() {
       return createQuery().list();
    }
 
+   @Override
+   public <T> QueryResultIterator<T> iterator(int pageSize) {
+      CloseableIterator<Object> results = queryEngine.iterator(createQuery());
+      return new QueryResultIterator<T>() {
+         @Override
+         public boolean hasNext() {
+            return results.hasNext();
+         }
+
+         @Override
+         @SuppressWarnings("unchecked")
+         public T next() {
+            return (T) results.next();
+         }
+
+         @Override
+         public void close() {
+            results.close();
+         }
+      };
+   }
+
    @Override
    public int getResultSize() {
       return createQuery().getResultSize();
@@ -1,7 +1,10 @@
 package org.infinispan.query.dsl.embedded.impl;
 
+import org.infinispan.commons.util.CloseableIterator;
 import org.infinispan.objectfilter.impl.hql.FilterParsingResult;
 import org.infinispan.query.CacheQuery;
+import org.infinispan.query.FetchOptions;
+import org.infinispan.query.ResultIterator;
 import org.infinispan.query.dsl.QueryFactory;
 import org.infinispan.query.dsl.impl.BaseQuery;
 
@@ -82,6 +85,30 @@ private List<Object> listInternal() {
       return results;
    }
 
+   /**
+    * Iterates over the results lazily, loading the matching entries as the iteration progresses.
+    */
+   CloseableIterator<Object> iterator() {
+      ResultIterator iterator = createCacheQuery().iterator(new FetchOptions().fetchMode(FetchOptions.FetchMode.LAZY));
+      return new CloseableIterator<Object>() {
+         @Override
+         public boolean hasNext() {
+            return iterator.hasNext();
+         }
+
+         @Override
+         public Object next() {
+            Object result = iterator.next();
+            return resultProcessor != null ? resultProcessor.process(result) : result;
+         }
+
+         @Override
+         public void close() {
+            iterator.close();
+         }
+      };
+   }
+
    @Override
    public int getResultSize() {
       return createCacheQuery().getResultSize();
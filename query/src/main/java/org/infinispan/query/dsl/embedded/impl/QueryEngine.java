@@ -1,7 +1,10 @@
 package org.infinispan.query.dsl.embedded.impl;
 
+import org.hibernate.search.engine.spi.EntityIndexBinding;
 import org.hibernate.search.spi.SearchIntegrator;
 import org.infinispan.AdvancedCache;
+import org.infinispan.commons.util.CloseableIterator;
+import org.infinispan.commons.util.Closeables;
 import org.infinispan.objectfilter.ObjectFilter;
 import org.infinispan.objectfilter.PropertyPath;
 import org.infinispan.objectfilter.SortField;
@@ -31,6 +34,7 @@
 import org.infinispan.query.CacheQuery;
 import org.infinispan.query.Search;
 import org.infinispan.query.SearchManager;
+import org.infinispan.query.affinity.LocalAffinityShardIdentifierProvider;
 import org.infinispan.query.dsl.Query;
 import org.infinispan.query.dsl.QueryFactory;
 import org.infinispan.query.dsl.impl.BaseQuery;
@@ -642,6 +646,19 @@ private FilterParsingResult<?> makeFilterParsingResult(FilterParsingResult<?> pa
             projection, projectedTypes, null, sortFields);
    }
 
+   /**
+    * Iterates over the results of a query built by this engine. The results are evaluated lazily if the query allows it,
+    * so the iterator must be closed if it is not exhausted.
+    */
+   public CloseableIterator<Object> iterator(BaseQuery query) {
+      if (query instanceof EmbeddedLuceneQuery) {
+         return ((EmbeddedLuceneQuery) query).iterator();
+      } else if (query instanceof BaseEmbeddedQuery) {
+         return ((BaseEmbeddedQuery) query).iterator();
+      }
+      return Closeables.iterator(query.list().iterator());
+   }
+
    protected ResultProcessor makeResultProcessor(ResultProcessor in) {
       return in;
    }
@@ -714,9 +731,16 @@ protected CacheQuery buildLuceneQuery(FilterParsingResult<?> filterParsingResult
 
       checkParameters(namedParameters);
 
+      Class<?> targetedClass = getTargetedClass(filterParsingResult);
+      // the local shards of a node only hold a part of the index
+      EntityIndexBinding indexBinding = getSearchFactory().getIndexBinding(targetedClass);
+      if (indexBinding != null && indexBinding.getShardIdentifierProvider() instanceof LocalAffinityShardIdentifierProvider) {
+         throw log.localShardsRequireClusteredQuery(filterParsingResult.getTargetEntityName());
+      }
+
       LuceneQueryParsingResult luceneParsingResult = transform(filterParsingResult, namedParameters);
       org.apache.lucene.search.Query luceneQuery = makeTypeQuery(luceneParsingResult.getQuery(), luceneParsingResult.getTargetEntityName());
-      CacheQuery cacheQuery = getSearchManager().getQuery(luceneQuery, getTargetedClass(filterParsingResult));
+      CacheQuery cacheQuery = getSearchManager().getQuery(luceneQuery, targetedClass);
 
       if (luceneParsingResult.getSort() != null) {
          cacheQuery = cacheQuery.sort(luceneParsingResult.getSort());
@@ -11,16 +11,25 @@
 import org.infinispan.query.impl.massindex.MassIndexStrategy.FlushExecutionMode;
 import org.infinispan.query.impl.massindex.MassIndexStrategy.IndexingExecutionMode;
 import org.infinispan.query.logging.Log;
+import org.infinispan.remoting.transport.jgroups.SuspectException;
 import org.infinispan.util.logging.LogFactory;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.BiConsumer;
 
 import static org.infinispan.query.impl.massindex.MassIndexStrategyFactory.calculateStrategy;
@@ -33,6 +42,11 @@ public class DistributedExecutorMassIndexer implements MassIndexer {
 
    private static final Log LOG = LogFactory.getLog(DistributedExecutorMassIndexer.class, Log.class);
 
+   /**
+    * The maximum number of runs indexing the same types, when some segments were not indexed by the previous run.
+    */
+   private static final int MAX_ATTEMPTS = 10;
+
    private final AdvancedCache cache;
    private final SearchIntegrator searchIntegrator;
    private final IndexUpdater indexUpdater;
@@ -60,6 +74,7 @@ public CompletableFuture<Void> startAsync() {
    private CompletableFuture<Void> executeInternal(boolean asyncFlush) {
       List<CompletableFuture<Void>> futures = new ArrayList<>();
       Deque<Class<?>> toFlush = new LinkedList<>();
+      Map<WorkerMode, Set<Class<?>>> typesPerMode = new LinkedHashMap<>();
 
       for (Class<?> indexedType : searchIntegrator.getIndexedTypes()) {
          EntityIndexBinding indexBinding = searchIntegrator.getIndexBinding(indexedType);
@@ -74,28 +89,13 @@ private CompletableFuture<Void> executeInternal(boolean asyncFlush) {
             workerFlush = false;
          }
 
+         // Types indexed the same way share a single pass over the data of each node
          IndexingExecutionMode indexingStrategy = strategy.getIndexingStrategy();
-         IndexWorker indexWork =
-                 new IndexWorker(indexedType, workerFlush, workerClean, indexingStrategy == IndexingExecutionMode.PRIMARY_OWNER);
-
-         DistributedTask<Void> task = executor
-                 .createDistributedTaskBuilder(indexWork)
-                 .timeout(0, TimeUnit.NANOSECONDS)
-                 .build();
-
-         List<CompletableFuture<Void>> futureList = executor.submitEverywhere(task);
-         futureList.forEach(f -> futures.add(f.exceptionally(t -> {
-            if (t instanceof InterruptedException) {
-               Thread.currentThread().interrupt();
-               return null;
-            } else if (t instanceof CompletionException) {
-               Throwable cause = t.getCause();
-               throw LOG.errorExecutingMassIndexer(cause);
-            } else {
-               throw LOG.errorExecutingMassIndexer(t);
-            }
-         })));
+         WorkerMode mode = new WorkerMode(workerFlush, workerClean, indexingStrategy == IndexingExecutionMode.PRIMARY_OWNER);
+         typesPerMode.computeIfAbsent(mode, m -> new HashSet<>()).add(indexedType);
       }
+      typesPerMode.forEach((mode, types) -> futures.add(submit(mode, types, mode.clean, null, 1)));
+
       CompletableFuture<Void> compositeFuture = CompletableFuture.allOf(futures.toArray(
               new CompletableFuture[futures.size()]));
       BiConsumer<Void, Throwable> consumer = (v, t) -> {
@@ -111,4 +111,122 @@ private CompletableFuture<Void> executeInternal(boolean asyncFlush) {
       return compositeFuture;
 
    }
+
+   /**
+    * Runs an {@link IndexWorker} on every node. When indexing only the primary owned data, the segments not completed,
+    * because a node left the cluster or the topology changed while indexing, are indexed again by their new primary
+    * owners, without purging the documents the other nodes already indexed. The indexing fails if some segments are
+    * still not indexed once the runs stop making progress.
+    *
+    * @param segments the segments to index, or {@code null} for all of them
+    * @param attempt  the number of runs already done for these types
+    */
+   private CompletableFuture<Void> submit(WorkerMode mode, Set<Class<?>> types, boolean clean, Set<Integer> segments,
+                                          int attempt) {
+      IndexWorker indexWork = new IndexWorker(types, mode.flush, clean, mode.primaryOwner, segments);
+      DistributedTask<Map<Integer, Long>> task = executor
+              .createDistributedTaskBuilder(indexWork)
+              .timeout(0, TimeUnit.NANOSECONDS)
+              .build();
+
+      Set<Integer> expectedSegments = mode.primaryOwner ? (segments != null ? segments : getAllSegments()) : null;
+      Set<Integer> completedSegments = ConcurrentHashMap.newKeySet();
+      AtomicBoolean nodeLeft = new AtomicBoolean();
+      List<CompletableFuture<Map<Integer, Long>>> futureList = executor.submitEverywhere(task);
+      CompletableFuture<?>[] results = futureList.stream().map(f -> f.handle((documentsPerSegment, t) -> {
+         if (t == null) {
+            documentsPerSegment.forEach((segment, documents) -> {
+               if (LOG.isDebugEnabled()) {
+                  LOG.debugf("Mass indexer indexed %d documents of %s in segment %d", documents, types, segment);
+               }
+               completedSegments.add(segment);
+            });
+            if (expectedSegments != null) {
+               LOG.massIndexerSegmentsCompleted(completedSegments.size(), expectedSegments.size(), types.toString());
+            }
+            return null;
+         }
+         Throwable cause = t instanceof CompletionException ? t.getCause() : t;
+         if (cause instanceof InterruptedException) {
+            Thread.currentThread().interrupt();
+            return null;
+         } else if (mode.primaryOwner && isNodeFailure(cause)) {
+            nodeLeft.set(true);
+            return null;
+         } else {
+            throw LOG.errorExecutingMassIndexer(cause);
+         }
+      })).toArray(CompletableFuture[]::new);
+
+      return CompletableFuture.allOf(results).thenCompose(v -> {
+         if (expectedSegments == null) {
+            return CompletableFuture.completedFuture(null);
+         }
+         Set<Integer> remainingSegments = new HashSet<>(expectedSegments);
+         remainingSegments.removeAll(completedSegments);
+         if (remainingSegments.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+         }
+         // A resumed run might see a topology where the failed nodes still own segments, so it is repeated while
+         // there is some progress
+         if ((nodeLeft.get() || !completedSegments.isEmpty()) && attempt < MAX_ATTEMPTS) {
+            LOG.massIndexerResumingSegments(remainingSegments.size());
+            return submit(mode, types, false, remainingSegments, attempt + 1);
+         }
+         CompletableFuture<Void> failed = new CompletableFuture<>();
+         failed.completeExceptionally(LOG.massIndexerSegmentsNotIndexed(remainingSegments.size(), types.toString(),
+                                                                        remainingSegments));
+         return failed;
+      });
+   }
+
+   private Set<Integer> getAllSegments() {
+      if (cache.getDistributionManager() == null) {
+         // the workers index everything as a single segment
+         return Collections.singleton(0);
+      }
+      int numSegments = cache.getCacheConfiguration().clustering().hash().numSegments();
+      Set<Integer> allSegments = new HashSet<>(numSegments);
+      for (int i = 0; i < numSegments; i++) {
+         allSegments.add(i);
+      }
+      return allSegments;
+   }
+
+   private static boolean isNodeFailure(Throwable t) {
+      for (Throwable cause = t; cause != null; cause = cause.getCause()) {
+         if (cause instanceof SuspectException) {
+            return true;
+         }
+      }
+      return false;
+   }
+
+   /**
+    * The options of the workers indexing a group of types.
+    */
+   private static final class WorkerMode {
+      final boolean flush;
+      final boolean clean;
+      final boolean primaryOwner;
+
+      WorkerMode(boolean flush, boolean clean, boolean primaryOwner) {
+         this.flush = flush;
+         this.clean = clean;
+         this.primaryOwner = primaryOwner;
+      }
+
+      @Override
+      public boolean equals(Object o) {
+         if (this == o) return true;
+         if (o == null || getClass() != o.getClass()) return false;
+         WorkerMode that = (WorkerMode) o;
+         return flush == that.flush && clean == that.clean && primaryOwner == that.primaryOwner;
+      }
+
+      @Override
+      public int hashCode() {
+         return Objects.hash(flush, clean, primaryOwner);
+      }
+   }
 }
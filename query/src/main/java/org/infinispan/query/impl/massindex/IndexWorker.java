@@ -1,49 +1,67 @@
 package org.infinispan.query.impl.massindex;
 
 import org.infinispan.Cache;
+import org.infinispan.CacheStream;
 import org.infinispan.commons.marshall.AbstractExternalizer;
 import org.infinispan.container.entries.CacheEntry;
 import org.infinispan.context.Flag;
 import org.infinispan.distexec.DistributedCallable;
+import org.infinispan.distribution.ch.ConsistentHash;
 import org.infinispan.factories.ComponentRegistry;
-import org.infinispan.filter.AcceptAllKeyValueFilter;
-import org.infinispan.filter.CacheFilters;
-import org.infinispan.filter.KeyValueFilter;
-import org.infinispan.interceptors.locking.ClusteringDependentLogic;
 import org.infinispan.marshall.core.MarshalledValue;
-import org.infinispan.metadata.Metadata;
 import org.infinispan.query.impl.externalizers.ExternalizerIds;
+import org.infinispan.query.logging.Log;
+import org.infinispan.remoting.transport.Address;
+import org.infinispan.statetransfer.StateTransferManager;
+import org.infinispan.topology.CacheTopology;
+import org.infinispan.util.logging.LogFactory;
 
 import java.io.IOException;
 import java.io.ObjectInput;
 import java.io.ObjectOutput;
 import java.util.Collections;
-import java.util.Iterator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
-import java.util.stream.Stream;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
- * Base class for mass indexer tasks.
+ * Base class for mass indexer tasks. Each task indexes all the given entity types with a single parallel pass over the
+ * local data, and returns the number of documents indexed per segment. When indexing only the primary owned data, the
+ * returned segments are the ones the node completed, so that the segments of a failed node can be indexed again. The
+ * progress is logged every {@link #PROGRESS_INTERVAL} documents.
  *
  * @author gustavonalle
  * @since 7.1
  */
-public class IndexWorker implements DistributedCallable<Object, Object, Void> {
+public class IndexWorker implements DistributedCallable<Object, Object, Map<Integer, Long>> {
+
+   private static final Log LOG = LogFactory.getLog(IndexWorker.class, Log.class);
+
+   static final long PROGRESS_INTERVAL = 100_000;
 
    protected Cache<Object, Object> cache;
-   protected final Class<?> entity;
+   protected final Set<Class<?>> entities;
    private final boolean flush;
    private final boolean clean;
    private final boolean primaryOwner;
+   private final Set<Integer> segments;
    protected IndexUpdater indexUpdater;
 
-   private ClusteringDependentLogic clusteringDependentLogic;
+   private StateTransferManager stateTransferManager;
 
-   public IndexWorker(Class<?> entity, boolean flush, boolean clean, boolean primaryOwner) {
-      this.entity = entity;
+   /**
+    * @param segments the segments to index when indexing only primary owned data, or {@code null} for all of them
+    */
+   public IndexWorker(Set<Class<?>> entities, boolean flush, boolean clean, boolean primaryOwner, Set<Integer> segments) {
+      this.entities = entities;
       this.flush = flush;
       this.clean = clean;
       this.primaryOwner = primaryOwner;
+      this.segments = segments;
    }
 
    @Override
@@ -51,19 +69,15 @@ public void setEnvironment(Cache<Object, Object> cache, Set<Object> inputKeys) {
       this.cache = cache;
       this.indexUpdater = new IndexUpdater(cache);
       ComponentRegistry componentRegistry = cache.getAdvancedCache().getComponentRegistry();
-      this.clusteringDependentLogic = componentRegistry.getComponent(ClusteringDependentLogic.class);
+      this.stateTransferManager = componentRegistry.getComponent(StateTransferManager.class);
    }
 
    protected void preIndex() {
-      if (clean) indexUpdater.purge(entity);
+      if (clean) entities.forEach(indexUpdater::purge);
    }
 
    protected void postIndex() {
-      if (flush) indexUpdater.flush(entity);
-   }
-
-   private KeyValueFilter getFilter() {
-      return primaryOwner ? new PrimaryOwnersKeyValueFilter() : AcceptAllKeyValueFilter.getInstance();
+      if (flush) entities.forEach(indexUpdater::flush);
    }
 
    private Object extractValue(Object wrappedValue) {
@@ -72,32 +86,66 @@ private Object extractValue(Object wrappedValue) {
       return wrappedValue;
    }
 
-   @Override
-   @SuppressWarnings("unchecked")
-   public Void call() throws Exception {
-      preIndex();
-      KeyValueFilter filter = getFilter();
-      try (Stream<CacheEntry<Object, Object>> stream = cache.getAdvancedCache().withFlags(Flag.CACHE_MODE_LOCAL)
-              .cacheEntrySet().stream()) {
-         Iterator<CacheEntry<Object, Object>> iterator = stream.filter(CacheFilters.predicate(filter)).iterator();
-         while (iterator.hasNext()) {
-            CacheEntry<Object, Object> next = iterator.next();
-            Object value = extractValue(next.getValue());
-            if (value != null && value.getClass().equals(entity))
-               indexUpdater.updateIndex(next.getKey(), value);
-         }
+   private ConsistentHash getConsistentHash() {
+      if (stateTransferManager == null) {
+         return null;
       }
-      postIndex();
-      return null;
+      CacheTopology cacheTopology = stateTransferManager.getCacheTopology();
+      return cacheTopology != null ? cacheTopology.getReadConsistentHash() : null;
    }
 
+   /**
+    * @return the segments this node must index, or {@code null} if not restricted to any segment
+    */
+   private Set<Integer> getSegmentsToIndex(ConsistentHash ch) {
+      if (!primaryOwner) {
+         return null;
+      }
+      if (ch == null) {
+         // local caches own everything in a single segment
+         return segments == null || segments.contains(0) ? Collections.singleton(0) : Collections.emptySet();
+      }
+      Address localAddress = cache.getCacheManager().getAddress();
+      Set<Integer> primarySegments = new HashSet<>(ch.getPrimarySegmentsForOwner(localAddress));
+      if (segments != null) {
+         primarySegments.retainAll(segments);
+      }
+      return primarySegments;
+   }
 
-   private class PrimaryOwnersKeyValueFilter implements KeyValueFilter {
-
-      @Override
-      public boolean accept(Object key, Object value, Metadata metadata) {
-         return clusteringDependentLogic.localNodeIsPrimaryOwner(key);
+   @Override
+   public Map<Integer, Long> call() throws Exception {
+      preIndex();
+      ConsistentHash ch = getConsistentHash();
+      Set<Integer> segmentsToIndex = getSegmentsToIndex(ch);
+      ConcurrentHashMap<Integer, LongAdder> documentsPerSegment = new ConcurrentHashMap<>();
+      if (segmentsToIndex != null) {
+         segmentsToIndex.forEach(s -> documentsPerSegment.put(s, new LongAdder()));
+      }
+      AtomicLong documents = new AtomicLong();
+      if (segmentsToIndex == null || !segmentsToIndex.isEmpty()) {
+         try (CacheStream<CacheEntry<Object, Object>> stream = cache.getAdvancedCache().withFlags(Flag.CACHE_MODE_LOCAL)
+               .cacheEntrySet().stream()) {
+            CacheStream<CacheEntry<Object, Object>> entries = ch != null && segmentsToIndex != null ?
+                  stream.filterKeySegments(segmentsToIndex) : stream;
+            entries.parallel().forEach(entry -> {
+               Object value = extractValue(entry.getValue());
+               if (value != null && entities.contains(value.getClass())) {
+                  indexUpdater.updateIndex(entry.getKey(), value);
+                  int segment = ch != null ? ch.getSegment(entry.getKey()) : 0;
+                  documentsPerSegment.computeIfAbsent(segment, s -> new LongAdder()).increment();
+                  long indexed = documents.incrementAndGet();
+                  if (indexed % PROGRESS_INTERVAL == 0) {
+                     LOG.massIndexerProgress(indexed, entities.toString());
+                  }
+               }
+            });
+         }
       }
+      postIndex();
+      Map<Integer, Long> result = new HashMap<>();
+      documentsPerSegment.forEach((segment, count) -> result.put(segment, count.sum()));
+      return result;
    }
 
    public static class Externalizer extends AbstractExternalizer<IndexWorker> {
@@ -109,15 +157,18 @@ public Set<Class<? extends IndexWorker>> getTypeClasses() {
 
       @Override
       public void writeObject(ObjectOutput output, IndexWorker worker) throws IOException {
-         output.writeObject(worker.entity);
+         output.writeObject(worker.entities);
          output.writeBoolean(worker.flush);
          output.writeBoolean(worker.clean);
          output.writeBoolean(worker.primaryOwner);
+         output.writeObject(worker.segments);
       }
 
       @Override
+      @SuppressWarnings("unchecked")
       public IndexWorker readObject(ObjectInput input) throws IOException, ClassNotFoundException {
-         return new IndexWorker((Class<?>) input.readObject(), input.readBoolean(), input.readBoolean(), input.readBoolean());
+         return new IndexWorker((Set<Class<?>>) input.readObject(), input.readBoolean(), input.readBoolean(),
+               input.readBoolean(), (Set<Integer>) input.readObject());
       }
 
       @Override
@@ -4,6 +4,7 @@
 import org.hibernate.search.indexes.spi.DirectoryBasedIndexManager;
 import org.hibernate.search.indexes.spi.IndexManager;
 import org.infinispan.configuration.cache.Configuration;
+import org.infinispan.query.affinity.LocalShardIndexManager;
 import org.infinispan.query.affinity.ShardIndexManager;
 import org.infinispan.query.indexmanager.InfinispanIndexManager;
 
@@ -23,7 +24,7 @@ static MassIndexStrategy calculateStrategy(EntityIndexBinding indexBinding, Conf
       boolean sharded = indexManagers.length > 1;
       boolean replicated = cacheConfiguration.clustering().cacheMode().isReplicated();
       boolean singleMaster = !sharded && indexManager instanceof InfinispanIndexManager;
-      boolean multiMaster = indexManager instanceof ShardIndexManager;
+      boolean multiMaster = indexManager instanceof ShardIndexManager || indexManager instanceof LocalShardIndexManager;
       boolean custom = !(indexManager instanceof DirectoryBasedIndexManager);
 
       if (singleMaster || custom) {
@@ -2,9 +2,11 @@
 
 import java.io.IOException;
 import java.util.List;
+import java.util.Set;
 
 import org.hibernate.hql.ParsingException;
 import org.hibernate.search.backend.LuceneWork;
+import org.infinispan.commons.CacheConfigurationException;
 import org.infinispan.commons.CacheException;
 import org.infinispan.remoting.transport.Address;
 import org.jboss.logging.annotations.Cause;
@@ -140,4 +142,25 @@ public interface Log extends org.infinispan.util.logging.Log {
 
    @Message(value = "No queries can be applied to property %2$s in type %1$s since the property is analyzed.", id = 14031)
    ParsingException getQueryOnAnalyzedPropertyNotSupportedException(String typeName, String propertyName);
+
+   @LogMessage(level = WARN)
+   @Message(value = "Nodes left the cluster while mass indexing, indexing the remaining %d segments on their new owners", id = 14032)
+   void massIndexerResumingSegments(int segments);
+
+   @Message(value = "The local shards of cache %s require the indexing mode ALL, so that the primary owner of each entry indexes it", id = 14033)
+   CacheConfigurationException localShardsRequireIndexAll(String cacheName);
+
+   @Message(value = "The type %s is indexed in local shards, which only hold the entries the node is the primary owner of; use a clustered query instead", id = 14034)
+   CacheException localShardsRequireClusteredQuery(String typeName);
+
+   @LogMessage(level = INFO)
+   @Message(value = "Mass indexer indexed %d documents of %s so far on this node", id = 14035)
+   void massIndexerProgress(long documents, String types);
+
+   @LogMessage(level = INFO)
+   @Message(value = "Mass indexer indexed %d of %d segments of %s", id = 14036)
+   void massIndexerSegmentsCompleted(int completedSegments, int totalSegments, String types);
+
+   @Message(value = "Mass indexer could not index %d segments of %s: %s", id = 14037)
+   CacheException massIndexerSegmentsNotIndexed(int segments, String types, Set<Integer> segmentIds);
 }
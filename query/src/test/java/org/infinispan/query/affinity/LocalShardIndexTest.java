@@ -0,0 +1,105 @@
+package org.infinispan.query.affinity;
+
+import static java.util.stream.IntStream.rangeClosed;
+import static org.testng.Assert.assertEquals;
+
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.infinispan.Cache;
+import org.infinispan.commons.CacheException;
+import org.infinispan.configuration.cache.CacheMode;
+import org.infinispan.configuration.cache.ConfigurationBuilder;
+import org.infinispan.configuration.cache.Index;
+import org.infinispan.manager.EmbeddedCacheManager;
+import org.infinispan.query.CacheQuery;
+import org.infinispan.query.Search;
+import org.infinispan.query.dsl.Query;
+import org.infinispan.test.MultipleCacheManagersTest;
+import org.infinispan.test.TestingUtil;
+import org.infinispan.test.fwk.TestCacheManagerFactory;
+import org.testng.annotations.Test;
+
+/**
+ * Tests that the {@link LocalShardIndexManager} indexes every entry once, on its primary owner, and keeps the shards
+ * in sync with the segment ownership after the cluster changes.
+ *
+ * @since 9.0
+ */
+@Test(groups = "functional", testName = "query.affinity.LocalShardIndexTest")
+public class LocalShardIndexTest extends MultipleCacheManagersTest {
+
+   private static final int ENTRIES = 50;
+
+   private ConfigurationBuilder cacheCfg;
+
+   @Override
+   protected void createCacheManagers() throws Throwable {
+      cacheCfg = getDefaultClusteredCacheConfig(CacheMode.DIST_SYNC, false);
+      cacheCfg.clustering().hash().numSegments(20).numOwners(2);
+      cacheCfg.indexing()
+            .index(Index.ALL)
+            .addIndexedEntity(AffinityTest.Entity.class)
+            .addProperty("default.directory_provider", "ram")
+            .addProperty("lucene_version", "LUCENE_CURRENT")
+            .addProperty("entity.indexmanager", LocalShardIndexManager.class.getName());
+      createClusteredCaches(3, cacheCfg);
+   }
+
+   public void testShardsFollowOwnership() {
+      Cache<String, AffinityTest.Entity> cache = cache(0);
+      rangeClosed(1, ENTRIES).forEach(i -> cache.put(String.valueOf(i), new AffinityTest.Entity(i)));
+
+      assertIndexed(ENTRIES);
+
+      addClusterEnabledCacheManager(cacheCfg);
+      waitForClusterToForm();
+      assertIndexed(ENTRIES);
+
+      killMember(0);
+      assertIndexed(ENTRIES);
+   }
+
+   @Test(expectedExceptions = CacheException.class, expectedExceptionsMessageRegExp = "ISPN014034:.*")
+   public void testQueryDslRejected() {
+      Query query = Search.getQueryFactory(cache(0)).from(AffinityTest.Entity.class).having("val").gte(1).toBuilder().build();
+      query.list();
+   }
+
+   public void testIndexLocalRejected() {
+      ConfigurationBuilder cfg = getDefaultClusteredCacheConfig(CacheMode.DIST_SYNC, false);
+      cfg.indexing()
+            .index(Index.LOCAL)
+            .addIndexedEntity(AffinityTest.Entity.class)
+            .addProperty("default.directory_provider", "ram")
+            .addProperty("lucene_version", "LUCENE_CURRENT")
+            .addProperty("entity.indexmanager", LocalShardIndexManager.class.getName());
+      EmbeddedCacheManager cacheManager = TestCacheManagerFactory.createClusteredCacheManager(cfg);
+      try {
+         cacheManager.getCache();
+         throw new AssertionError("The cache should not start with the LOCAL indexing mode");
+      } catch (CacheException e) {
+         Throwable cause = e;
+         while (cause.getCause() != null && !cause.getMessage().contains("ISPN014033")) {
+            cause = cause.getCause();
+         }
+         assertEquals(cause.getMessage().contains("ISPN014033"), true, e.toString());
+      } finally {
+         TestingUtil.killCacheManagers(cacheManager);
+      }
+   }
+
+   private void assertIndexed(int expected) {
+      for (Cache<?, ?> c : caches()) {
+         eventuallyEquals(expected, () -> localIndexSize());
+         CacheQuery q = Search.getSearchManager(c).getClusteredQuery(new MatchAllDocsQuery(), AffinityTest.Entity.class);
+         eventuallyEquals(expected, () -> q.list().size());
+      }
+   }
+
+   private int localIndexSize() {
+      int size = 0;
+      for (Cache<?, ?> c : caches()) {
+         size += Search.getSearchManager(c).getQuery(new MatchAllDocsQuery(), AffinityTest.Entity.class).list().size();
+      }
+      return size;
+   }
+}
@@ -0,0 +1,66 @@
+package org.infinispan.query.api;
+
+import org.apache.lucene.search.Query;
+import org.infinispan.configuration.cache.ConfigurationBuilder;
+import org.infinispan.configuration.cache.Index;
+import org.infinispan.manager.EmbeddedCacheManager;
+import org.infinispan.pipeline.Pipeline;
+import org.infinispan.query.CacheQuery;
+import org.infinispan.query.Search;
+import org.infinispan.query.SearchManager;
+import org.infinispan.query.helper.StaticTestingErrorHandler;
+import org.infinispan.test.SingleCacheManagerTest;
+import org.infinispan.test.fwk.CleanupAfterMethod;
+import org.infinispan.test.fwk.TestCacheManagerFactory;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Checks that the writes of a pipeline on a non-transactional cache are indexed.
+ *
+ * @since 9.0
+ */
+@Test(groups = "functional", testName = "query.api.PipelineIndexingTest")
+@CleanupAfterMethod
+public class PipelineIndexingTest extends SingleCacheManagerTest {
+
+   @Override
+   protected EmbeddedCacheManager createCacheManager() throws Exception {
+      ConfigurationBuilder cfg = getDefaultStandaloneCacheConfig(false);
+      cfg.indexing()
+            .index(Index.ALL)
+            .addIndexedEntity(TestEntity.class)
+            .addProperty("default.directory_provider", "ram")
+            .addProperty("error_handler", "org.infinispan.query.helper.StaticTestingErrorHandler")
+            .addProperty("lucene_version", "LUCENE_CURRENT");
+      return TestCacheManagerFactory.createCacheManager(cfg);
+   }
+
+   public void testPipelineWritesIndexed() throws Exception {
+      cache.put(1L, new TestEntity("name1", "surname1", 1L, "note"));
+      cache.put(2L, new TestEntity("name2", "surname2", 2L, "note"));
+
+      Pipeline<Object, Object> pipeline = cache.getAdvancedCache().pipeline();
+      CompletableFuture<Object> put1 = pipeline.put(1L, new TestEntity("name3", "surname3", 1L, "note"));
+      pipeline.remove(2L);
+      pipeline.put(4L, new TestEntity("name4", "surname4", 4L, "note"));
+      pipeline.execute();
+
+      assertEquals("name1", ((TestEntity) put1.get()).getName());
+      assertEquals(0, queryByNameField("name1").getResultSize());
+      assertEquals(0, queryByNameField("name2").getResultSize());
+      assertEquals(1, queryByNameField("name3").getResultSize());
+      assertEquals(1, queryByNameField("name4").getResultSize());
+      StaticTestingErrorHandler.assertAllGood(cache);
+   }
+
+   private CacheQuery queryByNameField(String name) {
+      SearchManager sm = Search.getSearchManager(cache);
+      Query query = sm.buildQueryBuilderForClass(TestEntity.class)
+            .get().keyword().onField("name").matching(name).createQuery();
+      return sm.getQuery(query);
+   }
+}
@@ -0,0 +1,112 @@
+package org.infinispan.query.distributed;
+
+import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertTrue;
+
+import java.io.Serializable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.hibernate.search.annotations.Field;
+import org.hibernate.search.annotations.Indexed;
+import org.infinispan.Cache;
+import org.infinispan.configuration.cache.CacheMode;
+import org.infinispan.configuration.cache.ConfigurationBuilder;
+import org.infinispan.configuration.cache.Index;
+import org.infinispan.query.Search;
+import org.infinispan.remoting.transport.Address;
+import org.infinispan.test.MultipleCacheManagersTest;
+import org.infinispan.test.TestingUtil;
+import org.testng.annotations.Test;
+
+/**
+ * Tests that the mass indexer indexes the segments of a node that leaves the cluster on their new owners, without
+ * starting over.
+ *
+ * @since 9.0
+ */
+@Test(groups = "functional", testName = "query.distributed.MassIndexerNodeFailureTest")
+public class MassIndexerNodeFailureTest extends MultipleCacheManagersTest {
+
+   private static final int ENTRIES = 100;
+
+   private static volatile CountDownLatch indexingBlocked;
+   private static volatile CountDownLatch resumeIndexing;
+
+   @Override
+   protected void createCacheManagers() throws Throwable {
+      ConfigurationBuilder cacheCfg = getDefaultClusteredCacheConfig(CacheMode.DIST_SYNC, false);
+      cacheCfg.clustering().hash().numOwners(2);
+      cacheCfg.indexing()
+            .index(Index.LOCAL)
+            .addIndexedEntity(BlockingEntity.class)
+            .addProperty("default.directory_provider", "ram")
+            .addProperty("lucene_version", "LUCENE_CURRENT");
+      createClusteredCaches(3, cacheCfg);
+   }
+
+   public void testSegmentsOfFailedNodeAreIndexed() throws Exception {
+      Cache<String, BlockingEntity> cache = cache(0);
+      Address blockedNode = address(2);
+      String blockingKey = null;
+      for (int i = 0; i < ENTRIES; i++) {
+         String key = String.valueOf(i);
+         boolean block = blockingKey == null &&
+               cache.getAdvancedCache().getDistributionManager().getPrimaryLocation(key).equals(blockedNode);
+         if (block) {
+            blockingKey = key;
+         }
+         cache.put(key, new BlockingEntity(i, block));
+      }
+
+      indexingBlocked = new CountDownLatch(1);
+      resumeIndexing = new CountDownLatch(1);
+      try {
+         CompletableFuture<Void> massIndexing = Search.getSearchManager(cache).getMassIndexer().startAsync();
+         assertTrue(indexingBlocked.await(10, TimeUnit.SECONDS));
+
+         Future<?> kill = fork(() -> killMember(2));
+         TestingUtil.blockUntilViewsReceived(10000, false, cache(0), cache(1));
+         resumeIndexing.countDown();
+         kill.get(10, TimeUnit.SECONDS);
+
+         massIndexing.get(30, TimeUnit.SECONDS);
+      } finally {
+         resumeIndexing.countDown();
+         resumeIndexing = null;
+      }
+
+      assertEquals(ENTRIES, Search.getSearchManager(cache).getClusteredQuery(new MatchAllDocsQuery(), BlockingEntity.class)
+            .list().size());
+   }
+
+   @Indexed
+   static class BlockingEntity implements Serializable {
+
+      private final int val;
+
+      private final boolean block;
+
+      BlockingEntity(int val, boolean block) {
+         this.val = val;
+         this.block = block;
+      }
+
+      @Field
+      public int getVal() {
+         CountDownLatch resume = resumeIndexing;
+         if (block && resume != null && resume.getCount() > 0) {
+            indexingBlocked.countDown();
+            try {
+               resume.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+               Thread.currentThread().interrupt();
+            }
+         }
+         return val;
+      }
+   }
+}
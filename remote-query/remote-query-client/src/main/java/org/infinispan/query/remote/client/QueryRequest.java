@@ -21,6 +21,14 @@ public final class QueryRequest {
 
    private Integer maxResults;
 
+   private Integer cursorPageSize;
+
+   private String cursorId;
+
+   private Long cursorIdleTimeout;
+
+   private Boolean closeCursor;
+
    public String getJpqlString() {
       return jpqlString;
    }
@@ -45,6 +53,38 @@ public void setMaxResults(Integer maxResults) {
       this.maxResults = maxResults;
    }
 
+   public Integer getCursorPageSize() {
+      return cursorPageSize;
+   }
+
+   public void setCursorPageSize(Integer cursorPageSize) {
+      this.cursorPageSize = cursorPageSize;
+   }
+
+   public String getCursorId() {
+      return cursorId;
+   }
+
+   public void setCursorId(String cursorId) {
+      this.cursorId = cursorId;
+   }
+
+   public Long getCursorIdleTimeout() {
+      return cursorIdleTimeout;
+   }
+
+   public void setCursorIdleTimeout(Long cursorIdleTimeout) {
+      this.cursorIdleTimeout = cursorIdleTimeout;
+   }
+
+   public Boolean getCloseCursor() {
+      return closeCursor;
+   }
+
+   public void setCloseCursor(Boolean closeCursor) {
+      this.closeCursor = closeCursor;
+   }
+
    public List<NamedParameter> getNamedParameters() {
       return namedParameters;
    }
@@ -62,6 +102,10 @@ public QueryRequest readFrom(ProtoStreamReader reader) throws IOException {
          queryRequest.setStartOffset(reader.readLong("startOffset"));
          queryRequest.setMaxResults(reader.readInt("maxResults"));
          queryRequest.setNamedParameters(reader.readCollection("namedParameters", new ArrayList<NamedParameter>(), NamedParameter.class));
+         queryRequest.setCursorPageSize(reader.readInt("cursorPageSize"));
+         queryRequest.setCursorId(reader.readString("cursorId"));
+         queryRequest.setCursorIdleTimeout(reader.readLong("cursorIdleTimeout"));
+         queryRequest.setCloseCursor(reader.readBoolean("closeCursor"));
          return queryRequest;
       }
 
@@ -71,6 +115,10 @@ public void writeTo(ProtoStreamWriter writer, QueryRequest queryRequest) throws
          writer.writeLong("startOffset", queryRequest.getStartOffset());
          writer.writeInt("maxResults", queryRequest.getMaxResults());
          writer.writeCollection("namedParameters", queryRequest.getNamedParameters(), NamedParameter.class);
+         writer.writeInt("cursorPageSize", queryRequest.getCursorPageSize());
+         writer.writeString("cursorId", queryRequest.getCursorId());
+         writer.writeLong("cursorIdleTimeout", queryRequest.getCursorIdleTimeout());
+         writer.writeBoolean("closeCursor", queryRequest.getCloseCursor());
       }
 
       @Override
@@ -21,6 +21,8 @@ public final class QueryResponse {
 
    private long totalResults;
 
+   private String cursorId;
+
    public int getNumResults() {
       return numResults;
    }
@@ -53,6 +55,14 @@ public void setTotalResults(long totalResults) {
       this.totalResults = totalResults;
    }
 
+   public String getCursorId() {
+      return cursorId;
+   }
+
+   public void setCursorId(String cursorId) {
+      this.cursorId = cursorId;
+   }
+
    public static final class Marshaller implements MessageMarshaller<QueryResponse> {
 
       @Override
@@ -62,6 +72,7 @@ public QueryResponse readFrom(ProtoStreamReader reader) throws IOException {
          queryResponse.setProjectionSize(reader.readInt("projectionSize"));
          queryResponse.setResults(reader.readCollection("results", new ArrayList<WrappedMessage>(), WrappedMessage.class));
          queryResponse.setTotalResults(reader.readLong("totalResults"));
+         queryResponse.setCursorId(reader.readString("cursorId"));
          return queryResponse;
       }
 
@@ -71,6 +82,7 @@ public void writeTo(ProtoStreamWriter writer, QueryResponse queryResponse) throw
          writer.writeInt("projectionSize", queryResponse.getProjectionSize());
          writer.writeCollection("results", queryResponse.getResults(), WrappedMessage.class);
          writer.writeLong("totalResults", queryResponse.getTotalResults());
+         writer.writeString("cursorId", queryResponse.getCursorId());
       }
 
       @Override
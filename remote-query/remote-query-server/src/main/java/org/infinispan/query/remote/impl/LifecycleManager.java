@@ -186,6 +186,7 @@ public void cacheStarted(ComponentRegistry cr, String cacheName) {
          AdvancedCache<?, ?> cache = cr.getComponent(Cache.class).getAdvancedCache();
          RemoteQueryEngine remoteQueryEngine = new RemoteQueryEngine(cache, isIndexed, isCompatMode, serCtx);
          cr.registerComponent(remoteQueryEngine, RemoteQueryEngine.class);
+         cr.registerComponent(new QueryCursors(), QueryCursors.class);
       }
    }
 
@@ -196,6 +197,10 @@ private boolean verifyChainContainsRemoteValueWrapperInterceptor(ComponentRegist
 
    @Override
    public void cacheStopped(ComponentRegistry cr, String cacheName) {
+      QueryCursors queryCursors = cr.getComponent(QueryCursors.class);
+      if (queryCursors != null) {
+         queryCursors.closeAll();
+      }
       Configuration cfg = cr.getComponent(Configuration.class);
       removeRemoteIndexingInterceptorFromConfig(cfg);
    }
@@ -0,0 +1,176 @@
+package org.infinispan.query.remote.impl;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.infinispan.commons.logging.LogFactory;
+import org.infinispan.commons.util.CloseableIterator;
+import org.infinispan.factories.KnownComponentNames;
+import org.infinispan.factories.annotations.ComponentName;
+import org.infinispan.factories.annotations.Inject;
+import org.infinispan.query.remote.impl.logging.Log;
+import org.infinispan.util.TimeService;
+
+/**
+ * The query cursors opened on a cache by the remote clients. A cursor holds the lazily evaluated results of a query,
+ * which the client retrieves one page at a time. Cursors not accessed for longer than their idle timeout are closed
+ * by a periodic reaper, and the number of cursors open at the same time on a cache is bounded, so that the clients
+ * that do not close their cursors cannot exhaust the memory of the server.
+ *
+ * @since 9.0
+ */
+final class QueryCursors {
+
+   private static final Log log = LogFactory.getLog(QueryCursors.class, Log.class);
+
+   static final long DEFAULT_IDLE_TIMEOUT = TimeUnit.MINUTES.toMillis(1);
+
+   /**
+    * The idle timeout requested by a client is capped to this value.
+    */
+   static final long MAX_IDLE_TIMEOUT = TimeUnit.MINUTES.toMillis(10);
+
+   static final int MAX_CURSORS = 1000;
+
+   static final long REAPER_INTERVAL = TimeUnit.SECONDS.toMillis(10);
+
+   private final ConcurrentMap<String, Cursor> cursors = new ConcurrentHashMap<>();
+
+   private TimeService timeService;
+
+   private ScheduledFuture<?> reaper;
+
+   @Inject
+   public void injectDependencies(TimeService timeService,
+                                  @ComponentName(KnownComponentNames.EXPIRATION_SCHEDULED_EXECUTOR) ScheduledExecutorService scheduler) {
+      this.timeService = timeService;
+      this.reaper = scheduler.scheduleWithFixedDelay(this::purgeExpired, REAPER_INTERVAL, REAPER_INTERVAL,
+                                                      TimeUnit.MILLISECONDS);
+   }
+
+   /**
+    * Registers a cursor over the remaining results of an iterator. The idle timeout is capped to
+    * {@link #MAX_IDLE_TIMEOUT}.
+    *
+    * @return the id of the cursor
+    * @throws org.infinispan.commons.CacheException if {@link #MAX_CURSORS} cursors are already open on the cache
+    */
+   String open(CloseableIterator<Object> iterator, int pageSize, int projectionSize, long idleTimeout) {
+      if (cursors.size() >= MAX_CURSORS) {
+         purgeExpired();
+         if (cursors.size() >= MAX_CURSORS) {
+            iterator.close();
+            throw log.tooManyQueryCursors(MAX_CURSORS);
+         }
+      }
+      String id = UUID.randomUUID().toString();
+      long timeout = idleTimeout > 0 ? Math.min(idleTimeout, MAX_IDLE_TIMEOUT) : DEFAULT_IDLE_TIMEOUT;
+      cursors.put(id, new Cursor(iterator, pageSize, projectionSize, timeout));
+      return id;
+   }
+
+   /**
+    * @return the cursor with the given id
+    * @throws org.infinispan.commons.CacheException if the cursor does not exist or it has expired
+    */
+   Cursor get(String id) {
+      Cursor cursor = cursors.get(id);
+      if (cursor == null) {
+         throw log.queryCursorNotFound(id);
+      }
+      if (cursor.isExpired(timeService.time())) {
+         close(id);
+         throw log.queryCursorNotFound(id);
+      }
+      return cursor;
+   }
+
+   void close(String id) {
+      Cursor cursor = cursors.remove(id);
+      if (cursor != null) {
+         cursor.close();
+      }
+   }
+
+   /**
+    * Stops the reaper and closes all the cursors, when the cache is stopped.
+    */
+   void closeAll() {
+      reaper.cancel(false);
+      for (Iterator<Cursor> it = cursors.values().iterator(); it.hasNext(); ) {
+         Cursor cursor = it.next();
+         it.remove();
+         cursor.close();
+      }
+   }
+
+   int size() {
+      return cursors.size();
+   }
+
+   void purgeExpired() {
+      long now = timeService.time();
+      cursors.forEach((id, cursor) -> {
+         if (cursor.isExpired(now) && cursors.remove(id, cursor)) {
+            log.tracef("Closing expired query cursor %s", id);
+            cursor.close();
+         }
+      });
+   }
+
+   final class Cursor {
+
+      private final CloseableIterator<Object> iterator;
+
+      private final int pageSize;
+
+      private final int projectionSize;
+
+      private final long idleTimeoutNanos;
+
+      private volatile long lastAccess;
+
+      private Cursor(CloseableIterator<Object> iterator, int pageSize, int projectionSize, long idleTimeout) {
+         this.iterator = iterator;
+         this.pageSize = pageSize;
+         this.projectionSize = projectionSize;
+         this.idleTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(idleTimeout);
+         this.lastAccess = timeService.time();
+      }
+
+      int getProjectionSize() {
+         return projectionSize;
+      }
+
+      /**
+       * @return the next page of results, which is empty if there are no more results
+       */
+      synchronized List<Object> nextPage() {
+         List<Object> page = new ArrayList<>(pageSize);
+         while (page.size() < pageSize && iterator.hasNext()) {
+            page.add(iterator.next());
+         }
+         lastAccess = timeService.time();
+         return page;
+      }
+
+      synchronized boolean hasNext() {
+         return iterator.hasNext();
+      }
+
+      private boolean isExpired(long now) {
+         return timeService.timeDuration(lastAccess, now, TimeUnit.NANOSECONDS) > idleTimeoutNanos;
+      }
+
+      private synchronized void close() {
+         iterator.close();
+      }
+   }
+}
@@ -4,6 +4,7 @@
 import org.hibernate.search.engine.impl.nullencoding.NullMarkerCodec;
 import org.infinispan.AdvancedCache;
 import org.infinispan.commons.logging.LogFactory;
+import org.infinispan.factories.ComponentRegistry;
 import org.infinispan.protostream.ProtobufUtil;
 import org.infinispan.protostream.SerializationContext;
 import org.infinispan.protostream.WrappedMessage;
@@ -16,6 +17,7 @@
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -46,7 +48,8 @@ public final class QueryFacadeImpl implements QueryFacade {
 
    @Override
    public byte[] query(AdvancedCache<byte[], byte[]> cache, byte[] query) {
-      RemoteQueryEngine queryEngine = SecurityActions.getCacheComponentRegistry(cache).getComponent(RemoteQueryEngine.class);
+      ComponentRegistry componentRegistry = SecurityActions.getCacheComponentRegistry(cache);
+      RemoteQueryEngine queryEngine = componentRegistry.getComponent(RemoteQueryEngine.class);
       if (queryEngine == null) {
          throw log.queryingNotEnabled(cache.getName());
       }
@@ -59,9 +62,27 @@ public byte[] query(AdvancedCache<byte[], byte[]> cache, byte[] query) {
          int maxResults = request.getMaxResults() == null ? -1 : request.getMaxResults();
          Map<String, Object> namedParameters = getNamedParameters(request);
 
-         BaseQuery q = queryEngine.buildQuery(null, request.getJpqlString(), namedParameters, startOffset, maxResults);
-
-         QueryResponse response = makeResponse(q);
+         QueryResponse response;
+         if (request.getCursorId() != null) {
+            QueryCursors cursors = componentRegistry.getComponent(QueryCursors.class);
+            if (Boolean.TRUE.equals(request.getCloseCursor())) {
+               cursors.close(request.getCursorId());
+               response = makeResponse(Collections.emptyList(), 0, -1);
+            } else {
+               response = makeCursorResponse(cursors, request.getCursorId());
+            }
+         } else {
+            BaseQuery q = queryEngine.buildQuery(null, request.getJpqlString(), namedParameters, startOffset, maxResults);
+            if (request.getCursorPageSize() != null) {
+               QueryCursors cursors = componentRegistry.getComponent(QueryCursors.class);
+               long idleTimeout = request.getCursorIdleTimeout() == null ? -1 : request.getCursorIdleTimeout();
+               String cursorId = cursors.open(queryEngine.iterator(q), request.getCursorPageSize(),
+                                              getProjectionSize(q), idleTimeout);
+               response = makeCursorResponse(cursors, cursorId);
+            } else {
+               response = makeResponse(q);
+            }
+         }
          return ProtobufUtil.toByteArray(serCtx, response);
       } catch (IOException e) {
          throw log.errorExecutingQuery(e);
@@ -80,11 +101,32 @@ private Map<String, Object> getNamedParameters(QueryRequest request) {
       return params;
    }
 
+   private int getProjectionSize(BaseQuery q) {
+      String[] projection = q.getProjection();
+      return projection != null ? projection.length : 0;
+   }
+
+   /**
+    * Returns the next page of a cursor, which is closed once it has no more results. The total number of results is
+    * not known, as they are evaluated lazily.
+    */
+   private QueryResponse makeCursorResponse(QueryCursors cursors, String cursorId) {
+      QueryCursors.Cursor cursor = cursors.get(cursorId);
+      QueryResponse response = makeResponse(cursor.nextPage(), cursor.getProjectionSize(), -1);
+      if (cursor.hasNext()) {
+         response.setCursorId(cursorId);
+      } else {
+         cursors.close(cursorId);
+      }
+      return response;
+   }
+
    private QueryResponse makeResponse(BaseQuery q) {
-      List<?> list = q.list();
+      return makeResponse(q.list(), getProjectionSize(q), q.getResultSize());
+   }
+
+   private QueryResponse makeResponse(List<?> list, int projSize, long totalResults) {
       int numResults = list.size();
-      String[] projection = q.getProjection();
-      int projSize = projection != null ? projection.length : 0;
       List<WrappedMessage> results = new ArrayList<>(projSize == 0 ? numResults : numResults * projSize);
 
       for (Object o : list) {
@@ -99,7 +141,7 @@ private QueryResponse makeResponse(BaseQuery q) {
       }
 
       QueryResponse response = new QueryResponse();
-      response.setTotalResults(q.getResultSize());
+      response.setTotalResults(totalResults);
       response.setNumResults(numResults);
       response.setProjectionSize(projSize);
       response.setResults(results);
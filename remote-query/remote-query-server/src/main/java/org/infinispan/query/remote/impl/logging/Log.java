@@ -26,4 +26,10 @@ public interface Log extends org.infinispan.util.logging.Log {
 
    @Message(value = "Querying is not enabled on cache %s", id = 28004)
    CacheException queryingNotEnabled(String cacheName);
+
+   @Message(value = "Query cursor %s does not exist, it was closed or it expired", id = 28005)
+   CacheException queryCursorNotFound(String cursorId);
+
+   @Message(value = "Cannot open a query cursor, the limit of %d open cursors was reached", id = 28006)
+   CacheException tooManyQueryCursors(int maxCursors);
 }
@@ -0,0 +1,136 @@
+package org.infinispan.query.remote.impl;
+
+import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertFalse;
+import static org.testng.AssertJUnit.assertTrue;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.infinispan.commons.CacheException;
+import org.infinispan.commons.util.CloseableIterator;
+import org.infinispan.util.ControlledTimeService;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/**
+ * Tests the expiration and the limits of the query cursors.
+ *
+ * @since 9.0
+ */
+@Test(groups = "functional", testName = "query.remote.impl.QueryCursorsTest")
+public class QueryCursorsTest {
+
+   private ControlledTimeService timeService;
+
+   private ScheduledExecutorService scheduler;
+
+   private QueryCursors cursors;
+
+   @BeforeMethod
+   public void setUp() {
+      timeService = new ControlledTimeService(0);
+      scheduler = Executors.newSingleThreadScheduledExecutor();
+      cursors = new QueryCursors();
+      cursors.injectDependencies(timeService, scheduler);
+   }
+
+   @AfterMethod(alwaysRun = true)
+   public void tearDown() {
+      cursors.closeAll();
+      scheduler.shutdownNow();
+   }
+
+   public void testIdleTimeout() {
+      TrackingIterator iterator = new TrackingIterator(1, 2, 3);
+      String id = cursors.open(iterator, 1, 0, 1000);
+      assertEquals(Arrays.asList(1), cursors.get(id).nextPage());
+
+      timeService.advance(999);
+      assertEquals(Arrays.asList(2), cursors.get(id).nextPage());
+
+      timeService.advance(1001);
+      cursors.purgeExpired();
+      assertEquals(0, cursors.size());
+      assertTrue(iterator.closed);
+      expectNotFound(id);
+   }
+
+   public void testExpiredCursorNotReturned() {
+      TrackingIterator iterator = new TrackingIterator(1, 2, 3);
+      String id = cursors.open(iterator, 1, 0, 1000);
+      timeService.advance(1001);
+      // expired but not yet reaped
+      expectNotFound(id);
+      assertTrue(iterator.closed);
+   }
+
+   public void testIdleTimeoutIsCapped() {
+      TrackingIterator iterator = new TrackingIterator(1);
+      cursors.open(iterator, 1, 0, TimeUnit.DAYS.toMillis(1));
+      timeService.advance(QueryCursors.MAX_IDLE_TIMEOUT + 1);
+      cursors.purgeExpired();
+      assertEquals(0, cursors.size());
+      assertTrue(iterator.closed);
+   }
+
+   public void testMaxCursors() {
+      for (int i = 0; i < QueryCursors.MAX_CURSORS; i++) {
+         cursors.open(new TrackingIterator(i), 1, 0, 1000);
+      }
+      TrackingIterator rejected = new TrackingIterator(-1);
+      try {
+         cursors.open(rejected, 1, 0, 1000);
+         throw new AssertionError("The cursor should have been rejected");
+      } catch (CacheException e) {
+         assertTrue(rejected.closed);
+      }
+
+      // the expired cursors make room for new ones
+      timeService.advance(1001);
+      TrackingIterator accepted = new TrackingIterator(1);
+      String id = cursors.open(accepted, 1, 0, 1000);
+      assertEquals(1, cursors.size());
+      assertFalse(accepted.closed);
+      assertEquals(Arrays.asList(1), cursors.get(id).nextPage());
+   }
+
+   private void expectNotFound(String id) {
+      try {
+         cursors.get(id);
+         throw new AssertionError("The cursor should not exist");
+      } catch (CacheException e) {
+         // expected
+      }
+   }
+
+   private static final class TrackingIterator implements CloseableIterator<Object> {
+
+      private final Iterator<Object> delegate;
+
+      private volatile boolean closed;
+
+      TrackingIterator(Object... values) {
+         this.delegate = Arrays.asList(values).iterator();
+      }
+
+      @Override
+      public boolean hasNext() {
+         return delegate.hasNext();
+      }
+
+      @Override
+      public Object next() {
+         return delegate.next();
+      }
+
+      @Override
+      public void close() {
+         closed = true;
+      }
+   }
+}
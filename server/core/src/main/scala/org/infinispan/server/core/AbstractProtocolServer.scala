@@ -21,8 +21,9 @@ abstract class AbstractProtocolServer(protocolName: String) extends ProtocolServ
    protected var transport: NettyTransport = _
    protected var cacheManager: EmbeddedCacheManager = _
    protected var configuration: SuitableConfiguration = null.asInstanceOf[SuitableConfiguration]
-   private var transportObjName: ObjectName = _
+   private var serverObjNames: List[ObjectName] = Nil
    private var mbeanServer: MBeanServer = _
+   private var jmxDomain: String = _
    private var isGlobalStatsEnabled: Boolean = _
 
    protected def startInternal(configuration: SuitableConfiguration, cacheManager: EmbeddedCacheManager) {
@@ -63,27 +64,40 @@ abstract class AbstractProtocolServer(protocolName: String) extends ProtocolServ
    }
 
    protected def registerTransportMBean() {
-      val globalCfg = cacheManager.getCacheManagerConfiguration
-      mbeanServer = JmxUtil.lookupMBeanServer(globalCfg)
+      registerServerMBean(transport)
+   }
+
+   /**
+    * Registers a server component as a dynamic MBean in the group of this server. The component metadata has to be
+    * available in the component metadata repository, and the MBean is unregistered when the server stops.
+    */
+   protected def registerServerMBean(component: AnyRef) {
       val groupName = "type=Server,name=%s".format(getQualifiedName)
-      val jmxDomain = JmxUtil.buildJmxDomain(globalCfg, mbeanServer, groupName)
+      if (serverObjNames.isEmpty) {
+         // The domain is checked for conflicts with the first component only
+         val globalCfg = cacheManager.getCacheManagerConfiguration
+         mbeanServer = JmxUtil.lookupMBeanServer(globalCfg)
+         jmxDomain = JmxUtil.buildJmxDomain(globalCfg, mbeanServer, groupName)
+      }
 
       // Pick up metadata from the component metadata repository
       val meta = LifecycleCallbacks.componentMetadataRepo
-              .findComponentMetadata(transport.getClass).toManageableComponentMetadata
-      // And use this metadata when registering the transport as a dynamic MBean
-      val dynamicMBean = new ResourceDMBean(transport, meta)
+              .findComponentMetadata(component.getClass).toManageableComponentMetadata
+      // And use this metadata when registering the component as a dynamic MBean
+      val dynamicMBean = new ResourceDMBean(component, meta)
 
-      transportObjName = new ObjectName(
+      val objName = new ObjectName(
          "%s:%s,component=%s".format(jmxDomain, groupName, meta.getJmxObjectName))
-      JmxUtil.registerMBean(dynamicMBean, transportObjName, mbeanServer)
+      JmxUtil.registerMBean(dynamicMBean, objName, mbeanServer)
+      serverObjNames = objName :: serverObjNames
    }
 
-   protected def unregisterTransportMBean() {
-      if (mbeanServer != null && transportObjName != null) {
+   protected def unregisterServerMBeans() {
+      if (mbeanServer != null) {
          // Unregister mbean(s)
-         JmxUtil.unregisterMBean(transportObjName, mbeanServer)
+         serverObjNames.foreach(JmxUtil.unregisterMBean(_, mbeanServer))
       }
+      serverObjNames = Nil
    }
 
    protected def getQualifiedName(): String = {
@@ -98,7 +112,7 @@ abstract class AbstractProtocolServer(protocolName: String) extends ProtocolServ
       if (transport != null)
          transport.stop()
 
-      unregisterTransportMBean()
+      unregisterServerMBeans()
 
       if (isDebug)
          debug("Server stopped")
@@ -0,0 +1,87 @@
+package org.infinispan.server.hotrod;
+
+import org.infinispan.factories.scopes.Scope;
+import org.infinispan.factories.scopes.Scopes;
+import org.infinispan.jmx.annotations.DisplayType;
+import org.infinispan.jmx.annotations.MBean;
+import org.infinispan.jmx.annotations.ManagedAttribute;
+import org.infinispan.jmx.annotations.ManagedOperation;
+import org.infinispan.jmx.annotations.MeasurementType;
+import org.infinispan.jmx.annotations.Parameter;
+
+/**
+ * Delivery statistics of the client listeners registered with a Hot Rod server. The pending events and bytes show how
+ * far behind the clients are.
+ *
+ * @since 9.0
+ */
+@Scope(Scopes.GLOBAL) // So that annotation parser detects this as a cache manager level component
+@MBean(objectName = "ClientListeners",
+       description = "Delivery statistics of the client listeners registered with the server.")
+public interface ClientListenerStatistics {
+
+   @ManagedAttribute(
+         description = "Returns the number of client listeners registered with the server.",
+         displayName = "Number of client listeners",
+         displayType = DisplayType.SUMMARY
+   )
+   int getClientListenerCount();
+
+   @ManagedAttribute(
+         description = "Returns the number of events queued but not yet written to the clients.",
+         displayName = "Number of pending events",
+         displayType = DisplayType.SUMMARY
+   )
+   long getPendingEvents();
+
+   @ManagedAttribute(
+         description = "Returns the estimated size in bytes of the events queued but not yet written to the clients.",
+         displayName = "Pending bytes",
+         displayType = DisplayType.SUMMARY
+   )
+   long getPendingBytes();
+
+   @ManagedAttribute(
+         description = "Returns the estimated size in bytes of the pending events of the listener furthest behind.",
+         displayName = "Maximum pending bytes of a listener",
+         displayType = DisplayType.SUMMARY
+   )
+   long getMaxPendingBytes();
+
+   @ManagedAttribute(
+         description = "Returns the number of events written to the clients.",
+         displayName = "Number of delivered events",
+         measurementType = MeasurementType.TRENDSUP,
+         displayType = DisplayType.SUMMARY
+   )
+   long getDeliveredEvents();
+
+   @ManagedAttribute(
+         description = "Returns the number of events that replaced a pending event for the same key.",
+         displayName = "Number of coalesced events",
+         measurementType = MeasurementType.TRENDSUP,
+         displayType = DisplayType.SUMMARY
+   )
+   long getCoalescedEvents();
+
+   @ManagedAttribute(
+         description = "Returns the number of events discarded because the client was too slow.",
+         displayName = "Number of dropped events",
+         measurementType = MeasurementType.TRENDSUP,
+         displayType = DisplayType.SUMMARY
+   )
+   long getDroppedEvents();
+
+   @ManagedAttribute(
+         description = "Returns the estimated size in bytes of the pending events of each listener, by listener id.",
+         displayName = "Pending bytes per listener",
+         displayType = DisplayType.SUMMARY
+   )
+   String getClientListenerLag();
+
+   @ManagedOperation(
+         description = "Returns the estimated size in bytes of the pending events of a listener, or -1 if not registered.",
+         displayName = "Pending bytes of a listener"
+   )
+   long getListenerPendingBytes(@Parameter(name = "listenerId", description = "Listener id in hexadecimal") String listenerId);
+}
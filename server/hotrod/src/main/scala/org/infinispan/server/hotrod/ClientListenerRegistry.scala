@@ -3,13 +3,13 @@ package org.infinispan.server.hotrod
 import java.io.{ObjectInput, ObjectOutput}
 import java.lang.reflect.Constructor
 import java.util.concurrent._
-import java.util.concurrent.atomic.AtomicLong
+import java.util.concurrent.atomic.{AtomicBoolean, AtomicLong}
 
 import io.netty.channel.Channel
 import org.infinispan.commons.equivalence.{AnyEquivalence, ByteArrayEquivalence}
 import org.infinispan.commons.marshall.jboss.GenericJBossMarshaller
 import org.infinispan.commons.marshall.{AbstractExternalizer, Marshaller}
-import org.infinispan.commons.util.CollectionFactory
+import org.infinispan.commons.util.{CollectionFactory, Util}
 import org.infinispan.commons.util.concurrent.jdk8backported.EquivalentConcurrentHashMapV8
 import org.infinispan.container.versioning.NumericVersion
 import org.infinispan.factories.threads.DefaultThreadFactory
@@ -21,7 +21,7 @@ import org.infinispan.notifications.cachelistener.filter._
 import org.infinispan.notifications.cachelistener.event.Event.Type
 import org.infinispan.server.hotrod.Events.{CustomRawEvent, CustomEvent, KeyEvent, KeyWithVersionEvent}
 import org.infinispan.server.hotrod.OperationResponse._
-import org.infinispan.server.hotrod.configuration.HotRodServerConfiguration
+import org.infinispan.server.hotrod.configuration.{ClientListenerOverflowPolicy, HotRodServerConfiguration}
 import org.infinispan.server.hotrod.logging.Log
 
 import scala.collection.JavaConversions._
@@ -29,12 +29,15 @@ import scala.collection.JavaConversions._
 /**
  * @author Galder Zamarreño
  */
-class ClientListenerRegistry(configuration: HotRodServerConfiguration) extends Log {
+class ClientListenerRegistry(configuration: HotRodServerConfiguration) extends Log with ClientListenerStatistics {
    import ClientListenerRegistry._
 
    val isTrace = isTraceEnabled
 
    private val messageId = new AtomicLong()
+   private val bufferSize = configuration.clientListenerBufferSize()
+   private val overflowPolicy = configuration.clientListenerOverflowPolicy()
+   private val coalescing = overflowPolicy == ClientListenerOverflowPolicy.COALESCE
    private val eventSenders = new EquivalentConcurrentHashMapV8[Bytes, AnyRef](
       ByteArrayEquivalence.INSTANCE, AnyEquivalence.getInstance())
 
@@ -179,10 +182,43 @@ class ClientListenerRegistry(configuration: HotRodServerConfiguration) extends L
       else binaryParams
    }
 
+   /**
+    * Returns the delivery statistics of a client listener, if registered. The pending events and bytes show how far
+    * behind the client is.
+    */
+   def getClientListenerStats(listenerId: Bytes): Option[ClientListenerStats] =
+      Option(eventSenders.get(listenerId)).map(eventSender(_).stats())
+
+   private def allStats: Iterable[ClientListenerStats] = eventSenders.values().map(eventSender(_).stats())
+
+   override def getClientListenerCount: Int = eventSenders.size()
+
+   override def getPendingEvents: Long = allStats.map(_.pendingEvents).sum
+
+   override def getPendingBytes: Long = allStats.map(_.pendingBytes).sum
+
+   override def getMaxPendingBytes: Long = allStats.map(_.pendingBytes).foldLeft(0L)(math.max)
+
+   override def getDeliveredEvents: Long = allStats.map(_.deliveredEvents).sum
+
+   override def getCoalescedEvents: Long = allStats.map(_.coalescedEvents).sum
+
+   override def getDroppedEvents: Long = allStats.map(_.droppedEvents).sum
+
+   override def getClientListenerLag: String = eventSenders.entrySet()
+         .map(e => Util.toHexString(e.getKey) + "=" + eventSender(e.getValue).stats().pendingBytes)
+         .mkString("{", ", ", "}")
+
+   override def getListenerPendingBytes(listenerId: String): Long = eventSenders.entrySet()
+         .find(e => Util.toHexString(e.getKey).equalsIgnoreCase(listenerId))
+         .map(e => eventSender(e.getValue).stats().pendingBytes)
+         .getOrElse(-1L)
+
    def removeClientListener(listenerId: Array[Byte], cache: Cache): Boolean = {
       val sender = eventSenders.get(listenerId)
       if (sender != null) {
          cache.removeListener(sender)
+         eventSenders.remove(listenerId, sender)
          true
       } else false
    }
@@ -197,12 +233,17 @@ class ClientListenerRegistry(configuration: HotRodServerConfiguration) extends L
    def findAndWriteEvents(channel: Channel): Unit = {
       // Make sure we write any event in main event loop
       channel.eventLoop().execute(new Runnable {
-         override def run(): Unit = eventSenders.values().collectFirst {
-            case s: BaseClientEventSender => if (s.hasChannel(channel)) s.writeEventsIfPossible()
+         override def run(): Unit = eventSenders.values().map(eventSender).foreach { s =>
+            if (s.hasChannel(channel)) s.writeEventsIfPossible()
          }
       })
    }
 
+   private def eventSender(sender: AnyRef): BaseClientEventSender = sender match {
+      case s: BaseClientEventSender => s
+      case c: BaseCompatibilityClientEventSender => c.delegate
+   }
+
    // Do not make sync=false, instead move cache operation causing
    // listener calls out of the Netty event loop thread
    @Listener(clustered = true, includeCurrentState = true)
@@ -214,21 +255,43 @@ class ClientListenerRegistry(configuration: HotRodServerConfiguration) extends L
            extends BaseClientEventSender(ch, listenerId, version, targetEventType)
 
    private abstract class BaseClientEventSender(ch: Channel, listenerId: Bytes, version: Byte, targetEventType: ClientEventType) {
-      val eventQueue = new LinkedBlockingQueue[AnyRef](100)
+      // Events are queued without ever blocking the notifying thread, the
+      // amount of pending bytes is bounded by the configured overflow policy
+      private val pendingEvents = new ConcurrentLinkedQueue[PendingEvent]
+      private val pendingByKey = new EquivalentConcurrentHashMapV8[Bytes, PendingEvent](
+         ByteArrayEquivalence.INSTANCE, AnyEquivalence.getInstance())
+      private val pendingBytes = new AtomicLong()
+      private val pendingCount = new AtomicLong()
+      private val deliveredEvents = new AtomicLong()
+      private val coalescedEvents = new AtomicLong()
+      private val droppedEvents = new AtomicLong()
+      private val writeScheduled = new AtomicBoolean()
+      @volatile private var overflowing = false
 
       def hasChannel(channel: Channel): Boolean = ch == channel
 
+      def stats(): ClientListenerStats = ClientListenerStats(pendingCount.get(), pendingBytes.get(),
+         deliveredEvents.get(), coalescedEvents.get(), droppedEvents.get())
+
       def writeEventsIfPossible(): Unit = {
+         writeScheduled.set(false)
          var written = false
-         while(!eventQueue.isEmpty && ch.isWritable) {
-            val event = eventQueue.poll()
+         while (ch.isWritable && !pendingEvents.isEmpty) {
+            val pending = pendingEvents.poll()
+            if (coalescing) pendingByKey.remove(pending.key, pending)
+            val event = pending.take(pendingBytes)
+            pendingCount.decrementAndGet()
+            deliveredEvents.incrementAndGet()
             if (isTrace) tracef("Write event: %s to channel %s", event, ch)
+            // Each event is still encoded in its own frame, only the flush is
+            // shared by the events written in the same event loop task
             ch.write(event)
             written = true
          }
          if (written) {
             ch.flush()
          }
+         if (pendingEvents.isEmpty) overflowing = false
       }
 
       @CacheEntryCreated
@@ -253,6 +316,7 @@ class ClientListenerRegistry(configuration: HotRodServerConfiguration) extends L
          if (isChannelDisconnected()) {
             log.debug("Channel disconnected, remove event sender listener")
             event.getCache.removeListener(this)
+            discardPendingEvents()
             false
          } else {
             event.getType match {
@@ -272,18 +336,66 @@ class ClientListenerRegistry(configuration: HotRodServerConfiguration) extends L
 
       def sendEvent(key: Bytes, value: Bytes, dataVersion: Long, event: CacheEntryEvent[_, _]) {
          val remoteEvent = createRemoteEvent(key, value, dataVersion, event)
+         val size = eventSize(key, value)
          if (isTrace)
-            log.tracef("Queue event %s, before queuing event queue size is %d", remoteEvent, eventQueue.size())
+            log.tracef("Queue event %s, before queuing %d events (%d bytes) are pending", remoteEvent,
+               pendingCount.get(), pendingBytes.get())
 
-         val waitingForFlush = !ch.isWritable
-         eventQueue.put(remoteEvent)
+         if (!reserve(pendingBytes, size, bufferSize)) {
+            overflow(key, remoteEvent, size)
+         } else {
+            val pending = new PendingEvent(key, remoteEvent, size)
+            pendingCount.incrementAndGet()
+            if (coalescing) pendingByKey.put(key, pending)
+            pendingEvents.offer(pending)
+         }
 
-         if (!waitingForFlush) {
-            // Make sure we write any event in main event loop
+         // Make sure we write any event in main event loop, the writability
+         // listener takes care of it while waiting for a flush
+         if (ch.isWritable && writeScheduled.compareAndSet(false, true)) {
             ch.eventLoop().submit(() => writeEventsIfPossible())
          }
       }
 
+      private def overflow(key: Bytes, remoteEvent: AnyRef, size: Long): Unit = {
+         if (!overflowing) {
+            overflowing = true
+            log.clientListenerBufferOverflow(Util.printArray(listenerId, false), bufferSize, overflowPolicy)
+         }
+         overflowPolicy match {
+            case ClientListenerOverflowPolicy.COALESCE =>
+               val pending = pendingByKey.get(key)
+               if (pending != null && pending.replace(remoteEvent, size, pendingBytes, bufferSize))
+                  coalescedEvents.incrementAndGet()
+               else
+                  droppedEvents.incrementAndGet()
+            case ClientListenerOverflowPolicy.DROP =>
+               droppedEvents.incrementAndGet()
+            case ClientListenerOverflowPolicy.DISCONNECT =>
+               droppedEvents.incrementAndGet()
+               ch.close()
+         }
+      }
+
+      private def discardPendingEvents(): Unit = {
+         var pending = pendingEvents.poll()
+         while (pending != null) {
+            pending.take(pendingBytes)
+            pendingCount.decrementAndGet()
+            pending = pendingEvents.poll()
+         }
+         pendingByKey.clear()
+      }
+
+      private def eventSize(key: Bytes, value: Bytes): Long = {
+         // Plain events only carry the key, custom events carry the converted value
+         val valueSize = targetEventType match {
+            case Plain => 0
+            case _ => if (value == null) 0 else value.length
+         }
+         EventHeaderSize + listenerId.length + key.length + valueSize
+      }
+
       private def createRemoteEvent(key: Bytes, value: Bytes, dataVersion: Long, event: CacheEntryEvent[_, _]): AnyRef = {
          messageId.incrementAndGet() // increment message id
          // Embedded listener event implementation implements all interfaces,
@@ -360,7 +472,7 @@ class ClientListenerRegistry(configuration: HotRodServerConfiguration) extends L
            extends BaseCompatibilityClientEventSender(delegate, converter)
 
    private abstract class BaseCompatibilityClientEventSender(
-           delegate: BaseClientEventSender, converter: HotRodTypeConverter) {
+           val delegate: BaseClientEventSender, converter: HotRodTypeConverter) {
       @CacheEntryCreated
       @CacheEntryModified
       @CacheEntryRemoved
@@ -407,6 +519,54 @@ object ClientListenerRegistry extends Constants {
 
    lazy val KeyValueVersionConverterFactorySingleton = new KeyValueVersionConverterFactory()
 
+   // Estimated size of the fixed part of an event: magic, message id, op, status, version, lengths...
+   private val EventHeaderSize = 32
+
+   /**
+    * Delivery statistics of a client listener.
+    *
+    * @param pendingEvents events queued but not yet written to the client
+    * @param pendingBytes estimated size of the pending events
+    * @param deliveredEvents events written to the client
+    * @param coalescedEvents events that replaced a pending event for the same key
+    * @param droppedEvents events discarded because the client was too slow
+    */
+   case class ClientListenerStats(pendingEvents: Long, pendingBytes: Long, deliveredEvents: Long,
+         coalescedEvents: Long, droppedEvents: Long)
+
+   /**
+    * Adds the size of an event to the pending bytes, unless the buffer size would be exceeded.
+    */
+   private def reserve(pendingBytes: AtomicLong, size: Long, bufferSize: Long): Boolean = {
+      var current = pendingBytes.get()
+      while (current + size <= bufferSize) {
+         if (pendingBytes.compareAndSet(current, current + size)) return true
+         current = pendingBytes.get()
+      }
+      false
+   }
+
+   private class PendingEvent(val key: Bytes, private var event: AnyRef, private var size: Long) {
+      def replace(newEvent: AnyRef, newSize: Long, pendingBytes: AtomicLong, bufferSize: Long): Boolean = synchronized {
+         if (event == null) false
+         else if (newSize > size && !reserve(pendingBytes, newSize - size, bufferSize)) false
+         else {
+            if (newSize < size) pendingBytes.addAndGet(newSize - size)
+            event = newEvent
+            size = newSize
+            true
+         }
+      }
+
+      def take(pendingBytes: AtomicLong): AnyRef = synchronized {
+         val taken = event
+         pendingBytes.addAndGet(-size)
+         event = null
+         size = 0
+         taken
+      }
+   }
+
    sealed trait ClientEventType
    case object Plain extends ClientEventType
    case object CustomPlain extends ClientEventType
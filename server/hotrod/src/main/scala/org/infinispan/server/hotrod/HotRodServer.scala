@@ -171,6 +171,8 @@ class HotRodServer extends AbstractProtocolServer("HotRod") with Log {
       preStartCaches()
 
       super.startTransport()
+
+      registerServerMBean(clientListenerRegistry)
    }
 
    override def startDefaultCache = {
@@ -48,4 +48,14 @@ public HotRodServerChildConfigurationBuilder topologyStateTransfer(boolean topol
       return builder.topologyStateTransfer(topologyStateTransfer);
    }
 
+   @Override
+   public HotRodServerChildConfigurationBuilder clientListenerBufferSize(long clientListenerBufferSize) {
+      return builder.clientListenerBufferSize(clientListenerBufferSize);
+   }
+
+   @Override
+   public HotRodServerChildConfigurationBuilder clientListenerOverflowPolicy(ClientListenerOverflowPolicy clientListenerOverflowPolicy) {
+      return builder.clientListenerOverflowPolicy(clientListenerOverflowPolicy);
+   }
+
 }
@@ -0,0 +1,26 @@
+package org.infinispan.server.hotrod.configuration;
+
+/**
+ * Decides what happens to the events of a client listener whose pending events exceed
+ * {@link HotRodServerConfiguration#clientListenerBufferSize()}. Cache writers are never blocked by a slow client,
+ * whatever the policy. Only {@link #DISCONNECT} never loses events silently, so it is the default and the lossy
+ * policies must be enabled explicitly.
+ *
+ * @since 9.0
+ */
+public enum ClientListenerOverflowPolicy {
+   /**
+    * Replace a pending event for the same key with the new one. Events for keys without a pending event are dropped,
+    * so the client only sees the latest state of the keys that already had a pending event.
+    */
+   COALESCE,
+   /**
+    * Drop new events until the client has caught up and log a warning, so the client can be resynchronized.
+    */
+   DROP,
+   /**
+    * Close the client connection. On failover the client registers its listeners again, and listeners including
+    * the current state receive a full resynchronization. This is the default.
+    */
+   DISCONNECT
+}
@@ -45,4 +45,15 @@ public interface HotRodServerChildConfigurationBuilder {
     */
    HotRodServerChildConfigurationBuilder topologyStateTransfer(boolean topologyStateTransfer);
 
+   /**
+    * Configures the maximum size, in bytes, of the events pending delivery to each client listener. Defaults to 1 MiB
+    */
+   HotRodServerChildConfigurationBuilder clientListenerBufferSize(long clientListenerBufferSize);
+
+   /**
+    * Configures what happens when the events pending delivery to a client listener exceed
+    * {@link #clientListenerBufferSize(long)}. Defaults to {@link ClientListenerOverflowPolicy#DISCONNECT}
+    */
+   HotRodServerChildConfigurationBuilder clientListenerOverflowPolicy(ClientListenerOverflowPolicy clientListenerOverflowPolicy);
+
 }
@@ -17,9 +17,12 @@ public class HotRodServerConfiguration extends ProtocolServerConfiguration {
    private final boolean topologyAwaitInitialTransfer;
    private final boolean topologyStateTransfer;
    private final AuthenticationConfiguration authentication;
+   private final long clientListenerBufferSize;
+   private final ClientListenerOverflowPolicy clientListenerOverflowPolicy;
 
    HotRodServerConfiguration(String defaultCacheName, String proxyHost, int proxyPort, long topologyLockTimeout, long topologyReplTimeout, boolean topologyAwaitInitialTransfer, boolean topologyStateTransfer,
-         String name, String host, int port, int idleTimeout, int recvBufSize, int sendBufSize, SslConfiguration ssl, boolean tcpNoDelay, int workerThreads, AuthenticationConfiguration authentication, Set<String> ignoredCaches) {
+         String name, String host, int port, int idleTimeout, int recvBufSize, int sendBufSize, SslConfiguration ssl, boolean tcpNoDelay, int workerThreads, AuthenticationConfiguration authentication, Set<String> ignoredCaches,
+         long clientListenerBufferSize, ClientListenerOverflowPolicy clientListenerOverflowPolicy) {
       super(defaultCacheName, name, host, port, idleTimeout, recvBufSize, sendBufSize, ssl, tcpNoDelay, workerThreads, ignoredCaches);
       this.proxyHost = proxyHost;
       this.proxyPort = proxyPort;
@@ -29,6 +32,8 @@ public class HotRodServerConfiguration extends ProtocolServerConfiguration {
       this.topologyStateTransfer = topologyStateTransfer;
       this.topologyAwaitInitialTransfer = topologyAwaitInitialTransfer;
       this.authentication = authentication;
+      this.clientListenerBufferSize = clientListenerBufferSize;
+      this.clientListenerOverflowPolicy = clientListenerOverflowPolicy;
    }
 
    public String proxyHost() {
@@ -63,12 +68,21 @@ public AuthenticationConfiguration authentication() {
       return authentication;
    }
 
+   public long clientListenerBufferSize() {
+      return clientListenerBufferSize;
+   }
+
+   public ClientListenerOverflowPolicy clientListenerOverflowPolicy() {
+      return clientListenerOverflowPolicy;
+   }
+
    @Override
    public String toString() {
       return "HotRodServerConfiguration [proxyHost=" + proxyHost + ", proxyPort=" + proxyPort + ", topologyCacheName="
             + topologyCacheName + ", topologyLockTimeout=" + topologyLockTimeout + ", topologyReplTimeout="
             + topologyReplTimeout + ", topologyAwaitInitialTransfer=" + topologyAwaitInitialTransfer
             + ", topologyStateTransfer=" + topologyStateTransfer + ", authentication=" + authentication
-            + ", ignoredCaches=" + ignoredCaches() + ", " + super.toString() + "]";
+             + ", ignoredCaches=" + ignoredCaches() + ", clientListenerBufferSize=" + clientListenerBufferSize
+            + ", clientListenerOverflowPolicy=" + clientListenerOverflowPolicy + ", " + super.toString() + "]";
    }
 }
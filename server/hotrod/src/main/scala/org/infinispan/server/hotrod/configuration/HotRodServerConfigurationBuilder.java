@@ -1,10 +1,12 @@
 package org.infinispan.server.hotrod.configuration;
 
 import org.infinispan.commons.configuration.Builder;
+import org.infinispan.commons.logging.LogFactory;
 import org.infinispan.configuration.cache.LockingConfigurationBuilder;
 import org.infinispan.configuration.cache.StateTransferConfigurationBuilder;
 import org.infinispan.configuration.cache.SyncConfigurationBuilder;
 import org.infinispan.server.core.configuration.ProtocolServerConfigurationBuilder;
+import org.infinispan.server.hotrod.logging.JavaLog;
 
 /**
  * HotRodServerConfigurationBuilder.
@@ -14,6 +16,7 @@
  */
 public class HotRodServerConfigurationBuilder extends ProtocolServerConfigurationBuilder<HotRodServerConfiguration, HotRodServerConfigurationBuilder> implements
       Builder<HotRodServerConfiguration>, HotRodServerChildConfigurationBuilder {
+   private static final JavaLog log = LogFactory.getLog(HotRodServerConfigurationBuilder.class, JavaLog.class);
    private final AuthenticationConfigurationBuilder authentication = new AuthenticationConfigurationBuilder(this);
    private String proxyHost;
    private int proxyPort = -1;
@@ -21,6 +24,8 @@ public class HotRodServerConfigurationBuilder extends ProtocolServerConfiguratio
    private long topologyReplTimeout = 10000L;
    private boolean topologyAwaitInitialTransfer = true;
    private boolean topologyStateTransfer = true;
+   private long clientListenerBufferSize = 1024 * 1024;
+   private ClientListenerOverflowPolicy clientListenerOverflowPolicy = ClientListenerOverflowPolicy.DISCONNECT;
 
    public HotRodServerConfigurationBuilder() {
       super(11222);
@@ -91,10 +96,30 @@ public HotRodServerConfigurationBuilder topologyStateTransfer(boolean topologySt
       return this;
    }
 
+   /**
+    * Configures the maximum size, in bytes, of the events pending delivery to each client listener. Defaults to 1 MiB
+    */
+   @Override
+   public HotRodServerConfigurationBuilder clientListenerBufferSize(long clientListenerBufferSize) {
+      this.clientListenerBufferSize = clientListenerBufferSize;
+      return this;
+   }
+
+   /**
+    * Configures what happens when the events pending delivery to a client listener exceed
+    * {@link #clientListenerBufferSize(long)}. Defaults to {@link ClientListenerOverflowPolicy#DISCONNECT}
+    */
+   @Override
+   public HotRodServerConfigurationBuilder clientListenerOverflowPolicy(ClientListenerOverflowPolicy clientListenerOverflowPolicy) {
+      this.clientListenerOverflowPolicy = clientListenerOverflowPolicy;
+      return this;
+   }
+
    @Override
    public HotRodServerConfiguration create() {
       return new HotRodServerConfiguration(defaultCacheName, proxyHost == null ? host : proxyHost, proxyPort < 0 ? port : proxyPort, topologyLockTimeout, topologyReplTimeout, topologyAwaitInitialTransfer, topologyStateTransfer, name, host, port, idleTimeout,
-            recvBufSize, sendBufSize, ssl.create(), tcpNoDelay, workerThreads, authentication.create(), ignoredCaches);
+            recvBufSize, sendBufSize, ssl.create(), tcpNoDelay, workerThreads, authentication.create(), ignoredCaches,
+            clientListenerBufferSize, clientListenerOverflowPolicy);
    }
 
    @Override
@@ -106,6 +131,8 @@ public HotRodServerConfigurationBuilder read(HotRodServerConfiguration template)
       this.topologyReplTimeout = template.topologyReplTimeout();
       this.topologyAwaitInitialTransfer = template.topologyAwaitInitialTransfer();
       this.topologyStateTransfer = template.topologyStateTransfer();
+      this.clientListenerBufferSize = template.clientListenerBufferSize();
+      this.clientListenerOverflowPolicy = template.clientListenerOverflowPolicy();
       return this;
    }
 
@@ -113,6 +140,9 @@ public HotRodServerConfigurationBuilder read(HotRodServerConfiguration template)
    public void validate() {
       super.validate();
       authentication.validate();
+      if (clientListenerBufferSize <= 0) {
+         throw log.illegalClientListenerBufferSize(clientListenerBufferSize);
+      }
    }
 
    public HotRodServerConfiguration build(boolean validate) {
@@ -6,6 +6,7 @@
 import org.infinispan.commons.marshall.Marshaller;
 import org.infinispan.notifications.cachelistener.event.Event;
 import org.infinispan.server.hotrod.MissingFactoryException;
+import org.infinispan.server.hotrod.configuration.ClientListenerOverflowPolicy;
 import org.infinispan.util.concurrent.IsolationLevel;
 import org.jboss.logging.annotations.Cause;
 import org.jboss.logging.annotations.LogMessage;
@@ -86,4 +87,11 @@ public interface JavaLog extends org.infinispan.util.logging.Log {
 
    @Message(value = "EXTERNAL SASL mechanism not allowed without SSL client certificate", id = 6018)
    SecurityException externalMechNotAllowedWithoutSSLClientCert();
+
+   @Message(value = "The client listener buffer size must be greater than 0, but was %d", id = 6019)
+   CacheConfigurationException illegalClientListenerBufferSize(long size);
+
+   @LogMessage(level = WARN)
+   @Message(value = "Events pending for client listener '%s' exceeded %d bytes, applying the %s overflow policy", id = 6020)
+   void clientListenerBufferOverflow(String listenerId, long size, ClientListenerOverflowPolicy policy);
 }
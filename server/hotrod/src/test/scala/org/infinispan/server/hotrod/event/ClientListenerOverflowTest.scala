@@ -0,0 +1,100 @@
+package org.infinispan.server.hotrod.event
+
+import io.netty.channel.embedded.EmbeddedChannel
+import org.infinispan.manager.EmbeddedCacheManager
+import org.infinispan.server.core.test.Stoppable
+import org.infinispan.server.hotrod.configuration.{ClientListenerOverflowPolicy, HotRodServerConfigurationBuilder}
+import org.infinispan.server.hotrod.test.HotRodTestingUtil._
+import org.infinispan.server.hotrod._
+import org.infinispan.test.AbstractInfinispanTest
+import org.infinispan.test.fwk.TestCacheManagerFactory
+import org.testng.Assert._
+import org.testng.annotations.Test
+
+/**
+ * Tests that events for a client which does not keep up never block cache writers.
+ *
+ * @since 9.0
+ */
+@Test(groups = Array("functional"), testName = "server.hotrod.event.ClientListenerOverflowTest")
+class ClientListenerOverflowTest extends AbstractInfinispanTest {
+
+   private val listenerId = Array[Byte](1, 2, 3)
+
+   // Each plain event for a 1 byte key and this listener id is estimated at 36 bytes
+   private val bufferSize = 360
+
+   def testLosslessPolicyByDefault() {
+      val cfg = new HotRodServerConfigurationBuilder().build()
+      assertEquals(cfg.clientListenerOverflowPolicy(), ClientListenerOverflowPolicy.DISCONNECT)
+   }
+
+   def testCoalesce() {
+      withSlowClient(ClientListenerOverflowPolicy.COALESCE) { (registry, cache, ch) =>
+         (0 until 10).foreach(i => cache.put(Array[Byte](i.toByte), Array[Byte](0)))
+         // Updates to keys with pending events replace them
+         (0 until 5).foreach(i => cache.put(Array[Byte](i.toByte), Array[Byte](1)))
+         // A key without any pending event has nothing to replace
+         cache.put(Array[Byte](10), Array[Byte](0))
+
+         val stats = registry.getClientListenerStats(listenerId).get
+         assertEquals(stats.pendingEvents, 10)
+         assertEquals(stats.pendingBytes, bufferSize)
+         assertEquals(stats.coalescedEvents, 5)
+         assertEquals(stats.droppedEvents, 1)
+
+         ch.unsafe().outboundBuffer().setUserDefinedWritability(1, true)
+         registry.findAndWriteEvents(ch)
+         ch.runPendingTasks()
+
+         val delivered = registry.getClientListenerStats(listenerId).get
+         assertEquals(delivered.pendingEvents, 0)
+         assertEquals(delivered.pendingBytes, 0)
+         assertEquals(delivered.deliveredEvents, 10)
+         assertTrue(ch.isOpen)
+      }
+   }
+
+   def testDrop() {
+      withSlowClient(ClientListenerOverflowPolicy.DROP) { (registry, cache, ch) =>
+         (0 until 15).foreach(i => cache.put(Array[Byte](i.toByte), Array[Byte](0)))
+         val stats = registry.getClientListenerStats(listenerId).get
+         assertEquals(stats.pendingEvents, 10)
+         assertEquals(stats.droppedEvents, 5)
+         assertTrue(ch.isOpen)
+      }
+   }
+
+   def testDisconnect() {
+      withSlowClient(ClientListenerOverflowPolicy.DISCONNECT) { (registry, cache, ch) =>
+         (0 until 11).foreach(i => cache.put(Array[Byte](i.toByte), Array[Byte](0)))
+         assertFalse(ch.isOpen)
+         // Writes carry on and the listener goes away with the channel
+         cache.put(Array[Byte](11), Array[Byte](0))
+         assertEquals(registry.getClientListenerStats(listenerId).get.pendingEvents, 0)
+      }
+   }
+
+   private def withSlowClient(policy: ClientListenerOverflowPolicy)(test: (ClientListenerRegistry, Cache, EmbeddedChannel) => Unit) {
+      val cfg = new HotRodServerConfigurationBuilder()
+         .clientListenerBufferSize(bufferSize).clientListenerOverflowPolicy(policy).build()
+      val registry = new ClientListenerRegistry(cfg)
+      Stoppable.useCacheManager(TestCacheManagerFactory.createCacheManager(hotRodCacheConfiguration())) {
+         cm: EmbeddedCacheManager =>
+            val cache = cm.getCache[Bytes, Bytes]().getAdvancedCache
+            val ch = new EmbeddedChannel()
+            // Simulate a client which does not read its events
+            ch.unsafe().outboundBuffer().setUserDefinedWritability(1, false)
+            val h = new HotRodHeader
+            h.op = HotRodOperation.AddClientListenerRequest
+            h.version = Constants.VERSION_25
+            registry.addClientListener(Decoder2x, ch, h, listenerId, cache, false, (None, None), false)
+            try {
+               test(registry, cache, ch)
+            } finally {
+               registry.stop()
+               ch.finishAndReleaseAll()
+            }
+      }
+   }
+}
@@ -0,0 +1,58 @@
+package org.infinispan.server.hotrod.event
+
+import java.lang.reflect.Method
+import javax.management.ObjectName
+
+import org.infinispan.commons.util.Util
+import org.infinispan.jmx.PerThreadMBeanServerLookup
+import org.infinispan.manager.EmbeddedCacheManager
+import org.infinispan.server.hotrod.HotRodSingleNodeTest
+import org.infinispan.server.hotrod.test.HotRodTestingUtil._
+import org.infinispan.test.fwk.TestCacheManagerFactory
+import org.testng.Assert._
+import org.testng.annotations.Test
+
+import scala.collection.JavaConversions._
+
+/**
+ * Tests the client listener statistics exposed via JMX.
+ *
+ * @since 9.0
+ */
+@Test(groups = Array("functional"), testName = "server.hotrod.event.ClientListenerStatisticsTest")
+class ClientListenerStatisticsTest extends HotRodSingleNodeTest {
+
+   override def createTestCacheManager: EmbeddedCacheManager = {
+      val cfg = hotRodCacheConfiguration()
+      cfg.jmxStatistics().enable()
+      TestCacheManagerFactory.createClusteredCacheManagerEnforceJmxDomain(jmxDomain, cfg)
+   }
+
+   def testClientListenerStatistics(m: Method) {
+      val mbeanServer = PerThreadMBeanServerLookup.getThreadMBeanServer
+      val names = mbeanServer.queryNames(
+         new ObjectName("%s:type=Server,component=ClientListeners,*".format(jmxDomain)), null)
+      assertEquals(names.size, 1)
+      val on = names.head
+      def attribute(name: String) = mbeanServer.getAttribute(on, name)
+
+      assertEquals(attribute("ClientListenerCount").asInstanceOf[Int], 0)
+      implicit val eventListener = new EventLogListener
+      val listenerId = Util.toHexString(eventListener.getId)
+      withClientListener() { () =>
+         val key = k(m)
+         client.put(key, 0, 0, v(m))
+         eventListener.expectOnlyCreatedEvent(key)
+         assertEquals(attribute("ClientListenerCount").asInstanceOf[Int], 1)
+         assertEquals(attribute("DeliveredEvents").asInstanceOf[Long], 1L)
+         assertEquals(attribute("DroppedEvents").asInstanceOf[Long], 0L)
+         assertEquals(attribute("PendingBytes").asInstanceOf[Long], 0L)
+         assertEquals(attribute("ClientListenerLag"), "{%s=0}".format(listenerId))
+         assertEquals(mbeanServer.invoke(on, "getListenerPendingBytes", Array[AnyRef](listenerId),
+            Array(classOf[String].getName)).asInstanceOf[Long], 0L)
+      }
+      assertEquals(attribute("ClientListenerCount").asInstanceOf[Int], 0)
+      assertEquals(mbeanServer.invoke(on, "getListenerPendingBytes", Array[AnyRef](listenerId),
+         Array(classOf[String].getName)).asInstanceOf[Long], -1L)
+   }
+}
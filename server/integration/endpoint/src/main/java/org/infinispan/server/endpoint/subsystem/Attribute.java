@@ -40,6 +40,8 @@ public enum Attribute {
     CACHE_CONTAINER(ModelKeys.CACHE_CONTAINER),
     @Deprecated
     CACHE_SUFFIX(ModelKeys.CACHE_SUFFIX),
+    CLIENT_LISTENER_BUFFER_SIZE(ModelKeys.CLIENT_LISTENER_BUFFER_SIZE),
+    CLIENT_LISTENER_OVERFLOW_POLICY(ModelKeys.CLIENT_LISTENER_OVERFLOW_POLICY),
     IGNORED_CACHES(ModelKeys.IGNORED_CACHES),
     EXTENDED_HEADERS(ModelKeys.EXTENDED_HEADERS),
     EXTERNAL_HOST(ModelKeys.EXTERNAL_HOST),
@@ -93,7 +93,17 @@ private void parseHotRodConnector(XMLExtendedStreamReader reader, PathAddress su
          String value = reader.getAttributeValue(i);
          Attribute attribute = Attribute.forName(reader.getAttributeLocalName(i));
          required.remove(attribute);
-         name = parseConnectorAttributes(reader, connector, name, i, value, attribute);
+         switch (attribute) {
+         case CLIENT_LISTENER_BUFFER_SIZE:
+            HotRodConnectorResource.CLIENT_LISTENER_BUFFER_SIZE.parseAndSetParameter(value, connector, reader);
+            break;
+         case CLIENT_LISTENER_OVERFLOW_POLICY:
+            HotRodConnectorResource.CLIENT_LISTENER_OVERFLOW_POLICY.parseAndSetParameter(value, connector, reader);
+            break;
+         default:
+            name = parseConnectorAttributes(reader, connector, name, i, value, attribute);
+            break;
+         }
       }
 
       if (!required.isEmpty()) {
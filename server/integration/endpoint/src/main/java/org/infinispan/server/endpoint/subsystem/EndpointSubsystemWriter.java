@@ -84,6 +84,9 @@ private void writeHotRodConnector(final XMLExtendedStreamWriter writer, final Mo
       writer.writeStartElement(Element.HOTROD_CONNECTOR.getLocalName());
       writeCommonConnector(writer, connector);
       writeProtocolServerConnector(writer, connector);
+      for (SimpleAttributeDefinition attribute : HotRodConnectorResource.HOTROD_CONNECTOR_ATTRIBUTES) {
+         attribute.marshallAsAttribute(connector, true, writer);
+      }
       writeTopologyStateTransfer(writer, connector);
       writeAuthentication(writer, connector);
       writeEncryption(writer, connector);
@@ -18,9 +18,18 @@
  */
 package org.infinispan.server.endpoint.subsystem;
 
+import org.infinispan.server.hotrod.configuration.ClientListenerOverflowPolicy;
+import org.jboss.as.controller.AttributeDefinition;
+import org.jboss.as.controller.OperationStepHandler;
 import org.jboss.as.controller.PathElement;
+import org.jboss.as.controller.ReloadRequiredWriteAttributeHandler;
 import org.jboss.as.controller.ResourceDefinition;
+import org.jboss.as.controller.SimpleAttributeDefinition;
+import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
+import org.jboss.as.controller.operations.validation.EnumValidator;
 import org.jboss.as.controller.registry.ManagementResourceRegistration;
+import org.jboss.dmr.ModelNode;
+import org.jboss.dmr.ModelType;
 
 /**
  * HotRodConnectorResource.
@@ -32,6 +41,25 @@ public class HotRodConnectorResource extends ProtocolServerConnectorResource imp
 
    public static final PathElement HOTROD_CONNECTOR_PATH = PathElement.pathElement(ModelKeys.HOTROD_CONNECTOR);
 
+   static final SimpleAttributeDefinition CLIENT_LISTENER_BUFFER_SIZE =
+         new SimpleAttributeDefinitionBuilder(ModelKeys.CLIENT_LISTENER_BUFFER_SIZE, ModelType.LONG, true)
+                 .setAllowExpression(true)
+                 .setXmlName(ModelKeys.CLIENT_LISTENER_BUFFER_SIZE)
+                 .setRestartAllServices()
+                 .setDefaultValue(new ModelNode().set(1024 * 1024L))
+                 .build();
+
+   static final SimpleAttributeDefinition CLIENT_LISTENER_OVERFLOW_POLICY =
+         new SimpleAttributeDefinitionBuilder(ModelKeys.CLIENT_LISTENER_OVERFLOW_POLICY, ModelType.STRING, true)
+                 .setAllowExpression(true)
+                 .setXmlName(ModelKeys.CLIENT_LISTENER_OVERFLOW_POLICY)
+                 .setValidator(new EnumValidator<ClientListenerOverflowPolicy>(ClientListenerOverflowPolicy.class, true, false))
+                 .setDefaultValue(new ModelNode().set(ClientListenerOverflowPolicy.DISCONNECT.name()))
+                 .setRestartAllServices()
+                 .build();
+
+   static final SimpleAttributeDefinition[] HOTROD_CONNECTOR_ATTRIBUTES = { CLIENT_LISTENER_BUFFER_SIZE, CLIENT_LISTENER_OVERFLOW_POLICY };
+
    public HotRodConnectorResource(boolean isRuntimeRegistration) {
       super(HOTROD_CONNECTOR_PATH, EndpointExtension.getResourceDescriptionResolver(ModelKeys.HOTROD_CONNECTOR), HotRodSubsystemAdd.INSTANCE, HotRodSubsystemRemove.INSTANCE, isRuntimeRegistration);
    }
@@ -47,6 +75,11 @@ public void registerChildren(ManagementResourceRegistration resourceRegistration
    public void registerAttributes(ManagementResourceRegistration resourceRegistration) {
       super.registerAttributes(resourceRegistration);
 
+      final OperationStepHandler writeHandler = new ReloadRequiredWriteAttributeHandler(HOTROD_CONNECTOR_ATTRIBUTES);
+      for (AttributeDefinition attr : HOTROD_CONNECTOR_ATTRIBUTES) {
+         resourceRegistration.registerReadWriteAttribute(attr, null, writeHandler);
+      }
+
       if (isRuntimeRegistration()) {
          ProtocolServerMetricsHandler.registerMetrics(resourceRegistration, "hotrod");
       }
@@ -23,6 +23,7 @@
 import org.infinispan.server.endpoint.Constants;
 import org.infinispan.server.hotrod.HotRodServer;
 import org.infinispan.server.hotrod.configuration.AuthenticationConfigurationBuilder;
+import org.infinispan.server.hotrod.configuration.ClientListenerOverflowPolicy;
 import org.infinispan.server.hotrod.configuration.HotRodServerConfigurationBuilder;
 import org.jboss.as.controller.AttributeDefinition;
 import org.jboss.as.controller.OperationContext;
@@ -57,6 +58,9 @@ private static void populate(ModelNode source, ModelNode target) throws Operatio
       for(AttributeDefinition attr : ProtocolServerConnectorResource.PROTOCOL_SERVICE_ATTRIBUTES) {
          attr.validateAndSet(source, target);
       }
+      for(AttributeDefinition attr : HotRodConnectorResource.HOTROD_CONNECTOR_ATTRIBUTES) {
+         attr.validateAndSet(source, target);
+      }
    }
 
    @Override
@@ -69,6 +73,7 @@ protected void performRuntime(OperationContext context, ModelNode operation, Mod
       configureProtocolServerAuthentication(configurationBuilder, config);
       configureProtocolServerEncryption(configurationBuilder, config);
       configureProtocolServerTopology(configurationBuilder, config);
+      configureClientListeners(configurationBuilder, config);
       // Create the service
       final ProtocolServerService service = new ProtocolServerService(getServiceName(operation), HotRodServer.class, configurationBuilder);
 
@@ -161,6 +166,16 @@ private String listAsString(ModelNode node, String name) {
       }
    }
 
+   private void configureClientListeners(HotRodServerConfigurationBuilder builder, ModelNode config) {
+      if (config.hasDefined(ModelKeys.CLIENT_LISTENER_BUFFER_SIZE)) {
+         builder.clientListenerBufferSize(config.get(ModelKeys.CLIENT_LISTENER_BUFFER_SIZE).asLong());
+      }
+      if (config.hasDefined(ModelKeys.CLIENT_LISTENER_OVERFLOW_POLICY)) {
+         builder.clientListenerOverflowPolicy(
+               ClientListenerOverflowPolicy.valueOf(config.get(ModelKeys.CLIENT_LISTENER_OVERFLOW_POLICY).asString()));
+      }
+   }
+
    private void configureProtocolServerTopology(HotRodServerConfigurationBuilder builder, ModelNode config) {
       if (config.hasDefined(ModelKeys.TOPOLOGY_STATE_TRANSFER) && config.get(ModelKeys.TOPOLOGY_STATE_TRANSFER, ModelKeys.TOPOLOGY_STATE_TRANSFER_NAME).isDefined()) {
          config = config.get(ModelKeys.TOPOLOGY_STATE_TRANSFER, ModelKeys.TOPOLOGY_STATE_TRANSFER_NAME);
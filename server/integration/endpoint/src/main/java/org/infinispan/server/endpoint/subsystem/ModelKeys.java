@@ -33,6 +33,8 @@ public class ModelKeys {
    public static final String SOCKET_BINDING = "socket-binding"; // string
    public static final String CACHE = "cache"; // string
    public static final String CACHE_CONTAINER = "cache-container"; // string
+   public static final String CLIENT_LISTENER_BUFFER_SIZE = "client-listener-buffer-size"; // long
+   public static final String CLIENT_LISTENER_OVERFLOW_POLICY = "client-listener-overflow-policy"; // enum
    public static final String WORKER_THREADS = "worker-threads"; // integer
    public static final String IDLE_TIMEOUT = "idle-timeout"; // integer
    public static final String TCP_NODELAY = "tcp-nodelay"; // boolean